@@ -0,0 +1,62 @@
+package io.smallrye.faulttolerance.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Modifies a {@code @Bulkhead} annotation to adjust its concurrency limit at runtime, based on observed
+ * round-trip times and overload failures. May only be present on elements that are also annotated {@code @Bulkhead}.
+ * <p>
+ * The adaptive bulkhead doesn't have a queue. When the number of concurrent invocations reaches the current
+ * limit, subsequent invocations are rejected with {@code BulkheadException}, regardless of whether they
+ * are synchronous or asynchronous.
+ * <p>
+ * Only invocations that fail with an exception signalling overload are considered failures: timeouts,
+ * interruptions, and {@code BulkheadException} or {@code RateLimitException} thrown by a downstream service.
+ * Other exceptions are considered application failures and are treated as successful round trips.
+ * <p>
+ * Configuration options of {@code @Bulkhead} are interpreted as follows:
+ * <ul>
+ * <li>{@code value}: is used as the initial concurrency limit. It must be between {@link #minLimit()}
+ * and {@link #maxLimit()}.</li>
+ * <li>{@code waitingTaskQueue}: is ignored.</li>
+ * </ul>
+ *
+ * @see #algorithm()
+ * @see #minLimit()
+ * @see #maxLimit()
+ */
+@Inherited
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Experimental("first attempt at providing adaptive bulkhead")
+public @interface BulkheadAdaptiveLimit {
+    /**
+     * The algorithm used to adjust the concurrency limit. Defaults to {@link ConcurrencyLimitAlgorithm#AIMD}.
+     *
+     * @return the concurrency limit algorithm
+     */
+    ConcurrencyLimitAlgorithm algorithm() default ConcurrencyLimitAlgorithm.AIMD;
+
+    /**
+     * The minimum concurrency limit. Defaults to 1. The value must be greater than 0.
+     *
+     * @return the minimum concurrency limit
+     */
+    int minLimit() default 1;
+
+    /**
+     * The maximum concurrency limit. Defaults to 1000. The value must be greater than or equal
+     * to {@link #minLimit()}.
+     *
+     * @return the maximum concurrency limit
+     */
+    int maxLimit() default 1000;
+}
@@ -0,0 +1,48 @@
+package io.smallrye.faulttolerance.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Modifies a {@code @Bulkhead} annotation to limit the time an invocation may spend waiting in the bulkhead
+ * queue. May only be present on elements that are also annotated {@code @Bulkhead}.
+ * <p>
+ * When a queued invocation doesn't start running in the given time, it is removed from the queue and fails
+ * with {@code BulkheadException}. This only affects invocations that are queued, that is, asynchronous
+ * invocations. Synchronous invocations are never queued, so they are not affected. Invocations that
+ * already started running are not affected either.
+ * <p>
+ * If {@link BulkheadAdaptiveLimit @BulkheadAdaptiveLimit} is also present, this annotation is ignored,
+ * because the adaptive bulkhead doesn't have a queue.
+ *
+ * @see #value()
+ * @see #unit()
+ */
+@Inherited
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Experimental("first attempt at providing max queue wait for bulkhead")
+public @interface BulkheadMaxQueueWait {
+    /**
+     * The maximum time an invocation may wait in the bulkhead queue. Defaults to 1 second.
+     * The value must be greater than 0.
+     *
+     * @return the maximum queue wait
+     */
+    long value() default 1;
+
+    /**
+     * The unit for {@link #value()}. Defaults to {@link java.time.temporal.ChronoUnit#SECONDS}.
+     *
+     * @return the maximum queue wait unit
+     */
+    ChronoUnit unit() default ChronoUnit.SECONDS;
+}
@@ -0,0 +1,35 @@
+package io.smallrye.faulttolerance.api;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * The priority of an invocation, as considered by a bulkhead that has priority lanes enabled.
+ * When the bulkhead capacity runs out, {@code LOW} priority invocations are rejected first,
+ * then {@code NORMAL} priority invocations, and {@code HIGH} priority invocations are rejected last.
+ * Queued invocations of higher priority are started before queued invocations of lower priority.
+ * <p>
+ * Bulkheads that don't have priority lanes enabled ignore the priority.
+ *
+ * @see Guard#withPriority(BulkheadPriority)
+ * @see TypedGuard#withPriority(BulkheadPriority)
+ */
+@Experimental("first attempt at providing bulkhead priorities")
+public enum BulkheadPriority {
+    /**
+     * May use the whole capacity of the bulkhead, including the capacity reserved
+     * for higher priorities.
+     */
+    HIGH,
+
+    /**
+     * May use the capacity of the bulkhead, except the capacity reserved for {@code HIGH} priority.
+     * This is the priority of invocations that don't specify any.
+     */
+    NORMAL,
+
+    /**
+     * May use the capacity of the bulkhead, except the capacity reserved for {@code HIGH}
+     * and {@code NORMAL} priorities.
+     */
+    LOW,
+}
@@ -0,0 +1,71 @@
+package io.smallrye.faulttolerance.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Modifies a {@code @Bulkhead} annotation to take invocations out of the bulkhead queue in a different order
+ * than FIFO. May only be present on elements that are also annotated {@code @Bulkhead}.
+ * <p>
+ * The queue is considered congested when each invocation taken out of the queue during at least
+ * the {@link #interval()} has waited in the queue for at least the {@link #target()} time. The queue stops
+ * being congested as soon as an invocation that waited less than the target time is taken out of the queue.
+ * See {@link QueueDiscipline} for how the queue behaves when it is congested.
+ * <p>
+ * This only affects invocations that are queued, that is, asynchronous invocations. Synchronous invocations
+ * are never queued. If {@link BulkheadAdaptiveLimit @BulkheadAdaptiveLimit} is also present, this annotation
+ * is ignored, because the adaptive bulkhead doesn't have a queue.
+ *
+ * @see #value()
+ * @see #target()
+ * @see #interval()
+ */
+@Inherited
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Experimental("first attempt at providing bulkhead queue disciplines")
+public @interface BulkheadQueueDiscipline {
+    /**
+     * The queue discipline. Defaults to {@link QueueDiscipline#CODEL}.
+     *
+     * @return the queue discipline
+     */
+    QueueDiscipline value() default QueueDiscipline.CODEL;
+
+    /**
+     * The target time an invocation waits in the queue. Defaults to 5 millis. The value must be greater than 0.
+     *
+     * @return the target queue wait
+     */
+    long target() default 5;
+
+    /**
+     * The unit for {@link #target()}. Defaults to {@link java.time.temporal.ChronoUnit#MILLIS}.
+     *
+     * @return the target queue wait unit
+     */
+    ChronoUnit targetUnit() default ChronoUnit.MILLIS;
+
+    /**
+     * The time during which the queue wait must stay above the {@link #target()} for the queue to be
+     * considered congested. Defaults to 100 millis. The value must be greater than 0.
+     *
+     * @return the congestion interval
+     */
+    long interval() default 100;
+
+    /**
+     * The unit for {@link #interval()}. Defaults to {@link java.time.temporal.ChronoUnit#MILLIS}.
+     *
+     * @return the congestion interval unit
+     */
+    ChronoUnit intervalUnit() default ChronoUnit.MILLIS;
+}
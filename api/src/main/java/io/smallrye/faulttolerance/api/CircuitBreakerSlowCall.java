@@ -0,0 +1,60 @@
+package io.smallrye.faulttolerance.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Modifies a {@code @CircuitBreaker} annotation to also open the circuit breaker when too many invocations
+ * are slow. May only be present on elements that are also annotated {@code @CircuitBreaker}.
+ * <p>
+ * An invocation is slow when it takes longer than {@link #durationThreshold()}, regardless of whether it succeeds
+ * or fails. Slow invocations are tracked in a separate rolling window, which is of the same kind as the rolling
+ * window for failures (count-based by default, time-based with {@link CircuitBreakerTimeWindow @CircuitBreakerTimeWindow}).
+ * The circuit breaker opens when the ratio of slow invocations in the rolling window reaches {@link #ratio()},
+ * or when the ratio of failures reaches {@code failureRatio}, whichever happens first. In the half-open state,
+ * a slow probe invocation moves the circuit breaker back to open, just like a failed one.
+ * <p>
+ * Note that slow invocations that succeed are still reported as successful in metrics and events.
+ * <p>
+ * All configuration options of {@code @CircuitBreaker} still apply and all their constraints are still enforced.
+ *
+ * @see #durationThreshold()
+ * @see #durationThresholdUnit()
+ * @see #ratio()
+ */
+@Inherited
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Experimental("first attempt at providing slow call detection in circuit breaker")
+public @interface CircuitBreakerSlowCall {
+    /**
+     * The duration after which an invocation is considered slow. Defaults to 1 second.
+     * The value must be greater than 0.
+     *
+     * @return the slow call duration threshold
+     */
+    long durationThreshold() default 1;
+
+    /**
+     * The unit for {@link #durationThreshold()}. Defaults to {@link java.time.temporal.ChronoUnit#SECONDS}.
+     *
+     * @return the slow call duration threshold unit
+     */
+    ChronoUnit durationThresholdUnit() default ChronoUnit.SECONDS;
+
+    /**
+     * The ratio of slow invocations in the rolling window that opens the circuit breaker. Defaults to 0.5.
+     * The value must be between 0 and 1 (inclusive).
+     *
+     * @return the slow call ratio
+     */
+    double ratio() default 0.5;
+}
@@ -0,0 +1,65 @@
+package io.smallrye.faulttolerance.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Modifies a {@code @CircuitBreaker} annotation to use a time-based rolling window instead of the default
+ * count-based rolling window. May only be present on elements that are also annotated {@code @CircuitBreaker}.
+ * <p>
+ * The count-based rolling window contains the results of last {@code requestVolumeThreshold} invocations.
+ * The time-based rolling window contains the results of all invocations that finished during the last
+ * {@link #window()}, regardless of their number. The window is divided into a fixed number of {@link #buckets()},
+ * so when time passes, the results of whole buckets expire at once.
+ * <p>
+ * All configuration options of {@code @CircuitBreaker} still apply and all their constraints are still enforced.
+ * Additionally:
+ * <ul>
+ * <li>{@code requestVolumeThreshold}: is used as a minimum number of invocations in the time window. If less
+ * invocations finished during the time window, the circuit breaker doesn't open, regardless of the number
+ * of failures.</li>
+ * <li>{@code failureRatio}: is compared with the ratio of failures to all invocations in the time window.</li>
+ * </ul>
+ *
+ * @see #window()
+ * @see #windowUnit()
+ * @see #buckets()
+ */
+@Inherited
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Experimental("first attempt at providing time-based circuit breaker")
+public @interface CircuitBreakerTimeWindow {
+    /**
+     * The length of the time window. Defaults to 10 seconds. The value must be greater than 0.
+     *
+     * @return the time window length
+     */
+    long window() default 10;
+
+    /**
+     * The unit for {@link #window()}. Defaults to {@link java.time.temporal.ChronoUnit#SECONDS}.
+     *
+     * @return the time window unit
+     */
+    ChronoUnit windowUnit() default ChronoUnit.SECONDS;
+
+    /**
+     * The number of buckets the time window is divided into. Defaults to 10. The value must be greater than 0
+     * and the time window length in milliseconds must be greater than or equal to the number of buckets.
+     * <p>
+     * More buckets mean that old results expire more smoothly, at the cost of slightly more work
+     * when checking whether the circuit breaker should open.
+     *
+     * @return the number of buckets
+     */
+    int buckets() default 10;
+}
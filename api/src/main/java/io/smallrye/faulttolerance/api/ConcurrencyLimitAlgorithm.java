@@ -0,0 +1,46 @@
+package io.smallrye.faulttolerance.api;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Algorithm used by an adaptive bulkhead to adjust its concurrency limit.
+ *
+ * @see #AIMD
+ * @see #GRADIENT2
+ * @see #VEGAS
+ * @see BulkheadAdaptiveLimit
+ */
+@Experimental("first attempt at providing adaptive bulkhead")
+public enum ConcurrencyLimitAlgorithm {
+    /**
+     * Additive increase, multiplicative decrease. The limit is increased by 1 after a successful invocation
+     * when the bulkhead is at least half full and decreased by 10% after an invocation fails
+     * with an exception signalling overload (see {@link BulkheadAdaptiveLimit}).
+     * Round-trip times are not taken into account.
+     * <p>
+     * This is the simplest algorithm; it is a good fit when the guarded action signals overload
+     * by failing quickly with a timeout or a rejection.
+     */
+    AIMD,
+
+    /**
+     * Compares the round-trip time of each invocation with a long-term average. When invocations
+     * take longer than usual, the limit is decreased proportionally; otherwise, the limit is increased
+     * by a small queue allowance. After an invocation fails with an exception signalling overload,
+     * the limit is decreased by 10%.
+     * <p>
+     * This algorithm reacts to increased latency, even if the guarded action doesn't fail.
+     */
+    GRADIENT2,
+
+    /**
+     * Estimates the queue size at the guarded service from the minimum observed round-trip time
+     * and the round-trip time of each invocation. When the estimated queue is small, the limit
+     * is increased; when it is large, the limit is decreased. Round-trip times of invocations
+     * that fail with an exception that doesn't signal overload are ignored. The minimum round-trip
+     * time is periodically reset, so that a single outlier doesn't skew the estimate forever.
+     * <p>
+     * This algorithm works best when the minimum round-trip time is stable.
+     */
+    VEGAS,
+}
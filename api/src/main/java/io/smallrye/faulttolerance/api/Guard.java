@@ -150,6 +150,23 @@ public interface Guard {
         return () -> get(action, type);
     }
 
+    /**
+     * Returns a view of this guard whose invocations have given {@code priority}. The view shares
+     * all fault tolerance strategies, and hence all their state, with this guard. The priority
+     * is only considered by a bulkhead with {@linkplain BulkheadBuilder#priorityLanes(int) priority lanes};
+     * otherwise, invocations through the view behave exactly like invocations through this guard.
+     * Invocations through this guard have the {@link BulkheadPriority#NORMAL NORMAL} priority.
+     * <p>
+     * For example, interactive requests may use {@code guard.withPriority(BulkheadPriority.HIGH)}
+     * and batch jobs may use {@code guard.withPriority(BulkheadPriority.LOW)}, so that when
+     * the bulkhead is full, batch jobs are rejected first.
+     *
+     * @param priority the priority of invocations, must not be {@code null}
+     * @return a view of this guard with given priority
+     */
+    @Experimental("first attempt at providing bulkhead priorities")
+    Guard withPriority(BulkheadPriority priority);
+
     /**
      * A builder for configuring fault tolerance strategies. A fault tolerance strategy is included in the resulting
      * set if the corresponding {@code with[Strategy]} method is called. Each strategy has its own builder to configure
@@ -188,6 +205,16 @@ public interface Guard {
          */
         CircuitBreakerBuilder withCircuitBreaker();
 
+        /**
+         * Adds a hedge strategy. If the guarded action doesn't complete in time, another attempt is sent
+         * concurrently and the first attempt that completes successfully wins. Hedging only applies to
+         * asynchronous guarded actions; synchronous guarded actions are not hedged.
+         *
+         * @return a builder to configure the hedge strategy
+         */
+        @Experimental("first attempt at providing hedging")
+        HedgeBuilder withHedge();
+
         /**
          * Adds a rate limit strategy.
          *
@@ -234,6 +261,20 @@ public interface Guard {
          */
         Builder withThreadOffloadExecutor(Executor executor);
 
+        /**
+         * Configures whether the exceptions thrown when an invocation is rejected by the circuit breaker,
+         * the bulkhead or the rate limit should be created without stack traces. Under overload, many
+         * invocations are rejected and capturing a stack trace is the most expensive part of rejecting
+         * an invocation. The exception types and messages are not affected.
+         * <p>
+         * If this method is not called, the global default provided by the integrator is used.
+         *
+         * @param value whether rejection exceptions should be created without stack traces
+         * @return this fault tolerance builder
+         */
+        @Experimental("first attempt at providing stackless rejection exceptions")
+        Builder withStacklessRejections(boolean value);
+
         /**
          * Returns a ready-to-use instance of {@code Guard}.
          */
@@ -298,6 +339,39 @@ public interface Guard {
              */
             BulkheadBuilder enableSynchronousQueueing();
 
+            /**
+             * Sets the maximum time an invocation may wait in the bulkhead queue. When a queued invocation
+             * doesn't start running in this time, it is removed from the queue and fails with
+             * {@code BulkheadException}. Not limited by default.
+             *
+             * @param value the maximum queue wait, must be &gt;= 1
+             * @param unit the maximum queue wait unit, must not be {@code null}
+             * @return this bulkhead builder
+             * @see BulkheadMaxQueueWait @BulkheadMaxQueueWait
+             */
+            BulkheadBuilder maxQueueWait(long value, ChronoUnit unit);
+
+            /**
+             * Enables priority lanes. Invocations are given a priority using {@code withPriority()}
+             * on the guard, see {@link BulkheadPriority}. When priority lanes are enabled, given number
+             * of capacity permits of this bulkhead (running as well as queued invocations) is reserved
+             * for each priority above {@code LOW}: a {@code NORMAL} priority invocation is only accepted
+             * if at least {@code reservedCapacity} permits remain available afterwards, and a {@code LOW}
+             * priority invocation is only accepted if at least {@code 2 * reservedCapacity} permits remain
+             * available afterwards. Further, the queue of asynchronous invocations has a separate lane
+             * for each priority, and queued invocations of higher priority are always started first.
+             * Disabled by default.
+             * <p>
+             * The total capacity of this bulkhead (the limit plus the queue size) must be greater than
+             * {@code 2 * reservedCapacity}.
+             *
+             * @param reservedCapacity the number of capacity permits reserved for each priority above
+             *        {@code LOW}, must be &gt;= 1
+             * @return this bulkhead builder
+             */
+            @Experimental("first attempt at providing bulkhead priorities")
+            BulkheadBuilder priorityLanes(int reservedCapacity);
+
             /**
              * Sets a callback that will be invoked when this bulkhead accepts an invocation.
              * In case of asynchronous actions, accepting into bulkhead doesn't mean the action
@@ -330,6 +404,26 @@ public interface Guard {
              */
             BulkheadBuilder onFinished(Runnable callback);
 
+            /**
+             * Configures the bulkhead to adjust its concurrency limit based on observed round-trip times
+             * and failures. The {@linkplain #limit(int) limit} is used as the initial concurrency limit.
+             * The adaptive bulkhead doesn't have a queue, so the {@linkplain #queueSize(int) queue size}
+             * and {@linkplain #enableSynchronousQueueing() synchronous queueing} are ignored.
+             *
+             * @return the adaptive limit builder
+             * @see BulkheadAdaptiveLimit @BulkheadAdaptiveLimit
+             */
+            AdaptiveLimitBuilder withAdaptiveLimit();
+
+            /**
+             * Configures the order in which queued invocations are taken out of the bulkhead queue.
+             * Only affects the queue of asynchronous actions; synchronous queueing is always FIFO.
+             *
+             * @return the queue discipline builder
+             * @see BulkheadQueueDiscipline @BulkheadQueueDiscipline
+             */
+            QueueDisciplineBuilder withQueueDiscipline();
+
             /**
              * Returns the original fault tolerance builder.
              *
@@ -341,6 +435,104 @@ public interface Guard {
                 consumer.accept(this);
                 return this;
             }
+
+            /**
+             * Configures an adaptive concurrency limit of a bulkhead.
+             *
+             * @see BulkheadAdaptiveLimit @BulkheadAdaptiveLimit
+             */
+            interface AdaptiveLimitBuilder {
+                /**
+                 * Sets the algorithm used to adjust the concurrency limit. Defaults to
+                 * {@link ConcurrencyLimitAlgorithm#AIMD}.
+                 *
+                 * @param value the concurrency limit algorithm, must not be {@code null}
+                 * @return this adaptive limit builder
+                 * @see BulkheadAdaptiveLimit#algorithm() @BulkheadAdaptiveLimit.algorithm
+                 */
+                AdaptiveLimitBuilder algorithm(ConcurrencyLimitAlgorithm value);
+
+                /**
+                 * Sets the minimum concurrency limit. Defaults to 1.
+                 *
+                 * @param value the minimum concurrency limit, must be &gt;= 1
+                 * @return this adaptive limit builder
+                 * @see BulkheadAdaptiveLimit#minLimit() @BulkheadAdaptiveLimit.minLimit
+                 */
+                AdaptiveLimitBuilder minLimit(int value);
+
+                /**
+                 * Sets the maximum concurrency limit. Defaults to 1000.
+                 *
+                 * @param value the maximum concurrency limit, must be &gt;= 1
+                 * @return this adaptive limit builder
+                 * @see BulkheadAdaptiveLimit#maxLimit() @BulkheadAdaptiveLimit.maxLimit
+                 */
+                AdaptiveLimitBuilder maxLimit(int value);
+
+                /**
+                 * Returns the original bulkhead builder.
+                 *
+                 * @return the original bulkhead builder
+                 */
+                BulkheadBuilder done();
+
+                default AdaptiveLimitBuilder with(Consumer<AdaptiveLimitBuilder> consumer) {
+                    consumer.accept(this);
+                    return this;
+                }
+            }
+
+            /**
+             * Configures the queue discipline of a bulkhead.
+             *
+             * @see BulkheadQueueDiscipline @BulkheadQueueDiscipline
+             */
+            interface QueueDisciplineBuilder {
+                /**
+                 * Sets the queue discipline. Defaults to {@link QueueDiscipline#CODEL}.
+                 *
+                 * @param value the queue discipline, must not be {@code null}
+                 * @return this queue discipline builder
+                 * @see BulkheadQueueDiscipline#value() @BulkheadQueueDiscipline.value
+                 */
+                QueueDisciplineBuilder discipline(QueueDiscipline value);
+
+                /**
+                 * Sets the target time an invocation waits in the queue. Defaults to 5 millis.
+                 *
+                 * @param value the target queue wait, must be &gt;= 1
+                 * @param unit the target queue wait unit, must not be {@code null}
+                 * @return this queue discipline builder
+                 * @see BulkheadQueueDiscipline#target() @BulkheadQueueDiscipline.target
+                 * @see BulkheadQueueDiscipline#targetUnit() @BulkheadQueueDiscipline.targetUnit
+                 */
+                QueueDisciplineBuilder target(long value, ChronoUnit unit);
+
+                /**
+                 * Sets the time during which the queue wait must stay above the target for the queue
+                 * to be considered congested. Defaults to 100 millis.
+                 *
+                 * @param value the congestion interval, must be &gt;= 1
+                 * @param unit the congestion interval unit, must not be {@code null}
+                 * @return this queue discipline builder
+                 * @see BulkheadQueueDiscipline#interval() @BulkheadQueueDiscipline.interval
+                 * @see BulkheadQueueDiscipline#intervalUnit() @BulkheadQueueDiscipline.intervalUnit
+                 */
+                QueueDisciplineBuilder interval(long value, ChronoUnit unit);
+
+                /**
+                 * Returns the original bulkhead builder.
+                 *
+                 * @return the original bulkhead builder
+                 */
+                BulkheadBuilder done();
+
+                default QueueDisciplineBuilder with(Consumer<QueueDisciplineBuilder> consumer) {
+                    consumer.accept(this);
+                    return this;
+                }
+            }
         }
 
         /**
@@ -452,6 +644,26 @@ public interface Guard {
              */
             CircuitBreakerBuilder name(String value);
 
+            /**
+             * Configures the circuit breaker to use a time-based rolling window instead of the default
+             * count-based rolling window. With the time-based rolling window, the {@link #requestVolumeThreshold(int)}
+             * is used as a minimum number of invocations in the time window and the {@link #failureRatio(double)}
+             * is compared with the ratio of failures to all invocations in the time window.
+             *
+             * @return the time window builder
+             * @see CircuitBreakerTimeWindow @CircuitBreakerTimeWindow
+             */
+            TimeWindowBuilder withTimeWindow();
+
+            /**
+             * Configures the circuit breaker to also open when too many invocations are slow. Slow invocations
+             * are tracked in a separate rolling window of the same kind as the rolling window for failures.
+             *
+             * @return the slow call builder
+             * @see CircuitBreakerSlowCall @CircuitBreakerSlowCall
+             */
+            SlowCallBuilder withSlowCall();
+
             /**
              * Sets a callback that will be invoked upon each state change of this circuit breaker.
              * <p>
@@ -504,6 +716,148 @@ public interface Guard {
                 consumer.accept(this);
                 return this;
             }
+
+            /**
+             * Configures a time-based rolling window for circuit breaker.
+             *
+             * @see CircuitBreakerTimeWindow @CircuitBreakerTimeWindow
+             */
+            interface TimeWindowBuilder {
+                /**
+                 * Sets the length of the time window. Defaults to 10 seconds.
+                 *
+                 * @param value the time window length, must be &gt; 0
+                 * @param unit the time window length unit, must not be {@code null}
+                 * @return this time window builder
+                 * @see CircuitBreakerTimeWindow#window() @CircuitBreakerTimeWindow.window
+                 * @see CircuitBreakerTimeWindow#windowUnit() @CircuitBreakerTimeWindow.windowUnit
+                 */
+                TimeWindowBuilder window(long value, ChronoUnit unit);
+
+                /**
+                 * Sets the number of buckets the time window is divided into. Defaults to 10.
+                 *
+                 * @param value the number of buckets, must be &gt; 0 and must not be greater than
+                 *        the time window length in milliseconds
+                 * @return this time window builder
+                 * @see CircuitBreakerTimeWindow#buckets() @CircuitBreakerTimeWindow.buckets
+                 */
+                TimeWindowBuilder buckets(int value);
+
+                /**
+                 * Returns the original circuit breaker builder.
+                 *
+                 * @return the original circuit breaker builder
+                 */
+                CircuitBreakerBuilder done();
+
+                default TimeWindowBuilder with(Consumer<TimeWindowBuilder> consumer) {
+                    consumer.accept(this);
+                    return this;
+                }
+            }
+
+            /**
+             * Configures slow call detection for circuit breaker.
+             *
+             * @see CircuitBreakerSlowCall @CircuitBreakerSlowCall
+             */
+            interface SlowCallBuilder {
+                /**
+                 * Sets the duration after which an invocation is considered slow. Defaults to 1 second.
+                 *
+                 * @param value the slow call duration threshold, must be &gt; 0
+                 * @param unit the slow call duration threshold unit, must not be {@code null}
+                 * @return this slow call builder
+                 * @see CircuitBreakerSlowCall#durationThreshold() @CircuitBreakerSlowCall.durationThreshold
+                 * @see CircuitBreakerSlowCall#durationThresholdUnit() @CircuitBreakerSlowCall.durationThresholdUnit
+                 */
+                SlowCallBuilder durationThreshold(long value, ChronoUnit unit);
+
+                /**
+                 * Sets the ratio of slow invocations in the rolling window that opens the circuit breaker.
+                 * Defaults to 0.5.
+                 *
+                 * @param value the slow call ratio, must be &gt;= 0 and &lt;= 1
+                 * @return this slow call builder
+                 * @see CircuitBreakerSlowCall#ratio() @CircuitBreakerSlowCall.ratio
+                 */
+                SlowCallBuilder ratio(double value);
+
+                /**
+                 * Returns the original circuit breaker builder.
+                 *
+                 * @return the original circuit breaker builder
+                 */
+                CircuitBreakerBuilder done();
+
+                default SlowCallBuilder with(Consumer<SlowCallBuilder> consumer) {
+                    consumer.accept(this);
+                    return this;
+                }
+            }
+        }
+
+        /**
+         * Configures a hedge.
+         * <p>
+         * The first attempt is called the primary attempt. If it doesn't complete after the hedge delay,
+         * another attempt (called a hedged attempt) is sent, and so on, until the maximum number of attempts
+         * are in flight. The first attempt that completes successfully wins and all other attempts are cancelled.
+         * A failed attempt does not lead to sending another attempt; if all sent attempts fail, the last failure
+         * is propagated.
+         * <p>
+         * Hedging only makes sense for idempotent actions, because the guarded action may be invoked multiple
+         * times concurrently.
+         */
+        @Experimental("first attempt at providing hedging")
+        interface HedgeBuilder {
+            /**
+             * Sets the maximum number of concurrent attempts, including the primary attempt. Defaults to 2.
+             *
+             * @param value the maximum number of attempts, must be &gt;= 2
+             * @return this hedge builder
+             */
+            HedgeBuilder maxAttempts(int value);
+
+            /**
+             * Sets the delay after which a hedged attempt is sent, if no previous attempt completed
+             * in the meantime. Defaults to 100 millis.
+             * <p>
+             * If {@link #delayPercentile(double)} is also set, this is only the initial delay,
+             * used before enough latencies are observed.
+             *
+             * @param value the delay length, must be &gt;= 0
+             * @param unit the delay unit, must not be {@code null}
+             * @return this hedge builder
+             */
+            HedgeBuilder delay(long value, ChronoUnit unit);
+
+            /**
+             * Sets the delay after which a hedged attempt is sent to a percentile of the latency of recently
+             * completed invocations. For example, the value of 0.95 means that a hedged attempt is sent when
+             * the previous attempt takes longer than 95 % of recent successful invocations. Only the latency
+             * of winning attempts is observed. Until enough latencies are observed, the {@linkplain #delay(long,
+             * ChronoUnit) fixed delay} is used.
+             * <p>
+             * If not set, the fixed delay is always used.
+             *
+             * @param value the percentile, must be &gt; 0 and &lt;= 1
+             * @return this hedge builder
+             */
+            HedgeBuilder delayPercentile(double value);
+
+            /**
+             * Returns the original fault tolerance builder.
+             *
+             * @return the original fault tolerance builder
+             */
+            Builder done();
+
+            default HedgeBuilder with(Consumer<HedgeBuilder> consumer) {
+                consumer.accept(this);
+                return this;
+            }
         }
 
         /**
@@ -550,6 +904,31 @@ public interface Guard {
              */
             RateLimitBuilder type(RateLimitType value);
 
+            /**
+             * Sets the maximum number of invocations that may be permitted at once (the burst tolerance).
+             * Only used with the {@link RateLimitType#GCRA GCRA} time window type. Defaults to 0,
+             * which means that the burst is equal to the {@linkplain #limit(int) limit}.
+             *
+             * @param value the maximum burst, must be &gt;= 0
+             * @return this rate limit builder
+             * @see RateLimit#burst() @RateLimit.burst
+             */
+            RateLimitBuilder burst(int value);
+
+            /**
+             * Sets the maximum time an invocation may wait for a permit. If a permit becomes available
+             * in this time, it is reserved for the invocation and the invocation is delayed until then.
+             * Defaults to 0, which means that invocations are rejected immediately. May not be used
+             * with {@linkplain RateLimitType#APPROXIMATE_ROLLING approximate rolling} time windows.
+             *
+             * @param value the maximum wait time, must be &gt;= 0
+             * @param unit the maximum wait time unit, must not be {@code null}
+             * @return this rate limit builder
+             * @see RateLimit#maxWait() @RateLimit.maxWait
+             * @see RateLimit#maxWaitUnit() @RateLimit.maxWaitUnit
+             */
+            RateLimitBuilder maxWait(long value, ChronoUnit unit);
+
             /**
              * Sets a callback that will be invoked when this rate limit permits an invocation.
              * <p>
@@ -620,6 +999,22 @@ public interface Guard {
              */
             RetryBuilder maxDuration(long value, ChronoUnit unit);
 
+            /**
+             * Configures retry to cancel the attempt that is in flight when the {@linkplain #maxDuration(long, ChronoUnit)
+             * maximum duration} is reached. By default, the maximum duration is only checked between attempts,
+             * so an attempt that is in flight keeps running (and keeps holding resources) even after the maximum
+             * duration elapses.
+             * <p>
+             * When the maximum duration is reached, the guarded operation fails with the last failure, or with
+             * a {@link org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException TimeoutException}
+             * if no attempt failed yet. For synchronous invocations, the thread executing the attempt is interrupted.
+             *
+             * @return this retry builder
+             * @see RetryCancelOnMaxDuration @RetryCancelOnMaxDuration
+             */
+            @Experimental("first attempt at providing cancellation of in-flight attempts on retry max duration")
+            RetryBuilder cancelOnMaxDuration();
+
             /**
              * Sets the jitter bound. Random value in the range from {@code -jitter} to {@code +jitter} will be added
              * to the delay between retry attempts. Defaults to 200 millis.
@@ -743,6 +1138,29 @@ public interface Guard {
              */
             CustomBackoffBuilder withCustomBackoff();
 
+            /**
+             * Configures retry to use a retry budget, which limits the number of retries performed across
+             * all invocations of the guard. The retry budget is shared by all guards that use the same
+             * {@linkplain RetryBudgetBuilder#name(String) name}.
+             *
+             * @return the retry budget builder
+             * @see RetryBudget @RetryBudget
+             */
+            RetryBudgetBuilder withBudget();
+
+            /**
+             * Configures retry to take retry-after hints carried by failures into account when computing
+             * the delay before the next retry attempt. Hints carried by {@link RateLimitException} are always
+             * recognized; hints carried by other exceptions may be extracted by a custom extractor.
+             * <p>
+             * This may be combined with any backoff strategy.
+             *
+             * @return the retry-after builder
+             * @see RetryAfter @RetryAfter
+             */
+            @Experimental("first attempt at providing retry-after aware backoff")
+            RetryAfterBuilder withRetryAfter();
+
             /**
              * Sets a callback that will be invoked when a retry is attempted.
              * <p>
@@ -881,6 +1299,117 @@ public interface Guard {
                     return this;
                 }
             }
+
+            /**
+             * Configures retry-after hints for retry.
+             *
+             * @see RetryAfter @RetryAfter
+             */
+            @Experimental("first attempt at providing retry-after aware backoff")
+            interface RetryAfterBuilder {
+                /**
+                 * Sets how the retry-after hint is combined with the delay computed by the configured backoff.
+                 * Defaults to {@link RetryAfterMode#MAX}.
+                 *
+                 * @param value the retry-after mode, must not be {@code null}
+                 * @return this retry-after builder
+                 * @see RetryAfter#mode() @RetryAfter.mode
+                 */
+                RetryAfterBuilder mode(RetryAfterMode value);
+
+                /**
+                 * Sets the extractor used to find retry-after hints in exceptions other than
+                 * {@link RateLimitException}. If not set, only hints carried by {@code RateLimitException}
+                 * are used.
+                 *
+                 * @param value the retry-after extractor, must not be {@code null}
+                 * @return this retry-after builder
+                 * @see RetryAfter#extractor() @RetryAfter.extractor
+                 */
+                RetryAfterBuilder extractor(RetryAfterExtractor value);
+
+                /**
+                 * Sets the maximum retry-after hint that will be respected; longer hints are shortened
+                 * to this value. Defaults to 1 minute.
+                 *
+                 * @param value the max retry-after hint, must be &gt;= 0
+                 * @param unit the max retry-after hint unit, must not be {@code null}
+                 * @return this retry-after builder
+                 * @see RetryAfter#maxDelay() @RetryAfter.maxDelay
+                 * @see RetryAfter#maxDelayUnit() @RetryAfter.maxDelayUnit
+                 */
+                RetryAfterBuilder maxDelay(long value, ChronoUnit unit);
+
+                /**
+                 * Returns the original retry builder.
+                 *
+                 * @return the original retry builder
+                 */
+                RetryBuilder done();
+
+                default RetryAfterBuilder with(Consumer<RetryAfterBuilder> consumer) {
+                    consumer.accept(this);
+                    return this;
+                }
+            }
+
+            /**
+             * Configures a retry budget for retry.
+             *
+             * @see RetryBudget @RetryBudget
+             */
+            interface RetryBudgetBuilder {
+                /**
+                 * Sets the number of retries permitted per successful invocation. Defaults to 0.2.
+                 *
+                 * @param value the ratio of retries to successful invocations, must be &gt;= 0
+                 * @return this retry budget builder
+                 * @see RetryBudget#ratio() @RetryBudget.ratio
+                 */
+                RetryBudgetBuilder ratio(double value);
+
+                /**
+                 * Sets the number of retries permitted every second, regardless of successful invocations.
+                 * Defaults to 10.
+                 *
+                 * @param value the minimum number of retries per second, must be &gt;= 0
+                 * @return this retry budget builder
+                 * @see RetryBudget#minRetriesPerSecond() @RetryBudget.minRetriesPerSecond
+                 */
+                RetryBudgetBuilder minRetriesPerSecond(int value);
+
+                /**
+                 * Sets the maximum number of retries that may be performed in a burst. Defaults to 100.
+                 *
+                 * @param value the capacity of the retry budget, must be &gt;= 1
+                 * @return this retry budget builder
+                 * @see RetryBudget#capacity() @RetryBudget.capacity
+                 */
+                RetryBudgetBuilder capacity(int value);
+
+                /**
+                 * Sets the name of the retry budget. All guards and annotated methods that use the same name
+                 * share a single retry budget, so they must all configure it the same way. If not set,
+                 * the retry budget is not shared.
+                 *
+                 * @param value the name of the retry budget, must not be {@code null}
+                 * @return this retry budget builder
+                 * @see RetryBudget#name() @RetryBudget.name
+                 */
+                RetryBudgetBuilder name(String value);
+
+                /**
+                 * Returns the original retry builder.
+                 *
+                 * @return the original retry builder
+                 */
+                RetryBuilder done();
+
+                default RetryBudgetBuilder with(Consumer<RetryBudgetBuilder> consumer) {
+                    consumer.accept(this);
+                    return this;
+                }
+            }
         }
 
         /**
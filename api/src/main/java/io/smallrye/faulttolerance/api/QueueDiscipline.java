@@ -0,0 +1,34 @@
+package io.smallrye.faulttolerance.api;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * The order in which queued invocations are taken out of the bulkhead queue.
+ *
+ * @see BulkheadQueueDiscipline @BulkheadQueueDiscipline
+ */
+@Experimental("first attempt at providing bulkhead queue disciplines")
+public enum QueueDiscipline {
+    /**
+     * Queued invocations are started in the order in which they were queued.
+     * This is the default behavior of a bulkhead.
+     */
+    FIFO,
+
+    /**
+     * Queued invocations are started in the order in which they were queued, unless the queue is congested,
+     * in which case the most recently queued invocation is started first. Under overload, this keeps serving
+     * fresh invocations, whose callers are most likely still waiting for the result, while the oldest ones
+     * wait longer.
+     */
+    ADAPTIVE_LIFO,
+
+    /**
+     * Queued invocations are started in the order in which they were queued, but when the queue becomes congested,
+     * one queued invocation is removed from the queue and fails with {@code BulkheadException}. While the queue
+     * stays congested, further invocations are dropped one at a time, {@code interval / sqrt(count)} after
+     * the previous drop, where {@code count} is the number of drops so far. This follows the control law
+     * of the CoDel (controlled delay) algorithm.
+     */
+    CODEL,
+}
@@ -36,10 +36,11 @@ import io.smallrye.common.annotation.Experimental;
  * What "recent" means differs based on the type of the time windows configured. By default, the time windows are
  * {@linkplain RateLimitType#FIXED fixed}, which means that time is divided into a series of consecutive intervals
  * of given length (time windows) and the limit is compared against the number of invocations in the current window.
- * Two different time windows may be configured. With {@linkplain RateLimitType#ROLLING rolling} time windows,
+ * Other time windows may be configured. With {@linkplain RateLimitType#ROLLING rolling} time windows,
  * each invocation has its own time window of given length, overlapping with time windows of previous invocations.
  * This is more precise but requires more memory and may be slower. Using {@linkplain RateLimitType#SMOOTH smooth}
- * time windows means that invocations are uniformly distributed over time under a calculated rate.
+ * or {@linkplain RateLimitType#GCRA GCRA} time windows means that invocations are uniformly distributed over time
+ * under a calculated rate.
  * <p>
  * Additionally, a minimum spacing of invocations may be configured. If set, an invocation that happens too
  * quickly after a previous invocation is always rejected with {@link RateLimitException}, even if the limit
@@ -47,8 +48,13 @@ import io.smallrye.common.annotation.Experimental;
  * <p>
  * With fixed and rolling time windows, rejected invocations always count towards the limit, so if a caller
  * continuously invokes the guarded method faster than the configuration allows, all invocations are rejected
- * until the caller slows down. With smooth time windows, rejected invocations do not count towards the recent
- * rate of invocations.
+ * until the caller slows down. With smooth, GCRA and approximate rolling time windows, rejected invocations do not count
+ * towards the recent rate of invocations.
+ * <p>
+ * Additionally, a maximum wait time may be configured. If set, an invocation that exceeds the limit is not rejected
+ * immediately. Instead, if a permit becomes available in the maximum wait time, the permit is reserved for
+ * the invocation and the invocation is delayed until then. Only invocations that would have to wait longer
+ * are rejected. In this mode, rejected invocations do not count towards the limit.
  *
  * @see #value()
  * @see #window()
@@ -56,6 +62,9 @@ import io.smallrye.common.annotation.Experimental;
  * @see #minSpacing()
  * @see #minSpacingUnit()
  * @see #type()
+ * @see #burst()
+ * @see #maxWait()
+ * @see #maxWaitUnit()
  */
 @Inherited
 @Retention(RetentionPolicy.RUNTIME)
@@ -126,4 +135,42 @@ public @interface RateLimit {
      */
     @Nonbinding
     RateLimitType type() default RateLimitType.FIXED;
+
+    /**
+     * Maximum number of invocations that may be permitted at once, also known as burst tolerance.
+     * Only used with {@linkplain RateLimitType#GCRA GCRA} time windows; ignored with other types.
+     * <p>
+     * Value must be greater than or equal to {@code 0}.
+     * When {@code 0}, the burst is equal to the {@linkplain #value() maximum number of invocations}.
+     *
+     * @return maximum number of invocations that may be permitted at once
+     * @see RateLimitType#GCRA
+     */
+    @Nonbinding
+    int burst() default 0;
+
+    /**
+     * Maximum time an invocation may wait for a permit. If a permit becomes available in this time,
+     * it is reserved for the invocation and the invocation is delayed until then. Otherwise, the invocation
+     * is rejected. Synchronous invocations wait by sleeping, asynchronous invocations are scheduled for later.
+     * <p>
+     * Value must be greater than or equal to {@code 0}.
+     * When {@code 0}, invocations never wait and are rejected immediately.
+     * Must be {@code 0} with {@linkplain RateLimitType#APPROXIMATE_ROLLING approximate rolling} time windows,
+     * which cannot reserve permits.
+     *
+     * @return maximum time an invocation may wait for a permit
+     * @see #maxWaitUnit()
+     */
+    @Nonbinding
+    long maxWait() default 0;
+
+    /**
+     * The unit of the maximum time an invocation may wait for a permit.
+     *
+     * @return the unit of maximum wait time
+     * @see #maxWait()
+     */
+    @Nonbinding
+    ChronoUnit maxWaitUnit() default ChronoUnit.SECONDS;
 }
@@ -15,12 +15,16 @@
  */
 package io.smallrye.faulttolerance.api;
 
+import io.smallrye.common.annotation.Experimental;
+
 /**
  * Type of the time window used for rate limiting.
  *
  * @see #FIXED
  * @see #ROLLING
  * @see #SMOOTH
+ * @see #APPROXIMATE_ROLLING
+ * @see #GCRA
  */
 public enum RateLimitType {
     /**
@@ -57,4 +61,37 @@ public enum RateLimitType {
      * Requires constant memory and time.
      */
     SMOOTH,
+
+    /**
+     * Approximates {@link #ROLLING} time windows using a fixed number of counters. The time window
+     * is divided into 20 buckets and only the number of invocations in each bucket is stored.
+     * The number of invocations in the rolling time window is estimated from the buckets it covers,
+     * assuming that the invocations in the oldest, partially covered bucket are evenly distributed.
+     * <p>
+     * This is also called <em>sliding window counter</em> rate limiting.
+     * <p>
+     * The error of the estimate is at most the number of invocations in a single bucket. When invocations
+     * are spread evenly, this is at most 5% of the limit. In the worst case, when all invocations happen in
+     * a single burst at the end of a bucket, up to twice the limit may be permitted in an interval of given
+     * length. Rejected invocations do not count towards the limit. Waiting for permits is not supported.
+     * <p>
+     * Requires constant memory and time, so it is suitable for very high limits.
+     */
+    @Experimental("first attempt at providing approximate rolling time windows")
+    APPROXIMATE_ROLLING,
+
+    /**
+     * Like {@link #SMOOTH}, enforces a uniform distribution of invocations over time under the rate calculated
+     * from given time window length and given limit, but also allows configuring the maximum burst of invocations
+     * that may be permitted at once (see {@link RateLimit#burst()}). By default, the maximum burst is equal
+     * to the limit. Rejected invocations do not count towards the limit.
+     * <p>
+     * This is also called <em>generic cell rate algorithm</em> (GCRA) rate limiting. It is equivalent
+     * to token bucket rate limiting where the bucket capacity is the maximum burst.
+     * <p>
+     * Requires constant memory and time. Uses exact integer arithmetic, so the time after which
+     * retrying a rejected invocation makes sense is known precisely.
+     */
+    @Experimental("first attempt at providing GCRA time windows")
+    GCRA,
 }
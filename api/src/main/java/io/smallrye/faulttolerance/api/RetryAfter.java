@@ -0,0 +1,72 @@
+package io.smallrye.faulttolerance.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Modifies a {@code @Retry} annotation to take retry-after hints into account when computing the delay
+ * before the next retry attempt. May only be present on elements that are also annotated {@code @Retry}.
+ * <p>
+ * Some failures carry a hint of when retrying makes sense. For example, {@link RateLimitException} knows
+ * {@linkplain RateLimitException#getRetryAfterMillis() after how many milliseconds} the rate limit may permit
+ * another invocation, and a remote service may reject a request with a {@code Retry-After} header. Without this
+ * annotation, such hints are ignored, so retrying may happen too soon (which wastes a retry attempt) or too late.
+ * <p>
+ * Hints carried by {@code RateLimitException} are always recognized. Hints carried by other exceptions
+ * may be extracted using a custom {@link #extractor()}. The hint is combined with the delay computed
+ * by the configured backoff (constant by default, or per {@code @ExponentialBackoff}, {@code @FibonacciBackoff}
+ * or {@code @CustomBackoff}) according to the {@link #mode()}.
+ * <p>
+ * All configuration options of {@code @Retry} still apply and all their constraints are still enforced.
+ *
+ * @see #mode()
+ * @see #extractor()
+ * @see #maxDelay()
+ */
+@Inherited
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Experimental("first attempt at providing retry-after aware backoff")
+public @interface RetryAfter {
+    /**
+     * How the retry-after hint is combined with the delay computed by the configured backoff.
+     * Defaults to {@link RetryAfterMode#MAX}.
+     *
+     * @return the retry-after mode
+     */
+    RetryAfterMode mode() default RetryAfterMode.MAX;
+
+    /**
+     * Class of the extractor that will be used to find retry-after hints in exceptions
+     * other than {@link RateLimitException}. Defaults to an extractor that never finds a hint.
+     *
+     * @return the retry-after extractor class
+     */
+    Class<? extends RetryAfterExtractor> extractor() default RetryAfterExtractor.None.class;
+
+    /**
+     * The maximum retry-after hint that will be respected; longer hints are shortened to this value.
+     * Defaults to 1 minute. The value must be greater than or equal to 0. 0 means not set.
+     * <p>
+     * Note that {@code Retry.maxDuration} still applies, so a retry attempt is not performed
+     * if the delay causes the max duration to be exceeded.
+     *
+     * @return the max retry-after hint
+     */
+    long maxDelay() default 60_000;
+
+    /**
+     * The unit for {@link #maxDelay}. Defaults to {@link ChronoUnit#MILLIS}.
+     *
+     * @return the max retry-after hint unit
+     */
+    ChronoUnit maxDelayUnit() default ChronoUnit.MILLIS;
+}
@@ -0,0 +1,39 @@
+package io.smallrye.faulttolerance.api;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Extracts a retry-after hint from an exception, for example from a rejection by a remote service that
+ * tells the caller when to try again. The hint is used to compute the delay before the next retry attempt,
+ * see {@link RetryAfter @RetryAfter}.
+ * <p>
+ * Hints carried by {@link RateLimitException} are always recognized, so the extractor is only consulted
+ * for other exceptions.
+ * <p>
+ * When used in the {@link RetryAfter @RetryAfter} annotation, the extractor class must have a {@code public},
+ * zero-parameter constructor. It is instantiated once, so it must be thread-safe, ideally stateless.
+ */
+@Experimental("first attempt at providing retry-after aware backoff")
+@FunctionalInterface
+public interface RetryAfterExtractor {
+    /**
+     * Returns the retry-after hint carried by given {@code exception}, or a negative number if there is none.
+     * Implementations must be fast and non-blocking and must not throw an exception.
+     *
+     * @param exception the exception that caused the retry attempt
+     * @return the minimum number of milliseconds after which retrying makes sense, or a negative number
+     */
+    long retryAfterMillis(Throwable exception);
+
+    /**
+     * An extractor that never finds a retry-after hint. This is the default value
+     * of {@link RetryAfter#extractor() @RetryAfter.extractor}, which means that only
+     * hints carried by {@link RateLimitException} are used.
+     */
+    final class None implements RetryAfterExtractor {
+        @Override
+        public long retryAfterMillis(Throwable exception) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.smallrye.faulttolerance.api;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * How the retry-after hint extracted from a failure is combined with the configured retry backoff.
+ *
+ * @see #MAX
+ * @see #OVERRIDE
+ * @see RetryAfter
+ */
+@Experimental("first attempt at providing retry-after aware backoff")
+public enum RetryAfterMode {
+    /**
+     * The delay before the next retry attempt is the greater of the retry-after hint and the delay
+     * computed by the configured backoff. Retrying never happens sooner than the hint permits,
+     * but the configured backoff may make it happen later.
+     */
+    MAX,
+
+    /**
+     * The delay before the next retry attempt is the retry-after hint, regardless of the delay
+     * computed by the configured backoff. If the failure doesn't carry a hint, the delay computed
+     * by the configured backoff is used.
+     */
+    OVERRIDE,
+}
@@ -0,0 +1,80 @@
+package io.smallrye.faulttolerance.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Modifies a {@code @Retry} annotation to limit the number of retries performed across all invocations
+ * of the guarded method. May only be present on elements that are also annotated {@code @Retry}.
+ * <p>
+ * Without a retry budget, each invocation independently retries up to {@code maxRetries} times. When the
+ * guarded action starts failing, every invocation multiplies the load on it by {@code 1 + maxRetries}.
+ * The retry budget is a token bucket, from which each retry takes a token. Each successful invocation adds
+ * {@link #ratio()} tokens to the bucket, and {@link #minRetriesPerSecond()} tokens are added every second.
+ * The bucket holds at most {@link #capacity()} tokens and is initially full. When the bucket is empty,
+ * the invocation is not retried and the last failure is propagated.
+ * <p>
+ * By default, each annotated method has its own retry budget. If {@link #name()} is set, all methods
+ * (and programmatic guards) that use the same name share a single retry budget.
+ * <p>
+ * All configuration options of {@code @Retry} still apply and all their constraints are still enforced.
+ *
+ * @see #ratio()
+ * @see #minRetriesPerSecond()
+ * @see #capacity()
+ * @see #name()
+ */
+@Inherited
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Experimental("first attempt at providing retry budgets")
+public @interface RetryBudget {
+    /**
+     * The number of tokens added to the retry budget for each successful invocation. In other words,
+     * the maximum number of retries, as a fraction of the number of successful invocations. Defaults
+     * to 0.2, which means that the number of retries is limited to 20 % of successful invocations.
+     * <p>
+     * The value must be greater than or equal to 0.
+     *
+     * @return the ratio of retries to successful invocations
+     */
+    double ratio() default 0.2;
+
+    /**
+     * The number of tokens added to the retry budget every second, regardless of successful invocations.
+     * This makes retrying possible even if there are no successful invocations. Defaults to 10.
+     * <p>
+     * The value must be greater than or equal to 0.
+     *
+     * @return the minimum number of retries per second
+     */
+    int minRetriesPerSecond() default 10;
+
+    /**
+     * The maximum number of tokens in the retry budget, which is also the number of tokens the budget
+     * initially holds. In other words, the maximum number of retries that may be performed in a burst.
+     * Defaults to 100.
+     * <p>
+     * The value must be greater than or equal to 1.
+     *
+     * @return the capacity of the retry budget
+     */
+    int capacity() default 100;
+
+    /**
+     * The name of the retry budget. All methods and guards that use the same name share a single retry
+     * budget. All methods and guards with the same name must configure the retry budget the same way,
+     * otherwise a definition error occurs. Defaults to an empty string, which means that the retry budget
+     * is not shared.
+     *
+     * @return the name of the retry budget
+     */
+    String name() default "";
+}
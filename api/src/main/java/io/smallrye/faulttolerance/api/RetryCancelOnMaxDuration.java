@@ -0,0 +1,35 @@
+package io.smallrye.faulttolerance.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Modifies a {@code @Retry} annotation to cancel the attempt that is in flight when {@code Retry.maxDuration}
+ * is reached. May only be present on elements that are also annotated {@code @Retry}.
+ * <p>
+ * Without this annotation, the maximum duration is only checked between attempts, so an attempt that is
+ * in flight keeps running, and keeps holding bulkhead permits, connections or threads, even after the maximum
+ * duration elapses. With this annotation, a timer task is scheduled for the moment when the maximum duration
+ * elapses. If the guarded method hasn't finished by then, the attempt in flight is cancelled and the method
+ * fails with the last failure, or with a {@link org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException
+ * TimeoutException} if no attempt failed yet.
+ * <p>
+ * For synchronous methods, cancelling an attempt means interrupting the thread that executes it,
+ * similarly to {@code @Timeout}. For asynchronous methods, cancellation is propagated to the attempt's
+ * asynchronous result, if possible.
+ * <p>
+ * All configuration options of {@code @Retry} still apply and all their constraints are still enforced.
+ */
+@Inherited
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Experimental("first attempt at providing cancellation of in-flight attempts on retry max duration")
+public @interface RetryCancelOnMaxDuration {
+}
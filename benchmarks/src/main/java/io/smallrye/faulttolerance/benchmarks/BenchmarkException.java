@@ -0,0 +1,11 @@
+package io.smallrye.faulttolerance.benchmarks;
+
+/**
+ * Stackless exception thrown by failing guarded actions, so that the benchmarks
+ * measure fault tolerance overhead and not stack trace capture.
+ */
+public class BenchmarkException extends RuntimeException {
+    public BenchmarkException() {
+        super(null, null, false, false);
+    }
+}
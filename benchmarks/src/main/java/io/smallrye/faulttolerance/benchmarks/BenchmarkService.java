@@ -0,0 +1,64 @@
+package io.smallrye.faulttolerance.benchmarks;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Fallback;
+import org.eclipse.microprofile.faulttolerance.Retry;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+
+import io.smallrye.faulttolerance.api.AsynchronousNonBlocking;
+import io.smallrye.faulttolerance.api.RateLimit;
+import io.smallrye.mutiny.Uni;
+
+@ApplicationScoped
+public class BenchmarkService {
+    @Bulkhead(value = 1024, waitingTaskQueue = 1024)
+    @CircuitBreaker
+    @Fallback(fallbackMethod = "fallbackSync")
+    @RateLimit(value = Integer.MAX_VALUE, windowUnit = ChronoUnit.MILLIS)
+    @Retry
+    @Timeout(60_000)
+    public String sync() {
+        return Contexts.VALUE;
+    }
+
+    @AsynchronousNonBlocking
+    @Bulkhead(value = 1024, waitingTaskQueue = 1024)
+    @CircuitBreaker
+    @Fallback(fallbackMethod = "fallbackCompletionStage")
+    @RateLimit(value = Integer.MAX_VALUE, windowUnit = ChronoUnit.MILLIS)
+    @Retry
+    @Timeout(60_000)
+    public CompletionStage<String> completionStage() {
+        return CompletableFuture.completedFuture(Contexts.VALUE);
+    }
+
+    @AsynchronousNonBlocking
+    @Bulkhead(value = 1024, waitingTaskQueue = 1024)
+    @CircuitBreaker
+    @Fallback(fallbackMethod = "fallbackUni")
+    @RateLimit(value = Integer.MAX_VALUE, windowUnit = ChronoUnit.MILLIS)
+    @Retry
+    @Timeout(60_000)
+    public Uni<String> uni() {
+        return Uni.createFrom().item(Contexts.VALUE);
+    }
+
+    public String fallbackSync() {
+        return "fallback";
+    }
+
+    public CompletionStage<String> fallbackCompletionStage() {
+        return CompletableFuture.completedFuture("fallback");
+    }
+
+    public Uni<String> fallbackUni() {
+        return Uni.createFrom().item("fallback");
+    }
+}
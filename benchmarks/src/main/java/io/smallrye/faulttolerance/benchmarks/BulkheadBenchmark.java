@@ -0,0 +1,88 @@
+package io.smallrye.faulttolerance.benchmarks;
+
+import static io.smallrye.faulttolerance.core.Invocation.invocation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.bulkhead.Bulkhead;
+import io.smallrye.faulttolerance.core.bulkhead.LockFreeBulkhead;
+
+/**
+ * Compares the semaphore-based {@link Bulkhead} with the {@link LockFreeBulkhead}. The {@code contended}
+ * benchmarks use a bulkhead that is much smaller than the number of threads, so that a lot of
+ * invocations are queued or rejected.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkheadBenchmark {
+    @Param({ "false", "true" })
+    boolean async;
+
+    @Param({ "semaphore", "lockfree" })
+    String type;
+
+    private FaultToleranceStrategy<String> bulkhead;
+    private FaultToleranceStrategy<String> smallBulkhead;
+
+    @Setup
+    public void setUp() {
+        bulkhead = create(1024, 1024);
+        smallBulkhead = create(4, 4);
+    }
+
+    private FaultToleranceStrategy<String> create(int size, int queueSize) {
+        if ("lockfree".equals(type)) {
+            return new LockFreeBulkhead<>(invocation(), "benchmark", size, queueSize);
+        }
+        return new Bulkhead<>(invocation(), "benchmark", size, queueSize, false);
+    }
+
+    @Benchmark
+    public Object bulkhead() {
+        return run(bulkhead);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object contended8() {
+        return run(smallBulkhead);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Object contended32() {
+        return run(smallBulkhead);
+    }
+
+    @Benchmark
+    @Threads(128)
+    public Object contended128() {
+        return run(smallBulkhead);
+    }
+
+    private Object run(FaultToleranceStrategy<String> strategy) {
+        try {
+            return strategy.apply(Contexts.create(async)).awaitBlocking();
+        } catch (Throwable e) {
+            return e;
+        }
+    }
+}
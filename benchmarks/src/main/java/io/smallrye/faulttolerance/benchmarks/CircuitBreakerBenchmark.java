@@ -0,0 +1,79 @@
+package io.smallrye.faulttolerance.benchmarks;
+
+import static io.smallrye.faulttolerance.core.Invocation.invocation;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreaker;
+import io.smallrye.faulttolerance.core.stopwatch.SystemStopwatch;
+import io.smallrye.faulttolerance.core.timer.ThreadTimer;
+import io.smallrye.faulttolerance.core.util.ExceptionDecision;
+
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CircuitBreakerBenchmark {
+    @Param({ "false", "true" })
+    boolean async;
+
+    /**
+     * Whether the circuit breaker is open for the whole benchmark, which measures
+     * the rejection path instead of the success path.
+     */
+    @Param({ "false", "true" })
+    boolean open;
+
+    private ExecutorService executor;
+    private ThreadTimer timer;
+    private CircuitBreaker<String> circuitBreaker;
+
+    @Setup
+    public void setUp() throws Throwable {
+        executor = Executors.newCachedThreadPool();
+        timer = new ThreadTimer(executor);
+        circuitBreaker = new CircuitBreaker<>(invocation(), "benchmark", ExceptionDecision.ALWAYS_FAILURE,
+                Long.MAX_VALUE / 2, 20, 0.5, 5, SystemStopwatch.INSTANCE, timer);
+
+        if (open) {
+            for (int i = 0; i < 20; i++) {
+                try {
+                    circuitBreaker.apply(Contexts.createFailing(1, async)).awaitBlocking();
+                } catch (BenchmarkException ignored) {
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        timer.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Object circuitBreaker() {
+        try {
+            return circuitBreaker.apply(Contexts.create(async)).awaitBlocking();
+        } catch (Throwable e) {
+            return e;
+        }
+    }
+}
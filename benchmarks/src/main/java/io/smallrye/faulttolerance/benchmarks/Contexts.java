@@ -0,0 +1,37 @@
+package io.smallrye.faulttolerance.benchmarks;
+
+import java.util.concurrent.Callable;
+
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.Future;
+
+final class Contexts {
+    static final String VALUE = "hello";
+
+    static final Callable<String> ACTION = () -> VALUE;
+
+    static FaultToleranceContext<String> create(Callable<String> action, boolean async) {
+        return new FaultToleranceContext<>(() -> Future.from(action), async);
+    }
+
+    static FaultToleranceContext<String> create(boolean async) {
+        return create(ACTION, async);
+    }
+
+    /**
+     * Creates a context whose guarded action fails {@code failures} times and then succeeds.
+     */
+    static FaultToleranceContext<String> createFailing(int failures, boolean async) {
+        int[] attempts = new int[1];
+        return create(() -> {
+            if (attempts[0]++ < failures) {
+                throw new BenchmarkException();
+            }
+            return VALUE;
+        }, async);
+    }
+
+    private Contexts() {
+        // avoid instantiation
+    }
+}
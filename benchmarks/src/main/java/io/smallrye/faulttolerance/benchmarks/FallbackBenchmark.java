@@ -0,0 +1,55 @@
+package io.smallrye.faulttolerance.benchmarks;
+
+import static io.smallrye.faulttolerance.core.Invocation.invocation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.fallback.Fallback;
+import io.smallrye.faulttolerance.core.util.ExceptionDecision;
+
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FallbackBenchmark {
+    @Param({ "false", "true" })
+    boolean async;
+
+    /**
+     * Whether the guarded action fails, so that the fallback is applied.
+     */
+    @Param({ "false", "true" })
+    boolean failing;
+
+    private Fallback<String> fallback;
+
+    @Setup
+    public void setUp() {
+        fallback = new Fallback<>(invocation(), "benchmark", ignored -> Future.of("fallback"),
+                ExceptionDecision.ALWAYS_FAILURE);
+    }
+
+    @Benchmark
+    public Object fallback() {
+        try {
+            return fallback.apply(Contexts.createFailing(failing ? 1 : 0, async)).awaitBlocking();
+        } catch (Throwable e) {
+            return e;
+        }
+    }
+}
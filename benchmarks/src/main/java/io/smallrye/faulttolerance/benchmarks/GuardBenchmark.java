@@ -0,0 +1,128 @@
+package io.smallrye.faulttolerance.benchmarks;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.faulttolerance.api.Guard;
+import io.smallrye.faulttolerance.api.TypedGuard;
+import io.smallrye.faulttolerance.standalone.StandaloneFaultTolerance;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Full strategy chains built using the programmatic API ({@code GuardImpl} and {@code TypedGuardImpl}),
+ * guarding synchronous, {@code CompletionStage} and {@code Uni} actions. The guarded actions
+ * always succeed and the rate limit is set high enough to never reject.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GuardBenchmark {
+    private static final TypeLiteral<CompletionStage<String>> COMPLETION_STAGE_STRING = new TypeLiteral<>() {
+    };
+    private static final TypeLiteral<Uni<String>> UNI_STRING = new TypeLiteral<>() {
+    };
+
+    private Guard guard;
+
+    private TypedGuard<String> typedGuard;
+    private TypedGuard<CompletionStage<String>> typedGuardCompletionStage;
+    private TypedGuard<Uni<String>> typedGuardUni;
+
+    @Setup
+    public void setUp() {
+        guard = Guard.create()
+                .withBulkhead().limit(1024).queueSize(1024).done()
+                .withCircuitBreaker().done()
+                .withRateLimit().limit(Integer.MAX_VALUE).window(1, ChronoUnit.MILLIS).done()
+                .withRetry().done()
+                .withTimeout().duration(60, ChronoUnit.SECONDS).done()
+                .build();
+
+        typedGuard = TypedGuard.create(String.class)
+                .withBulkhead().limit(1024).queueSize(1024).done()
+                .withCircuitBreaker().done()
+                .withFallback().handler(() -> "fallback").done()
+                .withRateLimit().limit(Integer.MAX_VALUE).window(1, ChronoUnit.MILLIS).done()
+                .withRetry().done()
+                .withTimeout().duration(60, ChronoUnit.SECONDS).done()
+                .build();
+        typedGuardCompletionStage = TypedGuard.create(COMPLETION_STAGE_STRING)
+                .withBulkhead().limit(1024).queueSize(1024).done()
+                .withCircuitBreaker().done()
+                .withFallback().handler(() -> CompletableFuture.completedFuture("fallback")).done()
+                .withRateLimit().limit(Integer.MAX_VALUE).window(1, ChronoUnit.MILLIS).done()
+                .withRetry().done()
+                .withTimeout().duration(60, ChronoUnit.SECONDS).done()
+                .build();
+        typedGuardUni = TypedGuard.create(UNI_STRING)
+                .withBulkhead().limit(1024).queueSize(1024).done()
+                .withCircuitBreaker().done()
+                .withFallback().handler(() -> Uni.createFrom().item("fallback")).done()
+                .withRateLimit().limit(Integer.MAX_VALUE).window(1, ChronoUnit.MILLIS).done()
+                .withRetry().done()
+                .withTimeout().duration(60, ChronoUnit.SECONDS).done()
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        StandaloneFaultTolerance.shutdown();
+    }
+
+    @Benchmark
+    public String guardSync() throws Exception {
+        return guard.call(Contexts.ACTION, String.class);
+    }
+
+    @Benchmark
+    public String guardCompletionStage() throws Exception {
+        return guard.call(() -> CompletableFuture.completedFuture(Contexts.VALUE), COMPLETION_STAGE_STRING)
+                .toCompletableFuture()
+                .join();
+    }
+
+    @Benchmark
+    public String guardUni() throws Exception {
+        return guard.call(() -> Uni.createFrom().item(Contexts.VALUE), UNI_STRING)
+                .await()
+                .indefinitely();
+    }
+
+    @Benchmark
+    public String typedGuardSync() throws Exception {
+        return typedGuard.call(Contexts.ACTION);
+    }
+
+    @Benchmark
+    public String typedGuardCompletionStage() throws Exception {
+        return typedGuardCompletionStage.call(() -> CompletableFuture.completedFuture(Contexts.VALUE))
+                .toCompletableFuture()
+                .join();
+    }
+
+    @Benchmark
+    public String typedGuardUni() throws Exception {
+        return typedGuardUni.call(() -> Uni.createFrom().item(Contexts.VALUE))
+                .await()
+                .indefinitely();
+    }
+}
@@ -0,0 +1,66 @@
+package io.smallrye.faulttolerance.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.inject.ConfigExtension;
+import io.smallrye.faulttolerance.FaultToleranceExtension;
+
+/**
+ * Full strategy chains built by the {@code FaultToleranceInterceptor} in a Weld SE container,
+ * guarding synchronous, {@code CompletionStage} and {@code Uni} methods. The guarded methods
+ * always succeed and the rate limit is set high enough to never reject.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InterceptorBenchmark {
+    private WeldContainer container;
+    private BenchmarkService service;
+
+    @Setup
+    public void setUp() {
+        container = new Weld()
+                .disableDiscovery()
+                .addExtensions(new FaultToleranceExtension(), new ConfigExtension())
+                .addBeanClasses(BenchmarkService.class)
+                .initialize();
+        service = container.select(BenchmarkService.class).get();
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public String interceptorSync() {
+        return service.sync();
+    }
+
+    @Benchmark
+    public String interceptorCompletionStage() {
+        return service.completionStage().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public String interceptorUni() {
+        return service.uni().await().indefinitely();
+    }
+}
@@ -0,0 +1,61 @@
+package io.smallrye.faulttolerance.benchmarks;
+
+import static io.smallrye.faulttolerance.core.Invocation.invocation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.faulttolerance.api.RateLimitType;
+import io.smallrye.faulttolerance.core.rate.limit.RateLimit;
+import io.smallrye.faulttolerance.core.stopwatch.SystemStopwatch;
+
+/**
+ * The rate limit is set so that the benchmark exercises both permitted and rejected invocations.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimitBenchmark {
+    @Param({ "FIXED", "ROLLING", "SMOOTH" })
+    RateLimitType type;
+
+    @Param({ "false", "true" })
+    boolean async;
+
+    @Param({ "1000" })
+    int limit;
+
+    @Param({ "1" })
+    long windowInMillis;
+
+    private RateLimit<String> rateLimit;
+
+    @Setup
+    public void setUp() {
+        rateLimit = new RateLimit<>(invocation(), "benchmark", limit, windowInMillis, 0, type,
+                SystemStopwatch.INSTANCE);
+    }
+
+    @Benchmark
+    public Object rateLimit() {
+        try {
+            return rateLimit.apply(Contexts.create(async)).awaitBlocking();
+        } catch (Throwable e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.smallrye.faulttolerance.benchmarks;
+
+import static io.smallrye.faulttolerance.core.Invocation.invocation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.faulttolerance.core.retry.AsyncDelay;
+import io.smallrye.faulttolerance.core.retry.Retry;
+import io.smallrye.faulttolerance.core.retry.SyncDelay;
+import io.smallrye.faulttolerance.core.stopwatch.SystemStopwatch;
+import io.smallrye.faulttolerance.core.util.ExceptionDecision;
+import io.smallrye.faulttolerance.core.util.ResultDecision;
+
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RetryBenchmark {
+    @Param({ "false", "true" })
+    boolean async;
+
+    /**
+     * Number of failed attempts before the guarded action succeeds.
+     */
+    @Param({ "0", "2" })
+    int failures;
+
+    private Retry<String> retry;
+
+    @Setup
+    public void setUp() {
+        retry = new Retry<>(invocation(), "benchmark", ResultDecision.ALWAYS_EXPECTED,
+                ExceptionDecision.ALWAYS_FAILURE, 3, 180_000, SyncDelay.NONE, AsyncDelay.NONE,
+                SystemStopwatch.INSTANCE, null);
+    }
+
+    @Benchmark
+    public Object retry() {
+        try {
+            return retry.apply(Contexts.createFailing(failures, async)).awaitBlocking();
+        } catch (Throwable e) {
+            return e;
+        }
+    }
+}
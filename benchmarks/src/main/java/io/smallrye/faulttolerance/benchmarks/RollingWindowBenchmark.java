@@ -0,0 +1,59 @@
+package io.smallrye.faulttolerance.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.faulttolerance.core.circuit.breaker.BitsetRollingWindow;
+import io.smallrye.faulttolerance.core.circuit.breaker.RollingWindow;
+import io.smallrye.faulttolerance.core.circuit.breaker.StripedRollingWindow;
+
+/**
+ * Records results into a single circuit breaker rolling window from multiple threads, which is what
+ * happens in the closed state when a circuit breaker guards a heavily used endpoint. Roughly 10% of
+ * the recorded results are failures, which is below the failure threshold. Use {@code -t} to change
+ * the number of threads.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RollingWindowBenchmark {
+    @Param({ "bitset", "striped" })
+    String type;
+
+    @Param({ "20", "1000" })
+    int size;
+
+    private RollingWindow window;
+
+    @Setup
+    public void setUp() {
+        int failureThreshold = size / 2;
+        window = "striped".equals(type)
+                ? new StripedRollingWindow(size, failureThreshold)
+                : new BitsetRollingWindow(size, failureThreshold);
+    }
+
+    @Benchmark
+    public boolean record() {
+        return ThreadLocalRandom.current().nextInt(10) == 0
+                ? window.recordFailure()
+                : window.recordSuccess();
+    }
+}
@@ -0,0 +1,97 @@
+package io.smallrye.faulttolerance.benchmarks;
+
+import static io.smallrye.faulttolerance.core.Invocation.invocation;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.faulttolerance.api.RateLimitType;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.bulkhead.Bulkhead;
+import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreaker;
+import io.smallrye.faulttolerance.core.fallback.Fallback;
+import io.smallrye.faulttolerance.core.rate.limit.RateLimit;
+import io.smallrye.faulttolerance.core.retry.AsyncDelay;
+import io.smallrye.faulttolerance.core.retry.Retry;
+import io.smallrye.faulttolerance.core.retry.SyncDelay;
+import io.smallrye.faulttolerance.core.stopwatch.SystemStopwatch;
+import io.smallrye.faulttolerance.core.timeout.Timeout;
+import io.smallrye.faulttolerance.core.timer.ThreadTimer;
+import io.smallrye.faulttolerance.core.timer.Timer;
+import io.smallrye.faulttolerance.core.util.ExceptionDecision;
+import io.smallrye.faulttolerance.core.util.ResultDecision;
+
+/**
+ * All core strategies composed in the same order as the programmatic API and the CDI interceptor
+ * compose them, without thread offload and without metrics. The rate limit is set high enough
+ * to never reject and the circuit breaker only opens when all invocations fail, which they never do.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StrategyChainBenchmark {
+    @Param({ "false", "true" })
+    boolean async;
+
+    /**
+     * Number of failed attempts before the guarded action succeeds.
+     */
+    @Param({ "0", "1" })
+    int failures;
+
+    private ExecutorService executor;
+    private Timer timer;
+    private FaultToleranceStrategy<String> chain;
+
+    @Setup
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+        timer = new ThreadTimer(executor);
+
+        FaultToleranceStrategy<String> result = invocation();
+        result = new Bulkhead<>(result, "benchmark", 1024, 1024, false);
+        result = new Timeout<>(result, "benchmark", 60_000, timer);
+        result = new RateLimit<>(result, "benchmark", Integer.MAX_VALUE, 1, 0, RateLimitType.FIXED,
+                SystemStopwatch.INSTANCE);
+        result = new CircuitBreaker<>(result, "benchmark", ExceptionDecision.ALWAYS_FAILURE, 5_000,
+                20, 1.0, 1, SystemStopwatch.INSTANCE, timer);
+        result = new Retry<>(result, "benchmark", ResultDecision.ALWAYS_EXPECTED, ExceptionDecision.ALWAYS_FAILURE,
+                3, 180_000, SyncDelay.NONE, AsyncDelay.NONE, SystemStopwatch.INSTANCE, null);
+        result = new Fallback<>(result, "benchmark", ignored -> Future.of("fallback"),
+                ExceptionDecision.ALWAYS_FAILURE);
+        chain = result;
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        timer.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Object chain() {
+        try {
+            return chain.apply(Contexts.createFailing(failures, async)).awaitBlocking();
+        } catch (Throwable e) {
+            return e;
+        }
+    }
+}
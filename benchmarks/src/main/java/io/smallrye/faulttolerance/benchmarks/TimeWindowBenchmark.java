@@ -0,0 +1,77 @@
+package io.smallrye.faulttolerance.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.faulttolerance.api.RateLimitType;
+import io.smallrye.faulttolerance.core.rate.limit.TimeWindow;
+import io.smallrye.faulttolerance.core.stopwatch.SystemStopwatch;
+
+/**
+ * Records invocation attempts into a single rate limit time window from an increasing number
+ * of threads, which is what happens when a rate limit guards a heavily used endpoint. The rate limit
+ * is set so that the benchmark exercises both permitted and rejected invocations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimeWindowBenchmark {
+    @Param({ "FIXED", "ROLLING", "SMOOTH", "APPROXIMATE_ROLLING", "GCRA" })
+    RateLimitType type;
+
+    @Param({ "0", "1" })
+    long minSpacingInMillis;
+
+    private TimeWindow window;
+
+    @Setup
+    public void setUp() {
+        window = switch (type) {
+            case FIXED -> TimeWindow.createFixed(SystemStopwatch.INSTANCE, 1000, 1, minSpacingInMillis);
+            case ROLLING -> TimeWindow.createRolling(SystemStopwatch.INSTANCE, 1000, 1, minSpacingInMillis);
+            case SMOOTH -> TimeWindow.createSmooth(SystemStopwatch.INSTANCE, 1000, 1, minSpacingInMillis);
+            case APPROXIMATE_ROLLING ->
+                TimeWindow.createApproximateRolling(SystemStopwatch.INSTANCE, 1000, 1, minSpacingInMillis);
+            case GCRA -> TimeWindow.createGcra(SystemStopwatch.INSTANCE, 1000, 1, minSpacingInMillis, 0);
+        };
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long threads1() {
+        return window.record();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long threads4() {
+        return window.record();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long threads16() {
+        return window.record();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long threads64() {
+        return window.record();
+    }
+}
@@ -0,0 +1,65 @@
+package io.smallrye.faulttolerance.benchmarks;
+
+import static io.smallrye.faulttolerance.core.Invocation.invocation;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.faulttolerance.core.timeout.Timeout;
+import io.smallrye.faulttolerance.core.timer.ThreadTimer;
+import io.smallrye.faulttolerance.core.timer.Timer;
+
+/**
+ * The guarded action never times out, so this measures the cost of scheduling
+ * and cancelling the timeout watcher on the {@link Timer}.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimeoutBenchmark {
+    @Param({ "false", "true" })
+    boolean async;
+
+    private ExecutorService executor;
+    private Timer timer;
+    private Timeout<String> timeout;
+
+    @Setup
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+        timer = new ThreadTimer(executor);
+        timeout = new Timeout<>(invocation(), "benchmark", 60_000, timer);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        timer.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Object timeout() {
+        try {
+            return timeout.apply(Contexts.create(async)).awaitBlocking();
+        } catch (Throwable e) {
+            return e;
+        }
+    }
+}
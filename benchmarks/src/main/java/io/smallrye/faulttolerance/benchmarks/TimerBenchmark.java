@@ -0,0 +1,72 @@
+package io.smallrye.faulttolerance.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.faulttolerance.core.timer.HashedWheelTimer;
+import io.smallrye.faulttolerance.core.timer.ThreadTimer;
+import io.smallrye.faulttolerance.core.timer.Timer;
+import io.smallrye.faulttolerance.core.timer.TimerTask;
+
+/**
+ * Schedules and immediately cancels a task, which is what the timeout strategy does when the guarded
+ * action finishes in time. Before the benchmark starts, a number of long-running tasks is scheduled
+ * on the timer, to simulate in-flight timeouts.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class TimerBenchmark {
+    private static final Runnable NOOP = () -> {
+    };
+
+    @Param({ "thread", "wheel" })
+    String type;
+
+    @Param({ "0", "10000", "100000" })
+    int inFlight;
+
+    private ExecutorService executor;
+    private Timer timer;
+
+    @Setup
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+        timer = "wheel".equals(type) ? new HashedWheelTimer(executor) : new ThreadTimer(executor);
+
+        for (int i = 0; i < inFlight; i++) {
+            timer.schedule(3_600_000, NOOP);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        timer.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean scheduleAndCancel() {
+        TimerTask task = timer.schedule(60_000, NOOP);
+        return task.cancel();
+    }
+}
@@ -10,6 +10,7 @@ import java.util.function.Predicate;
 
 import io.smallrye.faulttolerance.api.CircuitBreakerMaintenance;
 import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import io.smallrye.faulttolerance.core.FaultToleranceEventListener;
 import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreaker;
 import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
 import io.smallrye.faulttolerance.core.util.Callbacks;
@@ -18,6 +19,7 @@ public class BasicCircuitBreakerMaintenanceImpl implements CircuitBreakerMainten
     private final Set<String> knownNames = ConcurrentHashMap.newKeySet();
     private final ConcurrentMap<String, CircuitBreaker<?>> registry = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, Collection<Consumer<CircuitBreakerState>>> stateChangeCallbacks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, FaultToleranceEventListener> stateTransitionListeners = new ConcurrentHashMap<>();
 
     private final Predicate<String> circuitBreakerExists;
 
@@ -72,16 +74,19 @@ public class BasicCircuitBreakerMaintenanceImpl implements CircuitBreakerMainten
                 .add(Callbacks.wrap(callback));
     }
 
-    public Consumer<CircuitBreakerEvents.StateTransition> stateTransitionEventHandler(String name) {
-        return stateTransition -> {
-            CircuitBreakerState targetState = stateTransition.targetState;
-            Collection<Consumer<CircuitBreakerState>> callbacks = stateChangeCallbacks.get(name);
-            if (callbacks != null) {
-                for (Consumer<CircuitBreakerState> callback : callbacks) {
-                    callback.accept(targetState);
+    // the returned listener is cached, so it can be cheaply added to each invocation context
+    public FaultToleranceEventListener stateTransitionEventListener(String name) {
+        return stateTransitionListeners.computeIfAbsent(name, ignored -> event -> {
+            if (event instanceof CircuitBreakerEvents.StateTransition stateTransition) {
+                CircuitBreakerState targetState = stateTransition.targetState;
+                Collection<Consumer<CircuitBreakerState>> callbacks = stateChangeCallbacks.get(name);
+                if (callbacks != null) {
+                    for (Consumer<CircuitBreakerState> callback : callbacks) {
+                        callback.accept(targetState);
+                    }
                 }
             }
-        };
+        });
     }
 
     @Override
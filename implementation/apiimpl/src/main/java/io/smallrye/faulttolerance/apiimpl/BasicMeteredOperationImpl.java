@@ -7,22 +7,30 @@ final class BasicMeteredOperationImpl implements MeteredOperation {
     private final String name;
     private final boolean mayBeAsynchronous;
     private final boolean hasBulkhead;
+    private final boolean hasAdaptiveBulkhead;
     private final boolean hasCircuitBreaker;
     private final boolean hasFallback;
+    private final boolean hasHedge;
     private final boolean hasRateLimit;
     private final boolean hasRetry;
+    private final boolean hasRetryBudget;
     private final boolean hasTimeout;
 
     BasicMeteredOperationImpl(boolean enabled, String name, boolean mayBeAsynchronous, boolean hasBulkhead,
-            boolean hasCircuitBreaker, boolean hasFallback, boolean hasRateLimit, boolean hasRetry, boolean hasTimeout) {
+            boolean hasAdaptiveBulkhead, boolean hasCircuitBreaker, boolean hasFallback, boolean hasHedge, boolean hasRateLimit,
+            boolean hasRetry,
+            boolean hasRetryBudget, boolean hasTimeout) {
         this.enabled = enabled;
         this.name = name;
         this.mayBeAsynchronous = mayBeAsynchronous;
         this.hasBulkhead = hasBulkhead;
+        this.hasAdaptiveBulkhead = hasAdaptiveBulkhead;
         this.hasCircuitBreaker = hasCircuitBreaker;
         this.hasFallback = hasFallback;
+        this.hasHedge = hasHedge;
         this.hasRateLimit = hasRateLimit;
         this.hasRetry = hasRetry;
+        this.hasRetryBudget = hasRetryBudget;
         this.hasTimeout = hasTimeout;
     }
 
@@ -41,6 +49,11 @@ final class BasicMeteredOperationImpl implements MeteredOperation {
         return hasBulkhead;
     }
 
+    @Override
+    public boolean hasAdaptiveBulkhead() {
+        return hasAdaptiveBulkhead;
+    }
+
     @Override
     public boolean hasCircuitBreaker() {
         return hasCircuitBreaker;
@@ -51,6 +64,11 @@ final class BasicMeteredOperationImpl implements MeteredOperation {
         return hasFallback;
     }
 
+    @Override
+    public boolean hasHedge() {
+        return hasHedge;
+    }
+
     @Override
     public boolean hasRateLimit() {
         return hasRateLimit;
@@ -61,6 +79,11 @@ final class BasicMeteredOperationImpl implements MeteredOperation {
         return hasRetry;
     }
 
+    @Override
+    public boolean hasRetryBudget() {
+        return hasRetryBudget;
+    }
+
     @Override
     public boolean hasTimeout() {
         return hasTimeout;
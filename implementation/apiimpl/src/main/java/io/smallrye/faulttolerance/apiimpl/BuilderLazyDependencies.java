@@ -17,4 +17,8 @@ public interface BuilderLazyDependencies {
     Timer timer();
 
     MetricsProvider metricsProvider();
+
+    boolean stacklessRejections();
+
+    boolean lockFreeBulkhead();
 }
@@ -4,6 +4,8 @@ import java.util.function.Consumer;
 
 import io.smallrye.faulttolerance.api.CircuitBreakerState;
 import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceEvent;
+import io.smallrye.faulttolerance.core.FaultToleranceEventListener;
 import io.smallrye.faulttolerance.core.bulkhead.BulkheadEvents;
 import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
 import io.smallrye.faulttolerance.core.rate.limit.RateLimitEvents;
@@ -11,12 +13,13 @@ import io.smallrye.faulttolerance.core.retry.RetryEvents;
 import io.smallrye.faulttolerance.core.timeout.TimeoutEvents;
 import io.smallrye.faulttolerance.core.util.Callbacks;
 
-final class EventHandlers {
+// created once per guard and added to each invocation context as a single event listener
+final class EventHandlers implements FaultToleranceEventListener {
     private final Runnable bulkheadOnAccepted;
     private final Runnable bulkheadOnRejected;
     private final Runnable bulkheadOnFinished;
 
-    private final Consumer<CircuitBreakerEvents.StateTransition> cbMaintenanceEventHandler;
+    private final FaultToleranceEventListener cbMaintenanceEventListener;
     private final Consumer<CircuitBreakerState> circuitBreakerOnStateChange;
     private final Runnable circuitBreakerOnSuccess;
     private final Runnable circuitBreakerOnFailure;
@@ -32,8 +35,10 @@ final class EventHandlers {
     private final Runnable timeoutOnTimeout;
     private final Runnable timeoutOnFinished;
 
+    private final boolean enabled;
+
     EventHandlers(Runnable bulkheadOnAccepted, Runnable bulkheadOnRejected, Runnable bulkheadOnFinished,
-            Consumer<CircuitBreakerEvents.StateTransition> cbMaintenanceEventHandler,
+            FaultToleranceEventListener cbMaintenanceEventListener,
             Consumer<CircuitBreakerState> circuitBreakerOnStateChange, Runnable circuitBreakerOnSuccess,
             Runnable circuitBreakerOnFailure, Runnable circuitBreakerOnPrevented, Runnable rateLimitOnPermitted,
             Runnable rateLimitOnRejected, Runnable retryOnRetry, Runnable retryOnSuccess, Runnable retryOnFailure,
@@ -41,7 +46,8 @@ final class EventHandlers {
         this.bulkheadOnAccepted = Callbacks.wrap(bulkheadOnAccepted);
         this.bulkheadOnRejected = Callbacks.wrap(bulkheadOnRejected);
         this.bulkheadOnFinished = Callbacks.wrap(bulkheadOnFinished);
-        this.cbMaintenanceEventHandler = Callbacks.wrap(cbMaintenanceEventHandler);
+        // state change callbacks registered in circuit breaker maintenance are already wrapped
+        this.cbMaintenanceEventListener = cbMaintenanceEventListener;
         this.circuitBreakerOnStateChange = Callbacks.wrap(circuitBreakerOnStateChange);
         this.circuitBreakerOnSuccess = Callbacks.wrap(circuitBreakerOnSuccess);
         this.circuitBreakerOnFailure = Callbacks.wrap(circuitBreakerOnFailure);
@@ -53,104 +59,96 @@ final class EventHandlers {
         this.retryOnFailure = Callbacks.wrap(retryOnFailure);
         this.timeoutOnTimeout = Callbacks.wrap(timeoutOnTimeout);
         this.timeoutOnFinished = Callbacks.wrap(timeoutOnFinished);
+
+        this.enabled = bulkheadOnAccepted != null || bulkheadOnRejected != null || bulkheadOnFinished != null
+                || cbMaintenanceEventListener != null || circuitBreakerOnStateChange != null
+                || circuitBreakerOnSuccess != null || circuitBreakerOnFailure != null || circuitBreakerOnPrevented != null
+                || rateLimitOnPermitted != null || rateLimitOnRejected != null
+                || retryOnRetry != null || retryOnSuccess != null || retryOnFailure != null
+                || timeoutOnTimeout != null || timeoutOnFinished != null;
     }
 
     void register(FaultToleranceContext<?> ctx) {
-        if (bulkheadOnAccepted != null || bulkheadOnRejected != null) {
-            ctx.registerEventHandler(BulkheadEvents.DecisionMade.class, event -> {
-                if (event.accepted) {
-                    if (bulkheadOnAccepted != null) {
-                        bulkheadOnAccepted.run();
-                    }
-                } else {
-                    if (bulkheadOnRejected != null) {
-                        bulkheadOnRejected.run();
-                    }
-                }
-            });
-        }
-        if (bulkheadOnFinished != null) {
-            ctx.registerEventHandler(BulkheadEvents.FinishedRunning.class, event -> {
-                bulkheadOnFinished.run();
-            });
+        if (enabled) {
+            ctx.addEventListener(this);
         }
+    }
 
-        if (cbMaintenanceEventHandler != null) {
-            ctx.registerEventHandler(CircuitBreakerEvents.StateTransition.class, cbMaintenanceEventHandler);
-        }
-        if (circuitBreakerOnStateChange != null) {
-            ctx.registerEventHandler(CircuitBreakerEvents.StateTransition.class, event -> {
-                CircuitBreakerState targetState = event.targetState;
-                circuitBreakerOnStateChange.accept(targetState);
-            });
-        }
-        if (circuitBreakerOnSuccess != null || circuitBreakerOnFailure != null || circuitBreakerOnPrevented != null) {
-            ctx.registerEventHandler(CircuitBreakerEvents.Finished.class, event -> {
-                switch (event.result) {
-                    case SUCCESS -> {
-                        if (circuitBreakerOnSuccess != null) {
-                            circuitBreakerOnSuccess.run();
-                        }
-                    }
-                    case FAILURE -> {
-                        if (circuitBreakerOnFailure != null) {
-                            circuitBreakerOnFailure.run();
-                        }
-                    }
-                    case PREVENTED -> {
-                        if (circuitBreakerOnPrevented != null) {
-                            circuitBreakerOnPrevented.run();
-                        }
+    @Override
+    public void onEvent(FaultToleranceEvent event) {
+        if (event instanceof BulkheadEvents.DecisionMade decision) {
+            if (decision.accepted) {
+                if (bulkheadOnAccepted != null) {
+                    bulkheadOnAccepted.run();
+                }
+            } else {
+                if (bulkheadOnRejected != null) {
+                    bulkheadOnRejected.run();
+                }
+            }
+        } else if (event instanceof BulkheadEvents.FinishedRunning) {
+            if (bulkheadOnFinished != null) {
+                bulkheadOnFinished.run();
+            }
+        } else if (event instanceof CircuitBreakerEvents.StateTransition stateTransition) {
+            if (cbMaintenanceEventListener != null) {
+                cbMaintenanceEventListener.onEvent(stateTransition);
+            }
+            if (circuitBreakerOnStateChange != null) {
+                circuitBreakerOnStateChange.accept(stateTransition.targetState);
+            }
+        } else if (event instanceof CircuitBreakerEvents.Finished finished) {
+            switch (finished.result) {
+                case SUCCESS -> {
+                    if (circuitBreakerOnSuccess != null) {
+                        circuitBreakerOnSuccess.run();
                     }
                 }
-            });
-        }
-
-        if (rateLimitOnPermitted != null || rateLimitOnRejected != null) {
-            ctx.registerEventHandler(RateLimitEvents.DecisionMade.class, event -> {
-                if (event.permitted) {
-                    if (rateLimitOnPermitted != null) {
-                        rateLimitOnPermitted.run();
+                case FAILURE -> {
+                    if (circuitBreakerOnFailure != null) {
+                        circuitBreakerOnFailure.run();
                     }
-                } else {
-                    if (rateLimitOnRejected != null) {
-                        rateLimitOnRejected.run();
+                }
+                case PREVENTED -> {
+                    if (circuitBreakerOnPrevented != null) {
+                        circuitBreakerOnPrevented.run();
                     }
                 }
-            });
-        }
-
-        if (retryOnRetry != null) {
-            ctx.registerEventHandler(RetryEvents.Retried.class, event -> {
+            }
+        } else if (event instanceof RateLimitEvents.DecisionMade decision) {
+            if (decision.permitted) {
+                if (rateLimitOnPermitted != null) {
+                    rateLimitOnPermitted.run();
+                }
+            } else {
+                if (rateLimitOnRejected != null) {
+                    rateLimitOnRejected.run();
+                }
+            }
+        } else if (event instanceof RetryEvents.Retried) {
+            if (retryOnRetry != null) {
                 retryOnRetry.run();
-            });
-        }
-        if (retryOnSuccess != null || retryOnFailure != null) {
-            ctx.registerEventHandler(RetryEvents.Finished.class, event -> {
-                if (event.result == RetryEvents.Result.VALUE_RETURNED) {
-                    if (retryOnSuccess != null) {
-                        retryOnSuccess.run();
-                    }
-                } else {
-                    if (retryOnFailure != null) {
-                        retryOnFailure.run();
-                    }
+            }
+        } else if (event instanceof RetryEvents.Finished finished) {
+            if (finished.result == RetryEvents.Result.VALUE_RETURNED) {
+                if (retryOnSuccess != null) {
+                    retryOnSuccess.run();
                 }
-            });
-        }
-
-        if (timeoutOnTimeout != null || timeoutOnFinished != null) {
-            ctx.registerEventHandler(TimeoutEvents.Finished.class, event -> {
-                if (event.timedOut) {
-                    if (timeoutOnTimeout != null) {
-                        timeoutOnTimeout.run();
-                    }
-                } else {
-                    if (timeoutOnFinished != null) {
-                        timeoutOnFinished.run();
-                    }
+            } else {
+                if (retryOnFailure != null) {
+                    retryOnFailure.run();
+                }
+            }
+        } else if (event instanceof TimeoutEvents.Finished finished) {
+            if (finished.timedOut) {
+                if (timeoutOnTimeout != null) {
+                    timeoutOnTimeout.run();
+                }
+            } else {
+                if (timeoutOnFinished != null) {
+                    timeoutOnFinished.run();
                 }
-            });
+            }
         }
     }
 }
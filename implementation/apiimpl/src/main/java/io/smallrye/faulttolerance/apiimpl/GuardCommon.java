@@ -15,6 +15,7 @@ import io.smallrye.faulttolerance.core.invocation.AsyncSupport;
 import io.smallrye.faulttolerance.core.invocation.AsyncSupportRegistry;
 import io.smallrye.faulttolerance.core.invocation.Invoker;
 import io.smallrye.faulttolerance.core.invocation.StrategyInvoker;
+import io.smallrye.faulttolerance.core.timeout.Deadline;
 import io.smallrye.faulttolerance.core.util.ExceptionDecision;
 import io.smallrye.faulttolerance.core.util.PredicateBasedExceptionDecision;
 import io.smallrye.faulttolerance.core.util.PredicateBasedResultDecision;
@@ -60,6 +61,7 @@ final class GuardCommon {
             EventHandlers eventHandlers, Consumer<FaultToleranceContext<?>> contextModifier) throws Exception {
         if (asyncInvocation == null) {
             FaultToleranceContext<T> ctx = new FaultToleranceContext<>(() -> Future.from(action), false);
+            Deadline.inherit(ctx);
             if (contextModifier != null) {
                 contextModifier.accept(ctx);
             }
@@ -77,6 +79,7 @@ final class GuardCommon {
         AsyncSupport<V, T> asyncSupport = asyncInvocation.asyncSupport;
         Invoker<T> toFutureInvoker = asyncInvocation.toFutureInvoker;
         FaultToleranceContext<V> ctx = new FaultToleranceContext<>(() -> asyncSupport.toFuture(toFutureInvoker), true);
+        Deadline.inherit(ctx);
         if (contextModifier != null) {
             contextModifier.accept(ctx);
         }
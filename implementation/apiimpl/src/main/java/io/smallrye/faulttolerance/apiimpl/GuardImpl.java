@@ -16,28 +16,46 @@ import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import jakarta.enterprise.util.TypeLiteral;
 
+import io.smallrye.faulttolerance.api.BulkheadAdaptiveLimit;
+import io.smallrye.faulttolerance.api.BulkheadMaxQueueWait;
+import io.smallrye.faulttolerance.api.BulkheadPriority;
+import io.smallrye.faulttolerance.api.BulkheadQueueDiscipline;
+import io.smallrye.faulttolerance.api.CircuitBreakerSlowCall;
 import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import io.smallrye.faulttolerance.api.CircuitBreakerTimeWindow;
+import io.smallrye.faulttolerance.api.ConcurrencyLimitAlgorithm;
 import io.smallrye.faulttolerance.api.CustomBackoffStrategy;
 import io.smallrye.faulttolerance.api.ExponentialBackoff;
 import io.smallrye.faulttolerance.api.FibonacciBackoff;
 import io.smallrye.faulttolerance.api.Guard;
+import io.smallrye.faulttolerance.api.QueueDiscipline;
 import io.smallrye.faulttolerance.api.RateLimitType;
+import io.smallrye.faulttolerance.api.RetryAfterExtractor;
+import io.smallrye.faulttolerance.api.RetryAfterMode;
+import io.smallrye.faulttolerance.api.RetryBudget;
 import io.smallrye.faulttolerance.apiimpl.basicconfig.BasicFaultToleranceOperation;
 import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceEventListener;
 import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
 import io.smallrye.faulttolerance.core.async.RememberEventLoop;
 import io.smallrye.faulttolerance.core.async.SyncAsyncSplit;
 import io.smallrye.faulttolerance.core.async.ThreadOffload;
+import io.smallrye.faulttolerance.core.bulkhead.AdaptiveBulkhead;
 import io.smallrye.faulttolerance.core.bulkhead.Bulkhead;
+import io.smallrye.faulttolerance.core.bulkhead.LockFreeBulkhead;
 import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreaker;
-import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
 import io.smallrye.faulttolerance.core.fallback.Fallback;
 import io.smallrye.faulttolerance.core.fallback.FallbackFunction;
+import io.smallrye.faulttolerance.core.hedge.FixedHedgeDelay;
+import io.smallrye.faulttolerance.core.hedge.Hedge;
+import io.smallrye.faulttolerance.core.hedge.HedgeDelay;
+import io.smallrye.faulttolerance.core.hedge.PercentileHedgeDelay;
 import io.smallrye.faulttolerance.core.invocation.AsyncSupport;
 import io.smallrye.faulttolerance.core.metrics.DelegatingMetricsCollector;
 import io.smallrye.faulttolerance.core.metrics.MeteredOperation;
@@ -51,6 +69,7 @@ import io.smallrye.faulttolerance.core.retry.FibonacciBackOff;
 import io.smallrye.faulttolerance.core.retry.Jitter;
 import io.smallrye.faulttolerance.core.retry.RandomJitter;
 import io.smallrye.faulttolerance.core.retry.Retry;
+import io.smallrye.faulttolerance.core.retry.RetryAfterBackOff;
 import io.smallrye.faulttolerance.core.retry.ThreadSleepDelay;
 import io.smallrye.faulttolerance.core.retry.TimerDelay;
 import io.smallrye.faulttolerance.core.stopwatch.SystemStopwatch;
@@ -112,12 +131,22 @@ public class GuardImpl implements Guard {
         }
     }
 
-    private <V, T> T guard(Callable<T> action, Type valueType) throws Exception {
+    @Override
+    public Guard withPriority(BulkheadPriority priority) {
+        return new PrioritizedGuard(() -> this, priority);
+    }
+
+    private <T> T guard(Callable<T> action, Type valueType) throws Exception {
+        return guard(action, valueType, null);
+    }
+
+    <V, T> T guard(Callable<T> action, Type valueType, Consumer<FaultToleranceContext<?>> contextModifier)
+            throws Exception {
         FaultToleranceStrategy<V> castStrategy = (FaultToleranceStrategy<V>) strategy;
 
         AsyncSupport<V, T> asyncSupport = GuardCommon.asyncSupport(valueType);
         AsyncInvocation<V, T> asyncInvocation = GuardCommon.asyncInvocation(action, asyncSupport);
-        return GuardCommon.guard(action, castStrategy, asyncInvocation, eventHandlers, null);
+        return GuardCommon.guard(action, castStrategy, asyncInvocation, eventHandlers, contextModifier);
     }
 
     public <V, T> T guard(Callable<T> action, AsyncInvocation<V, T> asyncInvocation,
@@ -134,11 +163,13 @@ public class GuardImpl implements Guard {
         private boolean descriptionSet;
         private BulkheadBuilderImpl bulkheadBuilder;
         private CircuitBreakerBuilderImpl circuitBreakerBuilder;
+        private HedgeBuilderImpl hedgeBuilder;
         private RateLimitBuilderImpl rateLimitBuilder;
         private RetryBuilderImpl retryBuilder;
         private TimeoutBuilderImpl timeoutBuilder;
         private boolean offloadToAnotherThread;
         private Executor offloadExecutor;
+        private Boolean stacklessRejections; // `null` means the global default
 
         public BuilderImpl(BuilderEagerDependencies eagerDependencies, Supplier<BuilderLazyDependencies> lazyDependencies) {
             this.eagerDependencies = eagerDependencies;
@@ -165,6 +196,11 @@ public class GuardImpl implements Guard {
             return new CircuitBreakerBuilderImpl(this);
         }
 
+        @Override
+        public HedgeBuilder withHedge() {
+            return new HedgeBuilderImpl(this);
+        }
+
         @Override
         public RateLimitBuilder withRateLimit() {
             return new RateLimitBuilderImpl(this);
@@ -192,6 +228,12 @@ public class GuardImpl implements Guard {
             return this;
         }
 
+        @Override
+        public Builder withStacklessRejections(boolean value) {
+            this.stacklessRejections = value;
+            return this;
+        }
+
         @Override
         public Guard build() {
             eagerInitialization();
@@ -206,16 +248,16 @@ public class GuardImpl implements Guard {
         }
 
         final EventHandlers buildEventHandlers() {
-            Consumer<CircuitBreakerEvents.StateTransition> cbMaintenanceEventHandler = null;
+            FaultToleranceEventListener cbMaintenanceEventListener = null;
             if (circuitBreakerBuilder != null && circuitBreakerBuilder.name != null) {
-                cbMaintenanceEventHandler = eagerDependencies.cbMaintenance()
-                        .stateTransitionEventHandler(circuitBreakerBuilder.name);
+                cbMaintenanceEventListener = eagerDependencies.cbMaintenance()
+                        .stateTransitionEventListener(circuitBreakerBuilder.name);
             }
             return new EventHandlers(
                     bulkheadBuilder != null ? bulkheadBuilder.onAccepted : null,
                     bulkheadBuilder != null ? bulkheadBuilder.onRejected : null,
                     bulkheadBuilder != null ? bulkheadBuilder.onFinished : null,
-                    cbMaintenanceEventHandler,
+                    cbMaintenanceEventListener,
                     circuitBreakerBuilder != null ? circuitBreakerBuilder.onStateChange : null,
                     circuitBreakerBuilder != null ? circuitBreakerBuilder.onSuccess : null,
                     circuitBreakerBuilder != null ? circuitBreakerBuilder.onFailure : null,
@@ -232,11 +274,22 @@ public class GuardImpl implements Guard {
         final <V> FaultToleranceStrategy<V> buildStrategy(String id, BuilderLazyDependencies lazyDependencies) {
             BasicFaultToleranceOperation op = new BasicFaultToleranceOperation(id, bulkheadBuilder,
                     circuitBreakerBuilder, rateLimitBuilder, retryBuilder, timeoutBuilder,
+                    bulkheadBuilder != null ? bulkheadBuilder.adaptiveLimitBuilder : null,
+                    bulkheadBuilder != null ? bulkheadBuilder.maxQueueWaitSupplier() : null,
+                    bulkheadBuilder != null ? bulkheadBuilder.queueDisciplineBuilder : null,
+                    circuitBreakerBuilder != null ? circuitBreakerBuilder.timeWindowBuilder : null,
+                    circuitBreakerBuilder != null ? circuitBreakerBuilder.slowCallBuilder : null,
                     retryBuilder != null ? retryBuilder.exponentialBackoffBuilder : null,
-                    retryBuilder != null ? retryBuilder.fibonacciBackoffBuilder : null);
+                    retryBuilder != null ? retryBuilder.fibonacciBackoffBuilder : null,
+                    retryBuilder != null ? retryBuilder.retryBudgetBuilder : null);
             op.validate();
 
+            boolean stacklessRejections = this.stacklessRejections != null
+                    ? this.stacklessRejections
+                    : lazyDependencies.stacklessRejections();
+
             FaultToleranceStrategy<V> result = invocation();
+            LongSupplier concurrencyLimit = null;
 
             // thread offload is always enabled
             Executor executor = offloadExecutor != null ? offloadExecutor : lazyDependencies.asyncExecutor();
@@ -244,11 +297,42 @@ public class GuardImpl implements Guard {
                     new ThreadOffload<>(result, executor, offloadToAnotherThread),
                     result);
 
-            if (lazyDependencies.ftEnabled() && op.hasBulkhead()) {
+            if (lazyDependencies.ftEnabled() && op.hasBulkhead() && op.hasBulkheadAdaptiveLimit()) {
+                AdaptiveBulkhead<V> adaptiveBulkhead = new AdaptiveBulkhead<>(result, description,
+                        op.getBulkheadAdaptiveLimit().algorithm(),
+                        op.getBulkhead().value(),
+                        op.getBulkheadAdaptiveLimit().minLimit(),
+                        op.getBulkheadAdaptiveLimit().maxLimit(),
+                        stacklessRejections);
+                concurrencyLimit = adaptiveBulkhead::currentLimit;
+                result = adaptiveBulkhead;
+            } else if (lazyDependencies.ftEnabled() && op.hasBulkhead() && (!lazyDependencies.lockFreeBulkhead()
+                    || bulkheadBuilder.syncQueueingEnabled || op.hasBulkheadMaxQueueWait() || op.hasBulkheadQueueDiscipline()
+                    || bulkheadBuilder.reservedCapacity > 0)) {
+                Bulkhead.Options options = new Bulkhead.Options()
+                        .reservedCapacity(bulkheadBuilder.reservedCapacity)
+                        .stacklessRejections(stacklessRejections);
+                if (op.hasBulkheadMaxQueueWait()) {
+                    options.maxQueueWait(timeInMillis(op.getBulkheadMaxQueueWait().value(),
+                            op.getBulkheadMaxQueueWait().unit()), lazyDependencies.timer());
+                }
+                if (op.hasBulkheadQueueDiscipline()) {
+                    BulkheadQueueDiscipline queueDiscipline = op.getBulkheadQueueDiscipline();
+                    options.queueDiscipline(queueDiscipline.value(),
+                            timeInMillis(queueDiscipline.target(), queueDiscipline.targetUnit()),
+                            timeInMillis(queueDiscipline.interval(), queueDiscipline.intervalUnit()),
+                            SystemStopwatch.INSTANCE);
+                }
                 result = new Bulkhead<>(result, description,
                         op.getBulkhead().value(),
                         op.getBulkhead().waitingTaskQueue(),
-                        bulkheadBuilder.syncQueueingEnabled);
+                        bulkheadBuilder.syncQueueingEnabled,
+                        options);
+            } else if (lazyDependencies.ftEnabled() && op.hasBulkhead()) {
+                result = new LockFreeBulkhead<>(result, description,
+                        op.getBulkhead().value(),
+                        op.getBulkhead().waitingTaskQueue(),
+                        stacklessRejections);
             }
 
             if (lazyDependencies.ftEnabled() && op.hasTimeout()) {
@@ -263,10 +347,25 @@ public class GuardImpl implements Guard {
                         timeInMillis(op.getRateLimit().window(), op.getRateLimit().windowUnit()),
                         timeInMillis(op.getRateLimit().minSpacing(), op.getRateLimit().minSpacingUnit()),
                         op.getRateLimit().type(),
-                        SystemStopwatch.INSTANCE);
+                        SystemStopwatch.INSTANCE,
+                        new RateLimit.Options()
+                                .burst(op.getRateLimit().burst())
+                                .maxWait(timeInMillis(op.getRateLimit().maxWait(), op.getRateLimit().maxWaitUnit()),
+                                        lazyDependencies.timer())
+                                .stacklessRejections(stacklessRejections));
             }
 
             if (lazyDependencies.ftEnabled() && op.hasCircuitBreaker()) {
+                CircuitBreaker.Options circuitBreakerOptions = new CircuitBreaker.Options()
+                        .stacklessRejections(stacklessRejections);
+                if (op.hasCircuitBreakerTimeWindow()) {
+                    circuitBreakerOptions.timeWindow(timeInMillis(op.getCircuitBreakerTimeWindow().window(),
+                            op.getCircuitBreakerTimeWindow().windowUnit()), op.getCircuitBreakerTimeWindow().buckets());
+                }
+                if (op.hasCircuitBreakerSlowCall()) {
+                    circuitBreakerOptions.slowCalls(timeInMillis(op.getCircuitBreakerSlowCall().durationThreshold(),
+                            op.getCircuitBreakerSlowCall().durationThresholdUnit()), op.getCircuitBreakerSlowCall().ratio());
+                }
                 result = new CircuitBreaker<>(result, description,
                         createExceptionDecision(op.getCircuitBreaker().skipOn(), op.getCircuitBreaker().failOn(),
                                 circuitBreakerBuilder.whenPredicate),
@@ -275,7 +374,8 @@ public class GuardImpl implements Guard {
                         op.getCircuitBreaker().failureRatio(),
                         op.getCircuitBreaker().successThreshold(),
                         SystemStopwatch.INSTANCE,
-                        lazyDependencies.timer());
+                        lazyDependencies.timer(),
+                        circuitBreakerOptions);
 
                 if (circuitBreakerBuilder.name != null) {
                     CircuitBreaker<?> circuitBreaker = (CircuitBreaker<?>) result;
@@ -283,8 +383,14 @@ public class GuardImpl implements Guard {
                 }
             }
 
+            if (lazyDependencies.ftEnabled() && hedgeBuilder != null) {
+                result = new Hedge<>(result, description, hedgeBuilder.maxAttempts, hedgeBuilder.createDelay(),
+                        SystemStopwatch.INSTANCE, lazyDependencies.timer());
+            }
+
             if (lazyDependencies.ftEnabled() && op.hasRetry()) {
-                Supplier<BackOff> backoff = prepareRetryBackoff(op, retryBuilder);
+                Supplier<BackOff> backoff = prepareRetryAfterBackoff(retryBuilder,
+                        prepareRetryBackoff(op, retryBuilder));
                 Consumer<Throwable> beforeRetryAction = retryBuilder.beforeRetry;
 
                 result = new Retry<>(result, description,
@@ -296,7 +402,12 @@ public class GuardImpl implements Guard {
                         () -> new ThreadSleepDelay(backoff.get()),
                         () -> new TimerDelay(backoff.get(), lazyDependencies.timer()),
                         SystemStopwatch.INSTANCE,
-                        beforeRetryAction != null ? ctx -> beforeRetryAction.accept(ctx.failure) : null);
+                        beforeRetryAction != null ? ctx -> beforeRetryAction.accept(ctx.failure) : null,
+                        new Retry.Options()
+                                .budget(op.hasRetryBudget()
+                                        ? eagerDependencies.retryBudgets().getOrCreate(op.getRetryBudget())
+                                        : null)
+                                .maxDurationTimer(retryBuilder.cancelOnMaxDuration ? lazyDependencies.timer() : null));
             }
 
             // fallback is always enabled
@@ -305,7 +416,8 @@ public class GuardImpl implements Guard {
             MetricsProvider metricsProvider = lazyDependencies.metricsProvider();
             if (metricsProvider.isEnabled()) {
                 MeteredOperation defaultOperation = buildMeteredOperation();
-                result = new DelegatingMetricsCollector<>(result, metricsProvider, defaultOperation);
+                result = new DelegatingMetricsCollector<>(result, metricsProvider, defaultOperation,
+                        concurrencyLimit);
             }
 
             // thread offload is always enabled
@@ -318,8 +430,23 @@ public class GuardImpl implements Guard {
 
         private MeteredOperation buildMeteredOperation() {
             return new BasicMeteredOperationImpl(descriptionSet, description, true, bulkheadBuilder != null,
-                    circuitBreakerBuilder != null, false, rateLimitBuilder != null,
-                    retryBuilder != null, timeoutBuilder != null);
+                    bulkheadBuilder != null && bulkheadBuilder.adaptiveLimitBuilder != null,
+                    circuitBreakerBuilder != null, false, hedgeBuilder != null, rateLimitBuilder != null,
+                    retryBuilder != null, retryBuilder != null && retryBuilder.retryBudgetBuilder != null,
+                    timeoutBuilder != null);
+        }
+
+        private static Supplier<BackOff> prepareRetryAfterBackoff(RetryBuilderImpl retryBuilder, Supplier<BackOff> backoff) {
+            RetryBuilderImpl.RetryAfterBuilderImpl retryAfterBuilder = retryBuilder.retryAfterBuilder;
+            if (retryAfterBuilder == null) {
+                return backoff;
+            }
+
+            RetryAfterExtractor extractor = retryAfterBuilder.extractor;
+            boolean override = retryAfterBuilder.mode == RetryAfterMode.OVERRIDE;
+            long maxDelayMs = timeInMillis(retryAfterBuilder.maxDelay, retryAfterBuilder.maxDelayUnit);
+            return () -> new RetryAfterBackOff(backoff.get(), extractor != null ? extractor::retryAfterMillis : null,
+                    override, maxDelayMs);
         }
 
         private static Supplier<BackOff> prepareRetryBackoff(BasicFaultToleranceOperation op, RetryBuilderImpl retryBuilder) {
@@ -355,11 +482,19 @@ public class GuardImpl implements Guard {
             private int limit = 10;
             private int queueSize = 10;
             private boolean syncQueueingEnabled;
+            // 0 means no limit
+            private long maxQueueWait;
+            private ChronoUnit maxQueueWaitUnit;
+            // 0 means no priority lanes
+            private int reservedCapacity;
 
             private Runnable onAccepted;
             private Runnable onRejected;
             private Runnable onFinished;
 
+            private AdaptiveLimitBuilderImpl adaptiveLimitBuilder;
+            private QueueDisciplineBuilderImpl queueDisciplineBuilder;
+
             BulkheadBuilderImpl(BuilderImpl parent) {
                 this.parent = parent;
             }
@@ -382,6 +517,22 @@ public class GuardImpl implements Guard {
                 return this;
             }
 
+            @Override
+            public BulkheadBuilder maxQueueWait(long value, ChronoUnit unit) {
+                check(value, value >= 1, "Max queue wait must be >= 1");
+                checkNotNull(unit, "Max queue wait unit must be set");
+
+                this.maxQueueWait = value;
+                this.maxQueueWaitUnit = unit;
+                return this;
+            }
+
+            @Override
+            public BulkheadBuilder priorityLanes(int reservedCapacity) {
+                this.reservedCapacity = check(reservedCapacity, reservedCapacity >= 1, "Reserved capacity must be >= 1");
+                return this;
+            }
+
             @Override
             public BulkheadBuilder onAccepted(Runnable callback) {
                 this.onAccepted = checkNotNull(callback, "Accepted callback must be set");
@@ -400,6 +551,16 @@ public class GuardImpl implements Guard {
                 return this;
             }
 
+            @Override
+            public AdaptiveLimitBuilder withAdaptiveLimit() {
+                return new AdaptiveLimitBuilderImpl(this);
+            }
+
+            @Override
+            public QueueDisciplineBuilder withQueueDiscipline() {
+                return new QueueDisciplineBuilderImpl(this);
+            }
+
             @Override
             public Builder done() {
                 try {
@@ -408,6 +569,10 @@ public class GuardImpl implements Guard {
                     throw new IllegalStateException("Bulkhead capacity overflow, " + limit + " + " + queueSize
                             + " = " + (limit + queueSize));
                 }
+                if (2L * reservedCapacity >= (long) limit + queueSize) {
+                    throw new IllegalStateException("Bulkhead capacity must be greater than 2 * reserved capacity, "
+                            + limit + " + " + queueSize + " <= 2 * " + reservedCapacity);
+                }
 
                 parent.bulkheadBuilder = this;
                 return parent;
@@ -432,6 +597,177 @@ public class GuardImpl implements Guard {
                     }
                 };
             }
+
+            Supplier<BulkheadMaxQueueWait> maxQueueWaitSupplier() {
+                if (maxQueueWait == 0) {
+                    return null;
+                }
+
+                return () -> new BulkheadMaxQueueWait() {
+                    @Override
+                    public long value() {
+                        return maxQueueWait;
+                    }
+
+                    @Override
+                    public ChronoUnit unit() {
+                        return maxQueueWaitUnit;
+                    }
+
+                    @Override
+                    public Class<? extends Annotation> annotationType() {
+                        return BulkheadMaxQueueWait.class;
+                    }
+                };
+            }
+
+            static class AdaptiveLimitBuilderImpl implements AdaptiveLimitBuilder,
+                    Supplier<BulkheadAdaptiveLimit> {
+                private final BulkheadBuilderImpl parent;
+
+                private ConcurrencyLimitAlgorithm algorithm = ConcurrencyLimitAlgorithm.AIMD;
+                private int minLimit = 1;
+                private int maxLimit = 1000;
+
+                AdaptiveLimitBuilderImpl(BulkheadBuilderImpl parent) {
+                    this.parent = parent;
+                }
+
+                @Override
+                public AdaptiveLimitBuilder algorithm(ConcurrencyLimitAlgorithm value) {
+                    this.algorithm = checkNotNull(value, "Concurrency limit algorithm must be set");
+                    return this;
+                }
+
+                @Override
+                public AdaptiveLimitBuilder minLimit(int value) {
+                    this.minLimit = check(value, value >= 1, "Min limit must be >= 1");
+                    return this;
+                }
+
+                @Override
+                public AdaptiveLimitBuilder maxLimit(int value) {
+                    this.maxLimit = check(value, value >= 1, "Max limit must be >= 1");
+                    return this;
+                }
+
+                @Override
+                public BulkheadBuilder done() {
+                    if (minLimit > maxLimit) {
+                        throw new IllegalStateException("Min limit must be <= max limit, but " + minLimit + " > " + maxLimit);
+                    }
+
+                    parent.adaptiveLimitBuilder = this;
+                    return parent;
+                }
+
+                @Override
+                public BulkheadAdaptiveLimit get() {
+                    return new BulkheadAdaptiveLimit() {
+                        @Override
+                        public ConcurrencyLimitAlgorithm algorithm() {
+                            return algorithm;
+                        }
+
+                        @Override
+                        public int minLimit() {
+                            return minLimit;
+                        }
+
+                        @Override
+                        public int maxLimit() {
+                            return maxLimit;
+                        }
+
+                        @Override
+                        public Class<? extends Annotation> annotationType() {
+                            return BulkheadAdaptiveLimit.class;
+                        }
+                    };
+                }
+            }
+
+            static class QueueDisciplineBuilderImpl implements QueueDisciplineBuilder,
+                    Supplier<BulkheadQueueDiscipline> {
+                private final BulkheadBuilderImpl parent;
+
+                private QueueDiscipline discipline = QueueDiscipline.CODEL;
+                private long target = 5;
+                private ChronoUnit targetUnit = ChronoUnit.MILLIS;
+                private long interval = 100;
+                private ChronoUnit intervalUnit = ChronoUnit.MILLIS;
+
+                QueueDisciplineBuilderImpl(BulkheadBuilderImpl parent) {
+                    this.parent = parent;
+                }
+
+                @Override
+                public QueueDisciplineBuilder discipline(QueueDiscipline value) {
+                    this.discipline = checkNotNull(value, "Queue discipline must be set");
+                    return this;
+                }
+
+                @Override
+                public QueueDisciplineBuilder target(long value, ChronoUnit unit) {
+                    check(value, value >= 1, "Target queue wait must be >= 1");
+                    checkNotNull(unit, "Target queue wait unit must be set");
+
+                    this.target = value;
+                    this.targetUnit = unit;
+                    return this;
+                }
+
+                @Override
+                public QueueDisciplineBuilder interval(long value, ChronoUnit unit) {
+                    check(value, value >= 1, "Congestion interval must be >= 1");
+                    checkNotNull(unit, "Congestion interval unit must be set");
+
+                    this.interval = value;
+                    this.intervalUnit = unit;
+                    return this;
+                }
+
+                @Override
+                public BulkheadBuilder done() {
+                    parent.queueDisciplineBuilder = this;
+                    return parent;
+                }
+
+                @Override
+                public BulkheadQueueDiscipline get() {
+                    return new BulkheadQueueDiscipline() {
+                        @Override
+                        public QueueDiscipline value() {
+                            return discipline;
+                        }
+
+                        @Override
+                        public long target() {
+                            return target;
+                        }
+
+                        @Override
+                        public ChronoUnit targetUnit() {
+                            return targetUnit;
+                        }
+
+                        @Override
+                        public long interval() {
+                            return interval;
+                        }
+
+                        @Override
+                        public ChronoUnit intervalUnit() {
+                            return intervalUnit;
+                        }
+
+                        @Override
+                        public Class<? extends Annotation> annotationType() {
+                            return BulkheadQueueDiscipline.class;
+                        }
+                    };
+                }
+            }
         }
 
         static class CircuitBreakerBuilderImpl implements CircuitBreakerBuilder,
@@ -450,6 +786,9 @@ public class GuardImpl implements Guard {
 
             private String name; // unnamed by default
 
+            private TimeWindowBuilderImpl timeWindowBuilder;
+            private SlowCallBuilderImpl slowCallBuilder;
+
             private Consumer<CircuitBreakerState> onStateChange;
             private Runnable onSuccess;
             private Runnable onFailure;
@@ -527,6 +866,16 @@ public class GuardImpl implements Guard {
                 return this;
             }
 
+            @Override
+            public TimeWindowBuilder withTimeWindow() {
+                return new TimeWindowBuilderImpl(this);
+            }
+
+            @Override
+            public SlowCallBuilder withSlowCall() {
+                return new SlowCallBuilderImpl(this);
+            }
+
             @Override
             public CircuitBreakerBuilder onStateChange(Consumer<CircuitBreakerState> callback) {
                 this.onStateChange = checkNotNull(callback, "On state change callback must be set");
@@ -605,6 +954,174 @@ public class GuardImpl implements Guard {
                     }
                 };
             }
+
+            static class TimeWindowBuilderImpl implements TimeWindowBuilder,
+                    Supplier<CircuitBreakerTimeWindow> {
+                private final CircuitBreakerBuilderImpl parent;
+
+                private long window = 10;
+                private ChronoUnit windowUnit = ChronoUnit.SECONDS;
+                private int buckets = 10;
+
+                TimeWindowBuilderImpl(CircuitBreakerBuilderImpl parent) {
+                    this.parent = parent;
+                }
+
+                @Override
+                public TimeWindowBuilder window(long value, ChronoUnit unit) {
+                    check(value, value >= 1, "Time window must be >= 1");
+                    checkNotNull(unit, "Time window unit must be set");
+
+                    this.window = value;
+                    this.windowUnit = unit;
+                    return this;
+                }
+
+                @Override
+                public TimeWindowBuilder buckets(int value) {
+                    this.buckets = check(value, value >= 1, "Number of buckets must be >= 1");
+                    return this;
+                }
+
+                @Override
+                public CircuitBreakerBuilder done() {
+                    parent.timeWindowBuilder = this;
+                    return parent;
+                }
+
+                @Override
+                public CircuitBreakerTimeWindow get() {
+                    return new CircuitBreakerTimeWindow() {
+                        @Override
+                        public long window() {
+                            return window;
+                        }
+
+                        @Override
+                        public ChronoUnit windowUnit() {
+                            return windowUnit;
+                        }
+
+                        @Override
+                        public int buckets() {
+                            return buckets;
+                        }
+
+                        @Override
+                        public Class<? extends Annotation> annotationType() {
+                            return CircuitBreakerTimeWindow.class;
+                        }
+                    };
+                }
+            }
+
+            static class SlowCallBuilderImpl implements SlowCallBuilder,
+                    Supplier<CircuitBreakerSlowCall> {
+                private final CircuitBreakerBuilderImpl parent;
+
+                private long durationThreshold = 1;
+                private ChronoUnit durationThresholdUnit = ChronoUnit.SECONDS;
+                private double ratio = 0.5;
+
+                SlowCallBuilderImpl(CircuitBreakerBuilderImpl parent) {
+                    this.parent = parent;
+                }
+
+                @Override
+                public SlowCallBuilder durationThreshold(long value, ChronoUnit unit) {
+                    check(value, value >= 1, "Slow call duration threshold must be >= 1");
+                    checkNotNull(unit, "Slow call duration threshold unit must be set");
+
+                    this.durationThreshold = value;
+                    this.durationThresholdUnit = unit;
+                    return this;
+                }
+
+                @Override
+                public SlowCallBuilder ratio(double value) {
+                    this.ratio = check(value, value >= 0 && value <= 1, "Slow call ratio must be >= 0 and <= 1");
+                    return this;
+                }
+
+                @Override
+                public CircuitBreakerBuilder done() {
+                    parent.slowCallBuilder = this;
+                    return parent;
+                }
+
+                @Override
+                public CircuitBreakerSlowCall get() {
+                    return new CircuitBreakerSlowCall() {
+                        @Override
+                        public long durationThreshold() {
+                            return durationThreshold;
+                        }
+
+                        @Override
+                        public ChronoUnit durationThresholdUnit() {
+                            return durationThresholdUnit;
+                        }
+
+                        @Override
+                        public double ratio() {
+                            return ratio;
+                        }
+
+                        @Override
+                        public Class<? extends Annotation> annotationType() {
+                            return CircuitBreakerSlowCall.class;
+                        }
+                    };
+                }
+            }
+        }
+
+        static class HedgeBuilderImpl implements HedgeBuilder {
+            private final BuilderImpl parent;
+
+            private int maxAttempts = 2;
+            private long delay = 100;
+            private ChronoUnit delayUnit = ChronoUnit.MILLIS;
+            private double delayPercentile = 0.0;
+
+            HedgeBuilderImpl(BuilderImpl parent) {
+                this.parent = parent;
+            }
+
+            @Override
+            public HedgeBuilder maxAttempts(int value) {
+                this.maxAttempts = check(value, value >= 2, "Max attempts must be >= 2");
+                return this;
+            }
+
+            @Override
+            public HedgeBuilder delay(long value, ChronoUnit unit) {
+                check(value, value >= 0, "Hedge delay must be >= 0");
+                checkNotNull(unit, "Hedge delay unit must be set");
+
+                this.delay = value;
+                this.delayUnit = unit;
+                return this;
+            }
+
+            @Override
+            public HedgeBuilder delayPercentile(double value) {
+                this.delayPercentile = check(value, value > 0.0 && value <= 1.0, "Hedge delay percentile must be > 0 and <= 1");
+                return this;
+            }
+
+            @Override
+            public Builder done() {
+                parent.hedgeBuilder = this;
+                return parent;
+            }
+
+            HedgeDelay createDelay() {
+                long delayInMillis = timeInMillis(delay, delayUnit);
+                return delayPercentile > 0.0
+                        ? new PercentileHedgeDelay(delayPercentile, delayInMillis)
+                        : new FixedHedgeDelay(delayInMillis);
+            }
         }
 
         static class RateLimitBuilderImpl implements RateLimitBuilder,
@@ -617,6 +1134,9 @@ public class GuardImpl implements Guard {
             private long minSpacing = 0;
             private ChronoUnit minSpacingUnit = ChronoUnit.SECONDS;
             private RateLimitType type = RateLimitType.FIXED;
+            private int burst = 0;
+            private long maxWait = 0;
+            private ChronoUnit maxWaitUnit = ChronoUnit.SECONDS;
 
             private Runnable onPermitted;
             private Runnable onRejected;
@@ -657,6 +1177,22 @@ public class GuardImpl implements Guard {
                 return this;
             }
 
+            @Override
+            public RateLimitBuilder burst(int value) {
+                this.burst = check(value, value >= 0, "Burst must be >= 0");
+                return this;
+            }
+
+            @Override
+            public RateLimitBuilder maxWait(long value, ChronoUnit unit) {
+                check(value, value >= 0, "Max wait must be >= 0");
+                checkNotNull(unit, "Max wait unit must be set");
+
+                this.maxWait = value;
+                this.maxWaitUnit = unit;
+                return this;
+            }
+
             @Override
             public RateLimitBuilder onPermitted(Runnable callback) {
                 this.onPermitted = checkNotNull(callback, "Permitted callback must be set");
@@ -708,6 +1244,21 @@ public class GuardImpl implements Guard {
                         return type;
                     }
 
+                    @Override
+                    public int burst() {
+                        return burst;
+                    }
+
+                    @Override
+                    public long maxWait() {
+                        return maxWait;
+                    }
+
+                    @Override
+                    public ChronoUnit maxWaitUnit() {
+                        return maxWaitUnit;
+                    }
+
                     @Override
                     public Class<? extends Annotation> annotationType() {
                         return io.smallrye.faulttolerance.api.RateLimit.class;
@@ -725,6 +1276,7 @@ public class GuardImpl implements Guard {
             private ChronoUnit delayUnit = ChronoUnit.MILLIS;
             private long maxDuration = 180_000;
             private ChronoUnit maxDurationUnit = ChronoUnit.MILLIS;
+            private boolean cancelOnMaxDuration = false;
             private long jitter = 200;
             private ChronoUnit jitterUnit = ChronoUnit.MILLIS;
             private Class<? extends Throwable>[] retryOn = new Class[] { Exception.class };
@@ -738,6 +1290,9 @@ public class GuardImpl implements Guard {
             private FibonacciBackoffBuilderImpl fibonacciBackoffBuilder;
             private CustomBackoffBuilderImpl customBackoffBuilder;
 
+            private RetryBudgetBuilderImpl retryBudgetBuilder;
+            private RetryAfterBuilderImpl retryAfterBuilder;
+
             private Runnable onRetry;
             private Runnable onSuccess;
             private Runnable onFailure;
@@ -772,6 +1327,12 @@ public class GuardImpl implements Guard {
                 return this;
             }
 
+            @Override
+            public RetryBuilder cancelOnMaxDuration() {
+                this.cancelOnMaxDuration = true;
+                return this;
+            }
+
             @Override
             public RetryBuilder jitter(long value, ChronoUnit unit) {
                 check(value, value >= 0, "Jitter must be >= 0");
@@ -850,6 +1411,16 @@ public class GuardImpl implements Guard {
                 return new CustomBackoffBuilderImpl(this);
             }
 
+            @Override
+            public RetryBudgetBuilder withBudget() {
+                return new RetryBudgetBuilderImpl(this);
+            }
+
+            @Override
+            public RetryAfterBuilder withRetryAfter() {
+                return new RetryAfterBuilderImpl(this);
+            }
+
             @Override
             public RetryBuilder onRetry(Runnable callback) {
                 this.onRetry = checkNotNull(callback, "Retry callback must be set");
@@ -1078,6 +1649,120 @@ public class GuardImpl implements Guard {
                     return parent;
                 }
             }
+
+            static class RetryAfterBuilderImpl implements RetryAfterBuilder {
+                private final RetryBuilderImpl parent;
+
+                private RetryAfterMode mode = RetryAfterMode.MAX;
+                private RetryAfterExtractor extractor;
+                private long maxDelay = 60_000;
+                private ChronoUnit maxDelayUnit = ChronoUnit.MILLIS;
+
+                RetryAfterBuilderImpl(RetryBuilderImpl parent) {
+                    this.parent = parent;
+                }
+
+                @Override
+                public RetryAfterBuilder mode(RetryAfterMode value) {
+                    this.mode = checkNotNull(value, "Retry-after mode must be set");
+                    return this;
+                }
+
+                @Override
+                public RetryAfterBuilder extractor(RetryAfterExtractor value) {
+                    this.extractor = checkNotNull(value, "Retry-after extractor must be set");
+                    return this;
+                }
+
+                @Override
+                public RetryAfterBuilder maxDelay(long value, ChronoUnit unit) {
+                    check(value, value >= 0, "Max delay must be >= 0");
+                    checkNotNull(unit, "Max delay unit must be set");
+
+                    this.maxDelay = value;
+                    this.maxDelayUnit = unit;
+                    return this;
+                }
+
+                @Override
+                public RetryBuilder done() {
+                    parent.retryAfterBuilder = this;
+                    return parent;
+                }
+            }
+
+            static class RetryBudgetBuilderImpl implements RetryBudgetBuilder, Supplier<RetryBudget> {
+                private final RetryBuilderImpl parent;
+
+                private double ratio = 0.2;
+                private int minRetriesPerSecond = 10;
+                private int capacity = 100;
+                private String name = "";
+
+                RetryBudgetBuilderImpl(RetryBuilderImpl parent) {
+                    this.parent = parent;
+                }
+
+                @Override
+                public RetryBudgetBuilder ratio(double value) {
+                    this.ratio = check(value, value >= 0.0, "Ratio must be >= 0");
+                    return this;
+                }
+
+                @Override
+                public RetryBudgetBuilder minRetriesPerSecond(int value) {
+                    this.minRetriesPerSecond = check(value, value >= 0, "Min retries per second must be >= 0");
+                    return this;
+                }
+
+                @Override
+                public RetryBudgetBuilder capacity(int value) {
+                    this.capacity = check(value, value >= 1, "Capacity must be >= 1");
+                    return this;
+                }
+
+                @Override
+                public RetryBudgetBuilder name(String value) {
+                    this.name = checkNotNull(value, "Retry budget name must be set");
+                    return this;
+                }
+
+                @Override
+                public RetryBuilder done() {
+                    parent.retryBudgetBuilder = this;
+                    return parent;
+                }
+
+                @Override
+                public RetryBudget get() {
+                    return new RetryBudget() {
+                        @Override
+                        public double ratio() {
+                            return ratio;
+                        }
+
+                        @Override
+                        public int minRetriesPerSecond() {
+                            return minRetriesPerSecond;
+                        }
+
+                        @Override
+                        public int capacity() {
+                            return capacity;
+                        }
+
+                        @Override
+                        public String name() {
+                            return name;
+                        }
+
+                        @Override
+                        public Class<? extends Annotation> annotationType() {
+                            return RetryBudget.class;
+                        }
+                    };
+                }
+            }
         }
 
         static class TimeoutBuilderImpl implements TimeoutBuilder,
@@ -7,6 +7,7 @@ import java.util.function.Supplier;
 
 import jakarta.enterprise.util.TypeLiteral;
 
+import io.smallrye.faulttolerance.api.BulkheadPriority;
 import io.smallrye.faulttolerance.api.Guard;
 
 public final class LazyGuard implements Guard {
@@ -40,6 +41,11 @@ public final class LazyGuard implements Guard {
         return instance(null).get(action, type);
     }
 
+    @Override
+    public Guard withPriority(BulkheadPriority priority) {
+        return new PrioritizedGuard(() -> instance(null), priority);
+    }
+
     public GuardImpl instance(String identifier) {
         GuardImpl instance = this.instance;
         if (instance == null) {
@@ -5,6 +5,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import io.smallrye.faulttolerance.api.BulkheadPriority;
 import io.smallrye.faulttolerance.api.TypedGuard;
 
 public final class LazyTypedGuard<V, T> implements TypedGuard<T> {
@@ -28,6 +29,11 @@ public final class LazyTypedGuard<V, T> implements TypedGuard<T> {
         return instance(null).get(action);
     }
 
+    @Override
+    public TypedGuard<T> withPriority(BulkheadPriority priority) {
+        return new PrioritizedTypedGuard<>(() -> instance(null), priority);
+    }
+
     public TypedGuardImpl<V, T> instance(String identifier) {
         TypedGuardImpl<V, T> instance = this.instance;
         if (instance == null) {
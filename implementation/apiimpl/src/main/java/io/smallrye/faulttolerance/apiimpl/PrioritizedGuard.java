@@ -0,0 +1,59 @@
+package io.smallrye.faulttolerance.apiimpl;
+
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
+import static io.smallrye.faulttolerance.core.util.SneakyThrow.sneakyThrow;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.util.TypeLiteral;
+
+import io.smallrye.faulttolerance.api.BulkheadPriority;
+import io.smallrye.faulttolerance.api.Guard;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+
+// a view of a `GuardImpl` that sets given priority to the context of each invocation
+final class PrioritizedGuard implements Guard {
+    private final Supplier<GuardImpl> guard;
+    private final Consumer<FaultToleranceContext<?>> contextModifier;
+
+    PrioritizedGuard(Supplier<GuardImpl> guard, BulkheadPriority priority) {
+        checkNotNull(priority, "Priority must be set");
+        this.guard = guard;
+        this.contextModifier = ctx -> ctx.set(BulkheadPriority.class, priority);
+    }
+
+    @Override
+    public <T> T call(Callable<T> action, Class<T> type) throws Exception {
+        return guard.get().guard(action, type, contextModifier);
+    }
+
+    @Override
+    public <T> T call(Callable<T> action, TypeLiteral<T> type) throws Exception {
+        return guard.get().guard(action, type.getType(), contextModifier);
+    }
+
+    @Override
+    public <T> T get(Supplier<T> action, Class<T> type) {
+        try {
+            return guard.get().guard(action::get, type, contextModifier);
+        } catch (Exception e) {
+            throw sneakyThrow(e);
+        }
+    }
+
+    @Override
+    public <T> T get(Supplier<T> action, TypeLiteral<T> type) {
+        try {
+            return guard.get().guard(action::get, type.getType(), contextModifier);
+        } catch (Exception e) {
+            throw sneakyThrow(e);
+        }
+    }
+
+    @Override
+    public Guard withPriority(BulkheadPriority priority) {
+        return new PrioritizedGuard(guard, priority);
+    }
+}
@@ -0,0 +1,43 @@
+package io.smallrye.faulttolerance.apiimpl;
+
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
+import static io.smallrye.faulttolerance.core.util.SneakyThrow.sneakyThrow;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.smallrye.faulttolerance.api.BulkheadPriority;
+import io.smallrye.faulttolerance.api.TypedGuard;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+
+// a view of a `TypedGuardImpl` that sets given priority to the context of each invocation
+final class PrioritizedTypedGuard<V, T> implements TypedGuard<T> {
+    private final Supplier<TypedGuardImpl<V, T>> guard;
+    private final Consumer<FaultToleranceContext<?>> contextModifier;
+
+    PrioritizedTypedGuard(Supplier<TypedGuardImpl<V, T>> guard, BulkheadPriority priority) {
+        checkNotNull(priority, "Priority must be set");
+        this.guard = guard;
+        this.contextModifier = ctx -> ctx.set(BulkheadPriority.class, priority);
+    }
+
+    @Override
+    public T call(Callable<T> action) throws Exception {
+        return guard.get().guard(action, contextModifier);
+    }
+
+    @Override
+    public T get(Supplier<T> action) {
+        try {
+            return guard.get().guard(action::get, contextModifier);
+        } catch (Exception e) {
+            throw sneakyThrow(e);
+        }
+    }
+
+    @Override
+    public TypedGuard<T> withPriority(BulkheadPriority priority) {
+        return new PrioritizedTypedGuard<>(guard, priority);
+    }
+}
@@ -0,0 +1,44 @@
+package io.smallrye.faulttolerance.apiimpl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException;
+
+import io.smallrye.faulttolerance.core.retry.RetryBudget;
+import io.smallrye.faulttolerance.core.stopwatch.SystemStopwatch;
+
+// holds named retry budgets, which may be shared by multiple guards and/or annotated methods
+public class RetryBudgetRegistry {
+    private final ConcurrentMap<String, NamedRetryBudget> registry = new ConcurrentHashMap<>();
+
+    // if the retry budget is named and a retry budget of that name already exists, it is returned
+    // if it has the same configuration, otherwise an exception is thrown; if the retry budget
+    // is not named or a retry budget of that name doesn't exist, a new retry budget is created
+    public RetryBudget getOrCreate(io.smallrye.faulttolerance.api.RetryBudget config) {
+        if (config.name().isEmpty()) {
+            return create(config);
+        }
+        NamedRetryBudget existing = registry.computeIfAbsent(config.name(),
+                ignored -> new NamedRetryBudget(config.ratio(), config.minRetriesPerSecond(), config.capacity(),
+                        create(config)));
+        if (existing.ratio != config.ratio()
+                || existing.minRetriesPerSecond != config.minRetriesPerSecond()
+                || existing.capacity != config.capacity()) {
+            throw new FaultToleranceDefinitionException("Retry budget '" + config.name()
+                    + "' already exists with a different configuration (ratio " + existing.ratio
+                    + ", minRetriesPerSecond " + existing.minRetriesPerSecond + ", capacity " + existing.capacity
+                    + "), cannot redeclare it with ratio " + config.ratio() + ", minRetriesPerSecond "
+                    + config.minRetriesPerSecond() + ", capacity " + config.capacity());
+        }
+        return existing.budget;
+    }
+
+    private static RetryBudget create(io.smallrye.faulttolerance.api.RetryBudget config) {
+        return new RetryBudget(config.ratio(), config.minRetriesPerSecond(), config.capacity(),
+                SystemStopwatch.INSTANCE);
+    }
+
+    private record NamedRetryBudget(double ratio, int minRetriesPerSecond, int capacity, RetryBudget budget) {
+    }
+}
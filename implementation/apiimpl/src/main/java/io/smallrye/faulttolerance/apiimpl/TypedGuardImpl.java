@@ -17,27 +17,45 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import io.smallrye.faulttolerance.api.BulkheadAdaptiveLimit;
+import io.smallrye.faulttolerance.api.BulkheadMaxQueueWait;
+import io.smallrye.faulttolerance.api.BulkheadPriority;
+import io.smallrye.faulttolerance.api.BulkheadQueueDiscipline;
+import io.smallrye.faulttolerance.api.CircuitBreakerSlowCall;
 import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import io.smallrye.faulttolerance.api.CircuitBreakerTimeWindow;
+import io.smallrye.faulttolerance.api.ConcurrencyLimitAlgorithm;
 import io.smallrye.faulttolerance.api.CustomBackoffStrategy;
 import io.smallrye.faulttolerance.api.ExponentialBackoff;
 import io.smallrye.faulttolerance.api.FibonacciBackoff;
+import io.smallrye.faulttolerance.api.QueueDiscipline;
 import io.smallrye.faulttolerance.api.RateLimitType;
+import io.smallrye.faulttolerance.api.RetryAfterExtractor;
+import io.smallrye.faulttolerance.api.RetryAfterMode;
+import io.smallrye.faulttolerance.api.RetryBudget;
 import io.smallrye.faulttolerance.api.TypedGuard;
 import io.smallrye.faulttolerance.apiimpl.basicconfig.BasicFaultToleranceOperation;
 import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceEventListener;
 import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
 import io.smallrye.faulttolerance.core.Future;
 import io.smallrye.faulttolerance.core.async.RememberEventLoop;
 import io.smallrye.faulttolerance.core.async.SyncAsyncSplit;
 import io.smallrye.faulttolerance.core.async.ThreadOffload;
+import io.smallrye.faulttolerance.core.bulkhead.AdaptiveBulkhead;
 import io.smallrye.faulttolerance.core.bulkhead.Bulkhead;
+import io.smallrye.faulttolerance.core.bulkhead.LockFreeBulkhead;
 import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreaker;
-import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
 import io.smallrye.faulttolerance.core.fallback.Fallback;
 import io.smallrye.faulttolerance.core.fallback.FallbackFunction;
+import io.smallrye.faulttolerance.core.hedge.FixedHedgeDelay;
+import io.smallrye.faulttolerance.core.hedge.Hedge;
+import io.smallrye.faulttolerance.core.hedge.HedgeDelay;
+import io.smallrye.faulttolerance.core.hedge.PercentileHedgeDelay;
 import io.smallrye.faulttolerance.core.invocation.AsyncSupport;
 import io.smallrye.faulttolerance.core.invocation.ConstantInvoker;
 import io.smallrye.faulttolerance.core.metrics.DelegatingMetricsCollector;
@@ -52,6 +70,7 @@ import io.smallrye.faulttolerance.core.retry.FibonacciBackOff;
 import io.smallrye.faulttolerance.core.retry.Jitter;
 import io.smallrye.faulttolerance.core.retry.RandomJitter;
 import io.smallrye.faulttolerance.core.retry.Retry;
+import io.smallrye.faulttolerance.core.retry.RetryAfterBackOff;
 import io.smallrye.faulttolerance.core.retry.ThreadSleepDelay;
 import io.smallrye.faulttolerance.core.retry.TimerDelay;
 import io.smallrye.faulttolerance.core.stopwatch.SystemStopwatch;
@@ -106,9 +125,18 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
         }
     }
 
+    @Override
+    public TypedGuard<T> withPriority(BulkheadPriority priority) {
+        return new PrioritizedTypedGuard<>(() -> this, priority);
+    }
+
     private T guard(Callable<T> action) throws Exception {
+        return guard(action, null);
+    }
+
+    T guard(Callable<T> action, Consumer<FaultToleranceContext<?>> contextModifier) throws Exception {
         AsyncInvocation<V, T> asyncInvocation = GuardCommon.asyncInvocation(action, asyncSupport);
-        return GuardCommon.guard(action, strategy, asyncInvocation, eventHandlers, null);
+        return GuardCommon.guard(action, strategy, asyncInvocation, eventHandlers, contextModifier);
     }
 
     public T guard(Callable<T> action, AsyncInvocation<V, T> asyncInvocation,
@@ -126,11 +154,13 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
         private BulkheadBuilderImpl<V, T> bulkheadBuilder;
         private CircuitBreakerBuilderImpl<V, T> circuitBreakerBuilder;
         private FallbackBuilderImpl<V, T> fallbackBuilder;
+        private HedgeBuilderImpl<V, T> hedgeBuilder;
         private RateLimitBuilderImpl<V, T> rateLimitBuilder;
         private RetryBuilderImpl<V, T> retryBuilder;
         private TimeoutBuilderImpl<V, T> timeoutBuilder;
         private boolean offloadToAnotherThread;
         private Executor offloadExecutor;
+        private Boolean stacklessRejections; // `null` means the global default
 
         public BuilderImpl(BuilderEagerDependencies eagerDependencies, Supplier<BuilderLazyDependencies> lazyDependencies,
                 Type valueType) {
@@ -164,6 +194,11 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
             return new FallbackBuilderImpl<>(this);
         }
 
+        @Override
+        public HedgeBuilder<T> withHedge() {
+            return new HedgeBuilderImpl<>(this);
+        }
+
         @Override
         public RateLimitBuilder<T> withRateLimit() {
             return new RateLimitBuilderImpl<>(this);
@@ -191,6 +226,12 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
             return this;
         }
 
+        @Override
+        public Builder<T> withStacklessRejections(boolean value) {
+            this.stacklessRejections = value;
+            return this;
+        }
+
         @Override
         public TypedGuard<T> build() {
             eagerInitialization();
@@ -206,16 +247,16 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
         }
 
         final EventHandlers buildEventHandlers() {
-            Consumer<CircuitBreakerEvents.StateTransition> cbMaintenanceEventHandler = null;
+            FaultToleranceEventListener cbMaintenanceEventListener = null;
             if (circuitBreakerBuilder != null && circuitBreakerBuilder.name != null) {
-                cbMaintenanceEventHandler = eagerDependencies.cbMaintenance()
-                        .stateTransitionEventHandler(circuitBreakerBuilder.name);
+                cbMaintenanceEventListener = eagerDependencies.cbMaintenance()
+                        .stateTransitionEventListener(circuitBreakerBuilder.name);
             }
             return new EventHandlers(
                     bulkheadBuilder != null ? bulkheadBuilder.onAccepted : null,
                     bulkheadBuilder != null ? bulkheadBuilder.onRejected : null,
                     bulkheadBuilder != null ? bulkheadBuilder.onFinished : null,
-                    cbMaintenanceEventHandler,
+                    cbMaintenanceEventListener,
                     circuitBreakerBuilder != null ? circuitBreakerBuilder.onStateChange : null,
                     circuitBreakerBuilder != null ? circuitBreakerBuilder.onSuccess : null,
                     circuitBreakerBuilder != null ? circuitBreakerBuilder.onFailure : null,
@@ -232,11 +273,22 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
         final FaultToleranceStrategy<V> buildStrategy(String id, BuilderLazyDependencies lazyDependencies) {
             BasicFaultToleranceOperation op = new BasicFaultToleranceOperation(id, bulkheadBuilder,
                     circuitBreakerBuilder, rateLimitBuilder, retryBuilder, timeoutBuilder,
+                    bulkheadBuilder != null ? bulkheadBuilder.adaptiveLimitBuilder : null,
+                    bulkheadBuilder != null ? bulkheadBuilder.maxQueueWaitSupplier() : null,
+                    bulkheadBuilder != null ? bulkheadBuilder.queueDisciplineBuilder : null,
+                    circuitBreakerBuilder != null ? circuitBreakerBuilder.timeWindowBuilder : null,
+                    circuitBreakerBuilder != null ? circuitBreakerBuilder.slowCallBuilder : null,
                     retryBuilder != null ? retryBuilder.exponentialBackoffBuilder : null,
-                    retryBuilder != null ? retryBuilder.fibonacciBackoffBuilder : null);
+                    retryBuilder != null ? retryBuilder.fibonacciBackoffBuilder : null,
+                    retryBuilder != null ? retryBuilder.retryBudgetBuilder : null);
             op.validate();
 
+            boolean stacklessRejections = this.stacklessRejections != null
+                    ? this.stacklessRejections
+                    : lazyDependencies.stacklessRejections();
+
             FaultToleranceStrategy<V> result = invocation();
+            LongSupplier concurrencyLimit = null;
 
             // thread offload is always enabled
             Executor executor = offloadExecutor != null ? offloadExecutor : lazyDependencies.asyncExecutor();
@@ -244,11 +296,42 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                     new ThreadOffload<>(result, executor, offloadToAnotherThread),
                     result);
 
-            if (lazyDependencies.ftEnabled() && op.hasBulkhead()) {
+            if (lazyDependencies.ftEnabled() && op.hasBulkhead() && op.hasBulkheadAdaptiveLimit()) {
+                AdaptiveBulkhead<V> adaptiveBulkhead = new AdaptiveBulkhead<>(result, description,
+                        op.getBulkheadAdaptiveLimit().algorithm(),
+                        op.getBulkhead().value(),
+                        op.getBulkheadAdaptiveLimit().minLimit(),
+                        op.getBulkheadAdaptiveLimit().maxLimit(),
+                        stacklessRejections);
+                concurrencyLimit = adaptiveBulkhead::currentLimit;
+                result = adaptiveBulkhead;
+            } else if (lazyDependencies.ftEnabled() && op.hasBulkhead() && (!lazyDependencies.lockFreeBulkhead()
+                    || bulkheadBuilder.syncQueueingEnabled || op.hasBulkheadMaxQueueWait() || op.hasBulkheadQueueDiscipline()
+                    || bulkheadBuilder.reservedCapacity > 0)) {
+                Bulkhead.Options options = new Bulkhead.Options()
+                        .reservedCapacity(bulkheadBuilder.reservedCapacity)
+                        .stacklessRejections(stacklessRejections);
+                if (op.hasBulkheadMaxQueueWait()) {
+                    options.maxQueueWait(timeInMillis(op.getBulkheadMaxQueueWait().value(),
+                            op.getBulkheadMaxQueueWait().unit()), lazyDependencies.timer());
+                }
+                if (op.hasBulkheadQueueDiscipline()) {
+                    BulkheadQueueDiscipline queueDiscipline = op.getBulkheadQueueDiscipline();
+                    options.queueDiscipline(queueDiscipline.value(),
+                            timeInMillis(queueDiscipline.target(), queueDiscipline.targetUnit()),
+                            timeInMillis(queueDiscipline.interval(), queueDiscipline.intervalUnit()),
+                            SystemStopwatch.INSTANCE);
+                }
                 result = new Bulkhead<>(result, description,
                         op.getBulkhead().value(),
                         op.getBulkhead().waitingTaskQueue(),
-                        bulkheadBuilder.syncQueueingEnabled);
+                        bulkheadBuilder.syncQueueingEnabled,
+                        options);
+            } else if (lazyDependencies.ftEnabled() && op.hasBulkhead()) {
+                result = new LockFreeBulkhead<>(result, description,
+                        op.getBulkhead().value(),
+                        op.getBulkhead().waitingTaskQueue(),
+                        stacklessRejections);
             }
 
             if (lazyDependencies.ftEnabled() && op.hasTimeout()) {
@@ -263,10 +346,25 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                         timeInMillis(op.getRateLimit().window(), op.getRateLimit().windowUnit()),
                         timeInMillis(op.getRateLimit().minSpacing(), op.getRateLimit().minSpacingUnit()),
                         op.getRateLimit().type(),
-                        SystemStopwatch.INSTANCE);
+                        SystemStopwatch.INSTANCE,
+                        new RateLimit.Options()
+                                .burst(op.getRateLimit().burst())
+                                .maxWait(timeInMillis(op.getRateLimit().maxWait(), op.getRateLimit().maxWaitUnit()),
+                                        lazyDependencies.timer())
+                                .stacklessRejections(stacklessRejections));
             }
 
             if (lazyDependencies.ftEnabled() && op.hasCircuitBreaker()) {
+                CircuitBreaker.Options circuitBreakerOptions = new CircuitBreaker.Options()
+                        .stacklessRejections(stacklessRejections);
+                if (op.hasCircuitBreakerTimeWindow()) {
+                    circuitBreakerOptions.timeWindow(timeInMillis(op.getCircuitBreakerTimeWindow().window(),
+                            op.getCircuitBreakerTimeWindow().windowUnit()), op.getCircuitBreakerTimeWindow().buckets());
+                }
+                if (op.hasCircuitBreakerSlowCall()) {
+                    circuitBreakerOptions.slowCalls(timeInMillis(op.getCircuitBreakerSlowCall().durationThreshold(),
+                            op.getCircuitBreakerSlowCall().durationThresholdUnit()), op.getCircuitBreakerSlowCall().ratio());
+                }
                 result = new CircuitBreaker<>(result, description,
                         createExceptionDecision(op.getCircuitBreaker().skipOn(), op.getCircuitBreaker().failOn(),
                                 circuitBreakerBuilder.whenPredicate),
@@ -275,7 +373,8 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                         op.getCircuitBreaker().failureRatio(),
                         op.getCircuitBreaker().successThreshold(),
                         SystemStopwatch.INSTANCE,
-                        lazyDependencies.timer());
+                        lazyDependencies.timer(),
+                        circuitBreakerOptions);
 
                 if (circuitBreakerBuilder.name != null) {
                     CircuitBreaker<?> circuitBreaker = (CircuitBreaker<?>) result;
@@ -283,8 +382,14 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                 }
             }
 
+            if (lazyDependencies.ftEnabled() && hedgeBuilder != null) {
+                result = new Hedge<>(result, description, hedgeBuilder.maxAttempts, hedgeBuilder.createDelay(),
+                        SystemStopwatch.INSTANCE, lazyDependencies.timer());
+            }
+
             if (lazyDependencies.ftEnabled() && op.hasRetry()) {
-                Supplier<BackOff> backoff = prepareRetryBackoff(op, retryBuilder);
+                Supplier<BackOff> backoff = prepareRetryAfterBackoff(retryBuilder,
+                        prepareRetryBackoff(op, retryBuilder));
                 Consumer<Throwable> beforeRetryAction = retryBuilder.beforeRetry;
 
                 result = new Retry<>(result, description,
@@ -296,7 +401,12 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                         () -> new ThreadSleepDelay(backoff.get()),
                         () -> new TimerDelay(backoff.get(), lazyDependencies.timer()),
                         SystemStopwatch.INSTANCE,
-                        beforeRetryAction != null ? ctx -> beforeRetryAction.accept(ctx.failure) : null);
+                        beforeRetryAction != null ? ctx -> beforeRetryAction.accept(ctx.failure) : null,
+                        new Retry.Options()
+                                .budget(op.hasRetryBudget()
+                                        ? eagerDependencies.retryBudgets().getOrCreate(op.getRetryBudget())
+                                        : null)
+                                .maxDurationTimer(retryBuilder.cancelOnMaxDuration ? lazyDependencies.timer() : null));
             }
 
             // fallback is always enabled
@@ -326,7 +436,8 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
             MetricsProvider metricsProvider = lazyDependencies.metricsProvider();
             if (metricsProvider.isEnabled()) {
                 MeteredOperation defaultOperation = buildMeteredOperation();
-                result = new DelegatingMetricsCollector<>(result, metricsProvider, defaultOperation);
+                result = new DelegatingMetricsCollector<>(result, metricsProvider, defaultOperation,
+                        concurrencyLimit);
             }
 
             // thread offload is always enabled
@@ -339,8 +450,24 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
 
         private MeteredOperation buildMeteredOperation() {
             return new BasicMeteredOperationImpl(descriptionSet, description, asyncSupport != null, bulkheadBuilder != null,
-                    circuitBreakerBuilder != null, false, rateLimitBuilder != null,
-                    retryBuilder != null, timeoutBuilder != null);
+                    bulkheadBuilder != null && bulkheadBuilder.adaptiveLimitBuilder != null,
+                    circuitBreakerBuilder != null, false, hedgeBuilder != null, rateLimitBuilder != null,
+                    retryBuilder != null, retryBuilder != null && retryBuilder.retryBudgetBuilder != null,
+                    timeoutBuilder != null);
+        }
+
+        private static Supplier<BackOff> prepareRetryAfterBackoff(RetryBuilderImpl<?, ?> retryBuilder,
+                Supplier<BackOff> backoff) {
+            RetryBuilderImpl.RetryAfterBuilderImpl<?, ?> retryAfterBuilder = retryBuilder.retryAfterBuilder;
+            if (retryAfterBuilder == null) {
+                return backoff;
+            }
+
+            RetryAfterExtractor extractor = retryAfterBuilder.extractor;
+            boolean override = retryAfterBuilder.mode == RetryAfterMode.OVERRIDE;
+            long maxDelayMs = timeInMillis(retryAfterBuilder.maxDelay, retryAfterBuilder.maxDelayUnit);
+            return () -> new RetryAfterBackOff(backoff.get(), extractor != null ? extractor::retryAfterMillis : null,
+                    override, maxDelayMs);
         }
 
         private static Supplier<BackOff> prepareRetryBackoff(BasicFaultToleranceOperation op,
@@ -376,11 +503,19 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
             private int limit = 10;
             private int queueSize = 10;
             private boolean syncQueueingEnabled;
+            // 0 means no limit
+            private long maxQueueWait;
+            private ChronoUnit maxQueueWaitUnit;
+            // 0 means no priority lanes
+            private int reservedCapacity;
 
             private Runnable onAccepted;
             private Runnable onRejected;
             private Runnable onFinished;
 
+            private AdaptiveLimitBuilderImpl<V, T> adaptiveLimitBuilder;
+            private QueueDisciplineBuilderImpl<V, T> queueDisciplineBuilder;
+
             BulkheadBuilderImpl(BuilderImpl<V, T> parent) {
                 this.parent = parent;
             }
@@ -403,6 +538,22 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                 return this;
             }
 
+            @Override
+            public BulkheadBuilder<T> maxQueueWait(long value, ChronoUnit unit) {
+                check(value, value >= 1, "Max queue wait must be >= 1");
+                checkNotNull(unit, "Max queue wait unit must be set");
+
+                this.maxQueueWait = value;
+                this.maxQueueWaitUnit = unit;
+                return this;
+            }
+
+            @Override
+            public BulkheadBuilder<T> priorityLanes(int reservedCapacity) {
+                this.reservedCapacity = check(reservedCapacity, reservedCapacity >= 1, "Reserved capacity must be >= 1");
+                return this;
+            }
+
             @Override
             public BulkheadBuilder<T> onAccepted(Runnable callback) {
                 this.onAccepted = checkNotNull(callback, "Accepted callback must be set");
@@ -421,6 +572,16 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                 return this;
             }
 
+            @Override
+            public AdaptiveLimitBuilder<T> withAdaptiveLimit() {
+                return new AdaptiveLimitBuilderImpl<>(this);
+            }
+
+            @Override
+            public QueueDisciplineBuilder<T> withQueueDiscipline() {
+                return new QueueDisciplineBuilderImpl<>(this);
+            }
+
             @Override
             public Builder<T> done() {
                 try {
@@ -429,6 +590,10 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                     throw new IllegalStateException("Bulkhead capacity overflow, " + limit + " + " + queueSize
                             + " = " + (limit + queueSize));
                 }
+                if (2L * reservedCapacity >= (long) limit + queueSize) {
+                    throw new IllegalStateException("Bulkhead capacity must be greater than 2 * reserved capacity, "
+                            + limit + " + " + queueSize + " <= 2 * " + reservedCapacity);
+                }
 
                 parent.bulkheadBuilder = this;
                 return parent;
@@ -453,6 +618,177 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                     }
                 };
             }
+
+            Supplier<BulkheadMaxQueueWait> maxQueueWaitSupplier() {
+                if (maxQueueWait == 0) {
+                    return null;
+                }
+
+                return () -> new BulkheadMaxQueueWait() {
+                    @Override
+                    public long value() {
+                        return maxQueueWait;
+                    }
+
+                    @Override
+                    public ChronoUnit unit() {
+                        return maxQueueWaitUnit;
+                    }
+
+                    @Override
+                    public Class<? extends Annotation> annotationType() {
+                        return BulkheadMaxQueueWait.class;
+                    }
+                };
+            }
+
+            static class AdaptiveLimitBuilderImpl<V, T> implements AdaptiveLimitBuilder<T>,
+                    Supplier<BulkheadAdaptiveLimit> {
+                private final BulkheadBuilderImpl<V, T> parent;
+
+                private ConcurrencyLimitAlgorithm algorithm = ConcurrencyLimitAlgorithm.AIMD;
+                private int minLimit = 1;
+                private int maxLimit = 1000;
+
+                AdaptiveLimitBuilderImpl(BulkheadBuilderImpl<V, T> parent) {
+                    this.parent = parent;
+                }
+
+                @Override
+                public AdaptiveLimitBuilder<T> algorithm(ConcurrencyLimitAlgorithm value) {
+                    this.algorithm = checkNotNull(value, "Concurrency limit algorithm must be set");
+                    return this;
+                }
+
+                @Override
+                public AdaptiveLimitBuilder<T> minLimit(int value) {
+                    this.minLimit = check(value, value >= 1, "Min limit must be >= 1");
+                    return this;
+                }
+
+                @Override
+                public AdaptiveLimitBuilder<T> maxLimit(int value) {
+                    this.maxLimit = check(value, value >= 1, "Max limit must be >= 1");
+                    return this;
+                }
+
+                @Override
+                public BulkheadBuilder<T> done() {
+                    if (minLimit > maxLimit) {
+                        throw new IllegalStateException("Min limit must be <= max limit, but " + minLimit + " > " + maxLimit);
+                    }
+
+                    parent.adaptiveLimitBuilder = this;
+                    return parent;
+                }
+
+                @Override
+                public BulkheadAdaptiveLimit get() {
+                    return new BulkheadAdaptiveLimit() {
+                        @Override
+                        public ConcurrencyLimitAlgorithm algorithm() {
+                            return algorithm;
+                        }
+
+                        @Override
+                        public int minLimit() {
+                            return minLimit;
+                        }
+
+                        @Override
+                        public int maxLimit() {
+                            return maxLimit;
+                        }
+
+                        @Override
+                        public Class<? extends Annotation> annotationType() {
+                            return BulkheadAdaptiveLimit.class;
+                        }
+                    };
+                }
+            }
+
+            static class QueueDisciplineBuilderImpl<V, T> implements QueueDisciplineBuilder<T>,
+                    Supplier<BulkheadQueueDiscipline> {
+                private final BulkheadBuilderImpl<V, T> parent;
+
+                private QueueDiscipline discipline = QueueDiscipline.CODEL;
+                private long target = 5;
+                private ChronoUnit targetUnit = ChronoUnit.MILLIS;
+                private long interval = 100;
+                private ChronoUnit intervalUnit = ChronoUnit.MILLIS;
+
+                QueueDisciplineBuilderImpl(BulkheadBuilderImpl<V, T> parent) {
+                    this.parent = parent;
+                }
+
+                @Override
+                public QueueDisciplineBuilder<T> discipline(QueueDiscipline value) {
+                    this.discipline = checkNotNull(value, "Queue discipline must be set");
+                    return this;
+                }
+
+                @Override
+                public QueueDisciplineBuilder<T> target(long value, ChronoUnit unit) {
+                    check(value, value >= 1, "Target queue wait must be >= 1");
+                    checkNotNull(unit, "Target queue wait unit must be set");
+
+                    this.target = value;
+                    this.targetUnit = unit;
+                    return this;
+                }
+
+                @Override
+                public QueueDisciplineBuilder<T> interval(long value, ChronoUnit unit) {
+                    check(value, value >= 1, "Congestion interval must be >= 1");
+                    checkNotNull(unit, "Congestion interval unit must be set");
+
+                    this.interval = value;
+                    this.intervalUnit = unit;
+                    return this;
+                }
+
+                @Override
+                public BulkheadBuilder<T> done() {
+                    parent.queueDisciplineBuilder = this;
+                    return parent;
+                }
+
+                @Override
+                public BulkheadQueueDiscipline get() {
+                    return new BulkheadQueueDiscipline() {
+                        @Override
+                        public QueueDiscipline value() {
+                            return discipline;
+                        }
+
+                        @Override
+                        public long target() {
+                            return target;
+                        }
+
+                        @Override
+                        public ChronoUnit targetUnit() {
+                            return targetUnit;
+                        }
+
+                        @Override
+                        public long interval() {
+                            return interval;
+                        }
+
+                        @Override
+                        public ChronoUnit intervalUnit() {
+                            return intervalUnit;
+                        }
+
+                        @Override
+                        public Class<? extends Annotation> annotationType() {
+                            return BulkheadQueueDiscipline.class;
+                        }
+                    };
+                }
+            }
         }
 
         static class CircuitBreakerBuilderImpl<V, T> implements CircuitBreakerBuilder<T>,
@@ -471,6 +807,9 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
 
             private String name; // unnamed by default
 
+            private TimeWindowBuilderImpl<V, T> timeWindowBuilder;
+            private SlowCallBuilderImpl<V, T> slowCallBuilder;
+
             private Consumer<CircuitBreakerState> onStateChange;
             private Runnable onSuccess;
             private Runnable onFailure;
@@ -548,6 +887,16 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                 return this;
             }
 
+            @Override
+            public TimeWindowBuilder<T> withTimeWindow() {
+                return new TimeWindowBuilderImpl<>(this);
+            }
+
+            @Override
+            public SlowCallBuilder<T> withSlowCall() {
+                return new SlowCallBuilderImpl<>(this);
+            }
+
             @Override
             public CircuitBreakerBuilder<T> onStateChange(Consumer<CircuitBreakerState> callback) {
                 this.onStateChange = checkNotNull(callback, "On state change callback must be set");
@@ -626,6 +975,126 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                     }
                 };
             }
+
+            static class TimeWindowBuilderImpl<V, T> implements TimeWindowBuilder<T>,
+                    Supplier<CircuitBreakerTimeWindow> {
+                private final CircuitBreakerBuilderImpl<V, T> parent;
+
+                private long window = 10;
+                private ChronoUnit windowUnit = ChronoUnit.SECONDS;
+                private int buckets = 10;
+
+                TimeWindowBuilderImpl(CircuitBreakerBuilderImpl<V, T> parent) {
+                    this.parent = parent;
+                }
+
+                @Override
+                public TimeWindowBuilder<T> window(long value, ChronoUnit unit) {
+                    check(value, value >= 1, "Time window must be >= 1");
+                    checkNotNull(unit, "Time window unit must be set");
+
+                    this.window = value;
+                    this.windowUnit = unit;
+                    return this;
+                }
+
+                @Override
+                public TimeWindowBuilder<T> buckets(int value) {
+                    this.buckets = check(value, value >= 1, "Number of buckets must be >= 1");
+                    return this;
+                }
+
+                @Override
+                public CircuitBreakerBuilder<T> done() {
+                    parent.timeWindowBuilder = this;
+                    return parent;
+                }
+
+                @Override
+                public CircuitBreakerTimeWindow get() {
+                    return new CircuitBreakerTimeWindow() {
+                        @Override
+                        public long window() {
+                            return window;
+                        }
+
+                        @Override
+                        public ChronoUnit windowUnit() {
+                            return windowUnit;
+                        }
+
+                        @Override
+                        public int buckets() {
+                            return buckets;
+                        }
+
+                        @Override
+                        public Class<? extends Annotation> annotationType() {
+                            return CircuitBreakerTimeWindow.class;
+                        }
+                    };
+                }
+            }
+
+            static class SlowCallBuilderImpl<V, T> implements SlowCallBuilder<T>,
+                    Supplier<CircuitBreakerSlowCall> {
+                private final CircuitBreakerBuilderImpl<V, T> parent;
+
+                private long durationThreshold = 1;
+                private ChronoUnit durationThresholdUnit = ChronoUnit.SECONDS;
+                private double ratio = 0.5;
+
+                SlowCallBuilderImpl(CircuitBreakerBuilderImpl<V, T> parent) {
+                    this.parent = parent;
+                }
+
+                @Override
+                public SlowCallBuilder<T> durationThreshold(long value, ChronoUnit unit) {
+                    check(value, value >= 1, "Slow call duration threshold must be >= 1");
+                    checkNotNull(unit, "Slow call duration threshold unit must be set");
+
+                    this.durationThreshold = value;
+                    this.durationThresholdUnit = unit;
+                    return this;
+                }
+
+                @Override
+                public SlowCallBuilder<T> ratio(double value) {
+                    this.ratio = check(value, value >= 0 && value <= 1, "Slow call ratio must be >= 0 and <= 1");
+                    return this;
+                }
+
+                @Override
+                public CircuitBreakerBuilder<T> done() {
+                    parent.slowCallBuilder = this;
+                    return parent;
+                }
+
+                @Override
+                public CircuitBreakerSlowCall get() {
+                    return new CircuitBreakerSlowCall() {
+                        @Override
+                        public long durationThreshold() {
+                            return durationThreshold;
+                        }
+
+                        @Override
+                        public ChronoUnit durationThresholdUnit() {
+                            return durationThresholdUnit;
+                        }
+
+                        @Override
+                        public double ratio() {
+                            return ratio;
+                        }
+
+                        @Override
+                        public Class<? extends Annotation> annotationType() {
+                            return CircuitBreakerSlowCall.class;
+                        }
+                    };
+                }
+            }
         }
 
         static class FallbackBuilderImpl<V, T> implements FallbackBuilder<T> {
@@ -701,6 +1170,54 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
             }
         }
 
+        static class HedgeBuilderImpl<V, T> implements HedgeBuilder<T> {
+            private final BuilderImpl<V, T> parent;
+
+            private int maxAttempts = 2;
+            private long delay = 100;
+            private ChronoUnit delayUnit = ChronoUnit.MILLIS;
+            private double delayPercentile = 0.0;
+
+            HedgeBuilderImpl(BuilderImpl<V, T> parent) {
+                this.parent = parent;
+            }
+
+            @Override
+            public HedgeBuilder<T> maxAttempts(int value) {
+                this.maxAttempts = check(value, value >= 2, "Max attempts must be >= 2");
+                return this;
+            }
+
+            @Override
+            public HedgeBuilder<T> delay(long value, ChronoUnit unit) {
+                check(value, value >= 0, "Hedge delay must be >= 0");
+                checkNotNull(unit, "Hedge delay unit must be set");
+
+                this.delay = value;
+                this.delayUnit = unit;
+                return this;
+            }
+
+            @Override
+            public HedgeBuilder<T> delayPercentile(double value) {
+                this.delayPercentile = check(value, value > 0.0 && value <= 1.0, "Hedge delay percentile must be > 0 and <= 1");
+                return this;
+            }
+
+            @Override
+            public Builder<T> done() {
+                parent.hedgeBuilder = this;
+                return parent;
+            }
+
+            HedgeDelay createDelay() {
+                long delayInMillis = timeInMillis(delay, delayUnit);
+                return delayPercentile > 0.0
+                        ? new PercentileHedgeDelay(delayPercentile, delayInMillis)
+                        : new FixedHedgeDelay(delayInMillis);
+            }
+        }
+
         static class RateLimitBuilderImpl<V, T> implements RateLimitBuilder<T>,
                 Supplier<io.smallrye.faulttolerance.api.RateLimit> {
             private final BuilderImpl<V, T> parent;
@@ -711,6 +1228,9 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
             private long minSpacing = 0;
             private ChronoUnit minSpacingUnit = ChronoUnit.SECONDS;
             private RateLimitType type = RateLimitType.FIXED;
+            private int burst = 0;
+            private long maxWait = 0;
+            private ChronoUnit maxWaitUnit = ChronoUnit.SECONDS;
 
             private Runnable onPermitted;
             private Runnable onRejected;
@@ -751,6 +1271,22 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                 return this;
             }
 
+            @Override
+            public RateLimitBuilder<T> burst(int value) {
+                this.burst = check(value, value >= 0, "Burst must be >= 0");
+                return this;
+            }
+
+            @Override
+            public RateLimitBuilder<T> maxWait(long value, ChronoUnit unit) {
+                check(value, value >= 0, "Max wait must be >= 0");
+                checkNotNull(unit, "Max wait unit must be set");
+
+                this.maxWait = value;
+                this.maxWaitUnit = unit;
+                return this;
+            }
+
             @Override
             public RateLimitBuilder<T> onPermitted(Runnable callback) {
                 this.onPermitted = checkNotNull(callback, "Permitted callback must be set");
@@ -802,6 +1338,21 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                         return type;
                     }
 
+                    @Override
+                    public int burst() {
+                        return burst;
+                    }
+
+                    @Override
+                    public long maxWait() {
+                        return maxWait;
+                    }
+
+                    @Override
+                    public ChronoUnit maxWaitUnit() {
+                        return maxWaitUnit;
+                    }
+
                     @Override
                     public Class<? extends Annotation> annotationType() {
                         return io.smallrye.faulttolerance.api.RateLimit.class;
@@ -819,6 +1370,7 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
             private ChronoUnit delayUnit = ChronoUnit.MILLIS;
             private long maxDuration = 180_000;
             private ChronoUnit maxDurationUnit = ChronoUnit.MILLIS;
+            private boolean cancelOnMaxDuration = false;
             private long jitter = 200;
             private ChronoUnit jitterUnit = ChronoUnit.MILLIS;
             private Class<? extends Throwable>[] retryOn = new Class[] { Exception.class };
@@ -832,6 +1384,9 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
             private FibonacciBackoffBuilderImpl<V, T> fibonacciBackoffBuilder;
             private CustomBackoffBuilderImpl<V, T> customBackoffBuilder;
 
+            private RetryBudgetBuilderImpl<V, T> retryBudgetBuilder;
+            private RetryAfterBuilderImpl<V, T> retryAfterBuilder;
+
             private Runnable onRetry;
             private Runnable onSuccess;
             private Runnable onFailure;
@@ -866,6 +1421,12 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                 return this;
             }
 
+            @Override
+            public RetryBuilder<T> cancelOnMaxDuration() {
+                this.cancelOnMaxDuration = true;
+                return this;
+            }
+
             @Override
             public RetryBuilder<T> jitter(long value, ChronoUnit unit) {
                 check(value, value >= 0, "Jitter must be >= 0");
@@ -944,6 +1505,16 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                 return new CustomBackoffBuilderImpl<>(this);
             }
 
+            @Override
+            public RetryBudgetBuilder<T> withBudget() {
+                return new RetryBudgetBuilderImpl<>(this);
+            }
+
+            @Override
+            public RetryAfterBuilder<T> withRetryAfter() {
+                return new RetryAfterBuilderImpl<>(this);
+            }
+
             @Override
             public RetryBuilder<T> onRetry(Runnable callback) {
                 this.onRetry = checkNotNull(callback, "Retry callback must be set");
@@ -1172,6 +1743,120 @@ public final class TypedGuardImpl<V, T> implements TypedGuard<T> {
                     return parent;
                 }
             }
+
+            static class RetryAfterBuilderImpl<V, T> implements RetryAfterBuilder<T> {
+                private final RetryBuilderImpl<V, T> parent;
+
+                private RetryAfterMode mode = RetryAfterMode.MAX;
+                private RetryAfterExtractor extractor;
+                private long maxDelay = 60_000;
+                private ChronoUnit maxDelayUnit = ChronoUnit.MILLIS;
+
+                RetryAfterBuilderImpl(RetryBuilderImpl<V, T> parent) {
+                    this.parent = parent;
+                }
+
+                @Override
+                public RetryAfterBuilder<T> mode(RetryAfterMode value) {
+                    this.mode = checkNotNull(value, "Retry-after mode must be set");
+                    return this;
+                }
+
+                @Override
+                public RetryAfterBuilder<T> extractor(RetryAfterExtractor value) {
+                    this.extractor = checkNotNull(value, "Retry-after extractor must be set");
+                    return this;
+                }
+
+                @Override
+                public RetryAfterBuilder<T> maxDelay(long value, ChronoUnit unit) {
+                    check(value, value >= 0, "Max delay must be >= 0");
+                    checkNotNull(unit, "Max delay unit must be set");
+
+                    this.maxDelay = value;
+                    this.maxDelayUnit = unit;
+                    return this;
+                }
+
+                @Override
+                public RetryBuilder<T> done() {
+                    parent.retryAfterBuilder = this;
+                    return parent;
+                }
+            }
+
+            static class RetryBudgetBuilderImpl<V, T> implements RetryBudgetBuilder<T>, Supplier<RetryBudget> {
+                private final RetryBuilderImpl<V, T> parent;
+
+                private double ratio = 0.2;
+                private int minRetriesPerSecond = 10;
+                private int capacity = 100;
+                private String name = "";
+
+                RetryBudgetBuilderImpl(RetryBuilderImpl<V, T> parent) {
+                    this.parent = parent;
+                }
+
+                @Override
+                public RetryBudgetBuilder<T> ratio(double value) {
+                    this.ratio = check(value, value >= 0.0, "Ratio must be >= 0");
+                    return this;
+                }
+
+                @Override
+                public RetryBudgetBuilder<T> minRetriesPerSecond(int value) {
+                    this.minRetriesPerSecond = check(value, value >= 0, "Min retries per second must be >= 0");
+                    return this;
+                }
+
+                @Override
+                public RetryBudgetBuilder<T> capacity(int value) {
+                    this.capacity = check(value, value >= 1, "Capacity must be >= 1");
+                    return this;
+                }
+
+                @Override
+                public RetryBudgetBuilder<T> name(String value) {
+                    this.name = checkNotNull(value, "Retry budget name must be set");
+                    return this;
+                }
+
+                @Override
+                public RetryBuilder<T> done() {
+                    parent.retryBudgetBuilder = this;
+                    return parent;
+                }
+
+                @Override
+                public RetryBudget get() {
+                    return new RetryBudget() {
+                        @Override
+                        public double ratio() {
+                            return ratio;
+                        }
+
+                        @Override
+                        public int minRetriesPerSecond() {
+                            return minRetriesPerSecond;
+                        }
+
+                        @Override
+                        public int capacity() {
+                            return capacity;
+                        }
+
+                        @Override
+                        public String name() {
+                            return name;
+                        }
+
+                        @Override
+                        public Class<? extends Annotation> annotationType() {
+                            return RetryBudget.class;
+                        }
+                    };
+                }
+            }
         }
 
         static class TimeoutBuilderImpl<V, T> implements TimeoutBuilder<T>,
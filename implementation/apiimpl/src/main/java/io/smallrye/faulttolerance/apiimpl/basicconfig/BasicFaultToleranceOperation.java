@@ -16,9 +16,15 @@ import org.eclipse.microprofile.faulttolerance.Retry;
 import org.eclipse.microprofile.faulttolerance.Timeout;
 import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException;
 
+import io.smallrye.faulttolerance.api.BulkheadAdaptiveLimit;
+import io.smallrye.faulttolerance.api.BulkheadMaxQueueWait;
+import io.smallrye.faulttolerance.api.BulkheadQueueDiscipline;
+import io.smallrye.faulttolerance.api.CircuitBreakerSlowCall;
+import io.smallrye.faulttolerance.api.CircuitBreakerTimeWindow;
 import io.smallrye.faulttolerance.api.ExponentialBackoff;
 import io.smallrye.faulttolerance.api.FibonacciBackoff;
 import io.smallrye.faulttolerance.api.RateLimit;
+import io.smallrye.faulttolerance.api.RetryBudget;
 import io.smallrye.faulttolerance.autoconfig.Config;
 import io.smallrye.faulttolerance.autoconfig.FaultToleranceMethod;
 
@@ -34,9 +40,17 @@ public class BasicFaultToleranceOperation {
     protected final RetryConfig retry;
     protected final TimeoutConfig timeout;
 
+    protected final BulkheadAdaptiveLimitConfig bulkheadAdaptiveLimit;
+    protected final BulkheadMaxQueueWaitConfig bulkheadMaxQueueWait;
+    protected final BulkheadQueueDisciplineConfig bulkheadQueueDiscipline;
+    protected final CircuitBreakerTimeWindowConfig circuitBreakerTimeWindow;
+    protected final CircuitBreakerSlowCallConfig circuitBreakerSlowCall;
+
     protected final ExponentialBackoffConfig exponentialBackoff;
     protected final FibonacciBackoffConfig fibonacciBackoff;
 
+    protected final RetryBudgetConfig retryBudget;
+
     public BasicFaultToleranceOperation(FaultToleranceMethod method) {
         checkNotNull(method, "Method must be set");
 
@@ -48,15 +62,29 @@ public class BasicFaultToleranceOperation {
         this.retry = RetryConfigImpl.create(method);
         this.timeout = TimeoutConfigImpl.create(method);
 
+        this.bulkheadAdaptiveLimit = BulkheadAdaptiveLimitConfigImpl.create(method);
+        this.bulkheadMaxQueueWait = BulkheadMaxQueueWaitConfigImpl.create(method);
+        this.bulkheadQueueDiscipline = BulkheadQueueDisciplineConfigImpl.create(method);
+        this.circuitBreakerTimeWindow = CircuitBreakerTimeWindowConfigImpl.create(method);
+        this.circuitBreakerSlowCall = CircuitBreakerSlowCallConfigImpl.create(method);
+
         this.exponentialBackoff = ExponentialBackoffConfigImpl.create(method);
         this.fibonacciBackoff = FibonacciBackoffConfigImpl.create(method);
+
+        this.retryBudget = RetryBudgetConfigImpl.create(method);
     }
 
     // `id == null` means no configuration
     public BasicFaultToleranceOperation(String id, Supplier<Bulkhead> bulkhead, Supplier<CircuitBreaker> circuitBreaker,
             Supplier<RateLimit> rateLimit, Supplier<Retry> retry, Supplier<Timeout> timeout,
+            Supplier<BulkheadAdaptiveLimit> bulkheadAdaptiveLimit,
+            Supplier<BulkheadMaxQueueWait> bulkheadMaxQueueWait,
+            Supplier<BulkheadQueueDiscipline> bulkheadQueueDiscipline,
+            Supplier<CircuitBreakerTimeWindow> circuitBreakerTimeWindow,
+            Supplier<CircuitBreakerSlowCall> circuitBreakerSlowCall,
             Supplier<ExponentialBackoff> exponentialBackoff,
-            Supplier<FibonacciBackoff> fibonacciBackoff) {
+            Supplier<FibonacciBackoff> fibonacciBackoff,
+            Supplier<RetryBudget> retryBudget) {
         this.description = id != null ? id : "<unknown>";
         if (id != null) {
             this.bulkhead = BulkheadConfigImpl.create(id, bulkhead);
@@ -64,16 +92,28 @@ public class BasicFaultToleranceOperation {
             this.rateLimit = RateLimitConfigImpl.create(id, rateLimit);
             this.retry = RetryConfigImpl.create(id, retry);
             this.timeout = TimeoutConfigImpl.create(id, timeout);
+            this.bulkheadAdaptiveLimit = BulkheadAdaptiveLimitConfigImpl.create(id, bulkheadAdaptiveLimit);
+            this.bulkheadMaxQueueWait = BulkheadMaxQueueWaitConfigImpl.create(id, bulkheadMaxQueueWait);
+            this.bulkheadQueueDiscipline = BulkheadQueueDisciplineConfigImpl.create(id, bulkheadQueueDiscipline);
+            this.circuitBreakerTimeWindow = CircuitBreakerTimeWindowConfigImpl.create(id, circuitBreakerTimeWindow);
+            this.circuitBreakerSlowCall = CircuitBreakerSlowCallConfigImpl.create(id, circuitBreakerSlowCall);
             this.exponentialBackoff = ExponentialBackoffConfigImpl.create(id, exponentialBackoff);
             this.fibonacciBackoff = FibonacciBackoffConfigImpl.create(id, fibonacciBackoff);
+            this.retryBudget = RetryBudgetConfigImpl.create(id, retryBudget);
         } else {
             this.bulkhead = BulkheadNoConfigImpl.create(bulkhead);
             this.circuitBreaker = CircuitBreakerNoConfigImpl.create(circuitBreaker);
             this.rateLimit = RateLimitNoConfigImpl.create(rateLimit);
             this.retry = RetryNoConfigImpl.create(retry);
             this.timeout = TimeoutNoConfigImpl.create(timeout);
+            this.bulkheadAdaptiveLimit = BulkheadAdaptiveLimitNoConfigImpl.create(bulkheadAdaptiveLimit);
+            this.bulkheadMaxQueueWait = BulkheadMaxQueueWaitNoConfigImpl.create(bulkheadMaxQueueWait);
+            this.bulkheadQueueDiscipline = BulkheadQueueDisciplineNoConfigImpl.create(bulkheadQueueDiscipline);
+            this.circuitBreakerTimeWindow = CircuitBreakerTimeWindowNoConfigImpl.create(circuitBreakerTimeWindow);
+            this.circuitBreakerSlowCall = CircuitBreakerSlowCallNoConfigImpl.create(circuitBreakerSlowCall);
             this.exponentialBackoff = ExponentialBackoffNoConfigImpl.create(exponentialBackoff);
             this.fibonacciBackoff = FibonacciBackoffNoConfigImpl.create(fibonacciBackoff);
+            this.retryBudget = RetryBudgetNoConfigImpl.create(retryBudget);
         }
     }
 
@@ -117,6 +157,46 @@ public class BasicFaultToleranceOperation {
         return timeout;
     }
 
+    public boolean hasBulkheadAdaptiveLimit() {
+        return bulkheadAdaptiveLimit != null;
+    }
+
+    public BulkheadAdaptiveLimit getBulkheadAdaptiveLimit() {
+        return bulkheadAdaptiveLimit;
+    }
+
+    public boolean hasBulkheadMaxQueueWait() {
+        return bulkheadMaxQueueWait != null;
+    }
+
+    public BulkheadMaxQueueWait getBulkheadMaxQueueWait() {
+        return bulkheadMaxQueueWait;
+    }
+
+    public boolean hasBulkheadQueueDiscipline() {
+        return bulkheadQueueDiscipline != null;
+    }
+
+    public BulkheadQueueDiscipline getBulkheadQueueDiscipline() {
+        return bulkheadQueueDiscipline;
+    }
+
+    public boolean hasCircuitBreakerTimeWindow() {
+        return circuitBreakerTimeWindow != null;
+    }
+
+    public CircuitBreakerTimeWindow getCircuitBreakerTimeWindow() {
+        return circuitBreakerTimeWindow;
+    }
+
+    public boolean hasCircuitBreakerSlowCall() {
+        return circuitBreakerSlowCall != null;
+    }
+
+    public CircuitBreakerSlowCall getCircuitBreakerSlowCall() {
+        return circuitBreakerSlowCall;
+    }
+
     public boolean hasExponentialBackoff() {
         return exponentialBackoff != null;
     }
@@ -133,6 +213,14 @@ public class BasicFaultToleranceOperation {
         return fibonacciBackoff;
     }
 
+    public boolean hasRetryBudget() {
+        return retryBudget != null;
+    }
+
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
     public boolean isValid() {
         try {
             validate();
@@ -162,7 +250,77 @@ public class BasicFaultToleranceOperation {
             timeout.validate();
         }
 
+        validateBulkheadAdaptiveLimit();
+        validateBulkheadMaxQueueWait();
+        validateBulkheadQueueDiscipline();
+        validateCircuitBreakerTimeWindow();
+        validateCircuitBreakerSlowCall();
         validateRetryBackoff();
+        validateRetryBudget();
+    }
+
+    private void validateBulkheadAdaptiveLimit() {
+        if (bulkheadAdaptiveLimit == null) {
+            return;
+        }
+
+        bulkheadAdaptiveLimit.validate();
+
+        if (bulkhead == null) {
+            throw bulkheadAdaptiveLimit.fail("missing @Bulkhead");
+        }
+
+        if (bulkhead.value() < bulkheadAdaptiveLimit.minLimit() || bulkhead.value() > bulkheadAdaptiveLimit.maxLimit()) {
+            throw bulkhead.fail("value", "should be between @BulkheadAdaptiveLimit.minLimit and maxLimit");
+        }
+    }
+
+    private void validateBulkheadMaxQueueWait() {
+        if (bulkheadMaxQueueWait == null) {
+            return;
+        }
+
+        bulkheadMaxQueueWait.validate();
+
+        if (bulkhead == null) {
+            throw bulkheadMaxQueueWait.fail("missing @Bulkhead");
+        }
+    }
+
+    private void validateBulkheadQueueDiscipline() {
+        if (bulkheadQueueDiscipline == null) {
+            return;
+        }
+
+        bulkheadQueueDiscipline.validate();
+
+        if (bulkhead == null) {
+            throw bulkheadQueueDiscipline.fail("missing @Bulkhead");
+        }
+    }
+
+    private void validateCircuitBreakerTimeWindow() {
+        if (circuitBreakerTimeWindow == null) {
+            return;
+        }
+
+        circuitBreakerTimeWindow.validate();
+
+        if (circuitBreaker == null) {
+            throw circuitBreakerTimeWindow.fail("missing @CircuitBreaker");
+        }
+    }
+
+    private void validateCircuitBreakerSlowCall() {
+        if (circuitBreakerSlowCall == null) {
+            return;
+        }
+
+        circuitBreakerSlowCall.validate();
+
+        if (circuitBreaker == null) {
+            throw circuitBreakerSlowCall.fail("missing @CircuitBreaker");
+        }
     }
 
     private void validateRetryBackoff() {
@@ -203,6 +361,18 @@ public class BasicFaultToleranceOperation {
         }
     }
 
+    private void validateRetryBudget() {
+        if (retryBudget == null) {
+            return;
+        }
+
+        retryBudget.validate();
+
+        if (retry == null) {
+            throw retryBudget.fail("missing @Retry");
+        }
+    }
+
     protected List<Config> getBackoffConfigs() {
         // allows `null` elements, unlike `List.of()`
         return Arrays.asList(exponentialBackoff, fibonacciBackoff);
@@ -229,12 +399,32 @@ public class BasicFaultToleranceOperation {
             timeout.materialize();
         }
 
+        if (bulkheadAdaptiveLimit != null) {
+            bulkheadAdaptiveLimit.materialize();
+        }
+        if (bulkheadMaxQueueWait != null) {
+            bulkheadMaxQueueWait.materialize();
+        }
+        if (bulkheadQueueDiscipline != null) {
+            bulkheadQueueDiscipline.materialize();
+        }
+        if (circuitBreakerTimeWindow != null) {
+            circuitBreakerTimeWindow.materialize();
+        }
+        if (circuitBreakerSlowCall != null) {
+            circuitBreakerSlowCall.materialize();
+        }
+
         if (exponentialBackoff != null) {
             exponentialBackoff.materialize();
         }
         if (fibonacciBackoff != null) {
             fibonacciBackoff.materialize();
         }
+
+        if (retryBudget != null) {
+            retryBudget.materialize();
+        }
     }
 
     @Override
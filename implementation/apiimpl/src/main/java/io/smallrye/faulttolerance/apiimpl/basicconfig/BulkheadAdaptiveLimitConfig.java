@@ -0,0 +1,18 @@
+package io.smallrye.faulttolerance.apiimpl.basicconfig;
+
+import io.smallrye.faulttolerance.api.BulkheadAdaptiveLimit;
+import io.smallrye.faulttolerance.autoconfig.AutoConfig;
+import io.smallrye.faulttolerance.autoconfig.Config;
+
+@AutoConfig
+public interface BulkheadAdaptiveLimitConfig extends BulkheadAdaptiveLimit, Config {
+    @Override
+    default void validate() {
+        if (minLimit() < 1) {
+            throw fail("minLimit", "shouldn't be lower than 1");
+        }
+        if (maxLimit() < minLimit()) {
+            throw fail("maxLimit", "shouldn't be lower than minLimit");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package io.smallrye.faulttolerance.apiimpl.basicconfig;
+
+import io.smallrye.faulttolerance.api.BulkheadMaxQueueWait;
+import io.smallrye.faulttolerance.autoconfig.AutoConfig;
+import io.smallrye.faulttolerance.autoconfig.Config;
+
+@AutoConfig
+public interface BulkheadMaxQueueWaitConfig extends BulkheadMaxQueueWait, Config {
+    @Override
+    default void validate() {
+        if (value() <= 0) {
+            throw fail("value", "shouldn't be lower than 1");
+        }
+    }
+}
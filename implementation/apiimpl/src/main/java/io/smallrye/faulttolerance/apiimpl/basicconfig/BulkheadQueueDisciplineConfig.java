@@ -0,0 +1,18 @@
+package io.smallrye.faulttolerance.apiimpl.basicconfig;
+
+import io.smallrye.faulttolerance.api.BulkheadQueueDiscipline;
+import io.smallrye.faulttolerance.autoconfig.AutoConfig;
+import io.smallrye.faulttolerance.autoconfig.Config;
+
+@AutoConfig
+public interface BulkheadQueueDisciplineConfig extends BulkheadQueueDiscipline, Config {
+    @Override
+    default void validate() {
+        if (target() <= 0) {
+            throw fail("target", "shouldn't be lower than 1");
+        }
+        if (interval() <= 0) {
+            throw fail("interval", "shouldn't be lower than 1");
+        }
+    }
+}
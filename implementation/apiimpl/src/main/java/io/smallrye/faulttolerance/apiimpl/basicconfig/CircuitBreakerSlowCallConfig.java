@@ -0,0 +1,18 @@
+package io.smallrye.faulttolerance.apiimpl.basicconfig;
+
+import io.smallrye.faulttolerance.api.CircuitBreakerSlowCall;
+import io.smallrye.faulttolerance.autoconfig.AutoConfig;
+import io.smallrye.faulttolerance.autoconfig.Config;
+
+@AutoConfig
+public interface CircuitBreakerSlowCallConfig extends CircuitBreakerSlowCall, Config {
+    @Override
+    default void validate() {
+        if (durationThreshold() <= 0) {
+            throw fail("durationThreshold", "shouldn't be lower than 1");
+        }
+        if (ratio() < 0.0 || ratio() > 1.0) {
+            throw fail("ratio", "should be between 0 and 1");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.smallrye.faulttolerance.apiimpl.basicconfig;
+
+import static io.smallrye.faulttolerance.core.util.Durations.timeInMillis;
+
+import io.smallrye.faulttolerance.api.CircuitBreakerTimeWindow;
+import io.smallrye.faulttolerance.autoconfig.AutoConfig;
+import io.smallrye.faulttolerance.autoconfig.Config;
+
+@AutoConfig
+public interface CircuitBreakerTimeWindowConfig extends CircuitBreakerTimeWindow, Config {
+    @Override
+    default void validate() {
+        if (window() <= 0) {
+            throw fail("window", "shouldn't be lower than 1");
+        }
+        if (buckets() <= 0) {
+            throw fail("buckets", "shouldn't be lower than 1");
+        }
+        if (timeInMillis(window(), windowUnit()) < buckets()) {
+            throw fail("buckets", "shouldn't be greater than the time window length in millis");
+        }
+    }
+}
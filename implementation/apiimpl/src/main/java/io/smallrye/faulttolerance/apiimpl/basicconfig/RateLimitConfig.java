@@ -1,6 +1,7 @@
 package io.smallrye.faulttolerance.apiimpl.basicconfig;
 
 import io.smallrye.faulttolerance.api.RateLimit;
+import io.smallrye.faulttolerance.api.RateLimitType;
 import io.smallrye.faulttolerance.autoconfig.AutoConfig;
 import io.smallrye.faulttolerance.autoconfig.Config;
 
@@ -17,5 +18,14 @@ public interface RateLimitConfig extends RateLimit, Config {
         if (minSpacing() < 0) {
             throw fail("minSpacing", "shouldn't be lower than 0");
         }
+        if (burst() < 0) {
+            throw fail("burst", "shouldn't be lower than 0");
+        }
+        if (maxWait() < 0) {
+            throw fail("maxWait", "shouldn't be lower than 0");
+        }
+        if (maxWait() > 0 && type() == RateLimitType.APPROXIMATE_ROLLING) {
+            throw fail("maxWait", "isn't supported with approximate rolling time windows");
+        }
     }
 }
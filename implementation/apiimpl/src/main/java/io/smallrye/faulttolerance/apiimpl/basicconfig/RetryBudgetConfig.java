@@ -0,0 +1,21 @@
+package io.smallrye.faulttolerance.apiimpl.basicconfig;
+
+import io.smallrye.faulttolerance.api.RetryBudget;
+import io.smallrye.faulttolerance.autoconfig.AutoConfig;
+import io.smallrye.faulttolerance.autoconfig.Config;
+
+@AutoConfig
+public interface RetryBudgetConfig extends RetryBudget, Config {
+    @Override
+    default void validate() {
+        if (ratio() < 0) {
+            throw fail("ratio", "shouldn't be lower than 0");
+        }
+        if (minRetriesPerSecond() < 0) {
+            throw fail("minRetriesPerSecond", "shouldn't be lower than 0");
+        }
+        if (capacity() < 1) {
+            throw fail("capacity", "shouldn't be lower than 1");
+        }
+    }
+}
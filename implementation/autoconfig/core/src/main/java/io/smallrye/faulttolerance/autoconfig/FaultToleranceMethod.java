@@ -14,11 +14,19 @@ import org.eclipse.microprofile.faulttolerance.Timeout;
 import io.smallrye.faulttolerance.api.ApplyGuard;
 import io.smallrye.faulttolerance.api.AsynchronousNonBlocking;
 import io.smallrye.faulttolerance.api.BeforeRetry;
+import io.smallrye.faulttolerance.api.BulkheadAdaptiveLimit;
+import io.smallrye.faulttolerance.api.BulkheadMaxQueueWait;
+import io.smallrye.faulttolerance.api.BulkheadQueueDiscipline;
 import io.smallrye.faulttolerance.api.CircuitBreakerName;
+import io.smallrye.faulttolerance.api.CircuitBreakerSlowCall;
+import io.smallrye.faulttolerance.api.CircuitBreakerTimeWindow;
 import io.smallrye.faulttolerance.api.CustomBackoff;
 import io.smallrye.faulttolerance.api.ExponentialBackoff;
 import io.smallrye.faulttolerance.api.FibonacciBackoff;
 import io.smallrye.faulttolerance.api.RateLimit;
+import io.smallrye.faulttolerance.api.RetryAfter;
+import io.smallrye.faulttolerance.api.RetryBudget;
+import io.smallrye.faulttolerance.api.RetryCancelOnMaxDuration;
 import io.smallrye.faulttolerance.api.RetryWhen;
 
 /**
@@ -46,8 +54,13 @@ public class FaultToleranceMethod {
     public AsynchronousNonBlocking asynchronousNonBlocking;
 
     public Bulkhead bulkhead;
+    public BulkheadAdaptiveLimit bulkheadAdaptiveLimit;
+    public BulkheadMaxQueueWait bulkheadMaxQueueWait;
+    public BulkheadQueueDiscipline bulkheadQueueDiscipline;
     public CircuitBreaker circuitBreaker;
     public CircuitBreakerName circuitBreakerName;
+    public CircuitBreakerTimeWindow circuitBreakerTimeWindow;
+    public CircuitBreakerSlowCall circuitBreakerSlowCall;
     public Fallback fallback;
     public RateLimit rateLimit;
     public Retry retry;
@@ -57,6 +70,9 @@ public class FaultToleranceMethod {
     public ExponentialBackoff exponentialBackoff;
     public FibonacciBackoff fibonacciBackoff;
     public RetryWhen retryWhen;
+    public RetryAfter retryAfter;
+    public RetryCancelOnMaxDuration retryCancelOnMaxDuration;
+    public RetryBudget retryBudget;
     public BeforeRetry beforeRetry;
 
     // types of annotations that were declared directly on the method;
@@ -72,7 +88,7 @@ public class FaultToleranceMethod {
             return false;
         }
 
-        // certain SmallRye annotations (@CircuitBreakerName, @*Backoff, @RetryWhen, @BeforeRetry)
+        // certain SmallRye annotations (@BulkheadAdaptiveLimit, @BulkheadMaxQueueWait, @BulkheadQueueDiscipline, @CircuitBreakerName, @CircuitBreakerTimeWindow, @CircuitBreakerSlowCall, @*Backoff, @RetryWhen, @RetryAfter, @RetryCancelOnMaxDuration, @RetryBudget, @BeforeRetry)
         // do _not_ trigger the fault tolerance interceptor alone, only in combination
         // with other fault tolerance annotations
         return applyGuard != null
@@ -0,0 +1,66 @@
+package io.smallrye.faulttolerance.core;
+
+import io.smallrye.faulttolerance.core.timer.TimerTask;
+
+/**
+ * Forwards cancellation of a {@link Completer}'s future to a {@link Future} that only becomes
+ * known later, for example because it is obtained on another thread or after a delay,
+ * and optionally to the {@link TimerTask} that performs the delay.
+ * If the completer's future is cancelled before the target is known,
+ * the target is cancelled as soon as it is {@linkplain #forwardTo(Future) set}.
+ * <p>
+ * Takes over the completer's {@linkplain Completer#onCancel(Runnable) cancellation callback}.
+ */
+public final class CancellationForwarder {
+    private final Future<?> source;
+    private volatile Future<?> target;
+    private volatile TimerTask timerTask;
+
+    public CancellationForwarder(Completer<?> source) {
+        this.source = source.future();
+        source.onCancel(this::cancelTarget);
+    }
+
+    /**
+     * Returns whether the source future has been cancelled. Computations that have not started yet
+     * should check this before starting.
+     */
+    public boolean isCancelled() {
+        return source.isCancelled();
+    }
+
+    /**
+     * Sets the future to which cancellation is forwarded and returns it. If the source future
+     * has already been cancelled, the {@code target} is cancelled immediately.
+     */
+    public <T> Future<T> forwardTo(Future<T> target) {
+        this.target = target;
+        if (source.isCancelled()) {
+            // may also be cancelled by `cancelTarget()`, cancelling twice is harmless
+            target.cancel();
+        }
+        return target;
+    }
+
+    /**
+     * Sets the timer task to which cancellation is forwarded. If the source future
+     * has already been cancelled, the {@code timerTask} is cancelled immediately.
+     */
+    public void forwardTo(TimerTask timerTask) {
+        this.timerTask = timerTask;
+        if (source.isCancelled()) {
+            timerTask.cancel();
+        }
+    }
+
+    private void cancelTarget() {
+        TimerTask timerTask = this.timerTask;
+        if (timerTask != null) {
+            timerTask.cancel();
+        }
+        Future<?> target = this.target;
+        if (target != null) {
+            target.cancel();
+        }
+    }
+}
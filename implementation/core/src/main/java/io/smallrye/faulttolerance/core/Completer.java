@@ -9,6 +9,8 @@ package io.smallrye.faulttolerance.core;
  * <p>
  * If the completer is supplied a cancellation callback using {@link #onCancel(Runnable)},
  * a successful cancellation request on the future calls the cancellation callback.
+ * Strategies that return a future of their own are expected to propagate cancellation
+ * to the futures they depend on and to release the resources held by the computation.
  *
  * @param <T> type of the result of the computation
  */
@@ -41,7 +43,8 @@ public interface Completer<T> {
 
     /**
      * Sets the cancellation callback. Note that this method may be called at most once;
-     * subsequent calls will result in an exception.
+     * subsequent calls will result in an exception. If the future has already been cancelled,
+     * the callback is called immediately.
      *
      * @param cancellationCallback the cancellation callback; may not be {@code null}
      */
@@ -0,0 +1,92 @@
+package io.smallrye.faulttolerance.core;
+
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
+
+import java.util.concurrent.Executor;
+
+import io.smallrye.faulttolerance.core.async.ThreadOffloadEnabled;
+import io.smallrye.faulttolerance.core.fallback.FallbackFunction;
+import io.smallrye.faulttolerance.core.metrics.MeteredOperationName;
+import io.smallrye.faulttolerance.core.timeout.Deadline;
+import io.smallrye.faulttolerance.core.util.ExceptionDecision;
+
+/**
+ * A typed key for contextual data stored in a {@link FaultToleranceContext}. Each key is assigned
+ * a fixed slot in the context when created, so accessing the data doesn't require a hash lookup.
+ * The number of slots is limited to 8, so keys must only be created for data
+ * accessed on each invocation and should be stored in {@code static final} fields.
+ * <p>
+ * The class-keyed methods of {@link FaultToleranceContext} look up the key for given class
+ * and use its slot when the key exists, so data stored using a key is also accessible using
+ * the class-keyed methods and vice versa.
+ *
+ * @param <T> type of the contextual data
+ */
+public final class ContextKey<T> {
+    static final int MAX_KEYS = 8;
+
+    // copy-on-write, only appended to
+    private static volatile ContextKey<?>[] keys = new ContextKey<?>[0];
+
+    public static final ContextKey<Executor> EXECUTOR = create(Executor.class);
+    public static final ContextKey<ThreadOffloadEnabled> THREAD_OFFLOAD_ENABLED = create(ThreadOffloadEnabled.class);
+    @SuppressWarnings("rawtypes")
+    public static final ContextKey<FallbackFunction> FALLBACK_FUNCTION = create(FallbackFunction.class);
+    public static final ContextKey<ExceptionDecision> EXCEPTION_DECISION = create(ExceptionDecision.class);
+    public static final ContextKey<MeteredOperationName> METERED_OPERATION_NAME = create(MeteredOperationName.class);
+    public static final ContextKey<Deadline> DEADLINE = create(Deadline.class);
+
+    final Class<T> type;
+    final int index;
+
+    private ContextKey(Class<T> type, int index) {
+        this.type = type;
+        this.index = index;
+    }
+
+    /**
+     * Creates a key for given {@code type}. If a key for given type already exists, it is returned.
+     *
+     * @throws IllegalStateException if the maximum number of keys was already created
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized <T> ContextKey<T> create(Class<T> type) {
+        checkNotNull(type, "Type must be set");
+
+        ContextKey<?>[] current = keys;
+        for (ContextKey<?> key : current) {
+            if (key.type == type) {
+                return (ContextKey<T>) key;
+            }
+        }
+        if (current.length == MAX_KEYS) {
+            throw new IllegalStateException("Too many context keys, at most " + MAX_KEYS + " are allowed");
+        }
+
+        ContextKey<T> result = new ContextKey<>(type, current.length);
+        ContextKey<?>[] updated = new ContextKey<?>[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, current.length);
+        updated[current.length] = result;
+        keys = updated;
+        return result;
+    }
+
+    // returns `null` if there's no key for given type
+    static ContextKey<?> find(Class<?> type) {
+        for (ContextKey<?> key : keys) {
+            if (key.type == type) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return "ContextKey[" + type.getName() + "]";
+    }
+}
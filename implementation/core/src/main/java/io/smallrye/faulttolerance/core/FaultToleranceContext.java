@@ -1,5 +1,6 @@
 package io.smallrye.faulttolerance.core;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -20,6 +21,46 @@ public final class FaultToleranceContext<V> {
         return delegate.get();
     }
 
+    /**
+     * Creates a child context for an attempt that may run concurrently with other attempts
+     * of the same invocation. The child context has a copy of all the contextual data of this context
+     * and {@linkplain FaultToleranceEventListener#forChild() child listeners} of all the event listeners
+     * of this context. Changes to the child context are not visible in this context and vice versa.
+     * <p>
+     * Event handlers of this context are <em>not</em> copied. They were registered by strategies
+     * that enclose the concurrent attempts, and those must not be notified about events of each attempt
+     * separately. Strategies that run inside an attempt register their handlers in the child context.
+     * <p>
+     * Must not be called concurrently with adding event listeners to this context.
+     */
+    public FaultToleranceContext<V> createChild() {
+        FaultToleranceContext<V> child = new FaultToleranceContext<>(delegate, isAsync);
+
+        child.slot0 = slot0;
+        child.slot1 = slot1;
+        child.slot2 = slot2;
+        child.slot3 = slot3;
+        child.slot4 = slot4;
+        child.slot5 = slot5;
+        child.slot6 = slot6;
+        child.slot7 = slot7;
+
+        ConcurrentMap<Class<?>, Object> data = this.data;
+        if (data != null) {
+            child.data = new ConcurrentHashMap<>(data);
+        }
+
+        FaultToleranceEventListener[] listeners = eventListeners;
+        if (listeners != null) {
+            int count = eventListenersCount;
+            for (int i = 0; i < count; i++) {
+                child.addEventListener(listeners[i].forChild());
+            }
+        }
+
+        return child;
+    }
+
     /**
      * Whether the guarded operation is truly asynchronous (that is, returns
      * a {@code CompletionStage} of the result, or some other asynchronous type).
@@ -38,22 +79,94 @@ public final class FaultToleranceContext<V> {
 
     // arbitrary contextual data
 
-    private final ConcurrentMap<Class<?>, Object> data = new ConcurrentHashMap<>(4);
+    // data with a `ContextKey` are stored in these fields (one per `ContextKey` slot), so that the common
+    // case of a few well-known pieces of data only requires a single object per invocation (the context)
+    private volatile Object slot0;
+    private volatile Object slot1;
+    private volatile Object slot2;
+    private volatile Object slot3;
+    private volatile Object slot4;
+    private volatile Object slot5;
+    private volatile Object slot6;
+    private volatile Object slot7;
+
+    // other data are stored in a map, which is created lazily
+    private volatile ConcurrentMap<Class<?>, Object> data;
+
+    public <T> void set(ContextKey<T> key, T object) {
+        setSlot(key.index, object);
+    }
+
+    public <T> T remove(ContextKey<T> key) {
+        T result = get(key);
+        setSlot(key.index, null);
+        return result;
+    }
+
+    public boolean has(ContextKey<?> key) {
+        return getSlot(key.index) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(ContextKey<T> key) {
+        return (T) getSlot(key.index);
+    }
+
+    public <T> T get(ContextKey<T> key, T defaultValue) {
+        T value = get(key);
+        return value != null ? value : defaultValue;
+    }
 
     public <T> void set(Class<T> clazz, T object) {
+        ContextKey<?> key = ContextKey.find(clazz);
+        if (key != null) {
+            setSlot(key.index, object);
+            return;
+        }
+
+        ConcurrentMap<Class<?>, Object> data = this.data;
+        if (data == null) {
+            synchronized (this) {
+                data = this.data;
+                if (data == null) {
+                    data = new ConcurrentHashMap<>(4);
+                    this.data = data;
+                }
+            }
+        }
         data.put(clazz, object);
     }
 
     public <T> T remove(Class<T> clazz) {
-        return clazz.cast(data.remove(clazz));
+        ContextKey<?> key = ContextKey.find(clazz);
+        if (key != null) {
+            Object result = getSlot(key.index);
+            setSlot(key.index, null);
+            return clazz.cast(result);
+        }
+
+        ConcurrentMap<Class<?>, Object> data = this.data;
+        return data != null ? clazz.cast(data.remove(clazz)) : null;
     }
 
     public boolean has(Class<?> clazz) {
-        return data.containsKey(clazz);
+        ContextKey<?> key = ContextKey.find(clazz);
+        if (key != null) {
+            return getSlot(key.index) != null;
+        }
+
+        ConcurrentMap<Class<?>, Object> data = this.data;
+        return data != null && data.containsKey(clazz);
     }
 
     public <T> T get(Class<T> clazz) {
-        return clazz.cast(data.get(clazz));
+        ContextKey<?> key = ContextKey.find(clazz);
+        if (key != null) {
+            return clazz.cast(getSlot(key.index));
+        }
+
+        ConcurrentMap<Class<?>, Object> data = this.data;
+        return data != null ? clazz.cast(data.get(clazz)) : null;
     }
 
     public <T> T get(Class<T> clazz, T defaultValue) {
@@ -61,16 +174,93 @@ public final class FaultToleranceContext<V> {
         return value != null ? value : defaultValue;
     }
 
+    private Object getSlot(int index) {
+        return switch (index) {
+            case 0 -> slot0;
+            case 1 -> slot1;
+            case 2 -> slot2;
+            case 3 -> slot3;
+            case 4 -> slot4;
+            case 5 -> slot5;
+            case 6 -> slot6;
+            case 7 -> slot7;
+            default -> throw new IllegalArgumentException("Unknown context slot " + index);
+        };
+    }
+
+    private void setSlot(int index, Object value) {
+        switch (index) {
+            case 0 -> slot0 = value;
+            case 1 -> slot1 = value;
+            case 2 -> slot2 = value;
+            case 3 -> slot3 = value;
+            case 4 -> slot4 = value;
+            case 5 -> slot5 = value;
+            case 6 -> slot6 = value;
+            case 7 -> slot7 = value;
+            default -> throw new IllegalArgumentException("Unknown context slot " + index);
+        }
+    }
+
     // out-of-band communication between fault tolerance strategies in a single chain
 
-    private final ConcurrentMap<Class<? extends FaultToleranceEvent>, Collection<Consumer<? extends FaultToleranceEvent>>> eventHandlers = new ConcurrentHashMap<>();
+    // listeners are typically created once per chain and added to each context before the invocation starts,
+    // so the array is only allocated once per context and firing an event doesn't allocate
+    private FaultToleranceEventListener[] eventListeners;
+    private int eventListenersCount;
+
+    // ad-hoc event handlers, typically registered by the strategies themselves; created lazily
+    private volatile ConcurrentMap<Class<? extends FaultToleranceEvent>, Collection<Consumer<? extends FaultToleranceEvent>>> eventHandlers;
+
+    /**
+     * Adds an event listener that is notified about all events fired in this context. Listeners
+     * are notified in the order of addition, before all {@linkplain #registerEventHandler(Class, Consumer)
+     * event handlers}.
+     * <p>
+     * Listeners must be added before the context is passed to the fault tolerance strategy chain,
+     * or by a strategy before it passes the context to its delegate, in both cases on the thread
+     * that starts the invocation. Adding listeners concurrently with firing events is not supported.
+     */
+    public void addEventListener(FaultToleranceEventListener listener) {
+        FaultToleranceEventListener[] listeners = eventListeners;
+        if (listeners == null) {
+            listeners = new FaultToleranceEventListener[4];
+            eventListeners = listeners;
+        } else if (eventListenersCount == listeners.length) {
+            listeners = Arrays.copyOf(listeners, listeners.length * 2);
+            eventListeners = listeners;
+        }
+        listeners[eventListenersCount++] = listener;
+    }
 
     public <E extends FaultToleranceEvent> void registerEventHandler(Class<E> eventType, Consumer<E> handler) {
-        eventHandlers.computeIfAbsent(eventType, ignored -> new ConcurrentLinkedQueue<>()).add(handler);
+        ConcurrentMap<Class<? extends FaultToleranceEvent>, Collection<Consumer<? extends FaultToleranceEvent>>> handlers = eventHandlers;
+        if (handlers == null) {
+            synchronized (this) {
+                handlers = eventHandlers;
+                if (handlers == null) {
+                    handlers = new ConcurrentHashMap<>();
+                    eventHandlers = handlers;
+                }
+            }
+        }
+        handlers.computeIfAbsent(eventType, ignored -> new ConcurrentLinkedQueue<>()).add(handler);
     }
 
     public <E extends FaultToleranceEvent> void fireEvent(E event) {
-        Collection<Consumer<? extends FaultToleranceEvent>> handlers = eventHandlers.get(event.getClass());
+        FaultToleranceEventListener[] listeners = eventListeners;
+        if (listeners != null) {
+            int count = eventListenersCount;
+            for (int i = 0; i < count; i++) {
+                listeners[i].onEvent(event);
+            }
+        }
+
+        ConcurrentMap<Class<? extends FaultToleranceEvent>, Collection<Consumer<? extends FaultToleranceEvent>>> allHandlers = eventHandlers;
+        if (allHandlers == null) {
+            return;
+        }
+        Collection<Consumer<? extends FaultToleranceEvent>> handlers = allHandlers.get(event.getClass());
         if (handlers != null) {
             for (Consumer<? extends FaultToleranceEvent> handler : handlers) {
                 @SuppressWarnings("unchecked")
@@ -0,0 +1,25 @@
+package io.smallrye.faulttolerance.core;
+
+/**
+ * Listener for all {@linkplain FaultToleranceEvent events} fired in a single {@link FaultToleranceContext}.
+ * Unlike {@linkplain FaultToleranceContext#registerEventHandler(Class, java.util.function.Consumer) event handlers},
+ * a listener is not bound to a single event type, so a single listener instance may be created once
+ * for a whole fault tolerance strategy chain and added to each invocation context without further allocation.
+ * Implementations typically dispatch on the event type using {@code instanceof} checks.
+ */
+@FunctionalInterface
+public interface FaultToleranceEventListener {
+    void onEvent(FaultToleranceEvent event);
+
+    /**
+     * Returns the listener to be added to a {@linkplain FaultToleranceContext#createChild() child context}
+     * of the context this listener was added to. Child contexts may be used concurrently with each other,
+     * so a listener that keeps per-invocation state must return a new listener with its own state.
+     * Stateless listeners may return {@code this}, which is the default.
+     *
+     * @return the listener to be added to a child context
+     */
+    default FaultToleranceEventListener forChild() {
+        return this;
+    }
+}
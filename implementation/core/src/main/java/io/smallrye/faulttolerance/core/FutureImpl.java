@@ -30,6 +30,13 @@ final class FutureImpl<T> implements Future<T>, Completer<T> {
     private static final VarHandle CANCELLATION_CALLBACK = ConstantBootstraps.fieldVarHandle(LOOKUP,
             "cancellationCallback", VarHandle.class, FutureImpl.class, Runnable.class);
 
+    // stored into `cancellationCallback` when the future is cancelled before a callback is set
+    private static final Runnable CANCELLED_WITHOUT_CALLBACK = () -> {
+    };
+    // stored into `cancellationCallback` once the callback has been called
+    private static final Runnable CALLBACK_CALLED = () -> {
+    };
+
     private static final class ExceptionResult {
         private final Throwable exception;
 
@@ -73,7 +80,17 @@ final class FutureImpl<T> implements Future<T>, Completer<T> {
     @Override
     public void onCancel(Runnable cancellationCallback) {
         checkNotNull(cancellationCallback, "Cancellation callback must be set");
-        if (!CANCELLATION_CALLBACK.compareAndSet(this, null, cancellationCallback)) {
+        Object previous = CANCELLATION_CALLBACK.compareAndExchange(this, null, cancellationCallback);
+        if (previous == null) {
+            // `cancel()` may have happened concurrently, in which case either this method
+            // or `cancel()` calls the callback, but not both
+            if (state == STATE_CANCELLED && CANCELLATION_CALLBACK.compareAndSet(this, cancellationCallback, CALLBACK_CALLED)) {
+                cancellationCallback.run();
+            }
+        } else if (previous == CANCELLED_WITHOUT_CALLBACK
+                && CANCELLATION_CALLBACK.compareAndSet(this, CANCELLED_WITHOUT_CALLBACK, CALLBACK_CALLED)) {
+            cancellationCallback.run();
+        } else {
             throw new IllegalStateException("Cancellation callback has already been set");
         }
     }
@@ -144,10 +161,14 @@ final class FutureImpl<T> implements Future<T>, Completer<T> {
     @Override
     public void cancel() {
         if (STATE.compareAndSet(this, STATE_PENDING, STATE_CANCELLED)) {
-            Runnable cancellationCallback = this.cancellationCallback;
-            if (cancellationCallback != null) {
+            Runnable cancellationCallback = (Runnable) CANCELLATION_CALLBACK.compareAndExchange(this, null,
+                    CANCELLED_WITHOUT_CALLBACK);
+            if (cancellationCallback != null
+                    && CANCELLATION_CALLBACK.compareAndSet(this, cancellationCallback, CALLBACK_CALLED)) {
                 cancellationCallback.run();
             }
+            // a pending `awaitBlocking()` call throws `CancellationException`
+            completionBarrier.open();
         }
     }
 
@@ -12,9 +12,13 @@ final class FutureLoop<T> {
     private final Predicate<T> condition;
     private final Function<T, Future<T>> iteration;
 
+    // the future of the iteration in progress, cancelled when the loop is cancelled
+    private volatile Future<T> currentIteration;
+
     private FutureLoop(Predicate<T> condition, Function<T, Future<T>> iteration) {
         this.condition = condition;
         this.iteration = iteration;
+        delegate.onCancel(this::cancelCurrentIteration);
     }
 
     static <T> Future<T> loop(T initialValue, Predicate<T> condition, Function<T, Future<T>> iteration) {
@@ -34,9 +38,20 @@ final class FutureLoop<T> {
 
         AtomicReference<Object> currentResult = new AtomicReference<>(ITERATION_IN_PROGRESS);
         do {
+            if (delegate.isCancelled()) {
+                return;
+            }
+
             try {
                 if (condition.test(value)) {
-                    iteration.apply(value).then((val, error) -> {
+                    Future<T> current = iteration.apply(value);
+                    currentIteration = current;
+                    if (delegate.isCancelled()) {
+                        // cancelled concurrently, `cancelCurrentIteration()` may not have seen `current`
+                        current.cancel();
+                        return;
+                    }
+                    current.then((val, error) -> {
                         if (error == null) {
                             run(val, currentResult);
                         } else {
@@ -60,4 +75,11 @@ final class FutureLoop<T> {
             currentResult.set(ITERATION_IN_PROGRESS);
         } while (true);
     }
+
+    private void cancelCurrentIteration() {
+        Future<T> current = currentIteration;
+        if (current != null) {
+            current.cancel();
+        }
+    }
 }
@@ -4,10 +4,16 @@ import static io.smallrye.faulttolerance.core.CoreLogger.LOG;
 
 import java.util.concurrent.Callable;
 
+import io.smallrye.faulttolerance.core.timeout.Deadline;
+
 /**
  * A "sentinel" fault tolerance strategy that does no processing, it only invokes the guarded {@link Callable}.
  * This is supposed to be used as the last fault tolerance strategy in a chain.
  * <p>
+ * If the invocation has a {@link Deadline}, the guarded {@code Callable} is not invoked when the deadline
+ * has already expired. Otherwise, the deadline is made {@linkplain Deadline#current() current} while
+ * the guarded {@code Callable} runs, so that nested guarded invocations may inherit it.
+ * <p>
  * There's only one instance of this class, accessible using {@link #invocation()}.
  */
 public final class Invocation<V> implements FaultToleranceStrategy<V> {
@@ -25,11 +31,28 @@ public final class Invocation<V> implements FaultToleranceStrategy<V> {
     @Override
     public Future<V> apply(FaultToleranceContext<V> ctx) {
         LOG.trace("Guarded method invocation started");
+        Deadline deadline = ctx.get(ContextKey.DEADLINE);
+        if (deadline == null) {
+            try {
+                return ctx.call();
+            } catch (Exception e) {
+                return Future.ofError(e);
+            } finally {
+                LOG.trace("Guarded method invocation finished");
+            }
+        }
+
+        if (deadline.isExpired()) {
+            LOG.trace("Guarded method invocation not started, deadline exceeded");
+            return Future.ofError(Deadline.exceeded("Guarded method"));
+        }
+        Deadline previous = Deadline.install(deadline);
         try {
             return ctx.call();
         } catch (Exception e) {
             return Future.ofError(e);
         } finally {
+            Deadline.restore(previous);
             LOG.trace("Guarded method invocation finished");
         }
     }
@@ -4,6 +4,7 @@ import static io.smallrye.faulttolerance.core.async.AsyncLogger.LOG;
 
 import java.util.concurrent.Executor;
 
+import io.smallrye.faulttolerance.core.ContextKey;
 import io.smallrye.faulttolerance.core.FaultToleranceContext;
 import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
 import io.smallrye.faulttolerance.core.Future;
@@ -17,13 +18,13 @@ public class RememberEventLoop<V> implements FaultToleranceStrategy<V> {
     public RememberEventLoop(FaultToleranceStrategy<V> delegate, EventLoop eventLoop, boolean defaultEnabled) {
         this.delegate = delegate;
         this.eventLoop = eventLoop;
-        this.defaultEnabled = new ThreadOffloadEnabled(defaultEnabled);
+        this.defaultEnabled = ThreadOffloadEnabled.of(defaultEnabled);
     }
 
     @Override
     public Future<V> apply(FaultToleranceContext<V> ctx) {
         // required for `@ApplyGuard`
-        if (ctx.get(ThreadOffloadEnabled.class, defaultEnabled).value) {
+        if (ctx.get(ContextKey.THREAD_OFFLOAD_ENABLED, defaultEnabled).value) {
             return delegate.apply(ctx);
         }
 
@@ -31,7 +32,7 @@ public class RememberEventLoop<V> implements FaultToleranceStrategy<V> {
         try {
             Executor executor = eventLoop.executor();
             if (executor != null) {
-                ctx.set(Executor.class, executor);
+                ctx.set(ContextKey.EXECUTOR, executor);
             }
 
             return delegate.apply(ctx);
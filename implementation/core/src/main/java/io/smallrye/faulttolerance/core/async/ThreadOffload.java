@@ -5,7 +5,9 @@ import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
 
 import java.util.concurrent.Executor;
 
+import io.smallrye.faulttolerance.core.CancellationForwarder;
 import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.ContextKey;
 import io.smallrye.faulttolerance.core.FaultToleranceContext;
 import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
 import io.smallrye.faulttolerance.core.Future;
@@ -22,26 +24,30 @@ public class ThreadOffload<V> implements FaultToleranceStrategy<V> {
     public ThreadOffload(FaultToleranceStrategy<V> delegate, Executor executor, boolean defaultEnabled) {
         this.delegate = delegate;
         this.executor = checkNotNull(executor, "Executor must be set");
-        this.defaultEnabled = new ThreadOffloadEnabled(defaultEnabled);
+        this.defaultEnabled = ThreadOffloadEnabled.of(defaultEnabled);
     }
 
     @Override
     public Future<V> apply(FaultToleranceContext<V> ctx) {
         // required for `@ApplyGuard`
-        boolean hasRememberedExecutor = ctx.has(Executor.class);
-        if (!hasRememberedExecutor && !ctx.get(ThreadOffloadEnabled.class, defaultEnabled).value) {
+        boolean hasRememberedExecutor = ctx.has(ContextKey.EXECUTOR);
+        if (!hasRememberedExecutor && !ctx.get(ContextKey.THREAD_OFFLOAD_ENABLED, defaultEnabled).value) {
             return delegate.apply(ctx);
         }
 
         LOG.trace("ThreadOffload started");
         try {
-            Executor executor = ctx.get(Executor.class, this.executor);
+            Executor executor = ctx.get(ContextKey.EXECUTOR, this.executor);
 
             Completer<V> result = Completer.create();
+            CancellationForwarder cancellation = new CancellationForwarder(result);
             if (hasRememberedExecutor) {
                 executor.execute(() -> {
+                    if (cancellation.isCancelled()) {
+                        return;
+                    }
                     try {
-                        delegate.apply(ctx).then((value, error) -> {
+                        cancellation.forwardTo(delegate.apply(ctx)).then((value, error) -> {
                             executor.execute(() -> {
                                 if (error == null) {
                                     result.complete(value);
@@ -56,8 +62,11 @@ public class ThreadOffload<V> implements FaultToleranceStrategy<V> {
                 });
             } else {
                 executor.execute(() -> {
+                    if (cancellation.isCancelled()) {
+                        return;
+                    }
                     try {
-                        delegate.apply(ctx).thenComplete(result);
+                        cancellation.forwardTo(delegate.apply(ctx)).thenComplete(result);
                     } catch (Exception e) {
                         result.completeWithError(e);
                     }
@@ -1,9 +1,16 @@
 package io.smallrye.faulttolerance.core.async;
 
 public final class ThreadOffloadEnabled {
+    public static final ThreadOffloadEnabled YES = new ThreadOffloadEnabled(true);
+    public static final ThreadOffloadEnabled NO = new ThreadOffloadEnabled(false);
+
     public final boolean value;
 
     public ThreadOffloadEnabled(boolean value) {
         this.value = value;
     }
+
+    public static ThreadOffloadEnabled of(boolean value) {
+        return value ? YES : NO;
+    }
 }
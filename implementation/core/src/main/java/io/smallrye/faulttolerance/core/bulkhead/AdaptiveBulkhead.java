@@ -0,0 +1,190 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+import static io.smallrye.faulttolerance.core.bulkhead.BulkheadLogger.LOG;
+import static io.smallrye.faulttolerance.core.util.Preconditions.check;
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+
+import io.smallrye.faulttolerance.api.ConcurrencyLimitAlgorithm;
+import io.smallrye.faulttolerance.api.RateLimitException;
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.ContextKey;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.stopwatch.RunningStopwatch;
+import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
+import io.smallrye.faulttolerance.core.stopwatch.SystemStopwatch;
+import io.smallrye.faulttolerance.core.timeout.Deadline;
+import io.smallrye.faulttolerance.core.util.ExceptionDecision;
+import io.smallrye.faulttolerance.core.util.SetBasedExceptionDecision;
+import io.smallrye.faulttolerance.core.util.SetOfThrowables;
+
+/**
+ * Bulkhead with a concurrency limit that is adjusted based on observed round-trip times
+ * and failures, as determined by given {@link ConcurrencyLimit}. There is no queue; when
+ * the number of invocations in flight reaches the current limit, subsequent invocations
+ * are rejected.
+ * <p>
+ * The round-trip time of an invocation is measured from the moment it enters the bulkhead
+ * to the moment its result is complete, so for asynchronous invocations, it includes
+ * the time to obtain the asynchronous result.
+ * <p>
+ * Only invocations that fail with an exception signalling overload are reported to the concurrency
+ * limit as drops: timeouts, interruptions (which is how an enclosing synchronous timeout manifests)
+ * and rejections from downstream bulkheads or rate limits. Other exceptions are considered
+ * application failures that say nothing about the capacity of the guarded resource, so such
+ * invocations are reported as ordinary samples.
+ * <p>
+ * An invocation whose {@linkplain ContextKey#DEADLINE deadline} has already expired is not accepted
+ * into the bulkhead.
+ */
+public class AdaptiveBulkhead<V> implements FaultToleranceStrategy<V> {
+    // an exception that is _not_ considered expected is a drop
+    private static final ExceptionDecision DROP_DECISION = new SetBasedExceptionDecision(
+            SetOfThrowables.create(TimeoutException.class, java.util.concurrent.TimeoutException.class,
+                    InterruptedException.class, BulkheadException.class, RateLimitException.class),
+            SetOfThrowables.EMPTY, false);
+
+    private final FaultToleranceStrategy<V> delegate;
+    private final String description;
+
+    private final ConcurrencyLimit limit;
+    private final Stopwatch stopwatch;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final boolean stacklessRejections;
+    private final String preventedMessage;
+    private final String rejectionMessage;
+
+    public AdaptiveBulkhead(FaultToleranceStrategy<V> delegate, String description, ConcurrencyLimitAlgorithm algorithm,
+            int initialLimit, int minLimit, int maxLimit) {
+        this(delegate, description, algorithm, initialLimit, minLimit, maxLimit, false);
+    }
+
+    public AdaptiveBulkhead(FaultToleranceStrategy<V> delegate, String description, ConcurrencyLimitAlgorithm algorithm,
+            int initialLimit, int minLimit, int maxLimit, boolean stacklessRejections) {
+        this(delegate, description, createLimit(algorithm, initialLimit, minLimit, maxLimit), SystemStopwatch.INSTANCE,
+                stacklessRejections);
+    }
+
+    AdaptiveBulkhead(FaultToleranceStrategy<V> delegate, String description, ConcurrencyLimit limit) {
+        this(delegate, description, limit, SystemStopwatch.INSTANCE);
+    }
+
+    AdaptiveBulkhead(FaultToleranceStrategy<V> delegate, String description, ConcurrencyLimit limit,
+            Stopwatch stopwatch) {
+        this(delegate, description, limit, stopwatch, false);
+    }
+
+    AdaptiveBulkhead(FaultToleranceStrategy<V> delegate, String description, ConcurrencyLimit limit,
+            Stopwatch stopwatch, boolean stacklessRejections) {
+        this.delegate = checkNotNull(delegate, "Adaptive bulkhead delegate must be set");
+        this.description = checkNotNull(description, "Adaptive bulkhead description must be set");
+        this.limit = checkNotNull(limit, "Concurrency limit must be set");
+        this.stopwatch = checkNotNull(stopwatch, "Stopwatch must be set");
+        this.stacklessRejections = stacklessRejections;
+        this.preventedMessage = description + " invocation prevented by bulkhead";
+        this.rejectionMessage = description + " rejected from bulkhead";
+    }
+
+    private static ConcurrencyLimit createLimit(ConcurrencyLimitAlgorithm algorithm, int initialLimit, int minLimit,
+            int maxLimit) {
+        checkNotNull(algorithm, "Concurrency limit algorithm must be set");
+        check(minLimit, minLimit > 0, "Min limit must be > 0");
+        check(maxLimit, maxLimit >= minLimit, "Max limit must be >= min limit");
+        check(initialLimit, initialLimit >= minLimit && initialLimit <= maxLimit,
+                "Initial limit must be >= min limit && <= max limit");
+
+        return switch (algorithm) {
+            case AIMD -> ConcurrencyLimit.createAimd(initialLimit, minLimit, maxLimit);
+            case GRADIENT2 -> ConcurrencyLimit.createGradient2(initialLimit, minLimit, maxLimit);
+            case VEGAS -> ConcurrencyLimit.createVegas(initialLimit, minLimit, maxLimit);
+        };
+    }
+
+    @Override
+    public Future<V> apply(FaultToleranceContext<V> ctx) {
+        LOG.trace("AdaptiveBulkhead started");
+        try {
+            Deadline deadline = ctx.get(ContextKey.DEADLINE);
+            if (deadline != null && deadline.isExpired()) {
+                LOG.debugf("%s invocation not started, deadline exceeded", description);
+                return Future.ofError(Deadline.exceeded(description));
+            }
+
+            int current;
+            do {
+                current = inFlight.get();
+                if (current >= limit.currentLimit()) {
+                    LOG.debugOrTrace(preventedMessage, "Concurrency limit reached, rejecting task from bulkhead");
+                    ctx.fireEvent(BulkheadEvents.DecisionMade.REJECTED);
+                    return Future.ofError(stacklessRejections
+                            ? new StacklessBulkheadException(rejectionMessage)
+                            : new BulkheadException(rejectionMessage));
+                }
+            } while (!inFlight.compareAndSet(current, current + 1));
+            int inFlightAtStart = current + 1;
+
+            LOG.trace("Concurrency limit not reached, running task");
+            ctx.fireEvent(BulkheadEvents.DecisionMade.ACCEPTED);
+            ctx.fireEvent(BulkheadEvents.StartedRunning.INSTANCE);
+
+            Completer<V> result = Completer.create();
+            RunningStopwatch runningStopwatch = stopwatch.start();
+            Future<V> rawResult;
+            try {
+                rawResult = delegate.apply(ctx);
+            } catch (Throwable e) {
+                // an `Error` must release the in-flight slot too
+                rawResult = Future.ofError(e);
+            }
+            Future<V> delegateResult = rawResult;
+            result.onCancel(() -> {
+                delegateResult.cancel();
+                if (delegateResult.isCancelled()) {
+                    // the completion callback below is never called, the sample is not recorded
+                    inFlight.decrementAndGet();
+                    LOG.trace("Task cancelled, leaving bulkhead");
+                    ctx.fireEvent(BulkheadEvents.FinishedRunning.INSTANCE);
+                }
+            });
+            rawResult.then((value, error) -> {
+                inFlight.decrementAndGet();
+                ConcurrencyLimit.Outcome outcome;
+                if (error == null) {
+                    outcome = ConcurrencyLimit.Outcome.SUCCESS;
+                } else if (DROP_DECISION.isConsideredExpected(error)) {
+                    outcome = ConcurrencyLimit.Outcome.FAILURE;
+                } else {
+                    outcome = ConcurrencyLimit.Outcome.DROPPED;
+                }
+                limit.onSample(runningStopwatch.elapsedTimeInNanos(), inFlightAtStart, outcome);
+                LOG.trace("Task leaving bulkhead");
+                ctx.fireEvent(BulkheadEvents.FinishedRunning.INSTANCE);
+
+                if (error == null) {
+                    result.complete(value);
+                } else {
+                    result.completeWithError(error);
+                }
+            });
+            return result.future();
+        } finally {
+            LOG.trace("AdaptiveBulkhead finished");
+        }
+    }
+
+    // only for tests
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int currentLimit() {
+        return limit.currentLimit();
+    }
+}
@@ -0,0 +1,38 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+/**
+ * Additive increase, multiplicative decrease. The limit is increased by 1 after each successful
+ * invocation that was started while the bulkhead was at least half full, and multiplied by
+ * {@value #BACKOFF_RATIO} after each failed invocation. Round-trip times are ignored.
+ */
+final class AimdLimit implements ConcurrencyLimit {
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private volatile int limit;
+
+    AimdLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    @Override
+    public int currentLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(long rttInNanos, int inFlight, Outcome outcome) {
+        int currentLimit = limit;
+        if (outcome == Outcome.DROPPED) {
+            currentLimit = (int) (currentLimit * BACKOFF_RATIO);
+        } else if (inFlight * 2 >= currentLimit) {
+            // only increase the limit if it is actually being used
+            currentLimit++;
+        }
+        limit = Math.min(maxLimit, Math.max(minLimit, currentLimit));
+    }
+}
@@ -1,21 +1,33 @@
 package io.smallrye.faulttolerance.core.bulkhead;
 
 import static io.smallrye.faulttolerance.core.bulkhead.BulkheadLogger.LOG;
+import static io.smallrye.faulttolerance.core.util.Preconditions.check;
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
 
 import java.util.Deque;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
 
+import io.smallrye.faulttolerance.api.BulkheadPriority;
+import io.smallrye.faulttolerance.api.QueueDiscipline;
 import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.ContextKey;
 import io.smallrye.faulttolerance.core.FaultToleranceContext;
 import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
 import io.smallrye.faulttolerance.core.Future;
 import io.smallrye.faulttolerance.core.async.FutureCancellationEvent;
+import io.smallrye.faulttolerance.core.stopwatch.RunningStopwatch;
+import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
+import io.smallrye.faulttolerance.core.timeout.Deadline;
+import io.smallrye.faulttolerance.core.timer.Timer;
+import io.smallrye.faulttolerance.core.timer.TimerTask;
 
 /**
  * Unified bulkhead that behaves in a semaphore fashion for synchronous executions
@@ -28,24 +40,119 @@ import io.smallrye.faulttolerance.core.async.FutureCancellationEvent;
  * It also allows synchronous queueing, which is an implementation of a thread pool
  * bulkhead for pseudo-asynchronous invocations. Those are already offloaded to
  * an extra thread and so don't require proper queueing, just two semaphores.
+ * <p>
+ * Optionally, the time a task may spend waiting in the queue may be limited. For async
+ * executions, each queued task schedules a {@link Timer} task that removes it from the queue
+ * when it waits for too long. For synchronous queueing, the work semaphore is acquired
+ * with a timeout. In both cases, the expired task fails with {@link BulkheadException}.
+ * <p>
+ * The queue of async executions is FIFO by default, but other {@linkplain QueueDiscipline queue disciplines}
+ * may be used. They rely on detecting congestion the same way CoDel does: the queue is congested
+ * when each task taken out of the queue during at least {@code interval} has waited for at least
+ * {@code target}. The congestion state is shared by all threads taking tasks out of the queue
+ * and is only updated on a best-effort basis, which is fine, because it's a heuristic anyway.
+ * <p>
+ * The {@code CODEL} discipline also follows the CoDel control law. When the queue becomes congested,
+ * one task is dropped and the queue enters the dropping state. While in the dropping state, the next
+ * task is dropped {@code interval / sqrt(count)} after the previous drop, where {@code count} is
+ * the number of drops so far, so drops become more frequent while the congestion persists.
+ * The dropping state is left as soon as a task taken out of the queue has waited less than {@code target}.
+ * If the queue becomes congested again soon after, the drop count is not started from scratch.
+ * <p>
+ * Optionally, the bulkhead may distinguish {@linkplain BulkheadPriority priorities} of tasks, as stored
+ * in the {@link FaultToleranceContext}. In that case, part of the bulkhead capacity is reserved for higher
+ * priorities: a {@code NORMAL} task is only accepted if at least {@code reservedCapacity} permits remain
+ * available for {@code HIGH} tasks, and a {@code LOW} task is only accepted if at least {@code 2 * reservedCapacity}
+ * permits remain available. Hence, when the capacity runs out, {@code LOW} tasks are rejected first.
+ * Each priority also has a separate lane in the queue of async executions, and a task is only taken
+ * out of a lane if all lanes of higher priorities are empty.
  */
 public class Bulkhead<V> implements FaultToleranceStrategy<V> {
     private final FaultToleranceStrategy<V> delegate;
     private final String description;
 
-    private final Deque<BulkheadTask> queue;
+    // one lane per priority if `reservedCapacity > 0`, otherwise just one lane for all tasks
+    private final Deque<BulkheadTask>[] lanes;
     private final Semaphore capacitySemaphore;
     private final Semaphore workSemaphore;
     private final boolean syncQueueing;
 
+    // 0 means no limit
+    private final long maxQueueWaitInMillis;
+    private final Timer timer;
+
+    private final QueueDiscipline discipline;
+    private final long targetInMillis;
+    private final long intervalInMillis;
+    private final RunningStopwatch stopwatch;
+    // the time when the queue becomes congested, if the queue wait stays above target until then
+    private volatile long congestedAt = NOT_ABOVE_TARGET;
+    private static final long NOT_ABOVE_TARGET = -1;
+    // CoDel dropping state, only used with the `CODEL` discipline
+    private volatile boolean dropping;
+    private volatile int dropCount;
+    private volatile int lastDropCount;
+    private volatile long nextDropAt;
+
+    // 0 means all tasks have the same priority
+    private final int reservedCapacity;
+
+    private final boolean stacklessRejections;
+    private final String preventedMessage;
+    private final String rejectionMessage;
+    private final String droppedMessage;
+    private final String queueWaitExceededMessage;
+    private final String deadlineExceededMessage;
+    private final String cancelledWhileQueuedMessage;
+    private final String cancelledWhileRunningMessage;
+
     // `syncQueueing` may only be enabled if this bulkhead is executed on an extra thread
     public Bulkhead(FaultToleranceStrategy<V> delegate, String description, int size, int queueSize, boolean syncQueueing) {
+        this(delegate, description, size, queueSize, syncQueueing, new Options());
+    }
+
+    // `syncQueueing` may only be enabled if this bulkhead is executed on an extra thread
+    @SuppressWarnings("unchecked")
+    public Bulkhead(FaultToleranceStrategy<V> delegate, String description, int size, int queueSize, boolean syncQueueing,
+            Options options) {
         this.delegate = delegate;
         this.description = description;
-        this.queue = new ConcurrentLinkedDeque<>();
-        this.capacitySemaphore = new Semaphore(Math.addExact(size, queueSize), true);
+        checkNotNull(options, "Bulkhead options must be set");
+        int capacity = Math.addExact(size, queueSize);
+        this.reservedCapacity = check(options.reservedCapacity,
+                options.reservedCapacity >= 0 && 2L * options.reservedCapacity < capacity,
+                "Reserved capacity must be >= 0 and < " + capacity + " / 2");
+        this.lanes = new Deque[reservedCapacity > 0 ? BulkheadPriority.values().length : 1];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new ConcurrentLinkedDeque<>();
+        }
+        this.capacitySemaphore = new Semaphore(capacity, true);
         this.workSemaphore = new Semaphore(size, true);
         this.syncQueueing = syncQueueing;
+        this.maxQueueWaitInMillis = check(options.maxQueueWaitInMillis, options.maxQueueWaitInMillis >= 0,
+                "Max queue wait must be >= 0");
+        this.timer = maxQueueWaitInMillis > 0 ? checkNotNull(options.timer, "Timer must be set") : null;
+        this.discipline = checkNotNull(options.discipline, "Queue discipline must be set");
+        if (discipline != QueueDiscipline.FIFO) {
+            this.targetInMillis = check(options.targetInMillis, options.targetInMillis > 0,
+                    "Queue wait target must be > 0");
+            this.intervalInMillis = check(options.intervalInMillis, options.intervalInMillis > 0,
+                    "Congestion interval must be > 0");
+            this.stopwatch = checkNotNull(options.stopwatch, "Stopwatch must be set").start();
+        } else {
+            this.targetInMillis = 0;
+            this.intervalInMillis = 0;
+            this.stopwatch = null;
+        }
+        this.stacklessRejections = options.stacklessRejections;
+        this.preventedMessage = description + " invocation prevented by bulkhead";
+        this.rejectionMessage = description + " rejected from bulkhead";
+        this.droppedMessage = description + " invocation dropped from congested bulkhead queue";
+        this.queueWaitExceededMessage = description + " invocation waited in bulkhead queue for more than "
+                + maxQueueWaitInMillis + " ms";
+        this.deadlineExceededMessage = description + " invocation waited in bulkhead queue until its deadline";
+        this.cancelledWhileQueuedMessage = description + " invocation cancelled while waiting in bulkhead queue";
+        this.cancelledWhileRunningMessage = description + " invocation cancelled while running in bulkhead";
     }
 
     @Override
@@ -67,7 +174,7 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
     }
 
     private Future<V> applySync(FaultToleranceContext<V> ctx) {
-        if (capacitySemaphore.tryAcquire()) {
+        if (tryAcquireCapacity(lane(ctx))) {
             LOG.trace("Capacity semaphore acquired, accepting task into bulkhead");
             if (workSemaphore.tryAcquire()) {
                 LOG.trace("Work semaphore acquired, running task");
@@ -85,21 +192,19 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
             } else {
                 capacitySemaphore.release();
 
-                LOG.debugOrTrace(description + " invocation prevented by bulkhead",
-                        "Work semaphore not acquired, rejecting task from bulkhead");
+                LOG.debugOrTrace(preventedMessage, "Work semaphore not acquired, rejecting task from bulkhead");
                 ctx.fireEvent(BulkheadEvents.DecisionMade.REJECTED);
-                return Future.ofError(new BulkheadException(description + " rejected from bulkhead"));
+                return Future.ofError(rejection(rejectionMessage));
             }
         } else {
-            LOG.debugOrTrace(description + " invocation prevented by bulkhead",
-                    "Capacity semaphore not acquired, rejecting task from bulkhead");
+            LOG.debugOrTrace(preventedMessage, "Capacity semaphore not acquired, rejecting task from bulkhead");
             ctx.fireEvent(BulkheadEvents.DecisionMade.REJECTED);
-            return Future.ofError(new BulkheadException(description + " rejected from bulkhead"));
+            return Future.ofError(rejection(rejectionMessage));
         }
     }
 
     private Future<V> applySyncWithQueueing(FaultToleranceContext<V> ctx) {
-        if (capacitySemaphore.tryAcquire()) {
+        if (tryAcquireCapacity(lane(ctx))) {
             LOG.trace("Capacity semaphore acquired, accepting task into bulkhead");
             ctx.fireEvent(BulkheadEvents.DecisionMade.ACCEPTED);
             ctx.fireEvent(BulkheadEvents.StartedWaiting.INSTANCE);
@@ -125,8 +230,26 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
                 }
             });
 
+            // the queue wait is shortened if the deadline expires earlier
+            Deadline deadline = ctx.get(ContextKey.DEADLINE);
+            long deadlineWaitInMillis = deadline != null ? deadline.remainingMillis() : Long.MAX_VALUE;
+            boolean waitLimitedByDeadline = deadline != null
+                    && (maxQueueWaitInMillis == 0 || deadlineWaitInMillis < maxQueueWaitInMillis);
+
             try {
-                workSemaphore.acquire();
+                if (maxQueueWaitInMillis > 0 || waitLimitedByDeadline) {
+                    long waitInMillis = waitLimitedByDeadline ? deadlineWaitInMillis : maxQueueWaitInMillis;
+                    if (!workSemaphore.tryAcquire(waitInMillis, TimeUnit.MILLISECONDS)) {
+                        threadToCancel.set(null);
+
+                        capacitySemaphore.release();
+                        LOG.trace("Capacity semaphore released, task leaving bulkhead");
+                        ctx.fireEvent(BulkheadEvents.FinishedWaiting.INSTANCE);
+                        return Future.ofError(waitLimitedByDeadline ? Deadline.exceeded(description) : queueWaitExceeded());
+                    }
+                } else {
+                    workSemaphore.acquire();
+                }
                 LOG.trace("Work semaphore acquired, running task");
             } catch (InterruptedException e) {
                 threadToCancel.set(null);
@@ -156,29 +279,60 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
                 ctx.fireEvent(BulkheadEvents.FinishedRunning.INSTANCE);
             }
         } else {
-            LOG.debugOrTrace(description + " invocation prevented by bulkhead",
-                    "Capacity semaphore not acquired, rejecting task from bulkhead");
+            LOG.debugOrTrace(preventedMessage, "Capacity semaphore not acquired, rejecting task from bulkhead");
             ctx.fireEvent(BulkheadEvents.DecisionMade.REJECTED);
-            return Future.ofError(new BulkheadException(description + " rejected from bulkhead"));
+            return Future.ofError(rejection(rejectionMessage));
         }
     }
 
     private Future<V> applyAsync(FaultToleranceContext<V> ctx) {
-        if (capacitySemaphore.tryAcquire()) {
+        int lane = lane(ctx);
+        if (tryAcquireCapacity(lane)) {
             LOG.trace("Capacity semaphore acquired, accepting task into bulkhead");
             ctx.fireEvent(BulkheadEvents.DecisionMade.ACCEPTED);
             ctx.fireEvent(BulkheadEvents.StartedWaiting.INSTANCE);
 
-            BulkheadTask task = new BulkheadTask(ctx);
-            queue.addLast(task);
+            BulkheadTask task = new BulkheadTask(ctx, lanes[lane], ctx.get(ContextKey.DEADLINE));
+            if (stopwatch != null) {
+                task.enqueuedAt = stopwatch.elapsedTimeInMillis();
+            }
+            task.lane.addLast(task);
             runQueuedTask();
+            if (maxQueueWaitInMillis > 0 && !task.started) {
+                // scheduled after the task is enqueued, so that the timer task always finds it
+                // in the queue, unless it was already taken out to run (in which case it does nothing)
+                task.expiration = timer.schedule(maxQueueWaitInMillis, () -> expire(task));
+            }
             return task.result.future();
         } else {
-            LOG.debugOrTrace(description + " invocation prevented by bulkhead",
-                    "Capacity semaphore not acquired, rejecting task from bulkhead");
+            LOG.debugOrTrace(preventedMessage, "Capacity semaphore not acquired, rejecting task from bulkhead");
             ctx.fireEvent(BulkheadEvents.DecisionMade.REJECTED);
-            return Future.ofError(new BulkheadException(description + " rejected from bulkhead"));
+            return Future.ofError(rejection(rejectionMessage));
+        }
+    }
+
+    private int lane(FaultToleranceContext<V> ctx) {
+        if (reservedCapacity == 0) {
+            return 0;
         }
+        return ctx.get(BulkheadPriority.class, BulkheadPriority.NORMAL).ordinal();
+    }
+
+    private boolean tryAcquireCapacity(int lane) {
+        if (lane == 0) {
+            return capacitySemaphore.tryAcquire();
+        }
+
+        // the task may only take a permit if enough permits remain for all higher priorities,
+        // so we acquire the permits reserved for them too and give them back immediately;
+        // this keeps the reservation exact, at the cost of a short window during which
+        // a concurrent task of higher priority may be rejected when the bulkhead is nearly full
+        int reserve = lane * reservedCapacity;
+        if (capacitySemaphore.tryAcquire(1 + reserve)) {
+            capacitySemaphore.release(reserve);
+            return true;
+        }
+        return false;
     }
 
     private void runQueuedTask() {
@@ -194,8 +348,12 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
         do {
             loop = false;
             if (workSemaphore.tryAcquire()) {
-                BulkheadTask queuedTask = queue.pollFirst();
-                if (queuedTask != null) {
+                BulkheadTask queuedTask = pollQueuedTask();
+                if (queuedTask != null && queuedTask.deadline != null && queuedTask.deadline.isExpired()) {
+                    workSemaphore.release();
+                    expireByDeadline(queuedTask);
+                    loop = true;
+                } else if (queuedTask != null) {
                     LOG.trace("Work semaphore acquired, running task");
                     loop = queuedTask.run();
                 } else {
@@ -205,9 +363,127 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
         } while (loop);
     }
 
+    private BulkheadTask pollQueuedTask() {
+        for (Deque<BulkheadTask> queue : lanes) {
+            BulkheadTask task = pollQueuedTask(queue);
+            if (task != null) {
+                return task;
+            }
+        }
+        return null;
+    }
+
+    private BulkheadTask pollQueuedTask(Deque<BulkheadTask> queue) {
+        if (discipline == QueueDiscipline.ADAPTIVE_LIFO) {
+            BulkheadTask oldest = queue.peekFirst();
+            if (oldest == null) {
+                return null;
+            }
+            long now = stopwatch.elapsedTimeInMillis();
+            if (isCongested(now - oldest.enqueuedAt, now)) {
+                LOG.trace("Bulkhead queue congested, taking the newest task");
+                return queue.pollLast();
+            }
+            return queue.pollFirst();
+        } else if (discipline == QueueDiscipline.CODEL) {
+            while (true) {
+                BulkheadTask task = queue.pollFirst();
+                if (task == null) {
+                    return null;
+                }
+                long now = stopwatch.elapsedTimeInMillis();
+                boolean congested = isCongested(now - task.enqueuedAt, now);
+                if (dropping) {
+                    if (!congested) {
+                        LOG.trace("Bulkhead queue no longer congested, leaving dropping state");
+                        dropping = false;
+                        return task;
+                    }
+                    if (now < nextDropAt) {
+                        return task;
+                    }
+                    dropCount++;
+                    nextDropAt = nextDropAt(nextDropAt, dropCount);
+                    drop(task);
+                } else if (congested) {
+                    LOG.trace("Bulkhead queue congested, entering dropping state");
+                    int delta = dropCount - lastDropCount;
+                    // if the queue was in the dropping state recently, continue with the drop rate it had
+                    dropCount = delta > 1 && now - nextDropAt < 16 * intervalInMillis ? delta : 1;
+                    lastDropCount = dropCount;
+                    nextDropAt = nextDropAt(now, dropCount);
+                    dropping = true;
+                    drop(task);
+                } else {
+                    return task;
+                }
+            }
+        }
+        return queue.pollFirst();
+    }
+
+    private boolean isCongested(long queueWait, long now) {
+        if (queueWait < targetInMillis) {
+            congestedAt = NOT_ABOVE_TARGET;
+            return false;
+        }
+        long congestedAt = this.congestedAt;
+        if (congestedAt == NOT_ABOVE_TARGET) {
+            this.congestedAt = now + intervalInMillis;
+            return false;
+        }
+        return now >= congestedAt;
+    }
+
+    private long nextDropAt(long previous, int dropCount) {
+        return previous + (long) (intervalInMillis / Math.sqrt(dropCount));
+    }
+
+    private void drop(BulkheadTask task) {
+        task.started = true;
+        task.cancelExpiration();
+        capacitySemaphore.release();
+        LOG.debugOrTrace(droppedMessage, "Queue wait above target, removing task from bulkhead");
+        task.ctx.fireEvent(BulkheadEvents.FinishedWaiting.INSTANCE);
+        task.result.completeWithError(rejection(droppedMessage));
+    }
+
+    private void expire(BulkheadTask task) {
+        // if the task is no longer in the queue, it is already running or finished
+        if (task.lane.remove(task)) {
+            capacitySemaphore.release();
+            LOG.debugOrTrace(queueWaitExceededMessage, "Max queue wait exceeded, removing task from bulkhead");
+            task.ctx.fireEvent(BulkheadEvents.FinishedWaiting.INSTANCE);
+            task.result.completeWithError(queueWaitExceeded());
+        }
+    }
+
+    private void expireByDeadline(BulkheadTask task) {
+        task.started = true;
+        task.cancelExpiration();
+        capacitySemaphore.release();
+        LOG.debugOrTrace(deadlineExceededMessage, "Deadline exceeded, removing task from bulkhead");
+        task.ctx.fireEvent(BulkheadEvents.FinishedWaiting.INSTANCE);
+        task.result.completeWithError(Deadline.exceeded(description));
+    }
+
+    private BulkheadException queueWaitExceeded() {
+        return rejection(queueWaitExceededMessage);
+    }
+
+    private BulkheadException rejection(String message) {
+        return stacklessRejections
+                ? new StacklessBulkheadException(message)
+                : new BulkheadException(message);
+    }
+
     // only for tests
     int getQueueSize() {
-        return queue.size();
+        int result = 0;
+        for (Deque<BulkheadTask> queue : lanes) {
+            result += queue.size();
+        }
+        return result;
     }
 
     // only for tests
@@ -215,6 +491,50 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
         return capacitySemaphore.availablePermits();
     }
 
+    /**
+     * Optional settings of a {@link Bulkhead}. By default, the time spent in the queue is not limited,
+     * the queue is FIFO and all tasks have the same priority.
+     */
+    public static final class Options {
+        private long maxQueueWaitInMillis;
+        private Timer timer;
+        private QueueDiscipline discipline = QueueDiscipline.FIFO;
+        private long targetInMillis;
+        private long intervalInMillis;
+        private Stopwatch stopwatch;
+        private int reservedCapacity;
+        private boolean stacklessRejections;
+
+        // 0 means no limit, `timer` is only required if `maxQueueWaitInMillis > 0`
+        public Options maxQueueWait(long maxQueueWaitInMillis, Timer timer) {
+            this.maxQueueWaitInMillis = maxQueueWaitInMillis;
+            this.timer = timer;
+            return this;
+        }
+
+        // `discipline` only applies to the queue of async executions, synchronous queueing is always FIFO
+        // `targetInMillis`, `intervalInMillis` and `stopwatch` are only required if `discipline` is not `FIFO`
+        public Options queueDiscipline(QueueDiscipline discipline, long targetInMillis, long intervalInMillis,
+                Stopwatch stopwatch) {
+            this.discipline = discipline;
+            this.targetInMillis = targetInMillis;
+            this.intervalInMillis = intervalInMillis;
+            this.stopwatch = stopwatch;
+            return this;
+        }
+
+        // 0 means that priorities are ignored
+        public Options reservedCapacity(int reservedCapacity) {
+            this.reservedCapacity = reservedCapacity;
+            return this;
+        }
+
+        public Options stacklessRejections(boolean stacklessRejections) {
+            this.stacklessRejections = stacklessRejections;
+            return this;
+        }
+    }
+
     private class BulkheadTask {
         private static final int RUNNING = 0;
         private static final int COMPLETED_SYNC = 1;
@@ -222,10 +542,26 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
 
         private final Completer<V> result = Completer.create();
         private final FaultToleranceContext<V> ctx;
+        private final Deque<BulkheadTask> lane;
         private final AtomicInteger state = new AtomicInteger(RUNNING);
+        // may be `null`
+        private final Deadline deadline;
+
+        // only set when the queue discipline is not FIFO
+        private long enqueuedAt;
+        private volatile boolean started;
+        private volatile TimerTask expiration;
 
-        private BulkheadTask(FaultToleranceContext<V> ctx) {
+        // set once the task is running
+        private volatile Future<V> rawResult;
+        // the semaphores are released either on completion or on cancellation, but not both
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private BulkheadTask(FaultToleranceContext<V> ctx, Deque<BulkheadTask> lane, Deadline deadline) {
             this.ctx = ctx;
+            this.lane = lane;
+            this.deadline = deadline;
+            result.onCancel(this::cancel);
         }
 
         /**
@@ -233,14 +569,27 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
          *         should loop to process the next queued task (instead of recursing)
          */
         public boolean run() {
+            started = true;
+            cancelExpiration();
+
             ctx.fireEvent(BulkheadEvents.FinishedWaiting.INSTANCE);
+
+            if (result.future().isCancelled()) {
+                // cancelled while being taken out of the queue
+                finish();
+                return true;
+            }
+
             ctx.fireEvent(BulkheadEvents.StartedRunning.INSTANCE);
 
-            Future<V> rawResult;
             try {
-                rawResult = delegate.apply(ctx);
+                Future<V> rawResult = delegate.apply(ctx);
+                this.rawResult = rawResult;
                 rawResult.then((value, error) -> {
-                    releaseSemaphores();
+                    if (!finish()) {
+                        // cancelled concurrently, the next queued task was already started
+                        return;
+                    }
                     ctx.fireEvent(BulkheadEvents.FinishedRunning.INSTANCE);
 
                     if (error == null) {
@@ -253,9 +602,15 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
                         runQueuedTask();
                     }
                 });
+                if (result.future().isCancelled() && cancelRunning(rawResult)) {
+                    // cancelled concurrently, `cancel()` may not have seen `rawResult`
+                    return true;
+                }
                 return !state.compareAndSet(RUNNING, WILL_COMPLETE_ASYNC);
             } catch (Exception e) {
-                releaseSemaphores();
+                if (!finish()) {
+                    return false;
+                }
                 ctx.fireEvent(BulkheadEvents.FinishedRunning.INSTANCE);
 
                 result.completeWithError(e);
@@ -264,6 +619,49 @@ public class Bulkhead<V> implements FaultToleranceStrategy<V> {
             }
         }
 
+        private void cancel() {
+            // if the task is still in the queue, it has not started yet
+            if (lane.remove(this)) {
+                started = true;
+                cancelExpiration();
+                capacitySemaphore.release();
+                LOG.debugOrTrace(cancelledWhileQueuedMessage, "Task cancelled, removing task from bulkhead");
+                ctx.fireEvent(BulkheadEvents.FinishedWaiting.INSTANCE);
+                return;
+            }
+
+            Future<V> rawResult = this.rawResult;
+            if (rawResult != null && cancelRunning(rawResult)) {
+                runQueuedTask();
+            }
+        }
+
+        // returns whether the semaphores were released
+        private boolean cancelRunning(Future<V> rawResult) {
+            rawResult.cancel();
+            if (rawResult.isCancelled() && finish()) {
+                LOG.debugOrTrace(cancelledWhileRunningMessage, "Task cancelled, leaving bulkhead");
+                ctx.fireEvent(BulkheadEvents.FinishedRunning.INSTANCE);
+                return true;
+            }
+            return false;
+        }
+
+        private boolean finish() {
+            if (finished.compareAndSet(false, true)) {
+                releaseSemaphores();
+                return true;
+            }
+            return false;
+        }
+
+        private void cancelExpiration() {
+            TimerTask expiration = this.expiration;
+            if (expiration != null) {
+                expiration.cancel();
+            }
+        }
+
         private void releaseSemaphores() {
             workSemaphore.release();
             LOG.trace("Work semaphore released, task finished");
@@ -0,0 +1,49 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+public interface ConcurrencyLimit {
+    /**
+     * Returns the current concurrency limit. The result is always between the minimum
+     * and maximum limit this concurrency limit was created with.
+     *
+     * @return the current concurrency limit
+     */
+    int currentLimit();
+
+    /**
+     * Records a finished invocation and possibly adjusts the concurrency limit.
+     *
+     * @param rttInNanos the round-trip time of the invocation, in nanoseconds
+     * @param inFlight the number of invocations that were in flight when the invocation started,
+     *        including the invocation itself
+     * @param outcome the outcome of the invocation
+     */
+    void onSample(long rttInNanos, int inFlight, Outcome outcome);
+
+    enum Outcome {
+        /**
+         * The invocation succeeded.
+         */
+        SUCCESS,
+        /**
+         * The invocation failed with an exception that says nothing about the capacity
+         * of the guarded resource.
+         */
+        FAILURE,
+        /**
+         * The invocation failed in a way that signals overload.
+         */
+        DROPPED,
+    }
+
+    static ConcurrencyLimit createAimd(int initialLimit, int minLimit, int maxLimit) {
+        return new AimdLimit(initialLimit, minLimit, maxLimit);
+    }
+
+    static ConcurrencyLimit createGradient2(int initialLimit, int minLimit, int maxLimit) {
+        return new Gradient2Limit(initialLimit, minLimit, maxLimit);
+    }
+
+    static ConcurrencyLimit createVegas(int initialLimit, int minLimit, int maxLimit) {
+        return new VegasLimit(initialLimit, minLimit, maxLimit);
+    }
+}
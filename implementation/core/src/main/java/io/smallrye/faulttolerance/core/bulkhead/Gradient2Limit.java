@@ -0,0 +1,73 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+/**
+ * Compares the round-trip time of the last invocation (short-term RTT) with an exponential moving
+ * average of round-trip times (long-term RTT). When the short-term RTT grows above the long-term RTT,
+ * the limit is decreased proportionally. When the RTTs are similar, the limit is increased by a queue
+ * allowance of {@code sqrt(limit)}. Changes of the limit are smoothed, so that a single outlier
+ * doesn't have much effect.
+ * <p>
+ * When the long-term RTT is much higher than the short-term RTT (that is, after an overload is resolved),
+ * the long-term RTT is decayed faster, so that the limit can grow again quickly.
+ * <p>
+ * A dropped invocation is a sign of overload, so the limit is multiplied by {@value #BACKOFF_RATIO}.
+ * The round-trip time of a dropped invocation is not representative and is ignored.
+ */
+final class Gradient2Limit implements ConcurrencyLimit {
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final int LONG_WINDOW = 600;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private volatile int limit;
+
+    private double estimatedLimit;
+    private double longRtt;
+
+    Gradient2Limit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    @Override
+    public int currentLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(long rttInNanos, int inFlight, Outcome outcome) {
+        if (outcome == Outcome.DROPPED) {
+            estimatedLimit = Math.max(minLimit, estimatedLimit * BACKOFF_RATIO);
+            limit = (int) estimatedLimit;
+            return;
+        }
+
+        double shortRtt = Math.max(rttInNanos, 1);
+        if (longRtt == 0.0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt += (shortRtt - longRtt) / LONG_WINDOW;
+        }
+
+        if (longRtt / shortRtt > 2.0) {
+            // recovering from an overload, let the long-term RTT catch up
+            longRtt *= 0.95;
+        }
+
+        if (inFlight < estimatedLimit / 2) {
+            // the bulkhead is not being used to its full potential, so the RTT tells nothing about the limit
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        estimatedLimit = Math.min(maxLimit, Math.max(minLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,386 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+import static io.smallrye.faulttolerance.core.bulkhead.BulkheadLogger.LOG;
+import static io.smallrye.faulttolerance.core.util.Preconditions.check;
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.ContextKey;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.timeout.Deadline;
+
+/**
+ * Lock-free variant of {@link Bulkhead} without synchronous queueing. Behaves in a semaphore fashion
+ * for synchronous executions and in a thread pool fashion for asynchronous executions.
+ * <p>
+ * The number of running and queued tasks is packed into a single {@code AtomicLong}, so accepting
+ * or rejecting a task is a single CAS. Queued async tasks are kept in an intrusive multi-producer
+ * single-consumer queue. The queue is only ever consumed by one thread at a time: whenever a task
+ * is enqueued or a running task finishes, the thread that observes it increments a work-in-progress
+ * counter and only the thread that incremented it from zero drains the queue, looping until no more
+ * work was signalled in the meantime. This guarantees that a queued task is never left behind
+ * while there's a free work permit (no lost wake-ups), and it also avoids unbounded recursion
+ * when tasks complete synchronously.
+ * <p>
+ * A task that is cancelled while queued gives up its capacity immediately, but it can't be unlinked
+ * from the lock-free queue, so it stays there until the drainer reaches and skips it.
+ * <p>
+ * Queued tasks are started in FIFO order. A synchronous execution may take a free work permit
+ * while async tasks are queued, just like with {@link Bulkhead}.
+ * <p>
+ * An invocation whose {@linkplain ContextKey#DEADLINE deadline} has already expired is not accepted
+ * into the bulkhead, and a queued task whose deadline expires before it can start is removed
+ * from the queue without running.
+ */
+public class LockFreeBulkhead<V> implements FaultToleranceStrategy<V> {
+    // running tasks in the high 32 bits, queued tasks in the low 32 bits
+    private static final long RUNNING_ONE = 1L << 32;
+    private static final long QUEUED_ONE = 1L;
+    private static final long QUEUED_MASK = RUNNING_ONE - 1;
+
+    // states of a queued task
+    private static final int QUEUED = 0;
+    private static final int CLAIMED = 1;
+    private static final int CANCELLED = 2;
+
+    private final FaultToleranceStrategy<V> delegate;
+    private final String description;
+
+    private final int size;
+    private final int capacity;
+
+    private final boolean stacklessRejections;
+    private final String preventedMessage;
+    private final String rejectionMessage;
+    private final String deadlineExceededMessage;
+    private final String cancelledWhileQueuedMessage;
+    private final String cancelledWhileRunningMessage;
+
+    private final AtomicLong state = new AtomicLong();
+
+    // intrusive MPSC queue of `BulkheadTask`s, `head` is a stub node that is only accessed by the drainer
+    private final AtomicReference<BulkheadTask> tail;
+    private BulkheadTask head;
+    // a task that was taken from the queue, but couldn't be started yet; only accessed by the drainer
+    private BulkheadTask pending;
+
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    public LockFreeBulkhead(FaultToleranceStrategy<V> delegate, String description, int size, int queueSize) {
+        this(delegate, description, size, queueSize, false);
+    }
+
+    public LockFreeBulkhead(FaultToleranceStrategy<V> delegate, String description, int size, int queueSize,
+            boolean stacklessRejections) {
+        this.delegate = checkNotNull(delegate, "Bulkhead delegate must be set");
+        this.description = checkNotNull(description, "Bulkhead description must be set");
+        this.size = check(size, size > 0, "Bulkhead size must be > 0");
+        check(queueSize, queueSize >= 0, "Bulkhead queue size must be >= 0");
+        this.capacity = Math.addExact(size, queueSize);
+        this.stacklessRejections = stacklessRejections;
+        this.preventedMessage = description + " invocation prevented by bulkhead";
+        this.rejectionMessage = description + " rejected from bulkhead";
+        this.deadlineExceededMessage = description + " invocation waited in bulkhead queue until its deadline";
+        this.cancelledWhileQueuedMessage = description + " invocation cancelled while waiting in bulkhead queue";
+        this.cancelledWhileRunningMessage = description + " invocation cancelled while running in bulkhead";
+
+        BulkheadTask stub = new BulkheadTask(null, null);
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+    }
+
+    @Override
+    public Future<V> apply(FaultToleranceContext<V> ctx) {
+        LOG.trace("LockFreeBulkhead started");
+        try {
+            Deadline deadline = ctx.get(ContextKey.DEADLINE);
+            if (deadline != null && deadline.isExpired()) {
+                LOG.debugf("%s invocation not started, deadline exceeded", description);
+                return Future.ofError(Deadline.exceeded(description));
+            }
+
+            if (ctx.isSync()) {
+                return applySync(ctx);
+            } else {
+                return applyAsync(ctx, deadline);
+            }
+        } finally {
+            LOG.trace("LockFreeBulkhead finished");
+        }
+    }
+
+    private Future<V> applySync(FaultToleranceContext<V> ctx) {
+        long current;
+        do {
+            current = state.get();
+            if (running(current) >= size || running(current) + queued(current) >= capacity) {
+                LOG.debugOrTrace(preventedMessage, "No free work permit, rejecting task from bulkhead");
+                ctx.fireEvent(BulkheadEvents.DecisionMade.REJECTED);
+                return Future.ofError(rejection());
+            }
+        } while (!state.compareAndSet(current, current + RUNNING_ONE));
+
+        LOG.trace("Work permit acquired, running task");
+        ctx.fireEvent(BulkheadEvents.DecisionMade.ACCEPTED);
+        ctx.fireEvent(BulkheadEvents.StartedRunning.INSTANCE);
+        try {
+            return delegate.apply(ctx);
+        } finally {
+            releaseWorkPermit();
+            ctx.fireEvent(BulkheadEvents.FinishedRunning.INSTANCE);
+        }
+    }
+
+    private Future<V> applyAsync(FaultToleranceContext<V> ctx, Deadline deadline) {
+        long current;
+        do {
+            current = state.get();
+            if (running(current) + queued(current) >= capacity) {
+                LOG.debugOrTrace(preventedMessage, "No free capacity, rejecting task from bulkhead");
+                ctx.fireEvent(BulkheadEvents.DecisionMade.REJECTED);
+                return Future.ofError(rejection());
+            }
+        } while (!state.compareAndSet(current, current + QUEUED_ONE));
+
+        LOG.trace("Capacity acquired, accepting task into bulkhead");
+        ctx.fireEvent(BulkheadEvents.DecisionMade.ACCEPTED);
+        ctx.fireEvent(BulkheadEvents.StartedWaiting.INSTANCE);
+
+        BulkheadTask task = new BulkheadTask(ctx, deadline);
+        enqueue(task);
+        drain();
+        return task.result.future();
+    }
+
+    private BulkheadException rejection() {
+        return stacklessRejections
+                ? new StacklessBulkheadException(rejectionMessage)
+                : new BulkheadException(rejectionMessage);
+    }
+
+    private void releaseWorkPermit() {
+        long current = state.addAndGet(-RUNNING_ONE);
+        LOG.trace("Work permit released, task leaving bulkhead");
+        if (queued(current) > 0) {
+            drain();
+        }
+    }
+
+    private void enqueue(BulkheadTask task) {
+        BulkheadTask previous = tail.getAndSet(task);
+        // between the `getAndSet` above and this write, the consumer may see the queue as empty;
+        // that's fine, because `drain()` is always called after `enqueue()`
+        previous.next = task;
+    }
+
+    // only called by the drainer
+    private BulkheadTask dequeue() {
+        BulkheadTask next = head.next;
+        if (next == null) {
+            return null;
+        }
+        // `next` becomes the new stub
+        head = next;
+        return next;
+    }
+
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            // another thread is draining the queue, it will notice the request
+            return;
+        }
+
+        int requests = 1;
+        do {
+            while (true) {
+                BulkheadTask task = pending;
+                if (task == null) {
+                    task = dequeue();
+                    if (task == null) {
+                        break;
+                    }
+                }
+                if (!task.claim()) {
+                    // cancelled while queued, its capacity was already released
+                    pending = null;
+                    continue;
+                }
+                if (task.deadline != null && task.deadline.isExpired()) {
+                    pending = null;
+                    expireByDeadline(task);
+                    continue;
+                }
+                if (!tryStartQueued()) {
+                    // no free work permit, a task that finishes later will request draining again
+                    task.unclaim();
+                    pending = task;
+                    break;
+                }
+                pending = null;
+                LOG.trace("Work permit acquired, running task");
+                task.run();
+            }
+            requests = drainRequests.addAndGet(-requests);
+        } while (requests != 0);
+    }
+
+    // only called by the drainer
+    private void expireByDeadline(BulkheadTask task) {
+        state.addAndGet(-QUEUED_ONE);
+        LOG.debugOrTrace(deadlineExceededMessage, "Deadline exceeded, removing task from bulkhead");
+        task.ctx.fireEvent(BulkheadEvents.FinishedWaiting.INSTANCE);
+        task.result.completeWithError(Deadline.exceeded(description));
+    }
+
+    private boolean tryStartQueued() {
+        long current;
+        do {
+            current = state.get();
+            if (running(current) >= size) {
+                return false;
+            }
+        } while (!state.compareAndSet(current, current + RUNNING_ONE - QUEUED_ONE));
+        return true;
+    }
+
+    private static int running(long state) {
+        return (int) (state >>> 32);
+    }
+
+    private static int queued(long state) {
+        return (int) (state & QUEUED_MASK);
+    }
+
+    // only for tests
+    int getQueueSize() {
+        return queued(state.get());
+    }
+
+    // only for tests
+    int getRunning() {
+        return running(state.get());
+    }
+
+    private class BulkheadTask {
+        private final Completer<V> result = Completer.create();
+        private final FaultToleranceContext<V> ctx;
+        private final Deadline deadline;
+
+        private volatile BulkheadTask next;
+
+        // the drainer claims the task before taking it out of the queue, so that it isn't concurrently
+        // removed by cancellation; a task that was cancelled while queued is never claimed
+        private final AtomicInteger queueState = new AtomicInteger(QUEUED);
+
+        // set once the task is running
+        private volatile Future<V> rawResult;
+        // the work permit is released either on completion or on cancellation, but not both
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private BulkheadTask(FaultToleranceContext<V> ctx, Deadline deadline) {
+            this.ctx = ctx;
+            this.deadline = deadline;
+            if (ctx != null) {
+                result.onCancel(this::cancel);
+            }
+        }
+
+        // only called by the drainer
+        boolean claim() {
+            return queueState.compareAndSet(QUEUED, CLAIMED);
+        }
+
+        // only called by the drainer, when the claimed task couldn't be started
+        void unclaim() {
+            queueState.set(QUEUED);
+            if (result.future().isCancelled()) {
+                // cancelled while claimed, `cancel()` couldn't release the capacity
+                cancelQueued();
+            }
+        }
+
+        void run() {
+            ctx.fireEvent(BulkheadEvents.FinishedWaiting.INSTANCE);
+
+            if (result.future().isCancelled()) {
+                finish();
+                return;
+            }
+
+            ctx.fireEvent(BulkheadEvents.StartedRunning.INSTANCE);
+
+            try {
+                Future<V> rawResult = delegate.apply(ctx);
+                this.rawResult = rawResult;
+                rawResult.then((value, error) -> {
+                    if (!finish()) {
+                        return;
+                    }
+                    ctx.fireEvent(BulkheadEvents.FinishedRunning.INSTANCE);
+
+                    if (error == null) {
+                        result.complete(value);
+                    } else {
+                        result.completeWithError(error);
+                    }
+                });
+                if (result.future().isCancelled()) {
+                    // cancelled concurrently, `cancel()` may not have seen `rawResult`
+                    cancelRunning(rawResult);
+                }
+            } catch (Exception e) {
+                if (!finish()) {
+                    return;
+                }
+                ctx.fireEvent(BulkheadEvents.FinishedRunning.INSTANCE);
+
+                result.completeWithError(e);
+            }
+        }
+
+        private void cancel() {
+            if (cancelQueued()) {
+                return;
+            }
+            Future<V> rawResult = this.rawResult;
+            if (rawResult != null) {
+                cancelRunning(rawResult);
+            }
+        }
+
+        private boolean cancelQueued() {
+            if (queueState.compareAndSet(QUEUED, CANCELLED)) {
+                state.addAndGet(-QUEUED_ONE);
+                LOG.debugOrTrace(cancelledWhileQueuedMessage, "Task cancelled, removing task from bulkhead");
+                ctx.fireEvent(BulkheadEvents.FinishedWaiting.INSTANCE);
+                return true;
+            }
+            return false;
+        }
+
+        private void cancelRunning(Future<V> rawResult) {
+            rawResult.cancel();
+            if (rawResult.isCancelled() && finish()) {
+                LOG.debugOrTrace(cancelledWhileRunningMessage, "Task cancelled, leaving bulkhead");
+                ctx.fireEvent(BulkheadEvents.FinishedRunning.INSTANCE);
+            }
+        }
+
+        private boolean finish() {
+            if (finished.compareAndSet(false, true)) {
+                releaseWorkPermit();
+                return true;
+            }
+            return false;
+        }
+    }
+}
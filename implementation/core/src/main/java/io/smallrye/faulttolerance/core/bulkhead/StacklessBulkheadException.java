@@ -0,0 +1,20 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+
+// thrown instead of `BulkheadException` when stackless rejections are enabled
+//
+// rejections happen in bulk when a guarded service is overloaded, which is exactly when the extra cost
+// hurts the most; capturing the stack trace is the most expensive part of rejecting an invocation,
+// and it is useless anyway, because the cause of the rejection is the state of the strategy, not the code
+// path that led to it; the same applies to `StacklessCircuitBreakerOpenException` and `StacklessRateLimitException`
+final class StacklessBulkheadException extends BulkheadException {
+    StacklessBulkheadException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,87 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Estimates the queue size at the downstream from the minimum round-trip time observed so far
+ * (the no-load RTT) and the RTT of the last invocation: {@code queue = limit * (1 - noLoadRtt / rtt)}.
+ * When the estimated queue is small, the limit is increased; when it is large, the limit is decreased.
+ * The thresholds are proportional to {@code log10(limit)}. After a dropped invocation, the limit is
+ * always decreased. Invocations that failed for other reasons are ignored, because their RTT doesn't
+ * say anything about the downstream.
+ * <p>
+ * The no-load RTT only ever goes down, so a single outlier could make all further invocations look
+ * queued. To recover from that, the no-load RTT is periodically reset to the RTT of the last invocation.
+ * This happens after roughly {@code 30 * limit} samples, with some jitter.
+ */
+final class VegasLimit implements ConcurrencyLimit {
+    private static final int ALPHA = 3;
+    private static final int BETA = 6;
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private volatile int limit;
+
+    private long noLoadRtt = Long.MAX_VALUE;
+    private long probeCount = 0;
+    private double probeJitter = nextProbeJitter();
+
+    VegasLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    @Override
+    public int currentLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(long rttInNanos, int inFlight, Outcome outcome) {
+        if (outcome == Outcome.FAILURE) {
+            return;
+        }
+
+        long rtt = Math.max(rttInNanos, 1);
+
+        probeCount++;
+        if (probeCount >= PROBE_MULTIPLIER * limit * probeJitter) {
+            probeCount = 0;
+            probeJitter = nextProbeJitter();
+            noLoadRtt = rtt;
+            return;
+        }
+
+        if (rtt < noLoadRtt) {
+            noLoadRtt = rtt;
+        }
+
+        int currentLimit = limit;
+        int log10 = Math.max(1, (int) Math.log10(currentLimit));
+        int queue = (int) Math.ceil(currentLimit * (1.0 - (double) noLoadRtt / rtt));
+
+        int newLimit;
+        if (outcome == Outcome.DROPPED) {
+            newLimit = currentLimit - log10;
+        } else if (inFlight * 2 < currentLimit) {
+            // the bulkhead is not being used to its full potential, so the RTT tells nothing about the limit
+            return;
+        } else if (queue <= log10) {
+            newLimit = currentLimit + BETA * log10;
+        } else if (queue < ALPHA * log10) {
+            newLimit = currentLimit + log10;
+        } else if (queue > BETA * log10) {
+            newLimit = currentLimit - log10;
+        } else {
+            return;
+        }
+        limit = Math.min(maxLimit, Math.max(minLimit, newLimit));
+    }
+
+    private static double nextProbeJitter() {
+        return ThreadLocalRandom.current().nextDouble(0.5, 1.0);
+    }
+}
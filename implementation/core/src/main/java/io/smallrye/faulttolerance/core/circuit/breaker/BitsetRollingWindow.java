@@ -2,7 +2,7 @@ package io.smallrye.faulttolerance.core.circuit.breaker;
 
 import java.util.BitSet;
 
-final class BitsetRollingWindow implements RollingWindow {
+public final class BitsetRollingWindow implements RollingWindow {
     private final BitSet failures;
     private final int size;
     private final int failureThreshold;
@@ -10,7 +10,7 @@ final class BitsetRollingWindow implements RollingWindow {
     private int index = 0;
     private long counter = 0; // long to avoid int overflow
 
-    BitsetRollingWindow(int size, int failureThreshold) {
+    public BitsetRollingWindow(int size, int failureThreshold) {
         this.failures = new BitSet(size);
         this.size = size;
         this.failureThreshold = failureThreshold;
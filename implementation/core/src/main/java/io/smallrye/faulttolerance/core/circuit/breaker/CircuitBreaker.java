@@ -31,14 +31,33 @@ public class CircuitBreaker<V> implements FaultToleranceStrategy<V> {
     private final int rollingWindowSize;
     private final int failureThreshold;
     private final int successThreshold;
+    private final double failureRatio;
+    private final long timeWindowInMillis;
+    private final int timeWindowBuckets;
+    private final long slowCallThresholdInMillis;
+    private final double slowCallRatio;
+    private final int slowCallCountThreshold;
+    private final RunningStopwatch slowCallClock; // `null` if slow calls are not tracked
     private final Stopwatch stopwatch;
     private final Timer timer;
 
+    private final boolean stacklessRejections;
+    private final String preventedMessage;
+    private final String openMessage;
+    private final String halfOpenMessage;
+
     private final AtomicReference<State> state;
 
     public CircuitBreaker(FaultToleranceStrategy<V> delegate, String description, ExceptionDecision exceptionDecision,
             long delayInMillis, int requestVolumeThreshold, double failureRatio, int successThreshold,
             Stopwatch stopwatch, Timer timer) {
+        this(delegate, description, exceptionDecision, delayInMillis, requestVolumeThreshold, failureRatio,
+                successThreshold, stopwatch, timer, new Options());
+    }
+
+    public CircuitBreaker(FaultToleranceStrategy<V> delegate, String description, ExceptionDecision exceptionDecision,
+            long delayInMillis, int requestVolumeThreshold, double failureRatio, int successThreshold,
+            Stopwatch stopwatch, Timer timer, Options options) {
         this.delegate = checkNotNull(delegate, "Circuit breaker delegate must be set");
         this.description = checkNotNull(description, "Circuit breaker description must be set");
         this.exceptionDecision = checkNotNull(exceptionDecision, "Exception decision must be set");
@@ -46,13 +65,84 @@ public class CircuitBreaker<V> implements FaultToleranceStrategy<V> {
         this.successThreshold = check(successThreshold, successThreshold > 0, "Circuit breaker success threshold must be > 0");
         this.stopwatch = checkNotNull(stopwatch, "Stopwatch must be set");
         this.timer = checkNotNull(timer, "Timer must be set");
+        checkNotNull(options, "Circuit breaker options must be set");
+        this.stacklessRejections = options.stacklessRejections;
+        this.preventedMessage = description + " invocation prevented by circuit breaker";
+        this.openMessage = description + " circuit breaker is open";
+        this.halfOpenMessage = description + " circuit breaker is half-open";
         this.failureThreshold = check((int) Math.ceil(failureRatio * requestVolumeThreshold),
                 failureRatio >= 0.0 && failureRatio <= 1.0,
                 "Circuit breaker rolling window failure ratio must be >= 0 && <= 1");
         this.rollingWindowSize = check(requestVolumeThreshold, requestVolumeThreshold > 0,
                 "Circuit breaker rolling window size must be > 0");
+        this.failureRatio = failureRatio;
+        this.timeWindowInMillis = options.timeWindowInMillis;
+        if (timeWindowInMillis > 0) {
+            this.timeWindowBuckets = check(options.timeWindowBuckets,
+                    options.timeWindowBuckets > 0 && options.timeWindowBuckets <= timeWindowInMillis,
+                    "Circuit breaker time window buckets must be > 0 && <= time window length in millis");
+        } else {
+            this.timeWindowBuckets = 0;
+        }
+        this.slowCallThresholdInMillis = check(options.slowCallThresholdInMillis, options.slowCallThresholdInMillis >= 0,
+                "Circuit breaker slow call threshold must be >= 0");
+        if (slowCallThresholdInMillis > 0) {
+            this.slowCallRatio = check(options.slowCallRatio, options.slowCallRatio >= 0.0 && options.slowCallRatio <= 1.0,
+                    "Circuit breaker slow call ratio must be >= 0 && <= 1");
+            this.slowCallCountThreshold = (int) Math.ceil(slowCallRatio * requestVolumeThreshold);
+            // a single running stopwatch is shared by all invocations, which only read the current time
+            this.slowCallClock = stopwatch.start();
+        } else {
+            this.slowCallRatio = 0.0;
+            this.slowCallCountThreshold = 0;
+            this.slowCallClock = null;
+        }
 
-        this.state = new AtomicReference<>(State.closed(rollingWindowSize, failureThreshold));
+        this.state = new AtomicReference<>(State.closed(createRollingWindow(), createSlowCallWindow()));
+    }
+
+    /**
+     * Optional settings of a {@link CircuitBreaker}. By default, the circuit breaker uses a count-based
+     * rolling window and doesn't track slow calls.
+     */
+    public static final class Options {
+        private long timeWindowInMillis;
+        private int timeWindowBuckets;
+        private long slowCallThresholdInMillis;
+        private double slowCallRatio;
+        private boolean stacklessRejections;
+
+        /**
+         * The circuit breaker uses a time-based rolling window of given length divided into {@code buckets}
+         * buckets. The {@code requestVolumeThreshold} is then the minimum number of calls in the time window
+         * that is required to evaluate the failure ratio.
+         */
+        public Options timeWindow(long timeWindowInMillis, int buckets) {
+            this.timeWindowInMillis = timeWindowInMillis;
+            this.timeWindowBuckets = buckets;
+            return this;
+        }
+
+        /**
+         * Calls that take longer than {@code thresholdInMillis} are considered slow, regardless of whether
+         * they succeed or fail. Slow calls are tracked in a separate rolling window of the same kind and
+         * the circuit breaker also opens when the ratio of slow calls reaches {@code ratio}. In the half-open
+         * state, a slow probe call moves the circuit breaker back to open.
+         */
+        public Options slowCalls(long thresholdInMillis, double ratio) {
+            this.slowCallThresholdInMillis = thresholdInMillis;
+            this.slowCallRatio = ratio;
+            return this;
+        }
+
+        /**
+         * The {@link CircuitBreakerOpenException}s thrown when the circuit breaker prevents an invocation
+         * don't capture the stack trace.
+         */
+        public Options stacklessRejections(boolean stacklessRejections) {
+            this.stacklessRejections = stacklessRejections;
+            return this;
+        }
     }
 
     @Override
@@ -80,40 +170,58 @@ public class CircuitBreaker<V> implements FaultToleranceStrategy<V> {
 
             Completer<V> result = Completer.create();
 
-            delegate.apply(ctx).then((value, error) -> {
+            long startTime = startTime();
+            Future<V> delegateResult = delegate.apply(ctx);
+            // a cancelled invocation is neither a success nor a failure
+            result.onCancel(delegateResult::cancel);
+            delegateResult.then((value, error) -> {
                 if (error == null) {
-                    inClosedHandleResult(true, ctx, state);
+                    inClosedHandleResult(true, isSlow(startTime), ctx, state);
                     result.complete(value);
                 } else {
-                    inClosedHandleResult(exceptionDecision.isConsideredExpected(error), ctx, state);
+                    inClosedHandleResult(exceptionDecision.isConsideredExpected(error), isSlow(startTime), ctx, state);
                     result.completeWithError(error);
                 }
             });
 
             return result.future();
         } catch (Throwable e) {
-            inClosedHandleResult(exceptionDecision.isConsideredExpected(e), ctx, state);
+            inClosedHandleResult(exceptionDecision.isConsideredExpected(e), false, ctx, state);
             return Future.ofError(e);
         }
     }
 
-    private void inClosedHandleResult(boolean isSuccess, FaultToleranceContext<V> ctx, State state) {
+    private void inClosedHandleResult(boolean isSuccess, boolean isSlow, FaultToleranceContext<V> ctx, State state) {
         ctx.fireEvent(isSuccess ? CircuitBreakerEvents.Finished.SUCCESS : CircuitBreakerEvents.Finished.FAILURE);
         boolean failureThresholdReached = isSuccess
                 ? state.rollingWindow.recordSuccess()
                 : state.rollingWindow.recordFailure();
+        boolean slowCallThresholdReached = false;
+        if (state.slowCallWindow != null) {
+            slowCallThresholdReached = isSlow
+                    ? state.slowCallWindow.recordFailure()
+                    : state.slowCallWindow.recordSuccess();
+        }
         if (failureThresholdReached) {
             LOG.trace("Failure threshold reached, circuit breaker moving to open");
             toOpen(ctx, state);
+        } else if (slowCallThresholdReached) {
+            LOG.trace("Slow call threshold reached, circuit breaker moving to open");
+            toOpen(ctx, state);
         }
     }
 
+    private CircuitBreakerOpenException rejection(String message) {
+        return stacklessRejections
+                ? new StacklessCircuitBreakerOpenException(message)
+                : new CircuitBreakerOpenException(message);
+    }
+
     private Future<V> inOpen(FaultToleranceContext<V> ctx, State state) {
         if (state.runningStopwatch.elapsedTimeInMillis() < delayInMillis) {
-            LOG.debugOrTrace(description + " invocation prevented by circuit breaker",
-                    "Circuit breaker open, invocation prevented");
+            LOG.debugOrTrace(preventedMessage, "Circuit breaker open, invocation prevented");
             ctx.fireEvent(CircuitBreakerEvents.Finished.PREVENTED);
-            return Future.ofError(new CircuitBreakerOpenException(description + " circuit breaker is open"));
+            return Future.ofError(rejection(openMessage));
         } else {
             LOG.trace("Delay elapsed synchronously, circuit breaker moving to half-open");
             toHalfOpen(ctx, state);
@@ -133,10 +241,9 @@ public class CircuitBreaker<V> implements FaultToleranceStrategy<V> {
 
     private Future<V> inHalfOpen(FaultToleranceContext<V> ctx, State state) {
         if (state.probeAttempts.incrementAndGet() > successThreshold) {
-            LOG.debugOrTrace(description + " invocation prevented by circuit breaker",
-                    "Circuit breaker half-open, invocation prevented");
+            LOG.debugOrTrace(preventedMessage, "Circuit breaker half-open, invocation prevented");
             ctx.fireEvent(CircuitBreakerEvents.Finished.PREVENTED);
-            return Future.ofError(new CircuitBreakerOpenException(description + " circuit breaker is half-open"));
+            return Future.ofError(rejection(halfOpenMessage));
         }
 
         try {
@@ -144,26 +251,39 @@ public class CircuitBreaker<V> implements FaultToleranceStrategy<V> {
 
             Completer<V> result = Completer.create();
 
-            delegate.apply(ctx).then((value, error) -> {
+            long startTime = startTime();
+            Future<V> delegateResult = delegate.apply(ctx);
+            result.onCancel(() -> {
+                delegateResult.cancel();
+                if (delegateResult.isCancelled()) {
+                    // the probe result will never be recorded, so another probe must be allowed
+                    LOG.trace("Probe invocation cancelled, releasing probe attempt");
+                    state.probeAttempts.decrementAndGet();
+                }
+            });
+            delegateResult.then((value, error) -> {
                 if (error == null) {
-                    inHalfOpenHandleResult(true, ctx, state);
+                    inHalfOpenHandleResult(true, isSlow(startTime), ctx, state);
                     result.complete(value);
                 } else {
-                    inHalfOpenHandleResult(exceptionDecision.isConsideredExpected(error), ctx, state);
+                    inHalfOpenHandleResult(exceptionDecision.isConsideredExpected(error), isSlow(startTime), ctx, state);
                     result.completeWithError(error);
                 }
             });
 
             return result.future();
         } catch (Throwable e) {
-            inHalfOpenHandleResult(exceptionDecision.isConsideredExpected(e), ctx, state);
+            inHalfOpenHandleResult(exceptionDecision.isConsideredExpected(e), false, ctx, state);
             return Future.ofError(e);
         }
     }
 
-    private void inHalfOpenHandleResult(boolean isSuccess, FaultToleranceContext<V> ctx, State state) {
+    private void inHalfOpenHandleResult(boolean isSuccess, boolean isSlow, FaultToleranceContext<V> ctx, State state) {
         ctx.fireEvent(isSuccess ? CircuitBreakerEvents.Finished.SUCCESS : CircuitBreakerEvents.Finished.FAILURE);
-        if (isSuccess) {
+        if (isSuccess && isSlow) {
+            LOG.trace("Slow call while in half-open, circuit breaker moving to open");
+            toOpen(ctx, state);
+        } else if (isSuccess) {
             int successes = state.consecutiveSuccesses.incrementAndGet();
             if (successes >= successThreshold) {
                 LOG.trace("Success threshold reached, circuit breaker moving to closed");
@@ -176,7 +296,7 @@ public class CircuitBreaker<V> implements FaultToleranceStrategy<V> {
     }
 
     void toClosed(FaultToleranceContext<V> ctx, State state) {
-        State newState = State.closed(rollingWindowSize, failureThreshold);
+        State newState = State.closed(createRollingWindow(), createSlowCallWindow());
         boolean moved = this.state.compareAndSet(state, newState);
 
         if (moved) {
@@ -221,9 +341,39 @@ public class CircuitBreaker<V> implements FaultToleranceStrategy<V> {
         }
     }
 
+    // when slow calls are not tracked, no time measurement happens at all
+    private long startTime() {
+        return slowCallClock != null ? slowCallClock.elapsedTimeInMillis() : 0;
+    }
+
+    private boolean isSlow(long startTime) {
+        return slowCallClock != null && slowCallClock.elapsedTimeInMillis() - startTime > slowCallThresholdInMillis;
+    }
+
+    private RollingWindow createRollingWindow() {
+        if (timeWindowInMillis > 0) {
+            return RollingWindow.createTimeBased(stopwatch, timeWindowInMillis, timeWindowBuckets, rollingWindowSize,
+                    failureRatio);
+        }
+        return RollingWindow.create(rollingWindowSize, failureThreshold);
+    }
+
+    // slow calls are recorded as failures into the slow call window
+    private RollingWindow createSlowCallWindow() {
+        if (slowCallClock == null) {
+            return null;
+        }
+        if (timeWindowInMillis > 0) {
+            return RollingWindow.createTimeBased(stopwatch, timeWindowInMillis, timeWindowBuckets, rollingWindowSize,
+                    slowCallRatio);
+        }
+        return RollingWindow.create(rollingWindowSize, slowCallCountThreshold);
+    }
+
     static final class State {
         final int id;
         RollingWindow rollingWindow; // only consulted in CLOSED
+        RollingWindow slowCallWindow; // only consulted in CLOSED, `null` if slow calls are not tracked
         RunningStopwatch runningStopwatch; // only consulted in OPEN
         AtomicInteger probeAttempts; // only consulted in HALF_OPEN
         AtomicInteger consecutiveSuccesses; // only consulted in HALF_OPEN
@@ -232,9 +382,10 @@ public class CircuitBreaker<V> implements FaultToleranceStrategy<V> {
             this.id = id;
         }
 
-        static State closed(int rollingWindowSize, int failureThreshold) {
+        static State closed(RollingWindow rollingWindow, RollingWindow slowCallWindow) {
             State result = new State(STATE_CLOSED);
-            result.rollingWindow = RollingWindow.create(rollingWindowSize, failureThreshold);
+            result.rollingWindow = rollingWindow;
+            result.slowCallWindow = slowCallWindow;
             return result;
         }
 
@@ -259,7 +410,7 @@ public class CircuitBreaker<V> implements FaultToleranceStrategy<V> {
     }
 
     public void reset() {
-        State newState = State.closed(rollingWindowSize, failureThreshold);
+        State newState = State.closed(createRollingWindow(), createSlowCallWindow());
         this.state.set(newState);
     }
 }
@@ -1,5 +1,7 @@
 package io.smallrye.faulttolerance.core.circuit.breaker;
 
+import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
+
 public interface RollingWindow {
     /**
      * Records a successful invocation
@@ -16,6 +18,11 @@ public interface RollingWindow {
     boolean recordFailure();
 
     static RollingWindow create(int size, int failureThreshold) {
-        return new BitsetRollingWindow(size, failureThreshold);
+        return new StripedRollingWindow(size, failureThreshold);
+    }
+
+    static RollingWindow createTimeBased(Stopwatch stopwatch, long windowInMillis, int buckets, int minimumCalls,
+            double failureRatio) {
+        return new TimeBasedRollingWindow(stopwatch, windowInMillis, buckets, minimumCalls, failureRatio);
     }
 }
@@ -0,0 +1,16 @@
+package io.smallrye.faulttolerance.core.circuit.breaker;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+
+// thrown instead of `CircuitBreakerOpenException` when stackless rejections are enabled,
+// see `StacklessBulkheadException` for the rationale
+final class StacklessCircuitBreakerOpenException extends CircuitBreakerOpenException {
+    StacklessCircuitBreakerOpenException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,73 @@
+package io.smallrye.faulttolerance.core.circuit.breaker;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free rolling window. Each recorded result is assigned a slot in the window using an atomic
+ * counter and the corresponding bit is updated using a CAS on a packed {@code long} word. Consecutive
+ * slots are mapped to different words (which are padded to different cache lines), so that concurrent
+ * recordings typically don't contend on the same word. The number of failures in the window is maintained
+ * incrementally, so checking whether the failure threshold has been reached is an O(1) operation.
+ * <p>
+ * When two threads record results into the same slot concurrently (which can only happen if there's
+ * more concurrent recordings than the window size), the slot ends up containing one of the results,
+ * not necessarily the most recent one. The failure count is always consistent with the window contents.
+ */
+public final class StripedRollingWindow implements RollingWindow {
+    private static final int MAX_STRIPES = 8;
+    // 8 longs == 64 bytes == the most common cache line size
+    private static final int PADDING = 8;
+
+    private static final int COUNTER = 0;
+    private static final int FAILURES = PADDING;
+
+    private final AtomicLongArray words;
+    private final int stripes;
+    private final int size;
+    private final int failureThreshold;
+
+    // the number of recorded results (a long to avoid overflow) at index `COUNTER`
+    // and the number of failures in the window at index `FAILURES`, padded to different cache lines
+    private final AtomicLongArray counters = new AtomicLongArray(2 * PADDING);
+
+    public StripedRollingWindow(int size, int failureThreshold) {
+        // slot `i` is stored in bit `i / stripes` of word `i % stripes`
+        this.stripes = Math.max(Math.min(size, MAX_STRIPES), (size + Long.SIZE - 1) / Long.SIZE);
+        this.words = new AtomicLongArray(stripes * PADDING);
+        this.size = size;
+        this.failureThreshold = failureThreshold;
+    }
+
+    @Override
+    public boolean recordSuccess() {
+        return record(false);
+    }
+
+    @Override
+    public boolean recordFailure() {
+        return record(true);
+    }
+
+    private boolean record(boolean failure) {
+        long sequence = counters.getAndIncrement(COUNTER);
+        int slot = (int) (sequence % size);
+        int wordIndex = (slot % stripes) * PADDING;
+        long mask = 1L << (slot / stripes);
+
+        long oldWord;
+        long newWord;
+        do {
+            oldWord = words.get(wordIndex);
+            newWord = failure ? oldWord | mask : oldWord & ~mask;
+        } while (oldWord != newWord && !words.compareAndSet(wordIndex, oldWord, newWord));
+
+        long currentFailures;
+        if (oldWord == newWord) {
+            currentFailures = counters.get(FAILURES);
+        } else {
+            currentFailures = counters.addAndGet(FAILURES, failure ? 1 : -1);
+        }
+
+        return sequence + 1 >= size && currentFailures >= failureThreshold;
+    }
+}
@@ -0,0 +1,129 @@
+package io.smallrye.faulttolerance.core.circuit.breaker;
+
+import static io.smallrye.faulttolerance.core.util.Preconditions.check;
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.smallrye.faulttolerance.core.stopwatch.RunningStopwatch;
+import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
+
+/**
+ * Lock-free time-based rolling window. The window spans a fixed duration that is divided into a fixed number
+ * of buckets; each bucket holds the number of calls and failures recorded during its time slice. Memory
+ * consumption is constant, regardless of the number of recorded results.
+ * <p>
+ * Each bucket is a single packed {@code long} that contains the bucket epoch (the number of the time slice,
+ * modulo 2<sup>32</sup>), the number of failures and the number of calls; recording a result is a CAS
+ * on one bucket. When a bucket is recorded into during a newer time slice, it is reset first.
+ * Checking whether the failure threshold has been reached sums all buckets that belong to the current window
+ * and clears buckets that are older than the window. Therefore, a stale bucket could only be mistaken
+ * for a current one if no result at all was recorded for 2<sup>32</sup> time slices (at least 49 days).
+ * <p>
+ * The failure threshold is reached when at least {@code minimumCalls} results were recorded in the window
+ * and the ratio of failures to all recorded results is at least {@code failureRatio}. Per-bucket counters
+ * saturate at 2<sup>16</sup> - 1 calls, which means that for very high throughput (tens of thousands of calls
+ * per bucket), the failure ratio is only approximate.
+ */
+public final class TimeBasedRollingWindow implements RollingWindow {
+    private static final int COUNT_BITS = 16;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final int EPOCH_BITS = Long.SIZE - 2 * COUNT_BITS;
+    private static final long EPOCH_MASK = (1L << EPOCH_BITS) - 1;
+
+    private final RunningStopwatch stopwatch;
+    private final long bucketSizeInMillis;
+    private final int minimumCalls;
+    private final double failureRatio;
+
+    private final AtomicLongArray buckets;
+
+    public TimeBasedRollingWindow(Stopwatch stopwatch, long windowInMillis, int buckets, int minimumCalls,
+            double failureRatio) {
+        check(buckets, buckets > 0, "Number of buckets must be > 0");
+        check(windowInMillis, windowInMillis >= buckets, "Time window must be >= number of buckets");
+        this.stopwatch = checkNotNull(stopwatch, "Stopwatch must be set").start();
+        this.bucketSizeInMillis = windowInMillis / buckets;
+        this.minimumCalls = check(minimumCalls, minimumCalls > 0, "Minimum number of calls must be > 0");
+        this.failureRatio = check(failureRatio, failureRatio >= 0.0 && failureRatio <= 1.0,
+                "Failure ratio must be >= 0 && <= 1");
+        // the initial value of all buckets is epoch 0 with no calls, which is fine
+        this.buckets = new AtomicLongArray(buckets);
+    }
+
+    @Override
+    public boolean recordSuccess() {
+        return record(false);
+    }
+
+    @Override
+    public boolean recordFailure() {
+        return record(true);
+    }
+
+    private boolean record(boolean failure) {
+        long epoch = stopwatch.elapsedTimeInMillis() / bucketSizeInMillis;
+        long maskedEpoch = epoch & EPOCH_MASK;
+        int index = (int) (epoch % buckets.length());
+
+        long oldBucket;
+        long newBucket;
+        do {
+            oldBucket = buckets.get(index);
+            long failures;
+            long calls;
+            if (epoch(oldBucket) == maskedEpoch) {
+                failures = failures(oldBucket);
+                calls = calls(oldBucket);
+            } else {
+                failures = 0;
+                calls = 0;
+            }
+            if (calls < COUNT_MASK) {
+                calls++;
+                if (failure) {
+                    failures++;
+                }
+            }
+            newBucket = bucket(maskedEpoch, failures, calls);
+        } while (oldBucket != newBucket && !buckets.compareAndSet(index, oldBucket, newBucket));
+
+        return failureThresholdReached(epoch);
+    }
+
+    private boolean failureThresholdReached(long currentEpoch) {
+        int length = buckets.length();
+        long failures = 0;
+        long calls = 0;
+        for (int i = 0; i < length; i++) {
+            long bucket = buckets.get(i);
+            // how many time slices ago was this bucket last recorded into
+            long age = (currentEpoch - epoch(bucket)) & EPOCH_MASK;
+            if (age < length) {
+                failures += failures(bucket);
+                calls += calls(bucket);
+            } else if (calls(bucket) > 0) {
+                // an empty bucket is harmless even if its epoch wraps around to the current one later;
+                // if the CAS fails, the bucket was just recorded into and is no longer stale
+                buckets.compareAndSet(i, bucket, 0);
+            }
+        }
+        return calls >= minimumCalls && failures >= failureRatio * calls;
+    }
+
+    private static long bucket(long epoch, long failures, long calls) {
+        return epoch << (2 * COUNT_BITS) | failures << COUNT_BITS | calls;
+    }
+
+    private static long epoch(long bucket) {
+        return bucket >>> (2 * COUNT_BITS);
+    }
+
+    private static long failures(long bucket) {
+        return (bucket >>> COUNT_BITS) & COUNT_MASK;
+    }
+
+    private static long calls(long bucket) {
+        return bucket & COUNT_MASK;
+    }
+}
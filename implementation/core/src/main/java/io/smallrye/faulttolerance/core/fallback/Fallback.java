@@ -3,7 +3,9 @@ package io.smallrye.faulttolerance.core.fallback;
 import static io.smallrye.faulttolerance.core.fallback.FallbackLogger.LOG;
 import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
 
+import io.smallrye.faulttolerance.core.CancellationForwarder;
 import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.ContextKey;
 import io.smallrye.faulttolerance.core.FailureContext;
 import io.smallrye.faulttolerance.core.FaultToleranceContext;
 import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
@@ -27,8 +29,8 @@ public class Fallback<V> implements FaultToleranceStrategy<V> {
 
     @Override
     public Future<V> apply(FaultToleranceContext<V> ctx) {
-        FallbackFunction<V> fallback = ctx.get(FallbackFunction.class, this.fallback);
-        ExceptionDecision exceptionDecision = ctx.get(ExceptionDecision.class, this.exceptionDecision);
+        FallbackFunction<V> fallback = ctx.get(ContextKey.FALLBACK_FUNCTION, this.fallback);
+        ExceptionDecision exceptionDecision = ctx.get(ContextKey.EXCEPTION_DECISION, this.exceptionDecision);
 
         // required for `@ApplyGuard`
         if (fallback == FallbackFunction.IGNORE || exceptionDecision == ExceptionDecision.IGNORE) {
@@ -40,6 +42,8 @@ public class Fallback<V> implements FaultToleranceStrategy<V> {
             ctx.fireEvent(FallbackEvents.Defined.INSTANCE);
 
             Completer<V> result = Completer.create();
+            // cancellation is forwarded to the guarded invocation and later to the fallback
+            CancellationForwarder cancellation = new CancellationForwarder(result);
 
             Future<V> originalResult;
             try {
@@ -47,6 +51,7 @@ public class Fallback<V> implements FaultToleranceStrategy<V> {
             } catch (Exception e) {
                 originalResult = Future.ofError(e);
             }
+            cancellation.forwardTo(originalResult);
 
             originalResult.then((value, error) -> {
                 if (error == null) {
@@ -72,7 +77,7 @@ public class Fallback<V> implements FaultToleranceStrategy<V> {
                 try {
                     LOG.debugf("%s invocation failed, invoking fallback", description);
                     ctx.fireEvent(FallbackEvents.Applied.INSTANCE);
-                    fallback.apply(new FailureContext(error, ctx)).thenComplete(result);
+                    cancellation.forwardTo(fallback.apply(new FailureContext(error, ctx))).thenComplete(result);
                 } catch (Exception e) {
                     result.completeWithError(e);
                 }
@@ -3,6 +3,7 @@ package io.smallrye.faulttolerance.core.fallback;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 
+import io.smallrye.faulttolerance.core.CancellationForwarder;
 import io.smallrye.faulttolerance.core.Completer;
 import io.smallrye.faulttolerance.core.FailureContext;
 import io.smallrye.faulttolerance.core.Future;
@@ -22,10 +23,14 @@ public final class ThreadOffloadFallbackFunction<T> implements FallbackFunction<
         Executor executor = ctx.context.get(Executor.class, this.executor);
 
         Completer<T> result = Completer.create();
+        CancellationForwarder cancellation = new CancellationForwarder(result);
         if (hasRememberedExecutor) {
             executor.execute(() -> {
+                if (cancellation.isCancelled()) {
+                    return;
+                }
                 try {
-                    delegate.apply(ctx).then((value, error) -> {
+                    cancellation.forwardTo(delegate.apply(ctx)).then((value, error) -> {
                         executor.execute(() -> {
                             if (error == null) {
                                 result.complete(value);
@@ -40,8 +45,11 @@ public final class ThreadOffloadFallbackFunction<T> implements FallbackFunction<
             });
         } else {
             executor.execute(() -> {
+                if (cancellation.isCancelled()) {
+                    return;
+                }
                 try {
-                    delegate.apply(ctx).thenComplete(result);
+                    cancellation.forwardTo(delegate.apply(ctx)).thenComplete(result);
                 } catch (Exception e) {
                     result.completeWithError(e);
                 }
@@ -0,0 +1,16 @@
+package io.smallrye.faulttolerance.core.hedge;
+
+import static io.smallrye.faulttolerance.core.util.Preconditions.check;
+
+public class FixedHedgeDelay implements HedgeDelay {
+    private final long delayInMillis;
+
+    public FixedHedgeDelay(long delayInMillis) {
+        this.delayInMillis = check(delayInMillis, delayInMillis >= 0, "Hedge delay must be >= 0");
+    }
+
+    @Override
+    public long getInMillis() {
+        return delayInMillis;
+    }
+}
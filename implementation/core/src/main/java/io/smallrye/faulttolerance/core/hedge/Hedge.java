@@ -0,0 +1,174 @@
+package io.smallrye.faulttolerance.core.hedge;
+
+import static io.smallrye.faulttolerance.core.hedge.HedgeLogger.LOG;
+import static io.smallrye.faulttolerance.core.util.Preconditions.check;
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.ContextKey;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.stopwatch.RunningStopwatch;
+import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
+import io.smallrye.faulttolerance.core.timer.Timer;
+import io.smallrye.faulttolerance.core.timer.TimerTask;
+
+/**
+ * Sends hedged attempts when the previous attempt doesn't complete in time. The first attempt is called
+ * the primary attempt. If it doesn't complete after the {@linkplain HedgeDelay hedge delay}, another attempt
+ * is sent concurrently, and so on, until {@code maxAttempts} attempts are in flight. The first attempt
+ * that completes successfully wins and all other attempts are cancelled.
+ * <p>
+ * A failed attempt does not trigger another attempt; that is what retry is for. If all sent attempts fail,
+ * the hedge fails with the last failure and no more attempts are sent.
+ * <p>
+ * Each attempt gets its own {@linkplain FaultToleranceContext#createChild() child context}, so that
+ * concurrent attempts don't interfere with each other.
+ * <p>
+ * Hedging only makes sense for asynchronous invocations. Synchronous invocations are passed through.
+ */
+public class Hedge<V> implements FaultToleranceStrategy<V> {
+    private final FaultToleranceStrategy<V> delegate;
+    private final String description;
+
+    private final int maxAttempts;
+    private final HedgeDelay delay;
+    private final Stopwatch stopwatch;
+    private final Timer timer;
+
+    public Hedge(FaultToleranceStrategy<V> delegate, String description, int maxAttempts, HedgeDelay delay,
+            Stopwatch stopwatch, Timer timer) {
+        this.delegate = checkNotNull(delegate, "Hedge delegate must be set");
+        this.description = checkNotNull(description, "Hedge description must be set");
+        this.maxAttempts = check(maxAttempts, maxAttempts >= 1, "Max attempts must be >= 1");
+        this.delay = checkNotNull(delay, "Hedge delay must be set");
+        this.stopwatch = checkNotNull(stopwatch, "Stopwatch must be set");
+        this.timer = checkNotNull(timer, "Timer must be set");
+    }
+
+    @Override
+    public Future<V> apply(FaultToleranceContext<V> ctx) {
+        if (ctx.isSync()) {
+            return delegate.apply(ctx);
+        }
+
+        LOG.trace("Hedge started");
+        try {
+            HedgeExecution execution = new HedgeExecution(ctx);
+            execution.sendAttempt();
+            return execution.result.future();
+        } finally {
+            LOG.trace("Hedge finished");
+        }
+    }
+
+    private final class HedgeExecution {
+        private final FaultToleranceContext<V> ctx;
+        private final Completer<V> result = Completer.create();
+
+        // all guarded by `this`
+        private final List<Future<V>> attempts = new ArrayList<>(maxAttempts);
+        private int sent;
+        private int failed;
+        private boolean done;
+        private TimerTask nextAttempt;
+
+        HedgeExecution(FaultToleranceContext<V> ctx) {
+            this.ctx = ctx;
+            result.onCancel(() -> finish(null));
+        }
+
+        void sendAttempt() {
+            int index;
+            synchronized (this) {
+                if (done || sent == maxAttempts) {
+                    return;
+                }
+                index = sent++;
+                nextAttempt = null;
+            }
+
+            if (index > 0) {
+                LOG.debugf("%s attempt didn't complete in time, sending hedged attempt (%d/%d)", description, index,
+                        maxAttempts - 1);
+                ctx.fireEvent(HedgeEvents.HedgeSent.INSTANCE);
+            }
+
+            RunningStopwatch runningStopwatch = stopwatch.start();
+            Future<V> attempt;
+            try {
+                attempt = delegate.apply(ctx.createChild());
+            } catch (Throwable e) {
+                attempt = Future.ofError(e);
+            }
+
+            boolean cancel = false;
+            synchronized (this) {
+                if (done) {
+                    cancel = true;
+                } else {
+                    attempts.add(attempt);
+                    if (sent == index + 1 && sent < maxAttempts) {
+                        nextAttempt = timer.schedule(delay.getInMillis(), this::sendAttempt,
+                                ctx.get(ContextKey.EXECUTOR));
+                    }
+                }
+            }
+            if (cancel) {
+                attempt.cancel();
+                return;
+            }
+
+            Future<V> thisAttempt = attempt;
+            attempt.then((value, error) -> {
+                if (error == null) {
+                    if (finish(thisAttempt)) {
+                        delay.recordLatency(runningStopwatch.elapsedTimeInMillis());
+                        ctx.fireEvent(index == 0 ? HedgeEvents.Finished.PRIMARY_WON : HedgeEvents.Finished.HEDGE_WON);
+                        result.complete(value);
+                    }
+                } else {
+                    boolean allFailed;
+                    synchronized (this) {
+                        failed++;
+                        allFailed = !done && failed == sent;
+                    }
+                    if (allFailed && finish(null)) {
+                        ctx.fireEvent(HedgeEvents.Finished.EXCEPTION_THROWN);
+                        result.completeWithError(error);
+                    }
+                }
+            });
+        }
+
+        // returns whether this call finished the execution; cancels all attempts except of `winner`
+        // (which may be `null`) and the scheduled hedged attempt, if any
+        private boolean finish(Future<V> winner) {
+            List<Future<V>> losers;
+            TimerTask task;
+            synchronized (this) {
+                if (done) {
+                    return false;
+                }
+                done = true;
+                losers = new ArrayList<>(attempts);
+                task = nextAttempt;
+                nextAttempt = null;
+            }
+
+            if (task != null) {
+                task.cancel();
+            }
+            for (Future<V> attempt : losers) {
+                if (attempt != winner) {
+                    attempt.cancel();
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.smallrye.faulttolerance.core.hedge;
+
+/**
+ * Determines how long to wait for an attempt before sending the next hedged attempt.
+ * Implementations must be thread-safe, because a single instance is shared by all invocations.
+ */
+public interface HedgeDelay {
+    /**
+     * @return the delay before sending the next hedged attempt, in millis
+     */
+    long getInMillis();
+
+    /**
+     * Records the latency of a successful attempt. Called once per invocation, for the winning attempt.
+     *
+     * @param latencyInMillis the latency of the winning attempt, in millis
+     */
+    default void recordLatency(long latencyInMillis) {
+    }
+}
@@ -0,0 +1,28 @@
+package io.smallrye.faulttolerance.core.hedge;
+
+import io.smallrye.faulttolerance.core.FaultToleranceEvent;
+
+public class HedgeEvents {
+    public enum Result {
+        PRIMARY_WON,
+        HEDGE_WON,
+        EXCEPTION_THROWN,
+    }
+
+    public enum HedgeSent implements FaultToleranceEvent {
+        INSTANCE
+    }
+
+    public enum Finished implements FaultToleranceEvent {
+        PRIMARY_WON(Result.PRIMARY_WON),
+        HEDGE_WON(Result.HEDGE_WON),
+        EXCEPTION_THROWN(Result.EXCEPTION_THROWN),
+        ;
+
+        public final Result result;
+
+        Finished(Result result) {
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package io.smallrye.faulttolerance.core.hedge;
+
+import java.lang.invoke.MethodHandles;
+
+import org.jboss.logging.BasicLogger;
+import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.MessageLogger;
+
+@MessageLogger(projectCode = "SRFTL", length = 5)
+interface HedgeLogger extends BasicLogger {
+    HedgeLogger LOG = Logger.getMessageLogger(MethodHandles.lookup(), HedgeLogger.class,
+            HedgeLogger.class.getPackage().getName());
+}
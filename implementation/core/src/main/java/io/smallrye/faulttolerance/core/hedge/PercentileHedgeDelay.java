@@ -0,0 +1,58 @@
+package io.smallrye.faulttolerance.core.hedge;
+
+import static io.smallrye.faulttolerance.core.util.Preconditions.check;
+
+import java.util.Arrays;
+
+/**
+ * Hedge delay based on a percentile of observed latencies. The latencies of the last {@value #WINDOW_SIZE}
+ * successful invocations are kept in a ring buffer. The percentile is recomputed after every
+ * {@value #RECOMPUTE_INTERVAL} recorded latencies, so that sorting is amortized and reading the delay
+ * is just a volatile read. Until {@value #RECOMPUTE_INTERVAL} latencies are recorded, the initial delay
+ * is used.
+ * <p>
+ * Only latencies of winning attempts are recorded, because losing attempts are cancelled. When hedging
+ * is frequent, the observed latencies are therefore lower than latencies of unhedged attempts would be,
+ * which makes hedging slightly more aggressive.
+ */
+public class PercentileHedgeDelay implements HedgeDelay {
+    static final int WINDOW_SIZE = 1000;
+    static final int RECOMPUTE_INTERVAL = 32;
+
+    private final double percentile;
+
+    private final long[] latencies = new long[WINDOW_SIZE];
+    // guarded by `this`
+    private long recorded;
+
+    private volatile long currentDelay;
+
+    public PercentileHedgeDelay(double percentile, long initialDelayInMillis) {
+        this.percentile = check(percentile, percentile > 0.0 && percentile <= 1.0, "Percentile must be > 0 and <= 1");
+        this.currentDelay = check(initialDelayInMillis, initialDelayInMillis >= 0, "Initial delay must be >= 0");
+    }
+
+    @Override
+    public long getInMillis() {
+        return currentDelay;
+    }
+
+    @Override
+    public void recordLatency(long latencyInMillis) {
+        long[] snapshot;
+        synchronized (this) {
+            latencies[(int) (recorded % WINDOW_SIZE)] = latencyInMillis;
+            recorded++;
+            if (recorded % RECOMPUTE_INTERVAL != 0) {
+                return;
+            }
+            snapshot = Arrays.copyOf(latencies, (int) Math.min(recorded, WINDOW_SIZE));
+        }
+
+        // sorting is done outside of the critical section, concurrent recomputations may overwrite
+        // each other's result, which is fine, because they are based on mostly the same data
+        Arrays.sort(snapshot);
+        int index = (int) Math.ceil(percentile * snapshot.length) - 1;
+        currentDelay = snapshot[Math.max(index, 0)];
+    }
+}
@@ -2,6 +2,7 @@ package io.smallrye.faulttolerance.core.invocation;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
@@ -34,7 +35,11 @@ public class CompletionStageSupport<T> implements AsyncSupport<T, CompletionStag
     public Future<T> toFuture(Invoker<CompletionStage<T>> invoker) {
         Completer<T> completer = Completer.create();
         try {
-            invoker.proceed().whenComplete((value, error) -> {
+            CompletionStage<T> completionStage = invoker.proceed();
+            if (completionStage instanceof java.util.concurrent.Future<?> future) {
+                completer.onCancel(() -> future.cancel(false));
+            }
+            completionStage.whenComplete((value, error) -> {
                 if (error == null) {
                     completer.complete(value);
                 } else {
@@ -55,7 +60,14 @@ public class CompletionStageSupport<T> implements AsyncSupport<T, CompletionStag
     public CompletionStage<T> fromFuture(Invoker<Future<T>> invoker) {
         CompletableFuture<T> result = new CompletableFuture<>();
         try {
-            invoker.proceed().then((value, error) -> {
+            Future<T> future = invoker.proceed();
+            result.whenComplete((ignored, error) -> {
+                // cancelling the `CompletableFuture` completes it with `CancellationException`
+                if (error instanceof CancellationException) {
+                    future.cancel();
+                }
+            });
+            future.then((value, error) -> {
                 if (error == null) {
                     result.complete(value);
                 } else {
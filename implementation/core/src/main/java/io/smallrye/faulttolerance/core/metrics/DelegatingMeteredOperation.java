@@ -25,6 +25,11 @@ final class DelegatingMeteredOperation implements MeteredOperation {
         return operation.hasBulkhead();
     }
 
+    @Override
+    public boolean hasAdaptiveBulkhead() {
+        return operation.hasAdaptiveBulkhead();
+    }
+
     @Override
     public boolean hasCircuitBreaker() {
         return operation.hasCircuitBreaker();
@@ -35,6 +40,11 @@ final class DelegatingMeteredOperation implements MeteredOperation {
         return operation.hasFallback();
     }
 
+    @Override
+    public boolean hasHedge() {
+        return operation.hasHedge();
+    }
+
     @Override
     public boolean hasRateLimit() {
         return operation.hasRateLimit();
@@ -45,6 +55,11 @@ final class DelegatingMeteredOperation implements MeteredOperation {
         return operation.hasRetry();
     }
 
+    @Override
+    public boolean hasRetryBudget() {
+        return operation.hasRetryBudget();
+    }
+
     @Override
     public boolean hasTimeout() {
         return operation.hasTimeout();
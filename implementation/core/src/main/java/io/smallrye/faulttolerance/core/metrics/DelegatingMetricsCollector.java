@@ -2,7 +2,9 @@ package io.smallrye.faulttolerance.core.metrics;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
 
+import io.smallrye.faulttolerance.core.ContextKey;
 import io.smallrye.faulttolerance.core.FaultToleranceContext;
 import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
 import io.smallrye.faulttolerance.core.Future;
@@ -11,26 +13,35 @@ public class DelegatingMetricsCollector<V> implements FaultToleranceStrategy<V>
     private final FaultToleranceStrategy<V> delegate;
     private final MetricsProvider provider;
     private final MeteredOperation originalOperation;
+    private final LongSupplier concurrencyLimit;
 
     private final ConcurrentMap<MeteredOperation, MetricsCollector<V>> cache = new ConcurrentHashMap<>();
 
     public DelegatingMetricsCollector(FaultToleranceStrategy<V> delegate,
             MetricsProvider provider, MeteredOperation originalOperation) {
+        this(delegate, provider, originalOperation, null);
+    }
+
+    // `concurrencyLimit` must be set if the operation has an adaptive bulkhead, otherwise it is ignored
+    public DelegatingMetricsCollector(FaultToleranceStrategy<V> delegate,
+            MetricsProvider provider, MeteredOperation originalOperation, LongSupplier concurrencyLimit) {
         this.delegate = delegate;
         this.provider = provider;
         this.originalOperation = originalOperation;
+        this.concurrencyLimit = concurrencyLimit;
     }
 
     @Override
     public Future<V> apply(FaultToleranceContext<V> ctx) {
-        MeteredOperationName name = ctx.get(MeteredOperationName.class);
+        MeteredOperationName name = ctx.get(ContextKey.METERED_OPERATION_NAME);
         MeteredOperation operation = name != null
                 ? new DelegatingMeteredOperation(originalOperation, name.get())
                 : originalOperation;
         FaultToleranceStrategy<V> delegate;
         if (operation.enabled()) {
             delegate = cache.computeIfAbsent(operation,
-                    ignored -> new MetricsCollector<>(this.delegate, provider.create(operation), operation));
+                    ignored -> new MetricsCollector<>(this.delegate, provider.create(operation), operation,
+                            concurrencyLimit));
         } else {
             delegate = this.delegate;
         }
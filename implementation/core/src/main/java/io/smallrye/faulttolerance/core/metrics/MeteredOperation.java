@@ -7,14 +7,20 @@ public interface MeteredOperation {
 
     boolean hasBulkhead();
 
+    boolean hasAdaptiveBulkhead();
+
     boolean hasCircuitBreaker();
 
     boolean hasFallback();
 
+    boolean hasHedge();
+
     boolean hasRateLimit();
 
     boolean hasRetry();
 
+    boolean hasRetryBudget();
+
     boolean hasTimeout();
 
     String name();
@@ -2,17 +2,20 @@ package io.smallrye.faulttolerance.core.metrics;
 
 import static io.smallrye.faulttolerance.core.metrics.MetricsLogger.LOG;
 
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 import io.smallrye.faulttolerance.api.CircuitBreakerState;
 import io.smallrye.faulttolerance.core.Completer;
 import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceEvent;
+import io.smallrye.faulttolerance.core.FaultToleranceEventListener;
 import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
 import io.smallrye.faulttolerance.core.Future;
 import io.smallrye.faulttolerance.core.bulkhead.BulkheadEvents;
 import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
 import io.smallrye.faulttolerance.core.fallback.FallbackEvents;
+import io.smallrye.faulttolerance.core.hedge.HedgeEvents;
 import io.smallrye.faulttolerance.core.rate.limit.RateLimitEvents;
 import io.smallrye.faulttolerance.core.retry.RetryEvents;
 import io.smallrye.faulttolerance.core.timeout.TimeoutEvents;
@@ -23,11 +26,13 @@ public class MetricsCollector<V> implements FaultToleranceStrategy<V> {
     private final boolean mayBeAsync;
     private final boolean hasBulkhead;
     private final boolean hasCircuitBreaker;
+    private final boolean hasHedge;
     private final boolean hasRateLimit;
     private final boolean hasRetry;
     private final boolean hasTimeout;
 
-    // per-invocation metric values are stored in local variables in the `registerMetrics` method
+    // per-invocation metric values are stored in fields of `InvocationMetrics`, which is the only
+    // per-invocation allocation (it is also the event listener, so no per-event-type handlers are needed)
     // shared metric values (for stateful fault tolerance strategies) are stored in fields below
 
     // circuit breaker
@@ -40,11 +45,18 @@ public class MetricsCollector<V> implements FaultToleranceStrategy<V> {
     private final AtomicLong waitingExecutions = new AtomicLong();
 
     public MetricsCollector(FaultToleranceStrategy<V> delegate, MetricsRecorder metrics, MeteredOperation operation) {
+        this(delegate, metrics, operation, null);
+    }
+
+    // `concurrencyLimit` must be set if the operation has an adaptive bulkhead, otherwise it is ignored
+    public MetricsCollector(FaultToleranceStrategy<V> delegate, MetricsRecorder metrics, MeteredOperation operation,
+            LongSupplier concurrencyLimit) {
         this.delegate = delegate;
         this.metrics = metrics;
         this.mayBeAsync = operation.mayBeAsynchronous();
         this.hasBulkhead = operation.hasBulkhead();
         this.hasCircuitBreaker = operation.hasCircuitBreaker();
+        this.hasHedge = operation.hasHedge();
         this.hasRateLimit = operation.hasRateLimit();
         this.hasRetry = operation.hasRetry();
         this.hasTimeout = operation.hasTimeout();
@@ -70,6 +82,9 @@ public class MetricsCollector<V> implements FaultToleranceStrategy<V> {
             if (mayBeAsync) {
                 metrics.registerBulkheadExecutionsWaiting(waitingExecutions::get);
             }
+            if (operation.hasAdaptiveBulkhead() && concurrencyLimit != null) {
+                metrics.registerBulkheadConcurrencyLimit(concurrencyLimit);
+            }
         }
     }
 
@@ -77,7 +92,7 @@ public class MetricsCollector<V> implements FaultToleranceStrategy<V> {
     public Future<V> apply(FaultToleranceContext<V> ctx) {
         LOG.trace("MetricsCollector started");
         try {
-            registerMetrics(ctx);
+            ctx.addEventListener(new InvocationMetrics());
 
             Completer<V> result = Completer.create();
 
@@ -87,6 +102,7 @@ public class MetricsCollector<V> implements FaultToleranceStrategy<V> {
             } catch (Exception e) {
                 originalResult = Future.ofError(e);
             }
+            result.onCancel(originalResult::cancel);
 
             originalResult.then((value, error) -> {
                 if (error == null) {
@@ -104,105 +120,97 @@ public class MetricsCollector<V> implements FaultToleranceStrategy<V> {
         }
     }
 
-    private void registerMetrics(FaultToleranceContext<V> ctx) {
-        // general + fallback
-
-        AtomicBoolean fallbackDefined = new AtomicBoolean(false);
-        AtomicBoolean fallbackApplied = new AtomicBoolean(false);
-        ctx.registerEventHandler(FallbackEvents.Defined.class, ignored -> fallbackDefined.set(true));
-        ctx.registerEventHandler(FallbackEvents.Applied.class, ignored -> fallbackApplied.set(true));
+    private void onCircuitBreakerStateTransition(CircuitBreakerState targetState) {
+        CircuitBreakerTimes current = cbTimes;
+        long now = System.nanoTime();
+        long elapsed = now - current.currentStateStart;
+        cbTimes = switch (targetState) {
+            case CLOSED -> new CircuitBreakerTimes(CircuitBreakerState.CLOSED,
+                    now, current.closedTime, current.openTime, current.halfOpenTime + elapsed);
+            case OPEN -> new CircuitBreakerTimes(CircuitBreakerState.OPEN,
+                    now, current.closedTime + elapsed, current.openTime, current.halfOpenTime);
+            case HALF_OPEN -> new CircuitBreakerTimes(CircuitBreakerState.HALF_OPEN,
+                    now, current.closedTime, current.openTime + elapsed, current.halfOpenTime);
+        };
+
+        if (targetState == CircuitBreakerState.OPEN) {
+            metrics.circuitBreakerMovedToOpen();
+        }
+    }
 
-        ctx.registerEventHandler(GeneralMetricsEvents.ExecutionFinished.class,
-                event -> metrics.executionFinished(event.succeeded, fallbackDefined.get(), fallbackApplied.get()));
+    // events of a single invocation are fired sequentially, but not necessarily on the same thread,
+    // hence the fields are volatile
+    private final class InvocationMetrics implements FaultToleranceEventListener {
+        // general + fallback
+        private volatile boolean fallbackDefined;
+        private volatile boolean fallbackApplied;
 
         // retry
-
-        if (hasRetry) {
-            AtomicBoolean retried = new AtomicBoolean(false);
-            ctx.registerEventHandler(RetryEvents.Retried.class, ignored -> {
-                metrics.retryAttempted();
-                retried.set(true);
-            });
-            ctx.registerEventHandler(RetryEvents.Finished.class, event -> {
-                if (RetryEvents.Result.VALUE_RETURNED == event.result) {
-                    metrics.retryValueReturned(retried.get());
-                } else if (RetryEvents.Result.EXCEPTION_NOT_RETRYABLE == event.result) {
-                    metrics.retryExceptionNotRetryable(retried.get());
-                } else if (RetryEvents.Result.MAX_RETRIES_REACHED == event.result) {
-                    metrics.retryMaxRetriesReached(retried.get());
-                } else if (RetryEvents.Result.MAX_DURATION_REACHED == event.result) {
-                    metrics.retryMaxDurationReached(retried.get());
-                }
-            });
-        }
+        private volatile boolean retried;
 
         // timeout
+        private volatile long timeoutStart;
 
-        if (hasTimeout) {
-            AtomicLong timeoutStart = new AtomicLong();
-            ctx.registerEventHandler(TimeoutEvents.Started.class,
-                    ignored -> timeoutStart.set(System.nanoTime()));
-            ctx.registerEventHandler(TimeoutEvents.Finished.class,
-                    event -> metrics.timeoutFinished(event.timedOut, System.nanoTime() - timeoutStart.get()));
+        // bulkhead
+        private volatile long runningStart;
+        private volatile long waitingStart;
+
+        // concurrent attempts (such as hedged attempts) fire their own timeout and bulkhead events,
+        // so each attempt needs its own start times
+        @Override
+        public FaultToleranceEventListener forChild() {
+            return new InvocationMetrics();
         }
 
-        // circuit breaker
-
-        if (hasCircuitBreaker) {
-            ctx.registerEventHandler(CircuitBreakerEvents.Finished.class,
-                    event -> metrics.circuitBreakerFinished(event.result));
-            ctx.registerEventHandler(CircuitBreakerEvents.StateTransition.class, event -> {
-                CircuitBreakerTimes current = cbTimes;
-                long now = System.nanoTime();
-                long elapsed = now - current.currentStateStart;
-                cbTimes = switch (event.targetState) {
-                    case CLOSED -> new CircuitBreakerTimes(CircuitBreakerState.CLOSED,
-                            now, current.closedTime, current.openTime, current.halfOpenTime + elapsed);
-                    case OPEN -> new CircuitBreakerTimes(CircuitBreakerState.OPEN,
-                            now, current.closedTime + elapsed, current.openTime, current.halfOpenTime);
-                    case HALF_OPEN -> new CircuitBreakerTimes(CircuitBreakerState.HALF_OPEN,
-                            now, current.closedTime, current.openTime + elapsed, current.halfOpenTime);
-                };
-
-                if (event.targetState == CircuitBreakerState.OPEN) {
-                    metrics.circuitBreakerMovedToOpen();
+        @Override
+        public void onEvent(FaultToleranceEvent event) {
+            if (event instanceof GeneralMetricsEvents.ExecutionFinished finished) {
+                metrics.executionFinished(finished.succeeded, fallbackDefined, fallbackApplied);
+            } else if (event instanceof FallbackEvents.Defined) {
+                fallbackDefined = true;
+            } else if (event instanceof FallbackEvents.Applied) {
+                fallbackApplied = true;
+            } else if (hasRetry && event instanceof RetryEvents.Retried) {
+                metrics.retryAttempted();
+                retried = true;
+            } else if (hasRetry && event instanceof RetryEvents.Finished finished) {
+                switch (finished.result) {
+                    case VALUE_RETURNED -> metrics.retryValueReturned(retried);
+                    case EXCEPTION_NOT_RETRYABLE -> metrics.retryExceptionNotRetryable(retried);
+                    case MAX_RETRIES_REACHED -> metrics.retryMaxRetriesReached(retried);
+                    case MAX_DURATION_REACHED -> metrics.retryMaxDurationReached(retried);
+                    case BUDGET_EXHAUSTED -> metrics.retryBudgetExhausted(retried);
                 }
-            });
-        }
-
-        // bulkhead
-
-        if (hasBulkhead) {
-            AtomicLong runningStart = new AtomicLong();
-            ctx.registerEventHandler(BulkheadEvents.DecisionMade.class, event -> metrics.bulkheadDecisionMade(event.accepted));
-            ctx.registerEventHandler(BulkheadEvents.StartedRunning.class, ignored -> {
+            } else if (hasTimeout && event instanceof TimeoutEvents.Started) {
+                timeoutStart = System.nanoTime();
+            } else if (hasTimeout && event instanceof TimeoutEvents.Finished finished) {
+                metrics.timeoutFinished(finished.timedOut, System.nanoTime() - timeoutStart);
+            } else if (hasCircuitBreaker && event instanceof CircuitBreakerEvents.Finished finished) {
+                metrics.circuitBreakerFinished(finished.result);
+            } else if (hasCircuitBreaker && event instanceof CircuitBreakerEvents.StateTransition transition) {
+                onCircuitBreakerStateTransition(transition.targetState);
+            } else if (hasBulkhead && event instanceof BulkheadEvents.DecisionMade decision) {
+                metrics.bulkheadDecisionMade(decision.accepted);
+            } else if (hasBulkhead && event instanceof BulkheadEvents.StartedRunning) {
                 runningExecutions.incrementAndGet();
-                runningStart.set(System.nanoTime());
-            });
-            ctx.registerEventHandler(BulkheadEvents.FinishedRunning.class, ignored -> {
+                runningStart = System.nanoTime();
+            } else if (hasBulkhead && event instanceof BulkheadEvents.FinishedRunning) {
                 runningExecutions.decrementAndGet();
-                metrics.updateBulkheadRunningDuration(System.nanoTime() - runningStart.get());
-            });
-
-            if (mayBeAsync) {
-                AtomicLong waitingStart = new AtomicLong();
-                ctx.registerEventHandler(BulkheadEvents.StartedWaiting.class, ignored -> {
-                    waitingExecutions.incrementAndGet();
-                    waitingStart.set(System.nanoTime());
-                });
-                ctx.registerEventHandler(BulkheadEvents.FinishedWaiting.class, ignored -> {
-                    waitingExecutions.decrementAndGet();
-                    metrics.updateBulkheadWaitingDuration(System.nanoTime() - waitingStart.get());
-                });
+                metrics.updateBulkheadRunningDuration(System.nanoTime() - runningStart);
+            } else if (hasBulkhead && mayBeAsync && event instanceof BulkheadEvents.StartedWaiting) {
+                waitingExecutions.incrementAndGet();
+                waitingStart = System.nanoTime();
+            } else if (hasBulkhead && mayBeAsync && event instanceof BulkheadEvents.FinishedWaiting) {
+                waitingExecutions.decrementAndGet();
+                metrics.updateBulkheadWaitingDuration(System.nanoTime() - waitingStart);
+            } else if (hasRateLimit && event instanceof RateLimitEvents.DecisionMade decision) {
+                metrics.rateLimitDecisionMade(decision.permitted);
+            } else if (hasHedge && event instanceof HedgeEvents.HedgeSent) {
+                metrics.hedgeSent();
+            } else if (hasHedge && event instanceof HedgeEvents.Finished finished) {
+                metrics.hedgeFinished(finished.result);
             }
         }
-
-        // rate limit
-
-        if (hasRateLimit) {
-            ctx.registerEventHandler(RateLimitEvents.DecisionMade.class,
-                    event -> metrics.rateLimitDecisionMade(event.permitted));
-        }
     }
 
     private record CircuitBreakerTimes(CircuitBreakerState currentState,
@@ -23,8 +23,12 @@ public final class MetricsConstants {
     public static final String BULKHEAD_EXECUTIONS_WAITING = "ft.bulkhead.executionsWaiting";
     public static final String BULKHEAD_RUNNING_DURATION = "ft.bulkhead.runningDuration";
     public static final String BULKHEAD_WAITING_DURATION = "ft.bulkhead.waitingDuration";
+    public static final String BULKHEAD_CONCURRENCY_LIMIT = "ft.bulkhead.concurrencyLimit";
 
     public static final String RATE_LIMIT_CALLS_TOTAL = "ft.ratelimit.calls.total";
 
+    public static final String HEDGE_CALLS_TOTAL = "ft.hedge.calls.total";
+    public static final String HEDGE_HEDGES_TOTAL = "ft.hedge.hedges.total";
+
     public static final String TIMER_SCHEDULED = "ft.timer.scheduled";
 }
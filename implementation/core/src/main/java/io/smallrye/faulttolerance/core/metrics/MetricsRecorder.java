@@ -4,6 +4,7 @@ import java.util.function.BooleanSupplier;
 import java.util.function.LongSupplier;
 
 import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
+import io.smallrye.faulttolerance.core.hedge.HedgeEvents;
 
 public interface MetricsRecorder {
     // general + fallback
@@ -22,6 +23,8 @@ public interface MetricsRecorder {
 
     void retryMaxDurationReached(boolean retried);
 
+    void retryBudgetExhausted(boolean retried);
+
     // timeout
 
     void timeoutFinished(boolean timedOut, long time);
@@ -56,10 +59,18 @@ public interface MetricsRecorder {
 
     void updateBulkheadWaitingDuration(long time);
 
+    void registerBulkheadConcurrencyLimit(LongSupplier supplier);
+
     // rate limit
 
     void rateLimitDecisionMade(boolean permitted);
 
+    // hedge
+
+    void hedgeSent();
+
+    void hedgeFinished(HedgeEvents.Result result);
+
     MetricsRecorder NOOP = new MetricsRecorder() {
         @Override
         public void executionFinished(boolean succeeded, boolean fallbackDefined, boolean fallbackApplied) {
@@ -85,6 +96,10 @@ public interface MetricsRecorder {
         public void retryMaxDurationReached(boolean retried) {
         }
 
+        @Override
+        public void retryBudgetExhausted(boolean retried) {
+        }
+
         @Override
         public void timeoutFinished(boolean timedOut, long time) {
         }
@@ -141,8 +156,20 @@ public interface MetricsRecorder {
         public void updateBulkheadWaitingDuration(long time) {
         }
 
+        @Override
+        public void registerBulkheadConcurrencyLimit(LongSupplier supplier) {
+        }
+
         @Override
         public void rateLimitDecisionMade(boolean permitted) {
         }
+
+        @Override
+        public void hedgeSent() {
+        }
+
+        @Override
+        public void hedgeFinished(HedgeEvents.Result result) {
+        }
     };
 }
@@ -1,6 +1,7 @@
 package io.smallrye.faulttolerance.core.metrics;
 
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.BULKHEAD_CALLS_TOTAL;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.BULKHEAD_CONCURRENCY_LIMIT;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.BULKHEAD_EXECUTIONS_RUNNING;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.BULKHEAD_EXECUTIONS_WAITING;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.BULKHEAD_RUNNING_DURATION;
@@ -9,6 +10,8 @@ import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.CIRCUIT_B
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.CIRCUIT_BREAKER_OPENED_TOTAL;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.CIRCUIT_BREAKER_STATE_CURRENT;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.CIRCUIT_BREAKER_STATE_TOTAL;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.HEDGE_CALLS_TOTAL;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.HEDGE_HEDGES_TOTAL;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.INVOCATIONS_TOTAL;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.RATE_LIMIT_CALLS_TOTAL;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.RETRY_CALLS_TOTAL;
@@ -22,11 +25,22 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.LongSupplier;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
+import io.smallrye.faulttolerance.core.hedge.HedgeEvents;
 
 public class MicrometerRecorder implements MetricsRecorder {
+    private static final boolean[] BOOLEANS = { true, false };
+
+    private static final int RETRY_RESULT_VALUE_RETURNED_INDEX = 0;
+    private static final int RETRY_RESULT_EXCEPTION_NOT_RETRYABLE_INDEX = 1;
+    private static final int RETRY_RESULT_MAX_RETRIES_REACHED_INDEX = 2;
+    private static final int RETRY_RESULT_MAX_DURATION_REACHED_INDEX = 3;
+    private static final int RETRY_RESULT_BUDGET_EXHAUSTED_INDEX = 4;
+
     private static final Tag RESULT_VALUE_RETURNED = Tag.of("result", "valueReturned");
     private static final Tag RESULT_EXCEPTION_THROWN = Tag.of("result", "exceptionThrown");
 
@@ -40,6 +54,7 @@ public class MicrometerRecorder implements MetricsRecorder {
     private static final Tag RETRY_RESULT_EXCEPTION_NOT_RETRYABLE = Tag.of("retryResult", "exceptionNotRetryable");
     private static final Tag RETRY_RESULT_MAX_RETRIES_REACHED = Tag.of("retryResult", "maxRetriesReached");
     private static final Tag RETRY_RESULT_MAX_DURATION_REACHED = Tag.of("retryResult", "maxDurationReached");
+    private static final Tag RETRY_RESULT_BUDGET_EXHAUSTED = Tag.of("retryResult", "budgetExhausted");
 
     private static final Tag TIMED_OUT_TRUE = Tag.of("timedOut", "true");
     private static final Tag TIMED_OUT_FALSE = Tag.of("timedOut", "false");
@@ -58,76 +73,173 @@ public class MicrometerRecorder implements MetricsRecorder {
     private static final Tag RATE_LIMIT_RESULT_PERMITTED = Tag.of("rateLimitResult", "permitted");
     private static final Tag RATE_LIMIT_RESULT_REJECTED = Tag.of("rateLimitResult", "rejected");
 
+    private static final Tag HEDGE_RESULT_PRIMARY_WON = Tag.of("hedgeResult", "primaryWon");
+    private static final Tag HEDGE_RESULT_HEDGE_WON = Tag.of("hedgeResult", "hedgeWon");
+    private static final Tag HEDGE_RESULT_EXCEPTION_THROWN = Tag.of("hedgeResult", "exceptionThrown");
+
     private final MeterRegistry registry;
     private final Tag methodTag;
-    private final Iterable<Tag> methodTagSingleton;
+
+    // all counters and timers are resolved eagerly, so that recording a metric doesn't have to look it up
+    // in the registry; array-based counters are indexed by the `*Index()` methods below
+    // the `invocationsTotal` array may contain `null`s for combinations that are not expected for given
+    // operation, these are resolved lazily (if ever needed)
+
+    private final Counter[] invocationsTotal = new Counter[6];
+
+    private final Counter retryRetriesTotal;
+    private final Counter[] retryCallsTotal;
+
+    private final Counter timeoutCallsTimedOut;
+    private final Counter timeoutCallsNotTimedOut;
+    private final Timer timeoutExecutionDuration;
+
+    private final Counter[] circuitBreakerCallsTotal;
+    private final Counter circuitBreakerOpenedTotal;
+
+    private final Counter bulkheadCallsAccepted;
+    private final Counter bulkheadCallsRejected;
+    private final Timer bulkheadRunningDuration;
+    private final Timer bulkheadWaitingDuration;
+
+    private final Counter rateLimitCallsPermitted;
+    private final Counter rateLimitCallsRejected;
+
+    private final Counter[] hedgeCallsTotal;
+    private final Counter hedgeHedgesTotal;
 
     public MicrometerRecorder(MeterRegistry registry, MeteredOperation operation) {
         this.registry = registry;
         this.methodTag = Tag.of("method", operation.name());
-        this.methodTagSingleton = Collections.singleton(methodTag);
-
-        registerMetrics(operation);
-    }
 
-    private void registerMetrics(MeteredOperation operation) {
         // make sure all applicable metrics for given method are registered eagerly
         // we only touch counters and histograms, because gauges are registered eagerly elsewhere
 
         if (operation.hasFallback()) {
-            registry.counter(INVOCATIONS_TOTAL, Arrays.asList(methodTag, RESULT_VALUE_RETURNED, FALLBACK_NOT_APPLIED));
-            registry.counter(INVOCATIONS_TOTAL, Arrays.asList(methodTag, RESULT_VALUE_RETURNED, FALLBACK_APPLIED));
-            registry.counter(INVOCATIONS_TOTAL, Arrays.asList(methodTag, RESULT_EXCEPTION_THROWN, FALLBACK_NOT_APPLIED));
-            registry.counter(INVOCATIONS_TOTAL, Arrays.asList(methodTag, RESULT_EXCEPTION_THROWN, FALLBACK_APPLIED));
+            for (boolean succeeded : BOOLEANS) {
+                invocationsTotal[invocationsIndex(succeeded, true, false)] = invocationsCounter(succeeded, true, false);
+                invocationsTotal[invocationsIndex(succeeded, true, true)] = invocationsCounter(succeeded, true, true);
+            }
         } else {
-            registry.counter(INVOCATIONS_TOTAL, Arrays.asList(methodTag, RESULT_VALUE_RETURNED, FALLBACK_NOT_DEFINED));
-            registry.counter(INVOCATIONS_TOTAL, Arrays.asList(methodTag, RESULT_EXCEPTION_THROWN, FALLBACK_NOT_DEFINED));
+            for (boolean succeeded : BOOLEANS) {
+                invocationsTotal[invocationsIndex(succeeded, false, false)] = invocationsCounter(succeeded, false, false);
+            }
         }
 
         if (operation.hasRetry()) {
-            registry.counter(RETRY_RETRIES_TOTAL, methodTagSingleton);
-
-            registry.counter(RETRY_CALLS_TOTAL, Arrays.asList(methodTag, RETRIED_FALSE, RETRY_RESULT_VALUE_RETURNED));
-            registry.counter(RETRY_CALLS_TOTAL, Arrays.asList(methodTag, RETRIED_FALSE, RETRY_RESULT_EXCEPTION_NOT_RETRYABLE));
-            registry.counter(RETRY_CALLS_TOTAL, Arrays.asList(methodTag, RETRIED_FALSE, RETRY_RESULT_MAX_RETRIES_REACHED));
-            registry.counter(RETRY_CALLS_TOTAL, Arrays.asList(methodTag, RETRIED_FALSE, RETRY_RESULT_MAX_DURATION_REACHED));
-            registry.counter(RETRY_CALLS_TOTAL, Arrays.asList(methodTag, RETRIED_TRUE, RETRY_RESULT_VALUE_RETURNED));
-            registry.counter(RETRY_CALLS_TOTAL, Arrays.asList(methodTag, RETRIED_TRUE, RETRY_RESULT_EXCEPTION_NOT_RETRYABLE));
-            registry.counter(RETRY_CALLS_TOTAL, Arrays.asList(methodTag, RETRIED_TRUE, RETRY_RESULT_MAX_RETRIES_REACHED));
-            registry.counter(RETRY_CALLS_TOTAL, Arrays.asList(methodTag, RETRIED_TRUE, RETRY_RESULT_MAX_DURATION_REACHED));
+            this.retryRetriesTotal = registry.counter(RETRY_RETRIES_TOTAL, Collections.singleton(methodTag));
+
+            this.retryCallsTotal = new Counter[10];
+            for (boolean retried : BOOLEANS) {
+                Tag retriedTag = retried ? RETRIED_TRUE : RETRIED_FALSE;
+                retryCallsTotal[retryCallsIndex(retried, RETRY_RESULT_VALUE_RETURNED_INDEX)] = counter(RETRY_CALLS_TOTAL,
+                        retriedTag, RETRY_RESULT_VALUE_RETURNED);
+                retryCallsTotal[retryCallsIndex(retried, RETRY_RESULT_EXCEPTION_NOT_RETRYABLE_INDEX)] = counter(
+                        RETRY_CALLS_TOTAL, retriedTag, RETRY_RESULT_EXCEPTION_NOT_RETRYABLE);
+                retryCallsTotal[retryCallsIndex(retried, RETRY_RESULT_MAX_RETRIES_REACHED_INDEX)] = counter(
+                        RETRY_CALLS_TOTAL, retriedTag, RETRY_RESULT_MAX_RETRIES_REACHED);
+                retryCallsTotal[retryCallsIndex(retried, RETRY_RESULT_MAX_DURATION_REACHED_INDEX)] = counter(
+                        RETRY_CALLS_TOTAL, retriedTag, RETRY_RESULT_MAX_DURATION_REACHED);
+                if (operation.hasRetryBudget()) {
+                    retryCallsTotal[retryCallsIndex(retried, RETRY_RESULT_BUDGET_EXHAUSTED_INDEX)] = counter(
+                            RETRY_CALLS_TOTAL, retriedTag, RETRY_RESULT_BUDGET_EXHAUSTED);
+                }
+            }
+        } else {
+            this.retryRetriesTotal = null;
+            this.retryCallsTotal = null;
         }
 
         if (operation.hasTimeout()) {
-            registry.counter(TIMEOUT_CALLS_TOTAL, Arrays.asList(methodTag, TIMED_OUT_TRUE));
-            registry.counter(TIMEOUT_CALLS_TOTAL, Arrays.asList(methodTag, TIMED_OUT_FALSE));
+            this.timeoutCallsTimedOut = counter(TIMEOUT_CALLS_TOTAL, TIMED_OUT_TRUE);
+            this.timeoutCallsNotTimedOut = counter(TIMEOUT_CALLS_TOTAL, TIMED_OUT_FALSE);
 
-            registry.timer(TIMEOUT_EXECUTION_DURATION, methodTagSingleton);
+            this.timeoutExecutionDuration = registry.timer(TIMEOUT_EXECUTION_DURATION, Collections.singleton(methodTag));
+        } else {
+            this.timeoutCallsTimedOut = null;
+            this.timeoutCallsNotTimedOut = null;
+            this.timeoutExecutionDuration = null;
         }
 
         if (operation.hasCircuitBreaker()) {
-            registry.counter(CIRCUIT_BREAKER_CALLS_TOTAL, Arrays.asList(methodTag, CIRCUIT_BREAKER_RESULT_SUCCESS));
-            registry.counter(CIRCUIT_BREAKER_CALLS_TOTAL, Arrays.asList(methodTag, CIRCUIT_BREAKER_RESULT_FAILURE));
-            registry.counter(CIRCUIT_BREAKER_CALLS_TOTAL, Arrays.asList(methodTag, CIRCUIT_BREAKER_RESULT_CB_OPEN));
-
-            registry.counter(CIRCUIT_BREAKER_OPENED_TOTAL, methodTagSingleton);
+            this.circuitBreakerCallsTotal = new Counter[CircuitBreakerEvents.Result.values().length];
+            circuitBreakerCallsTotal[CircuitBreakerEvents.Result.SUCCESS.ordinal()] = counter(CIRCUIT_BREAKER_CALLS_TOTAL,
+                    CIRCUIT_BREAKER_RESULT_SUCCESS);
+            circuitBreakerCallsTotal[CircuitBreakerEvents.Result.FAILURE.ordinal()] = counter(CIRCUIT_BREAKER_CALLS_TOTAL,
+                    CIRCUIT_BREAKER_RESULT_FAILURE);
+            circuitBreakerCallsTotal[CircuitBreakerEvents.Result.PREVENTED.ordinal()] = counter(CIRCUIT_BREAKER_CALLS_TOTAL,
+                    CIRCUIT_BREAKER_RESULT_CB_OPEN);
+
+            this.circuitBreakerOpenedTotal = registry.counter(CIRCUIT_BREAKER_OPENED_TOTAL,
+                    Collections.singleton(methodTag));
+        } else {
+            this.circuitBreakerCallsTotal = null;
+            this.circuitBreakerOpenedTotal = null;
         }
 
         if (operation.hasBulkhead()) {
-            registry.counter(BULKHEAD_CALLS_TOTAL, Arrays.asList(methodTag, BULKHEAD_RESULT_ACCEPTED));
-            registry.counter(BULKHEAD_CALLS_TOTAL, Arrays.asList(methodTag, BULKHEAD_RESULT_REJECTED));
+            this.bulkheadCallsAccepted = counter(BULKHEAD_CALLS_TOTAL, BULKHEAD_RESULT_ACCEPTED);
+            this.bulkheadCallsRejected = counter(BULKHEAD_CALLS_TOTAL, BULKHEAD_RESULT_REJECTED);
 
-            registry.timer(BULKHEAD_RUNNING_DURATION, methodTagSingleton);
+            this.bulkheadRunningDuration = registry.timer(BULKHEAD_RUNNING_DURATION, Collections.singleton(methodTag));
             if (operation.mayBeAsynchronous()) {
-                registry.timer(BULKHEAD_WAITING_DURATION, methodTagSingleton);
+                this.bulkheadWaitingDuration = registry.timer(BULKHEAD_WAITING_DURATION, Collections.singleton(methodTag));
+            } else {
+                this.bulkheadWaitingDuration = null;
             }
+        } else {
+            this.bulkheadCallsAccepted = null;
+            this.bulkheadCallsRejected = null;
+            this.bulkheadRunningDuration = null;
+            this.bulkheadWaitingDuration = null;
         }
 
         if (operation.hasRateLimit()) {
-            registry.counter(RATE_LIMIT_CALLS_TOTAL, Arrays.asList(methodTag, RATE_LIMIT_RESULT_PERMITTED));
-            registry.counter(RATE_LIMIT_CALLS_TOTAL, Arrays.asList(methodTag, RATE_LIMIT_RESULT_REJECTED));
+            this.rateLimitCallsPermitted = counter(RATE_LIMIT_CALLS_TOTAL, RATE_LIMIT_RESULT_PERMITTED);
+            this.rateLimitCallsRejected = counter(RATE_LIMIT_CALLS_TOTAL, RATE_LIMIT_RESULT_REJECTED);
+        } else {
+            this.rateLimitCallsPermitted = null;
+            this.rateLimitCallsRejected = null;
+        }
+
+        if (operation.hasHedge()) {
+            this.hedgeCallsTotal = new Counter[HedgeEvents.Result.values().length];
+            hedgeCallsTotal[HedgeEvents.Result.PRIMARY_WON.ordinal()] = counter(HEDGE_CALLS_TOTAL,
+                    HEDGE_RESULT_PRIMARY_WON);
+            hedgeCallsTotal[HedgeEvents.Result.HEDGE_WON.ordinal()] = counter(HEDGE_CALLS_TOTAL,
+                    HEDGE_RESULT_HEDGE_WON);
+            hedgeCallsTotal[HedgeEvents.Result.EXCEPTION_THROWN.ordinal()] = counter(HEDGE_CALLS_TOTAL,
+                    HEDGE_RESULT_EXCEPTION_THROWN);
+
+            this.hedgeHedgesTotal = registry.counter(HEDGE_HEDGES_TOTAL, Collections.singleton(methodTag));
+        } else {
+            this.hedgeCallsTotal = null;
+            this.hedgeHedgesTotal = null;
         }
     }
 
+    private Counter counter(String name, Tag... tags) {
+        Tag[] allTags = new Tag[tags.length + 1];
+        allTags[0] = methodTag;
+        System.arraycopy(tags, 0, allTags, 1, tags.length);
+        return registry.counter(name, Arrays.asList(allTags));
+    }
+
+    private Counter invocationsCounter(boolean succeeded, boolean fallbackDefined, boolean fallbackApplied) {
+        Tag resultTag = succeeded ? RESULT_VALUE_RETURNED : RESULT_EXCEPTION_THROWN;
+        Tag fallbackTag = fallbackDefined ? (fallbackApplied ? FALLBACK_APPLIED : FALLBACK_NOT_APPLIED) : FALLBACK_NOT_DEFINED;
+        return counter(INVOCATIONS_TOTAL, resultTag, fallbackTag);
+    }
+
+    private static int invocationsIndex(boolean succeeded, boolean fallbackDefined, boolean fallbackApplied) {
+        int fallbackIndex = fallbackDefined ? (fallbackApplied ? 0 : 1) : 2;
+        return (succeeded ? 0 : 3) + fallbackIndex;
+    }
+
+    private static int retryCallsIndex(boolean retried, int resultIndex) {
+        return (retried ? 5 : 0) + resultIndex;
+    }
+
     // Micrometer only refers to the state object (our supplier) behind the gauge weakly,
     // so we refer to it strongly from the value extraction function
     //
@@ -154,60 +266,60 @@ public class MicrometerRecorder implements MetricsRecorder {
 
     @Override
     public void executionFinished(boolean succeeded, boolean fallbackDefined, boolean fallbackApplied) {
-        Tag resultTag = succeeded ? RESULT_VALUE_RETURNED : RESULT_EXCEPTION_THROWN;
-        Tag fallbackTag = fallbackDefined ? (fallbackApplied ? FALLBACK_APPLIED : FALLBACK_NOT_APPLIED) : FALLBACK_NOT_DEFINED;
-        registry.counter(INVOCATIONS_TOTAL, Arrays.asList(methodTag, resultTag, fallbackTag)).increment();
+        int index = invocationsIndex(succeeded, fallbackDefined, fallbackApplied);
+        Counter counter = invocationsTotal[index];
+        if (counter == null) {
+            // benign race, the registry always returns the same counter
+            counter = invocationsCounter(succeeded, fallbackDefined, fallbackApplied);
+            invocationsTotal[index] = counter;
+        }
+        counter.increment();
     }
 
     @Override
     public void retryAttempted() {
-        registry.counter(RETRY_RETRIES_TOTAL, methodTagSingleton).increment();
+        retryRetriesTotal.increment();
     }
 
     @Override
     public void retryValueReturned(boolean retried) {
-        registry.counter(RETRY_CALLS_TOTAL, Arrays.asList(methodTag, retried ? RETRIED_TRUE : RETRIED_FALSE,
-                RETRY_RESULT_VALUE_RETURNED)).increment();
+        retryCallsTotal[retryCallsIndex(retried, RETRY_RESULT_VALUE_RETURNED_INDEX)].increment();
     }
 
     @Override
     public void retryExceptionNotRetryable(boolean retried) {
-        registry.counter(RETRY_CALLS_TOTAL, Arrays.asList(methodTag, retried ? RETRIED_TRUE : RETRIED_FALSE,
-                RETRY_RESULT_EXCEPTION_NOT_RETRYABLE)).increment();
+        retryCallsTotal[retryCallsIndex(retried, RETRY_RESULT_EXCEPTION_NOT_RETRYABLE_INDEX)].increment();
     }
 
     @Override
     public void retryMaxRetriesReached(boolean retried) {
-        registry.counter(RETRY_CALLS_TOTAL, Arrays.asList(methodTag, retried ? RETRIED_TRUE : RETRIED_FALSE,
-                RETRY_RESULT_MAX_RETRIES_REACHED)).increment();
+        retryCallsTotal[retryCallsIndex(retried, RETRY_RESULT_MAX_RETRIES_REACHED_INDEX)].increment();
     }
 
     @Override
     public void retryMaxDurationReached(boolean retried) {
-        registry.counter(RETRY_CALLS_TOTAL, Arrays.asList(methodTag, retried ? RETRIED_TRUE : RETRIED_FALSE,
-                RETRY_RESULT_MAX_DURATION_REACHED)).increment();
+        retryCallsTotal[retryCallsIndex(retried, RETRY_RESULT_MAX_DURATION_REACHED_INDEX)].increment();
+    }
+
+    @Override
+    public void retryBudgetExhausted(boolean retried) {
+        retryCallsTotal[retryCallsIndex(retried, RETRY_RESULT_BUDGET_EXHAUSTED_INDEX)].increment();
     }
 
     @Override
     public void timeoutFinished(boolean timedOut, long time) {
-        registry.counter(TIMEOUT_CALLS_TOTAL, Arrays.asList(methodTag, timedOut ? TIMED_OUT_TRUE : TIMED_OUT_FALSE))
-                .increment();
-        registry.timer(TIMEOUT_EXECUTION_DURATION, methodTagSingleton).record(time, TimeUnit.NANOSECONDS);
+        (timedOut ? timeoutCallsTimedOut : timeoutCallsNotTimedOut).increment();
+        timeoutExecutionDuration.record(time, TimeUnit.NANOSECONDS);
     }
 
     @Override
     public void circuitBreakerFinished(CircuitBreakerEvents.Result result) {
-        Tag circuitBreakerResultTag = switch (result) {
-            case SUCCESS -> CIRCUIT_BREAKER_RESULT_SUCCESS;
-            case FAILURE -> CIRCUIT_BREAKER_RESULT_FAILURE;
-            case PREVENTED -> CIRCUIT_BREAKER_RESULT_CB_OPEN;
-        };
-        registry.counter(CIRCUIT_BREAKER_CALLS_TOTAL, Arrays.asList(methodTag, circuitBreakerResultTag)).increment();
+        circuitBreakerCallsTotal[result.ordinal()].increment();
     }
 
     @Override
     public void circuitBreakerMovedToOpen() {
-        registry.counter(CIRCUIT_BREAKER_OPENED_TOTAL, methodTagSingleton).increment();
+        circuitBreakerOpenedTotal.increment();
     }
 
     @Override
@@ -242,8 +354,7 @@ public class MicrometerRecorder implements MetricsRecorder {
 
     @Override
     public void bulkheadDecisionMade(boolean accepted) {
-        Tag bulkheadResultTag = accepted ? BULKHEAD_RESULT_ACCEPTED : BULKHEAD_RESULT_REJECTED;
-        registry.counter(BULKHEAD_CALLS_TOTAL, Arrays.asList(methodTag, bulkheadResultTag)).increment();
+        (accepted ? bulkheadCallsAccepted : bulkheadCallsRejected).increment();
     }
 
     @Override
@@ -258,17 +369,31 @@ public class MicrometerRecorder implements MetricsRecorder {
 
     @Override
     public void updateBulkheadRunningDuration(long time) {
-        registry.timer(BULKHEAD_RUNNING_DURATION, methodTagSingleton).record(time, TimeUnit.NANOSECONDS);
+        bulkheadRunningDuration.record(time, TimeUnit.NANOSECONDS);
     }
 
     @Override
     public void updateBulkheadWaitingDuration(long time) {
-        registry.timer(BULKHEAD_WAITING_DURATION, methodTagSingleton).record(time, TimeUnit.NANOSECONDS);
+        bulkheadWaitingDuration.record(time, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void registerBulkheadConcurrencyLimit(LongSupplier supplier) {
+        registerGauge(supplier, BULKHEAD_CONCURRENCY_LIMIT, methodTag);
     }
 
     @Override
     public void rateLimitDecisionMade(boolean permitted) {
-        Tag rateLimitResultTag = permitted ? RATE_LIMIT_RESULT_PERMITTED : RATE_LIMIT_RESULT_REJECTED;
-        registry.counter(RATE_LIMIT_CALLS_TOTAL, Arrays.asList(methodTag, rateLimitResultTag)).increment();
+        (permitted ? rateLimitCallsPermitted : rateLimitCallsRejected).increment();
+    }
+
+    @Override
+    public void hedgeSent() {
+        hedgeHedgesTotal.increment();
+    }
+
+    @Override
+    public void hedgeFinished(HedgeEvents.Result result) {
+        hedgeCallsTotal[result.ordinal()].increment();
     }
 }
@@ -1,6 +1,7 @@
 package io.smallrye.faulttolerance.core.metrics;
 
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.BULKHEAD_CALLS_TOTAL;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.BULKHEAD_CONCURRENCY_LIMIT;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.BULKHEAD_EXECUTIONS_RUNNING;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.BULKHEAD_EXECUTIONS_WAITING;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.BULKHEAD_RUNNING_DURATION;
@@ -9,6 +10,8 @@ import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.CIRCUIT_B
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.CIRCUIT_BREAKER_OPENED_TOTAL;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.CIRCUIT_BREAKER_STATE_CURRENT;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.CIRCUIT_BREAKER_STATE_TOTAL;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.HEDGE_CALLS_TOTAL;
+import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.HEDGE_HEDGES_TOTAL;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.INVOCATIONS_TOTAL;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.RATE_LIMIT_CALLS_TOTAL;
 import static io.smallrye.faulttolerance.core.metrics.MetricsConstants.RETRY_CALLS_TOTAL;
@@ -26,6 +29,7 @@ import io.opentelemetry.api.metrics.DoubleHistogram;
 import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.Meter;
 import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
+import io.smallrye.faulttolerance.core.hedge.HedgeEvents;
 
 public class OpenTelemetryRecorder implements MetricsRecorder {
     private static final List<Double> BUCKET_BOUNDARIES = List.of(
@@ -35,6 +39,14 @@ public class OpenTelemetryRecorder implements MetricsRecorder {
             2.5, 5.0, 7.5, 10.0);
     private static final double NANOS_TO_SECONDS = 1.0 / 1_000_000_000.0;
 
+    private static final boolean[] BOOLEANS = { true, false };
+
+    private static final int RETRY_RESULT_VALUE_RETURNED_INDEX = 0;
+    private static final int RETRY_RESULT_EXCEPTION_NOT_RETRYABLE_INDEX = 1;
+    private static final int RETRY_RESULT_MAX_RETRIES_REACHED_INDEX = 2;
+    private static final int RETRY_RESULT_MAX_DURATION_REACHED_INDEX = 3;
+    private static final int RETRY_RESULT_BUDGET_EXHAUSTED_INDEX = 4;
+
     private static final AttributeKey<String> METHOD = AttributeKey.stringKey("method");
 
     private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
@@ -54,6 +66,7 @@ public class OpenTelemetryRecorder implements MetricsRecorder {
     private static final String RETRY_RESULT_EXCEPTION_NOT_RETRYABLE = "exceptionNotRetryable";
     private static final String RETRY_RESULT_MAX_RETRIES_REACHED = "maxRetriesReached";
     private static final String RETRY_RESULT_MAX_DURATION_REACHED = "maxDurationReached";
+    private static final String RETRY_RESULT_BUDGET_EXHAUSTED = "budgetExhausted";
 
     private static final AttributeKey<String> TIMED_OUT = AttributeKey.stringKey("timedOut");
     private static final String TIMED_OUT_TRUE = "true";
@@ -77,6 +90,11 @@ public class OpenTelemetryRecorder implements MetricsRecorder {
     private static final String RATE_LIMIT_RESULT_PERMITTED = "permitted";
     private static final String RATE_LIMIT_RESULT_REJECTED = "rejected";
 
+    private static final AttributeKey<String> HEDGE_RESULT = AttributeKey.stringKey("hedgeResult");
+    private static final String HEDGE_RESULT_PRIMARY_WON = "primaryWon";
+    private static final String HEDGE_RESULT_HEDGE_WON = "hedgeWon";
+    private static final String HEDGE_RESULT_EXCEPTION_THROWN = "exceptionThrown";
+
     private final Meter meter;
     private final String methodName;
 
@@ -91,11 +109,70 @@ public class OpenTelemetryRecorder implements MetricsRecorder {
     private final DoubleHistogram bulkheadRunningDuration;
     private final DoubleHistogram bulkheadWaitingDuration;
     private final LongCounter rateLimitCallsTotal;
+    private final LongCounter hedgeCallsTotal;
+    private final LongCounter hedgeHedgesTotal;
+
+    // all attributes are built eagerly, so that recording a metric doesn't have to allocate them;
+    // array-based attributes are indexed the same way as in `MicrometerRecorder`
+
+    private final Attributes methodAttributes;
+    private final Attributes[] invocationsAttributes = new Attributes[6];
+    private final Attributes[] retryCallsAttributes = new Attributes[10];
+    private final Attributes timedOutAttributes;
+    private final Attributes notTimedOutAttributes;
+    private final Attributes[] circuitBreakerCallsAttributes = new Attributes[CircuitBreakerEvents.Result.values().length];
+    private final Attributes bulkheadAcceptedAttributes;
+    private final Attributes bulkheadRejectedAttributes;
+    private final Attributes rateLimitPermittedAttributes;
+    private final Attributes rateLimitRejectedAttributes;
+    private final Attributes[] hedgeCallsAttributes = new Attributes[HedgeEvents.Result.values().length];
 
     public OpenTelemetryRecorder(Meter meter, MeteredOperation operation) {
         this.meter = meter;
         this.methodName = operation.name();
 
+        this.methodAttributes = Attributes.of(METHOD, methodName);
+        for (boolean succeeded : BOOLEANS) {
+            String result = succeeded ? RESULT_VALUE_RETURNED : RESULT_EXCEPTION_THROWN;
+            invocationsAttributes[invocationsIndex(succeeded, true, true)] = Attributes.of(
+                    METHOD, methodName, RESULT, result, FALLBACK, FALLBACK_APPLIED);
+            invocationsAttributes[invocationsIndex(succeeded, true, false)] = Attributes.of(
+                    METHOD, methodName, RESULT, result, FALLBACK, FALLBACK_NOT_APPLIED);
+            invocationsAttributes[invocationsIndex(succeeded, false, false)] = Attributes.of(
+                    METHOD, methodName, RESULT, result, FALLBACK, FALLBACK_NOT_DEFINED);
+        }
+        for (boolean retried : BOOLEANS) {
+            String retriedValue = retried ? RETRIED_TRUE : RETRIED_FALSE;
+            retryCallsAttributes[retryCallsIndex(retried, RETRY_RESULT_VALUE_RETURNED_INDEX)] = Attributes.of(
+                    METHOD, methodName, RETRIED, retriedValue, RETRY_RESULT, RETRY_RESULT_VALUE_RETURNED);
+            retryCallsAttributes[retryCallsIndex(retried, RETRY_RESULT_EXCEPTION_NOT_RETRYABLE_INDEX)] = Attributes.of(
+                    METHOD, methodName, RETRIED, retriedValue, RETRY_RESULT, RETRY_RESULT_EXCEPTION_NOT_RETRYABLE);
+            retryCallsAttributes[retryCallsIndex(retried, RETRY_RESULT_MAX_RETRIES_REACHED_INDEX)] = Attributes.of(
+                    METHOD, methodName, RETRIED, retriedValue, RETRY_RESULT, RETRY_RESULT_MAX_RETRIES_REACHED);
+            retryCallsAttributes[retryCallsIndex(retried, RETRY_RESULT_MAX_DURATION_REACHED_INDEX)] = Attributes.of(
+                    METHOD, methodName, RETRIED, retriedValue, RETRY_RESULT, RETRY_RESULT_MAX_DURATION_REACHED);
+            retryCallsAttributes[retryCallsIndex(retried, RETRY_RESULT_BUDGET_EXHAUSTED_INDEX)] = Attributes.of(
+                    METHOD, methodName, RETRIED, retriedValue, RETRY_RESULT, RETRY_RESULT_BUDGET_EXHAUSTED);
+        }
+        this.timedOutAttributes = Attributes.of(METHOD, methodName, TIMED_OUT, TIMED_OUT_TRUE);
+        this.notTimedOutAttributes = Attributes.of(METHOD, methodName, TIMED_OUT, TIMED_OUT_FALSE);
+        circuitBreakerCallsAttributes[CircuitBreakerEvents.Result.SUCCESS.ordinal()] = Attributes.of(
+                METHOD, methodName, CIRCUIT_BREAKER_RESULT, CIRCUIT_BREAKER_RESULT_SUCCESS);
+        circuitBreakerCallsAttributes[CircuitBreakerEvents.Result.FAILURE.ordinal()] = Attributes.of(
+                METHOD, methodName, CIRCUIT_BREAKER_RESULT, CIRCUIT_BREAKER_RESULT_FAILURE);
+        circuitBreakerCallsAttributes[CircuitBreakerEvents.Result.PREVENTED.ordinal()] = Attributes.of(
+                METHOD, methodName, CIRCUIT_BREAKER_RESULT, CIRCUIT_BREAKER_RESULT_CB_OPEN);
+        this.bulkheadAcceptedAttributes = Attributes.of(METHOD, methodName, BULKHEAD_RESULT, BULKHEAD_RESULT_ACCEPTED);
+        this.bulkheadRejectedAttributes = Attributes.of(METHOD, methodName, BULKHEAD_RESULT, BULKHEAD_RESULT_REJECTED);
+        this.rateLimitPermittedAttributes = Attributes.of(METHOD, methodName, RATE_LIMIT_RESULT, RATE_LIMIT_RESULT_PERMITTED);
+        this.rateLimitRejectedAttributes = Attributes.of(METHOD, methodName, RATE_LIMIT_RESULT, RATE_LIMIT_RESULT_REJECTED);
+        hedgeCallsAttributes[HedgeEvents.Result.PRIMARY_WON.ordinal()] = Attributes.of(
+                METHOD, methodName, HEDGE_RESULT, HEDGE_RESULT_PRIMARY_WON);
+        hedgeCallsAttributes[HedgeEvents.Result.HEDGE_WON.ordinal()] = Attributes.of(
+                METHOD, methodName, HEDGE_RESULT, HEDGE_RESULT_HEDGE_WON);
+        hedgeCallsAttributes[HedgeEvents.Result.EXCEPTION_THROWN.ordinal()] = Attributes.of(
+                METHOD, methodName, HEDGE_RESULT, HEDGE_RESULT_EXCEPTION_THROWN);
+
         // make sure all applicable metrics for given method are registered eagerly
         // we only touch sync metrics, because async metrics are registered eagerly elsewhere
 
@@ -153,6 +230,23 @@ public class OpenTelemetryRecorder implements MetricsRecorder {
         } else {
             this.rateLimitCallsTotal = null;
         }
+
+        if (operation.hasHedge()) {
+            this.hedgeCallsTotal = meter.counterBuilder(HEDGE_CALLS_TOTAL).build();
+            this.hedgeHedgesTotal = meter.counterBuilder(HEDGE_HEDGES_TOTAL).build();
+        } else {
+            this.hedgeCallsTotal = null;
+            this.hedgeHedgesTotal = null;
+        }
+    }
+
+    private static int invocationsIndex(boolean succeeded, boolean fallbackDefined, boolean fallbackApplied) {
+        int fallbackIndex = fallbackDefined ? (fallbackApplied ? 0 : 1) : 2;
+        return (succeeded ? 0 : 3) + fallbackIndex;
+    }
+
+    private static int retryCallsIndex(boolean retried, int resultIndex) {
+        return (retried ? 5 : 0) + resultIndex;
     }
 
     private void registerAsyncUpDownCounter(LongSupplier supplier, String name, Attributes attributes) {
@@ -171,76 +265,53 @@ public class OpenTelemetryRecorder implements MetricsRecorder {
 
     @Override
     public void executionFinished(boolean succeeded, boolean fallbackDefined, boolean fallbackApplied) {
-        String fallback = fallbackDefined
-                ? (fallbackApplied ? FALLBACK_APPLIED : FALLBACK_NOT_APPLIED)
-                : FALLBACK_NOT_DEFINED;
-
-        invocationsTotal.add(1, Attributes.of(
-                METHOD, methodName,
-                RESULT, succeeded ? RESULT_VALUE_RETURNED : RESULT_EXCEPTION_THROWN,
-                FALLBACK, fallback));
+        invocationsTotal.add(1, invocationsAttributes[invocationsIndex(succeeded, fallbackDefined, fallbackApplied)]);
     }
 
     @Override
     public void retryAttempted() {
-        retryRetriesTotal.add(1, Attributes.of(METHOD, methodName));
+        retryRetriesTotal.add(1, methodAttributes);
     }
 
     @Override
     public void retryValueReturned(boolean retried) {
-        retryCallsTotal.add(1, Attributes.of(
-                METHOD, methodName,
-                RETRIED, retried ? RETRIED_TRUE : RETRIED_FALSE,
-                RETRY_RESULT, RETRY_RESULT_VALUE_RETURNED));
+        retryCallsTotal.add(1, retryCallsAttributes[retryCallsIndex(retried, RETRY_RESULT_VALUE_RETURNED_INDEX)]);
     }
 
     @Override
     public void retryExceptionNotRetryable(boolean retried) {
-        retryCallsTotal.add(1, Attributes.of(
-                METHOD, methodName,
-                RETRIED, retried ? RETRIED_TRUE : RETRIED_FALSE,
-                RETRY_RESULT, RETRY_RESULT_EXCEPTION_NOT_RETRYABLE));
+        retryCallsTotal.add(1, retryCallsAttributes[retryCallsIndex(retried, RETRY_RESULT_EXCEPTION_NOT_RETRYABLE_INDEX)]);
     }
 
     @Override
     public void retryMaxRetriesReached(boolean retried) {
-        retryCallsTotal.add(1, Attributes.of(
-                METHOD, methodName,
-                RETRIED, retried ? RETRIED_TRUE : RETRIED_FALSE,
-                RETRY_RESULT, RETRY_RESULT_MAX_RETRIES_REACHED));
+        retryCallsTotal.add(1, retryCallsAttributes[retryCallsIndex(retried, RETRY_RESULT_MAX_RETRIES_REACHED_INDEX)]);
     }
 
     @Override
     public void retryMaxDurationReached(boolean retried) {
-        retryCallsTotal.add(1, Attributes.of(
-                METHOD, methodName,
-                RETRIED, retried ? RETRIED_TRUE : RETRIED_FALSE,
-                RETRY_RESULT, RETRY_RESULT_MAX_DURATION_REACHED));
+        retryCallsTotal.add(1, retryCallsAttributes[retryCallsIndex(retried, RETRY_RESULT_MAX_DURATION_REACHED_INDEX)]);
+    }
+
+    @Override
+    public void retryBudgetExhausted(boolean retried) {
+        retryCallsTotal.add(1, retryCallsAttributes[retryCallsIndex(retried, RETRY_RESULT_BUDGET_EXHAUSTED_INDEX)]);
     }
 
     @Override
     public void timeoutFinished(boolean timedOut, long time) {
-        timeoutCallsTotal.add(1, Attributes.of(
-                METHOD, methodName,
-                TIMED_OUT, timedOut ? TIMED_OUT_TRUE : TIMED_OUT_FALSE));
-        timeoutExecutionDuration.record(time * NANOS_TO_SECONDS, Attributes.of(METHOD, methodName));
+        timeoutCallsTotal.add(1, timedOut ? timedOutAttributes : notTimedOutAttributes);
+        timeoutExecutionDuration.record(time * NANOS_TO_SECONDS, methodAttributes);
     }
 
     @Override
     public void circuitBreakerFinished(CircuitBreakerEvents.Result result) {
-        String circuitBreakerResult = switch (result) {
-            case SUCCESS -> CIRCUIT_BREAKER_RESULT_SUCCESS;
-            case FAILURE -> CIRCUIT_BREAKER_RESULT_FAILURE;
-            case PREVENTED -> CIRCUIT_BREAKER_RESULT_CB_OPEN;
-        };
-        circuitBreakerCallsTotal.add(1, Attributes.of(
-                METHOD, methodName,
-                CIRCUIT_BREAKER_RESULT, circuitBreakerResult));
+        circuitBreakerCallsTotal.add(1, circuitBreakerCallsAttributes[result.ordinal()]);
     }
 
     @Override
     public void circuitBreakerMovedToOpen() {
-        circuitBreakerOpenedTotal.add(1, Attributes.of(METHOD, methodName));
+        circuitBreakerOpenedTotal.add(1, methodAttributes);
     }
 
     @Override
@@ -287,35 +358,47 @@ public class OpenTelemetryRecorder implements MetricsRecorder {
 
     @Override
     public void bulkheadDecisionMade(boolean accepted) {
-        bulkheadCallsTotal.add(1, Attributes.of(
-                METHOD, methodName,
-                BULKHEAD_RESULT, accepted ? BULKHEAD_RESULT_ACCEPTED : BULKHEAD_RESULT_REJECTED));
+        bulkheadCallsTotal.add(1, accepted ? bulkheadAcceptedAttributes : bulkheadRejectedAttributes);
     }
 
     @Override
     public void registerBulkheadExecutionsRunning(LongSupplier supplier) {
-        registerAsyncUpDownCounter(supplier, BULKHEAD_EXECUTIONS_RUNNING, Attributes.of(METHOD, methodName));
+        registerAsyncUpDownCounter(supplier, BULKHEAD_EXECUTIONS_RUNNING, methodAttributes);
     }
 
     @Override
     public void registerBulkheadExecutionsWaiting(LongSupplier supplier) {
-        registerAsyncUpDownCounter(supplier, BULKHEAD_EXECUTIONS_WAITING, Attributes.of(METHOD, methodName));
+        registerAsyncUpDownCounter(supplier, BULKHEAD_EXECUTIONS_WAITING, methodAttributes);
     }
 
     @Override
     public void updateBulkheadRunningDuration(long time) {
-        bulkheadRunningDuration.record(time * NANOS_TO_SECONDS, Attributes.of(METHOD, methodName));
+        bulkheadRunningDuration.record(time * NANOS_TO_SECONDS, methodAttributes);
     }
 
     @Override
     public void updateBulkheadWaitingDuration(long time) {
-        bulkheadWaitingDuration.record(time * NANOS_TO_SECONDS, Attributes.of(METHOD, methodName));
+        bulkheadWaitingDuration.record(time * NANOS_TO_SECONDS, methodAttributes);
+    }
+
+    @Override
+    public void registerBulkheadConcurrencyLimit(LongSupplier supplier) {
+        meter.gaugeBuilder(BULKHEAD_CONCURRENCY_LIMIT).ofLongs()
+                .buildWithCallback(m -> m.record(supplier.getAsLong(), methodAttributes));
     }
 
     @Override
     public void rateLimitDecisionMade(boolean permitted) {
-        rateLimitCallsTotal.add(1, Attributes.of(
-                METHOD, methodName,
-                RATE_LIMIT_RESULT, permitted ? RATE_LIMIT_RESULT_PERMITTED : RATE_LIMIT_RESULT_REJECTED));
+        rateLimitCallsTotal.add(1, permitted ? rateLimitPermittedAttributes : rateLimitRejectedAttributes);
+    }
+
+    @Override
+    public void hedgeSent() {
+        hedgeHedgesTotal.add(1, methodAttributes);
+    }
+
+    @Override
+    public void hedgeFinished(HedgeEvents.Result result) {
+        hedgeCallsTotal.add(1, hedgeCallsAttributes[result.ordinal()]);
     }
 }
@@ -0,0 +1,134 @@
+package io.smallrye.faulttolerance.core.rate.limit;
+
+import io.smallrye.faulttolerance.core.stopwatch.RunningStopwatch;
+import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
+
+/**
+ * Approximate rolling window, also known as <em>sliding window counter</em>. The time window is divided
+ * into {@value #MAX_BUCKETS} buckets (or fewer, if the time window is shorter than {@value #MAX_BUCKETS}
+ * millis) and only the number of permitted invocations in each bucket is stored. The number of invocations
+ * in the rolling time window ending now is estimated as the number of invocations in the current bucket
+ * and the preceding buckets that are fully covered by the time window, plus the number of invocations
+ * in the oldest bucket, which is only partially covered by the time window, weighted by the covered fraction.
+ * <p>
+ * The estimate is exact except for the oldest bucket, whose invocations are assumed to be evenly distributed.
+ * Therefore, the number of invocations permitted in any time interval of given length may differ from
+ * {@code maxInvocations} by at most the number of invocations permitted in a single bucket, that is,
+ * in 1/{@value #MAX_BUCKETS} of the time window. When the invocations are spread evenly, this is at most
+ * {@code maxInvocations / }{@value #MAX_BUCKETS}. In the worst case, when all invocations happen
+ * in a single burst at the end of a bucket, up to {@code 2 * maxInvocations} may be permitted
+ * in an interval of given length, but a burst of {@code maxInvocations} is never repeated sooner
+ * than {@code timeWindowInMillis} later.
+ * <p>
+ * Requires memory proportional to the number of buckets and amortized constant time. Rejected invocations
+ * do not count towards the limit. The state spans multiple buckets, so it is guarded by a lock, but unlike
+ * in the sliding log, the critical section doesn't depend on {@code maxInvocations}.
+ * <p>
+ * Waiting for permits is not supported, the {@linkplain #reserve(long) default implementation} is used.
+ */
+final class ApproximateRollingWindow implements TimeWindow {
+    static final int MAX_BUCKETS = 20;
+
+    private final RunningStopwatch stopwatch;
+
+    private final int maxInvocations;
+    private final long timeWindowInMillis;
+    private final long minSpacingInMillis;
+
+    private final int buckets;
+    // number of permitted invocations in the current bucket and in the `buckets` preceding buckets,
+    // indexed by the bucket index modulo `buckets + 1`
+    private final int[] counts;
+
+    private long currentBucket;
+    // number of permitted invocations in the current bucket and in the `buckets - 1` preceding buckets,
+    // that is, excluding the oldest bucket
+    private long recentCount;
+
+    private long lastInvocation;
+
+    ApproximateRollingWindow(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis, long minSpacingInMillis) {
+        this.stopwatch = stopwatch.start();
+        this.maxInvocations = maxInvocations;
+        this.timeWindowInMillis = timeWindowInMillis;
+        this.minSpacingInMillis = minSpacingInMillis;
+
+        this.buckets = (int) Math.min(MAX_BUCKETS, timeWindowInMillis);
+        this.counts = new int[buckets + 1];
+
+        this.lastInvocation = -minSpacingInMillis;
+    }
+
+    @Override
+    public synchronized long record() {
+        long now = stopwatch.elapsedTimeInMillis();
+        advance(now * buckets / timeWindowInMillis);
+
+        long spacingResult = 0;
+        if (minSpacingInMillis != 0) {
+            long timeFromPrevious = now - lastInvocation;
+            lastInvocation = now;
+            if (timeFromPrevious < minSpacingInMillis) {
+                spacingResult = minSpacingInMillis - Math.max(timeFromPrevious, 0);
+            }
+        }
+
+        if (recentCount >= maxInvocations) {
+            // the oldest bucket must be left behind first
+            return Math.max(bucketStart(currentBucket + 1) - now, 1);
+        }
+
+        int oldestCount = counts[slot(currentBucket - buckets)];
+        if (oldestCount > 0) {
+            // the fraction of the oldest bucket covered by the time window is
+            // `((currentBucket + 1) * timeWindowInMillis - now * buckets) / timeWindowInMillis`
+            double coveredNumerator = (currentBucket + 1) * timeWindowInMillis - now * buckets;
+            double estimate = recentCount + oldestCount * coveredNumerator / timeWindowInMillis;
+            if (estimate + 1 > maxInvocations) {
+                double allowedOldest = maxInvocations - recentCount - 1;
+                double permittedAt = ((currentBucket + 1) * timeWindowInMillis
+                        - allowedOldest * timeWindowInMillis / oldestCount) / buckets;
+                return Math.max((long) Math.ceil(permittedAt) - now, 1);
+            }
+        }
+
+        if (spacingResult != 0) {
+            return spacingResult;
+        }
+
+        counts[slot(currentBucket)]++;
+        recentCount++;
+        return 0;
+    }
+
+    private void advance(long bucket) {
+        if (bucket <= currentBucket) {
+            return;
+        }
+
+        if (bucket - currentBucket > buckets) {
+            // all buckets are outside of the time window
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = 0;
+            }
+            recentCount = 0;
+        } else {
+            for (long next = currentBucket + 1; next <= bucket; next++) {
+                // the bucket that becomes the oldest one is no longer counted as recent
+                recentCount -= counts[slot(next - buckets)];
+                // the slot of the previous oldest bucket is reused
+                counts[slot(next)] = 0;
+            }
+        }
+        currentBucket = bucket;
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) counts.length);
+    }
+
+    private long bucketStart(long bucket) {
+        // ceiling division, so that the result is the first millisecond belonging to the bucket
+        return (bucket * timeWindowInMillis + buckets - 1) / buckets;
+    }
+}
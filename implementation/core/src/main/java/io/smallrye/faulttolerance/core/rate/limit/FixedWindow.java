@@ -1,19 +1,46 @@
 package io.smallrye.faulttolerance.core.rate.limit;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import io.smallrye.faulttolerance.core.stopwatch.RunningStopwatch;
 import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
 
+/**
+ * Lock-free fixed window. Time windows are aligned to the start of the stopwatch, so the current
+ * time window is identified by its index ({@code now / timeWindowInMillis}). The index of the time window
+ * of the last invocation attempt and the number of invocation attempts in that time window are packed
+ * into a single {@code long} that is updated using CAS.
+ * <p>
+ * The index is stored in 31 bits, so it is only compared modulo 2<sup>31</sup>. If there's no invocation
+ * attempt for exactly a multiple of 2<sup>31</sup> time windows, the stale count is used, which may lead
+ * to rejecting invocations in a single time window. This is unlikely enough to be ignored. The number
+ * of invocation attempts is stored in 32 bits; it saturates at {@code maxInvocations}, because any
+ * further attempts are rejected anyway.
+ * <p>
+ * The time of the last invocation attempt, which is only needed when {@code minSpacingInMillis} is set,
+ * is stored separately. Rejected invocations count as attempts, same as in the other time windows.
+ * <p>
+ * When permits are {@linkplain #reserve(long) reserved}, the state may contain a future time window,
+ * which is where permits are reserved until it is full; then, the next time window is used. The minimum
+ * spacing is only applied after a permit is reserved in a time window, so it may postpone an invocation
+ * to a later time window than the one where the permit was reserved. This is fine, because the minimum
+ * spacing is supposed to be much shorter than the time window.
+ */
 final class FixedWindow implements TimeWindow {
+    private static final int COUNT_BITS = 32;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long INDEX_MASK = (1L << 31) - 1;
+
     private final RunningStopwatch stopwatch;
 
     private final int maxInvocations;
     private final long timeWindowInMillis;
     private final long minSpacingInMillis;
 
-    private long currentPermits; // could be `int`, but that would require guarding against underflow
-    private long nextRefresh;
+    // time window index in the high 32 bits, number of invocation attempts in the low 32 bits
+    private final AtomicLong state = new AtomicLong();
 
-    private long lastInvocation;
+    private final AtomicLong lastInvocation;
 
     FixedWindow(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis, long minSpacingInMillis) {
         this.stopwatch = stopwatch.start();
@@ -21,32 +48,90 @@ final class FixedWindow implements TimeWindow {
         this.timeWindowInMillis = timeWindowInMillis;
         this.minSpacingInMillis = minSpacingInMillis;
 
-        this.currentPermits = maxInvocations;
-        this.nextRefresh = timeWindowInMillis;
-        this.lastInvocation = -minSpacingInMillis;
+        this.lastInvocation = new AtomicLong(-minSpacingInMillis);
     }
 
     @Override
-    public synchronized long record() {
-        long now = stopwatch.elapsedTimeInMillis();
-        if (now >= nextRefresh) {
-            currentPermits = maxInvocations;
-            // how many time windows has passed: (now - nextRefresh) / timeWindowInMillis
-            // how many time windows needs to be added to obtain the next refresh time: 1 + time windows passed
-            nextRefresh += timeWindowInMillis * (1 + (now - nextRefresh) / timeWindowInMillis);
-        }
+    public long record() {
+        long result;
+        long now;
+        while (true) {
+            // the state must be read before the current time, so that it is never
+            // from a later time window (assuming a monotonic stopwatch)
+            long current = state.get();
+            now = stopwatch.elapsedTimeInMillis();
+            long index = now / timeWindowInMillis;
+            long indexBits = index & INDEX_MASK;
 
-        long result = currentPermits > 0 ? 0 : nextRefresh - now;
-        if (result == 0 && minSpacingInMillis != 0) {
-            long timeFromPrevious = now - lastInvocation;
-            if (timeFromPrevious < minSpacingInMillis) {
-                result = minSpacingInMillis - timeFromPrevious;
+            long attempts = (current >>> COUNT_BITS) == indexBits ? current & COUNT_MASK : 0;
+            if (attempts >= maxInvocations) {
+                // the number of attempts is saturated, no need to update it
+                result = (index + 1) * timeWindowInMillis - now;
+                break;
+            }
+            if (state.compareAndSet(current, (indexBits << COUNT_BITS) | (attempts + 1))) {
+                result = 0;
+                break;
             }
         }
 
-        currentPermits--;
-        lastInvocation = now;
+        if (minSpacingInMillis != 0) {
+            long timeFromPrevious = now - lastInvocation.getAndSet(now);
+            if (result == 0 && timeFromPrevious < minSpacingInMillis) {
+                result = minSpacingInMillis - Math.max(timeFromPrevious, 0);
+            }
+        }
 
         return result;
     }
+
+    @Override
+    public long reserve(long maxWaitInMillis) {
+        long wait;
+        long now;
+        while (true) {
+            long current = state.get();
+            now = stopwatch.elapsedTimeInMillis();
+            long index = now / timeWindowInMillis;
+
+            // the stored index is either from the past or, if permits were reserved, from the near future
+            // (since it is only stored modulo 2^31, a very old index may look like a far future one)
+            long difference = ((current >>> COUNT_BITS) - index) << 33 >> 33; // sign extension of 31 bits
+            if (difference > maxWaitInMillis / timeWindowInMillis + 1) {
+                difference = -1;
+            }
+            long targetIndex = difference > 0 ? index + difference : index;
+            long attempts = difference >= 0 ? current & COUNT_MASK : 0;
+            if (attempts >= maxInvocations) {
+                targetIndex++;
+                attempts = 0;
+            }
+
+            wait = targetIndex == index ? 0 : targetIndex * timeWindowInMillis - now;
+            if (wait > maxWaitInMillis) {
+                return -wait;
+            }
+            if (state.compareAndSet(current, ((targetIndex & INDEX_MASK) << COUNT_BITS) | (attempts + 1))) {
+                break;
+            }
+        }
+
+        return minSpacingInMillis != 0 ? reserveSpacing(lastInvocation, minSpacingInMillis, now, wait, maxWaitInMillis) : wait;
+    }
+
+    // shared by the time windows that store the time of the last invocation separately
+    static long reserveSpacing(AtomicLong lastInvocation, long minSpacingInMillis, long now, long wait,
+            long maxWaitInMillis) {
+        while (true) {
+            long last = lastInvocation.get();
+            long scheduled = Math.max(now + wait, last + minSpacingInMillis);
+            if (scheduled - now > maxWaitInMillis) {
+                // the permit reserved in the time window is wasted, but that's fine, we can't give it back
+                return -(scheduled - now);
+            }
+            if (lastInvocation.compareAndSet(last, scheduled)) {
+                return scheduled - now;
+            }
+        }
+    }
 }
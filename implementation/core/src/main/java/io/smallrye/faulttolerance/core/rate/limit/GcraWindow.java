@@ -0,0 +1,119 @@
+package io.smallrye.faulttolerance.core.rate.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.smallrye.faulttolerance.core.stopwatch.RunningStopwatch;
+import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
+
+/**
+ * Generic cell rate algorithm (GCRA). The only state is the theoretical arrival time (TAT) of the next
+ * invocation, updated using a single CAS. Each permitted invocation moves the TAT by the emission interval
+ * ({@code timeWindowInMillis / maxInvocations}); an invocation is permitted if it doesn't arrive earlier than
+ * the TAT minus the burst tolerance ({@code (burst - 1)} emission intervals). Rejected invocations don't move
+ * the TAT, so the time after which retrying makes sense is known precisely.
+ * <p>
+ * To avoid floating point arithmetic, all times are stored in units of {@code 1 / scale} millis, where
+ * {@code scale} is chosen so that the emission interval is an integer. That is {@code maxInvocations} divided
+ * by its greatest common divisor with {@code timeWindowInMillis}, but at most {@value #MAX_SCALE}; in that case,
+ * the emission interval is rounded up, so the rate is never exceeded.
+ * <p>
+ * The time of the last invocation attempt, which is only needed when {@code minSpacingInMillis} is set,
+ * is stored separately. When permits are {@linkplain #reserve(long) reserved}, the TAT moves into the future
+ * beyond the burst tolerance, which means that there's a queue of invocations waiting for their reserved permits.
+ */
+final class GcraWindow implements TimeWindow {
+    static final long MAX_SCALE = 1_000_000;
+
+    private final RunningStopwatch stopwatch;
+
+    private final long minSpacingInMillis;
+
+    private final long scale;
+    private final long emissionInterval;
+    private final long burstTolerance;
+
+    // theoretical arrival time, in units of `1 / scale` millis
+    private final AtomicLong tat = new AtomicLong();
+
+    private final AtomicLong lastInvocation;
+
+    GcraWindow(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis, long minSpacingInMillis, int burst) {
+        this.stopwatch = stopwatch.start();
+        this.minSpacingInMillis = minSpacingInMillis;
+
+        long gcd = gcd(maxInvocations, timeWindowInMillis);
+        if (maxInvocations / gcd <= MAX_SCALE) {
+            this.scale = maxInvocations / gcd;
+            this.emissionInterval = timeWindowInMillis / gcd;
+        } else {
+            this.scale = MAX_SCALE;
+            this.emissionInterval = ceilDiv(Math.multiplyExact(timeWindowInMillis, MAX_SCALE), maxInvocations);
+        }
+        this.burstTolerance = ((burst > 0 ? burst : maxInvocations) - 1) * emissionInterval;
+
+        this.lastInvocation = new AtomicLong(-minSpacingInMillis);
+    }
+
+    @Override
+    public long record() {
+        long nowInMillis = stopwatch.elapsedTimeInMillis();
+        long now = nowInMillis * scale;
+
+        long spacingResult = 0;
+        if (minSpacingInMillis != 0) {
+            long timeFromPrevious = nowInMillis - lastInvocation.getAndSet(nowInMillis);
+            if (timeFromPrevious < minSpacingInMillis) {
+                spacingResult = minSpacingInMillis - Math.max(timeFromPrevious, 0);
+            }
+        }
+
+        while (true) {
+            long current = tat.get();
+            long allowAt = current - burstTolerance;
+            if (now < allowAt) {
+                return ceilDiv(allowAt - now, scale);
+            }
+            if (spacingResult != 0) {
+                return spacingResult;
+            }
+            if (tat.compareAndSet(current, Math.max(current, now) + emissionInterval)) {
+                return 0;
+            }
+        }
+    }
+
+    @Override
+    public long reserve(long maxWaitInMillis) {
+        long nowInMillis = stopwatch.elapsedTimeInMillis();
+        long now = nowInMillis * scale;
+
+        long wait;
+        while (true) {
+            long current = tat.get();
+            wait = Math.max(ceilDiv(current - burstTolerance - now, scale), 0);
+            if (wait > maxWaitInMillis) {
+                return -wait;
+            }
+            if (tat.compareAndSet(current, Math.max(current, now) + emissionInterval)) {
+                break;
+            }
+        }
+
+        return minSpacingInMillis != 0
+                ? FixedWindow.reserveSpacing(lastInvocation, minSpacingInMillis, nowInMillis, wait, maxWaitInMillis)
+                : wait;
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long tmp = a % b;
+            a = b;
+            b = tmp;
+        }
+        return a;
+    }
+}
@@ -6,27 +6,59 @@ import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
 
 import io.smallrye.faulttolerance.api.RateLimitException;
 import io.smallrye.faulttolerance.api.RateLimitType;
+import io.smallrye.faulttolerance.core.CancellationForwarder;
 import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.ContextKey;
 import io.smallrye.faulttolerance.core.FaultToleranceContext;
 import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
 import io.smallrye.faulttolerance.core.Future;
 import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
+import io.smallrye.faulttolerance.core.timer.Timer;
 
+/**
+ * Rate limit based on a {@link TimeWindow}.
+ * <p>
+ * By default, invocations that exceed the limit are rejected immediately. If {@code maxWaitInMillis}
+ * is set, an invocation that exceeds the limit instead reserves a permit, provided that a permit becomes
+ * available in that time, and waits for it. Synchronous invocations wait by sleeping, asynchronous invocations
+ * are scheduled on the {@link Timer}. Since the permit is reserved, waiting invocations don't compete
+ * for permits when the time comes.
+ */
 public class RateLimit<V> implements FaultToleranceStrategy<V> {
     private final FaultToleranceStrategy<V> delegate;
-    private final String description;
 
     private final TimeWindow timeWindow;
 
+    // 0 means no waiting
+    private final long maxWaitInMillis;
+    private final Timer timer;
+
+    private final boolean stacklessRejections;
+    private final String rejectionMessage;
+
     public RateLimit(FaultToleranceStrategy<V> delegate, String description, int maxInvocations, long timeWindowInMillis,
             long minSpacingInMillis, RateLimitType type, Stopwatch stopwatch) {
+        this(delegate, description, maxInvocations, timeWindowInMillis, minSpacingInMillis, type, stopwatch,
+                new Options());
+    }
+
+    public RateLimit(FaultToleranceStrategy<V> delegate, String description, int maxInvocations, long timeWindowInMillis,
+            long minSpacingInMillis, RateLimitType type, Stopwatch stopwatch, Options options) {
         this.delegate = checkNotNull(delegate, "Rate limit delegate must be set");
-        this.description = checkNotNull(description, "Rate limit description must be set");
+        checkNotNull(description, "Rate limit description must be set");
         checkNotNull(type, "Rate limit type must be set");
         check(maxInvocations, maxInvocations > 0, "Max invocations must be > 0");
         check(timeWindowInMillis, timeWindowInMillis > 0, "Time window length must be > 0");
         check(minSpacingInMillis, minSpacingInMillis >= 0, "Min spacing must be >= 0");
         checkNotNull(stopwatch, "Stopwatch must be set");
+        checkNotNull(options, "Rate limit options must be set");
+        int burst = check(options.burst, options.burst >= 0, "Burst must be >= 0");
+        this.maxWaitInMillis = check(options.maxWaitInMillis, options.maxWaitInMillis >= 0, "Max wait must be >= 0");
+        check(maxWaitInMillis, maxWaitInMillis == 0 || type != RateLimitType.APPROXIMATE_ROLLING,
+                "Max wait is not supported with approximate rolling time windows");
+        this.timer = maxWaitInMillis > 0 ? checkNotNull(options.timer, "Timer must be set") : null;
+        this.stacklessRejections = options.stacklessRejections;
+        this.rejectionMessage = description + " rate limit exceeded";
 
         if (type == RateLimitType.FIXED) {
             timeWindow = TimeWindow.createFixed(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis);
@@ -34,35 +66,123 @@ public class RateLimit<V> implements FaultToleranceStrategy<V> {
             timeWindow = TimeWindow.createRolling(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis);
         } else if (type == RateLimitType.SMOOTH) {
             timeWindow = TimeWindow.createSmooth(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis);
+        } else if (type == RateLimitType.GCRA) {
+            timeWindow = TimeWindow.createGcra(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis, burst);
+        } else if (type == RateLimitType.APPROXIMATE_ROLLING) {
+            timeWindow = TimeWindow.createApproximateRolling(stopwatch, maxInvocations, timeWindowInMillis,
+                    minSpacingInMillis);
         } else {
             throw new IllegalArgumentException("Unknown rate limit type: " + type);
         }
     }
 
+    /**
+     * Optional settings of a {@link RateLimit}. By default, the burst is {@code maxInvocations}
+     * and invocations that exceed the limit are rejected immediately.
+     */
+    public static final class Options {
+        private int burst;
+        private long maxWaitInMillis;
+        private Timer timer;
+        private boolean stacklessRejections;
+
+        // only used with the GCRA type, 0 means `maxInvocations`
+        public Options burst(int burst) {
+            this.burst = burst;
+            return this;
+        }
+
+        // 0 means no waiting, `timer` is only required if `maxWaitInMillis > 0`
+        public Options maxWait(long maxWaitInMillis, Timer timer) {
+            this.maxWaitInMillis = maxWaitInMillis;
+            this.timer = timer;
+            return this;
+        }
+
+        public Options stacklessRejections(boolean stacklessRejections) {
+            this.stacklessRejections = stacklessRejections;
+            return this;
+        }
+    }
+
     @Override
     public Future<V> apply(FaultToleranceContext<V> ctx) {
         LOG.trace("RateLimit started");
         try {
-            Completer<V> result = Completer.create();
+            if (maxWaitInMillis > 0) {
+                return applyWithWaiting(ctx);
+            }
 
             long retryAfter = timeWindow.record();
-            if (retryAfter == 0) {
-                try {
-                    LOG.trace("Task permitted by rate limit");
-                    ctx.fireEvent(RateLimitEvents.DecisionMade.PERMITTED);
-                    delegate.apply(ctx).thenComplete(result);
-                } catch (Exception e) {
-                    result.completeWithError(e);
-                }
-            } else {
-                LOG.debugf("%s rate limit exceeded", description);
+            if (retryAfter != 0) {
+                LOG.debug(rejectionMessage);
                 ctx.fireEvent(RateLimitEvents.DecisionMade.REJECTED);
-                result.completeWithError(new RateLimitException(retryAfter, description + " rate limit exceeded"));
+                return Future.ofError(rejection(retryAfter));
             }
 
+            Completer<V> result = Completer.create();
+            try {
+                LOG.trace("Task permitted by rate limit");
+                ctx.fireEvent(RateLimitEvents.DecisionMade.PERMITTED);
+                Future<V> delegateResult = delegate.apply(ctx);
+                result.onCancel(delegateResult::cancel);
+                delegateResult.thenComplete(result);
+            } catch (Exception e) {
+                result.completeWithError(e);
+            }
             return result.future();
         } finally {
             LOG.trace("RateLimit finished");
         }
     }
+
+    private RateLimitException rejection(long retryAfterMillis) {
+        return stacklessRejections
+                ? new StacklessRateLimitException(retryAfterMillis, rejectionMessage)
+                : new RateLimitException(retryAfterMillis, rejectionMessage);
+    }
+
+    private Future<V> applyWithWaiting(FaultToleranceContext<V> ctx) {
+        long wait = timeWindow.reserve(maxWaitInMillis);
+        if (wait < 0) {
+            LOG.debug(rejectionMessage);
+            ctx.fireEvent(RateLimitEvents.DecisionMade.REJECTED);
+            return Future.ofError(rejection(-wait));
+        }
+
+        ctx.fireEvent(RateLimitEvents.DecisionMade.PERMITTED);
+        if (wait == 0) {
+            LOG.trace("Task permitted by rate limit");
+            return applyDelegate(ctx);
+        }
+
+        LOG.tracef("Task permitted by rate limit after waiting for %d ms", wait);
+        if (ctx.isSync()) {
+            try {
+                Thread.sleep(wait);
+            } catch (InterruptedException e) {
+                return Future.ofError(e);
+            }
+            return applyDelegate(ctx);
+        }
+
+        Completer<V> result = Completer.create();
+        // when cancelled while waiting, the timer task is cancelled and the permit stays consumed,
+        // because rate limit reservations cannot be returned
+        CancellationForwarder cancellation = new CancellationForwarder(result);
+        cancellation.forwardTo(timer.schedule(wait, () -> {
+            if (!cancellation.isCancelled()) {
+                cancellation.forwardTo(applyDelegate(ctx)).thenComplete(result);
+            }
+        }, ctx.get(ContextKey.EXECUTOR)));
+        return result.future();
+    }
+
+    private Future<V> applyDelegate(FaultToleranceContext<V> ctx) {
+        try {
+            return delegate.apply(ctx);
+        } catch (Exception e) {
+            return Future.ofError(e);
+        }
+    }
 }
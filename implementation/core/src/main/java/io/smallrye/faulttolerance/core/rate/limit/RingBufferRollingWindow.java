@@ -1,74 +1,149 @@
 package io.smallrye.faulttolerance.core.rate.limit;
 
-import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import io.smallrye.faulttolerance.core.stopwatch.RunningStopwatch;
 import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
 
+/**
+ * Lock-free rolling window. Invocation attempts are numbered sequentially and the timestamp
+ * of attempt {@code n} is stored in slot {@code n % maxInvocations} of a ring buffer. Hence,
+ * when recording attempt {@code n}, the slot contains the timestamp of attempt {@code n - maxInvocations},
+ * and if that is still in the time window, the invocation is rejected.
+ * <p>
+ * An attempt is recorded by a CAS on its slot, which claims the attempt number. Each slot contains
+ * the timestamp and the lap number ({@code n / maxInvocations}) of the attempt, so a slot that was
+ * already claimed for the current lap is recognized. The next attempt number is only advanced after
+ * the slot is claimed, either by the thread that claimed it or by any other thread that notices.
+ * <p>
+ * The timestamp is stored in 40 bits, so the stopwatch may run for about 34 years. The lap number
+ * is stored in 24 bits and only compared modulo 2<sup>24</sup>, which is fine, because the slot
+ * either contains the current lap or the previous one.
+ * <p>
+ * When permits are {@linkplain #reserve(long) reserved}, the timestamp stored for an attempt is the time
+ * when the invocation is permitted, which may be in the future. The minimum spacing is then measured
+ * between these times.
+ */
 final class RingBufferRollingWindow implements TimeWindow {
+    private static final int TIMESTAMP_BITS = 40;
+    private static final long TIMESTAMP_MASK = (1L << TIMESTAMP_BITS) - 1;
+    private static final long LAP_MASK = (1L << (64 - TIMESTAMP_BITS)) - 1;
+
     private final RunningStopwatch stopwatch;
 
     private final long timeWindowInMillis;
     private final long minSpacingInMillis;
 
-    private final long[] timestamps; // length == maxInvocations
-
-    private int head; // index of newest entry
-    private int tail; // index of oldest still valid entry
+    private final AtomicLongArray slots; // length == maxInvocations
+    private final AtomicLong next = new AtomicLong(); // number of the next attempt
 
     RingBufferRollingWindow(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis, long minSpacingInMillis) {
         this.stopwatch = stopwatch.start();
         this.timeWindowInMillis = timeWindowInMillis;
         this.minSpacingInMillis = minSpacingInMillis;
-        this.timestamps = new long[maxInvocations];
-        Arrays.fill(timestamps, Long.MAX_VALUE);
-        this.head = -1;
-        this.tail = 0;
+        this.slots = new AtomicLongArray(maxInvocations);
+        // the "previous lap" of lap 0
+        for (int i = 0; i < maxInvocations; i++) {
+            slots.set(i, pack(-1, 0));
+        }
     }
 
     @Override
-    public synchronized long record() {
-        long now = stopwatch.elapsedTimeInMillis();
-        long validity = now - timeWindowInMillis; // all entries before or at this timestamp have expired
+    public long record() {
+        int length = slots.length();
+        while (true) {
+            long n = next.get();
+            int index = (int) (n % length);
+            long lap = n / length;
+
+            long slot = slots.get(index);
+            long slotLap = lapOf(slot);
+            if (slotLap == (lap & LAP_MASK)) {
+                // attempt `n` already claimed the slot, help advancing
+                next.compareAndSet(n, n + 1);
+                continue;
+            } else if (slotLap != ((lap - 1) & LAP_MASK)) {
+                // `n` is stale, other attempts claimed this slot in the meantime
+                continue;
+            }
+            // if the slot is not claimed by attempt `n` yet, the previous attempt is not overwritten either
+            // (with a single slot, this is the same slot and hence the same value)
+            long previous = n > 0 ? slots.get((int) ((n - 1) % length)) : 0;
 
-        while (timestamps[tail] <= validity && head != tail) {
-            advanceTail();
-        }
+            long now = stopwatch.elapsedTimeInMillis();
+            if (!slots.compareAndSet(index, slot, pack(lap, now))) {
+                continue;
+            }
+            next.compareAndSet(n, n + 1);
 
-        boolean isFull = isFull();
-        long result = !isFull ? 0 : timestamps[tail] - now + timeWindowInMillis;
+            long result = 0;
+            if (n >= length) {
+                long oldest = timestampOf(slot);
+                if (oldest > now - timeWindowInMillis) {
+                    result = oldest - now + timeWindowInMillis;
+                }
+            }
 
-        if (result == 0 && minSpacingInMillis != 0 && head >= 0) {
-            long previous = timestamps[head];
-            if (previous != Long.MAX_VALUE) {
-                long timeFromPrevious = now - previous;
+            if (result == 0 && minSpacingInMillis != 0 && n > 0) {
+                long timeFromPrevious = now - timestampOf(previous);
                 if (timeFromPrevious < minSpacingInMillis) {
-                    result = minSpacingInMillis - timeFromPrevious;
+                    result = minSpacingInMillis - Math.max(timeFromPrevious, 0);
                 }
             }
-        }
 
-        if (isFull) {
-            advanceTail();
+            return result;
         }
-        advanceHead();
-        timestamps[head] = now;
-
-        return result;
     }
 
-    private boolean isFull() {
-        if (head < 0) {
-            return false;
+    @Override
+    public long reserve(long maxWaitInMillis) {
+        int length = slots.length();
+        while (true) {
+            long n = next.get();
+            int index = (int) (n % length);
+            long lap = n / length;
+
+            long slot = slots.get(index);
+            long slotLap = lapOf(slot);
+            if (slotLap == (lap & LAP_MASK)) {
+                next.compareAndSet(n, n + 1);
+                continue;
+            } else if (slotLap != ((lap - 1) & LAP_MASK)) {
+                continue;
+            }
+            long previous = n > 0 ? slots.get((int) ((n - 1) % length)) : 0;
+
+            long now = stopwatch.elapsedTimeInMillis();
+            long scheduled = now;
+            if (n >= length) {
+                scheduled = Math.max(scheduled, timestampOf(slot) + timeWindowInMillis);
+            }
+            if (minSpacingInMillis != 0 && n > 0) {
+                scheduled = Math.max(scheduled, timestampOf(previous) + minSpacingInMillis);
+            }
+
+            long wait = scheduled - now;
+            if (wait > maxWaitInMillis) {
+                return -wait;
+            }
+            if (!slots.compareAndSet(index, slot, pack(lap, scheduled))) {
+                continue;
+            }
+            next.compareAndSet(n, n + 1);
+            return wait;
         }
-        return (head - tail + 1) % timestamps.length == 0;
     }
 
-    private void advanceHead() {
-        head = (head + 1) % timestamps.length;
+    private static long pack(long lap, long timestamp) {
+        return ((lap & LAP_MASK) << TIMESTAMP_BITS) | (timestamp & TIMESTAMP_MASK);
+    }
+
+    private static long lapOf(long slot) {
+        return slot >>> TIMESTAMP_BITS;
     }
 
-    private void advanceTail() {
-        tail = (tail + 1) % timestamps.length;
+    private static long timestampOf(long slot) {
+        return slot & TIMESTAMP_MASK;
     }
 }
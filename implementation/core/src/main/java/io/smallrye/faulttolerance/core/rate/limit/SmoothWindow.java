@@ -1,57 +1,102 @@
 package io.smallrye.faulttolerance.core.rate.limit;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import io.smallrye.faulttolerance.core.stopwatch.RunningStopwatch;
 import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
 
+/**
+ * Lock-free smooth window. This is a token bucket whose capacity is {@code maxInvocations}
+ * and which is refilled at a rate of {@code maxInvocations} per {@code timeWindowInMillis},
+ * implemented like the generic cell rate algorithm (GCRA). Instead of the number of permits
+ * and the time of their last refresh, we only store the time at which the bucket was (or would be)
+ * empty, as a {@code double} in an {@code AtomicLong} updated using CAS. The number of permits
+ * at given time is the time elapsed since then divided by the time it takes to refresh one permit,
+ * capped at {@code maxInvocations}.
+ * <p>
+ * The time of the last invocation attempt, which is only needed when {@code minSpacingInMillis} is set,
+ * is stored separately. Rejected invocations do not consume a permit.
+ * <p>
+ * When permits are {@linkplain #reserve(long) reserved}, the time at which the bucket is empty may be
+ * in the future, which means that there's a queue of invocations waiting for their reserved permits.
+ */
 final class SmoothWindow implements TimeWindow {
     private final RunningStopwatch stopwatch;
 
-    private final int maxInvocations;
     private final long minSpacingInMillis;
-    private final double refreshPermitsPerMillis;
-    private final double millisToRefreshOnePermit; // could be `long`, but we always use it as `double`
+    private final double millisToRefreshOnePermit;
+    private final double millisToRefreshAllPermits;
 
-    private double currentPermits;
+    // bits of a `double`, the time when the bucket was empty
+    private final AtomicLong emptyAt;
 
-    private long lastInvocation;
-    private long lastPermitRefresh;
+    private final AtomicLong lastInvocation;
 
     SmoothWindow(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis, long minSpacingInMillis) {
         this.stopwatch = stopwatch.start();
 
-        this.refreshPermitsPerMillis = (double) maxInvocations / (double) timeWindowInMillis;
         this.millisToRefreshOnePermit = (double) timeWindowInMillis / (double) maxInvocations;
-        this.maxInvocations = maxInvocations;
+        this.millisToRefreshAllPermits = timeWindowInMillis;
         this.minSpacingInMillis = minSpacingInMillis;
 
-        this.currentPermits = 1.0;
-        this.lastInvocation = -minSpacingInMillis;
-        this.lastPermitRefresh = 0;
+        // one permit is initially available
+        this.emptyAt = new AtomicLong(Double.doubleToRawLongBits(-millisToRefreshOnePermit));
+        this.lastInvocation = new AtomicLong(-minSpacingInMillis);
     }
 
     @Override
-    public synchronized long record() {
+    public long record() {
         long now = stopwatch.elapsedTimeInMillis();
 
-        double permitsToRefresh = (now - lastPermitRefresh) * refreshPermitsPerMillis;
-        if (permitsToRefresh > 0.01) {
-            currentPermits = Math.min(currentPermits + permitsToRefresh, maxInvocations);
-            lastPermitRefresh = now;
+        long spacingResult = 0;
+        if (minSpacingInMillis != 0) {
+            long timeFromPrevious = now - lastInvocation.getAndSet(now);
+            if (timeFromPrevious < minSpacingInMillis) {
+                spacingResult = minSpacingInMillis - Math.max(timeFromPrevious, 0);
+            }
         }
 
-        long result = currentPermits >= 1.0 ? 0 : Math.round((1.0 - currentPermits) * millisToRefreshOnePermit);
-        if (result == 0 && minSpacingInMillis != 0) {
-            long timeFromPrevious = now - lastInvocation;
-            if (timeFromPrevious < minSpacingInMillis) {
-                result = minSpacingInMillis - timeFromPrevious;
+        while (true) {
+            long current = emptyAt.get();
+            double currentEmptyAt = Double.longBitsToDouble(current);
+            // if the bucket is full, permits above capacity are forgotten
+            double effectiveEmptyAt = Math.max(currentEmptyAt, now - millisToRefreshAllPermits);
+
+            long result = Math.round(effectiveEmptyAt + millisToRefreshOnePermit - now);
+            if (result > 0) {
+                return result;
+            }
+            if (spacingResult != 0) {
+                return spacingResult;
+            }
+            if (emptyAt.compareAndSet(current, Double.doubleToRawLongBits(effectiveEmptyAt + millisToRefreshOnePermit))) {
+                return 0;
             }
         }
+    }
+
+    @Override
+    public long reserve(long maxWaitInMillis) {
+        long now = stopwatch.elapsedTimeInMillis();
 
-        if (result == 0) {
-            currentPermits--;
+        long wait;
+        while (true) {
+            long current = emptyAt.get();
+            double currentEmptyAt = Double.longBitsToDouble(current);
+            double effectiveEmptyAt = Math.max(currentEmptyAt, now - millisToRefreshAllPermits);
+
+            // the next permit is available when the bucket is refilled by one permit
+            wait = Math.max((long) Math.ceil(effectiveEmptyAt + millisToRefreshOnePermit - now), 0);
+            if (wait > maxWaitInMillis) {
+                return -wait;
+            }
+            if (emptyAt.compareAndSet(current, Double.doubleToRawLongBits(effectiveEmptyAt + millisToRefreshOnePermit))) {
+                break;
+            }
         }
-        lastInvocation = now;
 
-        return result;
+        return minSpacingInMillis != 0
+                ? FixedWindow.reserveSpacing(lastInvocation, minSpacingInMillis, now, wait, maxWaitInMillis)
+                : wait;
     }
 }
@@ -0,0 +1,16 @@
+package io.smallrye.faulttolerance.core.rate.limit;
+
+import io.smallrye.faulttolerance.api.RateLimitException;
+
+// thrown instead of `RateLimitException` when stackless rejections are enabled,
+// see `StacklessBulkheadException` for the rationale
+final class StacklessRateLimitException extends RateLimitException {
+    StacklessRateLimitException(long retryAfterMillis, String message) {
+        super(retryAfterMillis, message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
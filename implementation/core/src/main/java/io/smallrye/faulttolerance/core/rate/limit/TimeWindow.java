@@ -17,6 +17,27 @@ public interface TimeWindow {
      */
     long record();
 
+    /**
+     * Records an invocation attempt that may wait for a permit for at most {@code maxWaitInMillis}.
+     * A result of zero means that the invocation should be permitted immediately. A positive result
+     * means that a permit was reserved for the invocation and the invocation should be permitted
+     * after the returned number of milliseconds (which is never more than {@code maxWaitInMillis}).
+     * A negative result means that the invocation should be rejected and its absolute value is
+     * the minimum number of milliseconds after which retrying makes sense. Unlike with {@link #record()},
+     * rejected invocation attempts do not count towards the limit.
+     * <p>
+     * A single time window should either be used with {@code record()} or with {@code reserve()},
+     * not both. The default implementation never waits.
+     *
+     * @param maxWaitInMillis maximum time to wait for a permit
+     * @return zero or positive when the invocation should be permitted (immediately or after given time),
+     *         negative when the invocation should be rejected
+     */
+    default long reserve(long maxWaitInMillis) {
+        long result = record();
+        return result > 0 ? -result : result;
+    }
+
     static TimeWindow createFixed(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis, long minSpacingInMillis) {
         return new FixedWindow(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis);
     }
@@ -28,4 +49,15 @@ public interface TimeWindow {
     static TimeWindow createSmooth(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis, long minSpacingInMillis) {
         return new SmoothWindow(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis);
     }
+
+    // `burst` of 0 means `maxInvocations`
+    static TimeWindow createGcra(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis, long minSpacingInMillis,
+            int burst) {
+        return new GcraWindow(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis, burst);
+    }
+
+    static TimeWindow createApproximateRolling(Stopwatch stopwatch, int maxInvocations, long timeWindowInMillis,
+            long minSpacingInMillis) {
+        return new ApproximateRollingWindow(stopwatch, maxInvocations, timeWindowInMillis, minSpacingInMillis);
+    }
 }
@@ -15,5 +15,13 @@ public interface AsyncDelay {
      */
     void after(Throwable cause, Runnable task, Executor executor);
 
+    /**
+     * Like {@link #after(Throwable, Runnable, Executor)}, but the delay is at most {@code maxDelayInMillis}.
+     * The default implementation ignores {@code maxDelayInMillis}.
+     */
+    default void after(Throwable cause, long maxDelayInMillis, Runnable task, Executor executor) {
+        after(cause, task, executor);
+    }
+
     Supplier<AsyncDelay> NONE = () -> (cause, task, executor) -> task.run();
 }
@@ -3,19 +3,25 @@ package io.smallrye.faulttolerance.core.retry;
 import static io.smallrye.faulttolerance.core.retry.RetryLogger.LOG;
 import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
 
-import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
 
+import io.smallrye.faulttolerance.core.CancellationForwarder;
 import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.ContextKey;
 import io.smallrye.faulttolerance.core.FailureContext;
 import io.smallrye.faulttolerance.core.FaultToleranceContext;
 import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
 import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.async.FutureCancellationEvent;
 import io.smallrye.faulttolerance.core.stopwatch.RunningStopwatch;
 import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
+import io.smallrye.faulttolerance.core.timeout.Deadline;
+import io.smallrye.faulttolerance.core.timer.Timer;
+import io.smallrye.faulttolerance.core.timer.TimerTask;
 import io.smallrye.faulttolerance.core.util.ExceptionDecision;
 import io.smallrye.faulttolerance.core.util.ResultDecision;
 
@@ -31,11 +37,21 @@ public class Retry<V> implements FaultToleranceStrategy<V> {
     private final Supplier<AsyncDelay> asyncDelayBetweenRetries;
     private final Stopwatch stopwatch;
     private final Consumer<FailureContext> beforeRetry;
+    private final RetryBudget budget;
+    private final Timer maxDurationTimer;
 
     public Retry(FaultToleranceStrategy<V> delegate, String description, ResultDecision resultDecision,
             ExceptionDecision exceptionDecision, long maxRetries, long maxTotalDurationInMillis,
             Supplier<SyncDelay> syncDelayBetweenRetries, Supplier<AsyncDelay> asyncDelayBetweenRetries,
             Stopwatch stopwatch, Consumer<FailureContext> beforeRetry) {
+        this(delegate, description, resultDecision, exceptionDecision, maxRetries, maxTotalDurationInMillis,
+                syncDelayBetweenRetries, asyncDelayBetweenRetries, stopwatch, beforeRetry, new Options());
+    }
+
+    public Retry(FaultToleranceStrategy<V> delegate, String description, ResultDecision resultDecision,
+            ExceptionDecision exceptionDecision, long maxRetries, long maxTotalDurationInMillis,
+            Supplier<SyncDelay> syncDelayBetweenRetries, Supplier<AsyncDelay> asyncDelayBetweenRetries,
+            Stopwatch stopwatch, Consumer<FailureContext> beforeRetry, Options options) {
         this.delegate = checkNotNull(delegate, "Retry delegate must be set");
         this.description = checkNotNull(description, "Retry description must be set");
         this.resultDecision = checkNotNull(resultDecision, "Result decision must be set");
@@ -46,6 +62,31 @@ public class Retry<V> implements FaultToleranceStrategy<V> {
         this.asyncDelayBetweenRetries = checkNotNull(asyncDelayBetweenRetries, "Asynchronous delay must be set");
         this.stopwatch = checkNotNull(stopwatch, "Stopwatch must be set");
         this.beforeRetry = beforeRetry;
+        checkNotNull(options, "Retry options must be set");
+        this.budget = options.budget;
+        this.maxDurationTimer = options.maxDurationTimer;
+    }
+
+    /**
+     * Optional settings of a {@link Retry}. By default, the number of retries is only limited
+     * by {@code maxRetries} and {@code maxTotalDurationInMillis}, and the max duration is only
+     * checked between attempts.
+     */
+    public static final class Options {
+        private RetryBudget budget;
+        private Timer maxDurationTimer;
+
+        // `null` means no budget
+        public Options budget(RetryBudget budget) {
+            this.budget = budget;
+            return this;
+        }
+
+        // if set, an attempt that is in flight when the max duration is reached is cancelled
+        public Options maxDurationTimer(Timer maxDurationTimer) {
+            this.maxDurationTimer = maxDurationTimer;
+            return this;
+        }
     }
 
     @Override
@@ -56,16 +97,34 @@ public class Retry<V> implements FaultToleranceStrategy<V> {
                     ? asyncDelayBetweenRetries.get()
                     : new SyncDelayAsAsync(syncDelayBetweenRetries.get());
             RunningStopwatch runningStopwatch = stopwatch.start();
-            return retryLoop(ctx, runningStopwatch, delay);
+            MaxDurationWatcher watcher = maxDurationTimer != null && maxTotalDurationInMillis != Long.MAX_VALUE
+                    ? new MaxDurationWatcher(ctx)
+                    : null;
+            // must extract the deadline early, because the context may later contain a deadline
+            // established by an inner timeout
+            Deadline deadline = ctx.get(ContextKey.DEADLINE);
+            return retryLoop(ctx, runningStopwatch, delay, watcher, deadline);
         } finally {
             LOG.trace("Retry finished");
         }
     }
 
-    private Future<V> retryLoop(FaultToleranceContext<V> ctx, RunningStopwatch stopwatch, AsyncDelay delay) {
+    private Future<V> retryLoop(FaultToleranceContext<V> ctx, RunningStopwatch stopwatch, AsyncDelay delay,
+            MaxDurationWatcher watcher, Deadline deadline) {
+        // the watcher must be started before the first attempt
+        Completer<V> completer = watcher != null ? watcher.start() : Completer.create();
+
         Future<State<V>> future = Future.loop(State.initial(), State::shouldContinue, state -> {
+            if (watcher != null) {
+                watcher.lastFailure = state.lastFailure;
+                if (watcher.hasExpired()) {
+                    // the result has already been completed by the watcher
+                    return Future.ofError(watcher.failure());
+                }
+            }
+
             if (state.attempt == 0) {
-                return retryLoopIteration(ctx, stopwatch, state);
+                return retryLoopIteration(ctx, stopwatch, state, watcher, deadline);
             } else if (state.attempt <= maxRetries) {
                 if (stopwatch.elapsedTimeInMillis() >= maxTotalDurationInMillis) {
                     ctx.fireEvent(RetryEvents.Finished.MAX_DURATION_REACHED);
@@ -76,15 +135,38 @@ public class Retry<V> implements FaultToleranceStrategy<V> {
                     }
                 }
 
+                if (deadline != null && deadline.isExpired()) {
+                    return deadlineExceeded(ctx, state);
+                }
+
+                if (budget != null && !budget.tryAcquire()) {
+                    LOG.debugf("%s invocation failed, retry budget exhausted", description);
+                    ctx.fireEvent(RetryEvents.Finished.BUDGET_EXHAUSTED);
+                    if (state.lastFailure != null) {
+                        return Future.ofError(state.lastFailure);
+                    } else {
+                        return Future.ofError(new FaultToleranceException(description + " exhausted retry budget"));
+                    }
+                }
+
                 LOG.debugf("%s invocation failed, retrying (%d/%d)", description, state.attempt, maxRetries);
                 ctx.fireEvent(RetryEvents.Retried.INSTANCE);
 
                 Completer<State<V>> result = Completer.create();
+                CancellationForwarder cancellation = new CancellationForwarder(result);
 
                 try {
-                    delay.after(state.lastFailure, () -> {
-                        retryLoopIteration(ctx, stopwatch, state).thenComplete(result);
-                    }, ctx.get(Executor.class));
+                    // the delay is shortened if the deadline expires earlier,
+                    // in which case the next iteration fails fast
+                    long maxDelay = deadline != null ? deadline.remainingMillis() : Long.MAX_VALUE;
+                    delay.after(state.lastFailure, maxDelay, () -> {
+                        if (cancellation.isCancelled()) {
+                            // the retry was cancelled during the delay
+                            return;
+                        }
+                        cancellation.forwardTo(retryLoopIteration(ctx, stopwatch, state, watcher, deadline))
+                                .thenComplete(result);
+                    }, ctx.get(ContextKey.EXECUTOR));
                 } catch (Exception e) {
                     if (ctx.isSync() && Thread.interrupted()) {
                         result.completeWithError(new InterruptedException());
@@ -104,8 +186,19 @@ public class Retry<V> implements FaultToleranceStrategy<V> {
             }
         });
 
-        Completer<V> completer = Completer.create();
+        // cancelling the retry cancels the attempt or the delay in progress and stops retrying
+        completer.onCancel(() -> {
+            if (watcher != null) {
+                watcher.finish();
+            }
+            future.cancel();
+        });
+
         future.then((value, error) -> {
+            if (watcher != null) {
+                watcher.finish();
+            }
+
             if (error == null) {
                 completer.complete(value.value);
             } else {
@@ -115,7 +208,13 @@ public class Retry<V> implements FaultToleranceStrategy<V> {
         return completer.future();
     }
 
-    private Future<State<V>> retryLoopIteration(FaultToleranceContext<V> ctx, RunningStopwatch stopwatch, State<V> state) {
+    private Future<State<V>> retryLoopIteration(FaultToleranceContext<V> ctx, RunningStopwatch stopwatch, State<V> state,
+            MaxDurationWatcher watcher, Deadline deadline) {
+        if (watcher != null && watcher.hasExpired()) {
+            // an attempt was scheduled after delay, but the max duration was reached in the meantime
+            return Future.ofError(watcher.failure());
+        }
+
         if (stopwatch.elapsedTimeInMillis() >= maxTotalDurationInMillis) {
             ctx.fireEvent(RetryEvents.Finished.MAX_DURATION_REACHED);
             if (state.lastFailure != null) {
@@ -125,6 +224,10 @@ public class Retry<V> implements FaultToleranceStrategy<V> {
             }
         }
 
+        if (deadline != null && deadline.isExpired()) {
+            return deadlineExceeded(ctx, state);
+        }
+
         if (beforeRetry != null && state.attempt > 0) {
             try {
                 beforeRetry.accept(new FailureContext(state.lastFailure, ctx));
@@ -135,7 +238,18 @@ public class Retry<V> implements FaultToleranceStrategy<V> {
 
         Completer<State<V>> result = Completer.create();
         try {
-            delegate.apply(ctx).then((value, error) -> {
+            Future<V> attempt = delegate.apply(ctx);
+            result.onCancel(attempt::cancel);
+            if (watcher != null) {
+                watcher.attemptStarted(attempt);
+            }
+            attempt.then((value, error) -> {
+                if (watcher != null && watcher.hasExpired()) {
+                    // the result has already been completed by the watcher, the attempt was cancelled
+                    result.completeWithError(watcher.failure());
+                    return;
+                }
+
                 if (ctx.isSync()) {
                     if (error instanceof InterruptedException) {
                         ctx.fireEvent(RetryEvents.Finished.EXCEPTION_NOT_RETRYABLE);
@@ -150,6 +264,9 @@ public class Retry<V> implements FaultToleranceStrategy<V> {
 
                 if (error == null) {
                     if (resultDecision.isConsideredExpected(value)) {
+                        if (budget != null) {
+                            budget.recordSuccess();
+                        }
                         ctx.fireEvent(RetryEvents.Finished.VALUE_RETURNED);
                         result.complete(State.done(value));
                     } else {
@@ -175,6 +292,114 @@ public class Retry<V> implements FaultToleranceStrategy<V> {
         return result.future();
     }
 
+    private Future<State<V>> deadlineExceeded(FaultToleranceContext<V> ctx, State<V> state) {
+        LOG.debugf("%s deadline exceeded, no more attempts", description);
+        ctx.fireEvent(RetryEvents.Finished.MAX_DURATION_REACHED);
+        if (state.lastFailure != null) {
+            return Future.ofError(state.lastFailure);
+        } else {
+            return Future.ofError(Deadline.exceeded(description));
+        }
+    }
+
+    /**
+     * Enforces {@code maxTotalDurationInMillis} while an attempt is in flight. When the deadline is reached,
+     * the in-flight attempt is cancelled and the retry result is completed with the last failure,
+     * or with a {@link TimeoutException} if there's none. For synchronous invocations, cancelling means
+     * firing {@link FutureCancellationEvent} and interrupting the executing thread, similarly to timeouts.
+     */
+    private final class MaxDurationWatcher {
+        private static final int STATE_RUNNING = 0;
+        private static final int STATE_FINISHED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        private final FaultToleranceContext<V> ctx;
+        private final Completer<V> result = Completer.create();
+        // `null` for asynchronous invocations
+        private final Thread executingThread;
+
+        // writes guarded by `this`
+        private volatile int state = STATE_RUNNING;
+        private TimerTask task;
+
+        private volatile Future<V> attempt;
+        private volatile Throwable lastFailure;
+
+        MaxDurationWatcher(FaultToleranceContext<V> ctx) {
+            this.ctx = ctx;
+            this.executingThread = ctx.isSync() ? Thread.currentThread() : null;
+        }
+
+        Completer<V> start() {
+            TimerTask task = maxDurationTimer.schedule(maxTotalDurationInMillis, this::expire, ctx.get(ContextKey.EXECUTOR));
+            synchronized (this) {
+                this.task = task;
+            }
+            return result;
+        }
+
+        boolean hasExpired() {
+            return state == STATE_EXPIRED;
+        }
+
+        Throwable failure() {
+            Throwable lastFailure = this.lastFailure;
+            return lastFailure != null
+                    ? lastFailure
+                    : new TimeoutException(description + " reached max retry duration");
+        }
+
+        void attemptStarted(Future<V> attempt) {
+            this.attempt = attempt;
+            if (state == STATE_EXPIRED) {
+                // the deadline was reached concurrently, the attempt may not have been cancelled
+                attempt.cancel();
+            }
+        }
+
+        void finish() {
+            TimerTask task;
+            synchronized (this) {
+                if (state == STATE_EXPIRED) {
+                    if (executingThread != null) {
+                        // using `Thread.interrupted()` intentionally, the interruption came from `expire()`
+                        // and must not leak to the caller
+                        Thread.interrupted();
+                    }
+                    return;
+                }
+                state = STATE_FINISHED;
+                task = this.task;
+            }
+            if (task != null) {
+                task.cancel();
+            }
+        }
+
+        private void expire() {
+            synchronized (this) {
+                if (state != STATE_RUNNING) {
+                    return;
+                }
+                state = STATE_EXPIRED;
+
+                LOG.debugf("%s reached max retry duration, cancelling in-flight attempt", description);
+                if (executingThread != null) {
+                    ctx.fireEvent(FutureCancellationEvent.INTERRUPTIBLE);
+                    executingThread.interrupt();
+                }
+            }
+
+            Future<V> attempt = this.attempt;
+            if (attempt != null) {
+                attempt.cancel();
+            }
+
+            ctx.fireEvent(RetryEvents.Finished.MAX_DURATION_REACHED);
+            result.completeWithError(failure());
+        }
+    }
+
     private static class State<V> {
         private final boolean shouldContinue;
         private final V value;
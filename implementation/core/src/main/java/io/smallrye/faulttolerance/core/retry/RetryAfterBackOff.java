@@ -0,0 +1,58 @@
+package io.smallrye.faulttolerance.core.retry;
+
+import static io.smallrye.faulttolerance.core.util.Preconditions.check;
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
+
+import java.util.function.ToLongFunction;
+
+import io.smallrye.faulttolerance.api.RateLimitException;
+
+/**
+ * Combines the delay computed by another {@link BackOff} with a retry-after hint carried by the cause.
+ * Hints carried by {@link RateLimitException} are always recognized; hints carried by other exceptions
+ * are extracted by an optional extractor, which returns a negative number when there's no hint.
+ * <p>
+ * In the {@code override} mode, the hint is used instead of the delegate's delay; otherwise, the greater
+ * of the two is used. The delegate is always consulted, even if its result is overridden, so that stateful
+ * backoffs (such as exponential) keep their progression. Hints greater than {@code maxHintInMillis}
+ * are shortened, unless it is 0.
+ */
+public class RetryAfterBackOff implements BackOff {
+    private final BackOff delegate;
+    private final ToLongFunction<Throwable> extractor;
+    private final boolean override;
+    private final long maxHintInMillis;
+
+    // `extractor` may be `null`, in which case only hints carried by `RateLimitException` are used
+    public RetryAfterBackOff(BackOff delegate, ToLongFunction<Throwable> extractor, boolean override,
+            long maxHintInMillis) {
+        this.delegate = checkNotNull(delegate, "Retry-after delegate back-off must be set");
+        this.extractor = extractor;
+        this.override = override;
+        this.maxHintInMillis = check(maxHintInMillis, maxHintInMillis >= 0, "Max retry-after hint must be >= 0");
+    }
+
+    @Override
+    public long getInMillis(Throwable cause) {
+        long delay = delegate.getInMillis(cause);
+
+        long hint = hint(cause);
+        if (hint < 0) {
+            return delay;
+        }
+        if (maxHintInMillis > 0) {
+            hint = Math.min(hint, maxHintInMillis);
+        }
+        return override ? hint : Math.max(delay, hint);
+    }
+
+    private long hint(Throwable cause) {
+        if (cause instanceof RateLimitException rateLimitException) {
+            return rateLimitException.getRetryAfterMillis();
+        }
+        if (cause != null && extractor != null) {
+            return extractor.applyAsLong(cause);
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,102 @@
+package io.smallrye.faulttolerance.core.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.smallrye.faulttolerance.core.stopwatch.RunningStopwatch;
+import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
+
+/**
+ * Retry budget, a token bucket that may be shared by multiple {@link Retry} strategies. Each retry
+ * withdraws one token; when the bucket is empty, retrying is not permitted. Each successful invocation
+ * deposits {@code ratio} tokens, so that the number of retries is limited to a fraction of the number
+ * of recent successful invocations. Additionally, {@code minRetriesPerSecond} tokens are deposited
+ * every second, so that retrying is possible even if there's no successful invocation. The bucket holds
+ * at most {@code capacity} tokens and is initially full.
+ * <p>
+ * To avoid floating point arithmetic and locking, the balance is stored in thousandths of a token
+ * and updated using CAS. The periodic deposit is computed lazily, when a token is withdrawn.
+ */
+public final class RetryBudget {
+    private static final long SCALE = 1000;
+
+    private final RunningStopwatch stopwatch;
+
+    private final long depositPerSuccess;
+    private final long depositPerMillis;
+    private final long capacity;
+
+    // in thousandths of a token
+    private final AtomicLong balance;
+    // time until which the periodic deposit was already performed
+    private final AtomicLong lastRefill = new AtomicLong();
+
+    public RetryBudget(double ratio, int minRetriesPerSecond, int capacity, Stopwatch stopwatch) {
+        this.stopwatch = stopwatch.start();
+        this.depositPerSuccess = Math.round(ratio * SCALE);
+        // `minRetriesPerSecond * SCALE / 1000`
+        this.depositPerMillis = minRetriesPerSecond;
+        this.capacity = capacity * SCALE;
+        this.balance = new AtomicLong(this.capacity);
+    }
+
+    /**
+     * Withdraws a single token from this budget, if there's one.
+     *
+     * @return whether a token was withdrawn, that is, whether retrying is permitted
+     */
+    public boolean tryAcquire() {
+        refill();
+
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Records a successful invocation, which deposits {@code ratio} tokens into this budget.
+     */
+    public void recordSuccess() {
+        deposit(depositPerSuccess);
+    }
+
+    // for tests
+    long balance() {
+        refill();
+        return balance.get();
+    }
+
+    private void refill() {
+        if (depositPerMillis == 0) {
+            return;
+        }
+
+        long now = stopwatch.elapsedTimeInMillis();
+        long previous = lastRefill.get();
+        if (now > previous && lastRefill.compareAndSet(previous, now)) {
+            // if the CAS fails, another thread claimed (at least) the same time period
+            deposit(Math.multiplyExact(now - previous, depositPerMillis));
+        }
+    }
+
+    private void deposit(long amount) {
+        if (amount == 0) {
+            return;
+        }
+
+        while (true) {
+            long current = balance.get();
+            if (current >= capacity) {
+                return;
+            }
+            if (balance.compareAndSet(current, Math.min(current + amount, capacity))) {
+                return;
+            }
+        }
+    }
+}
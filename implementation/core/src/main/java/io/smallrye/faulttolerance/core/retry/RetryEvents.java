@@ -8,6 +8,7 @@ public class RetryEvents {
         EXCEPTION_NOT_RETRYABLE,
         MAX_RETRIES_REACHED,
         MAX_DURATION_REACHED,
+        BUDGET_EXHAUSTED,
     }
 
     public enum Retried implements FaultToleranceEvent {
@@ -19,6 +20,7 @@ public class RetryEvents {
         EXCEPTION_NOT_RETRYABLE(Result.EXCEPTION_NOT_RETRYABLE),
         MAX_RETRIES_REACHED(Result.MAX_RETRIES_REACHED),
         MAX_DURATION_REACHED(Result.MAX_DURATION_REACHED),
+        BUDGET_EXHAUSTED(Result.BUDGET_EXHAUSTED),
         ;
 
         public final Result result;
@@ -8,6 +8,14 @@ import java.util.function.Supplier;
 public interface SyncDelay {
     void sleep(Throwable cause) throws InterruptedException;
 
+    /**
+     * Like {@link #sleep(Throwable)}, but blocks the calling thread for at most {@code maxDelayInMillis}.
+     * The default implementation ignores {@code maxDelayInMillis}.
+     */
+    default void sleep(Throwable cause, long maxDelayInMillis) throws InterruptedException {
+        sleep(cause);
+    }
+
     Supplier<SyncDelay> NONE = () -> cause -> {
     };
 }
@@ -19,8 +19,13 @@ final class SyncDelayAsAsync implements AsyncDelay {
 
     @Override
     public void after(Throwable cause, Runnable task, Executor executor) {
+        after(cause, Long.MAX_VALUE, task, executor);
+    }
+
+    @Override
+    public void after(Throwable cause, long maxDelayInMillis, Runnable task, Executor executor) {
         try {
-            delegate.sleep(cause);
+            delegate.sleep(cause, maxDelayInMillis);
         } catch (InterruptedException e) {
             throw sneakyThrow(e);
         }
@@ -14,7 +14,12 @@ public class ThreadSleepDelay implements SyncDelay {
 
     @Override
     public void sleep(Throwable cause) throws InterruptedException {
-        long delay = backOff.getInMillis(cause);
+        sleep(cause, Long.MAX_VALUE);
+    }
+
+    @Override
+    public void sleep(Throwable cause, long maxDelayInMillis) throws InterruptedException {
+        long delay = Math.min(backOff.getInMillis(cause), maxDelayInMillis);
         if (delay > 0) {
             Thread.sleep(delay);
         }
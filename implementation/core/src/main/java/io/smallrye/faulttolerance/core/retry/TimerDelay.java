@@ -20,7 +20,12 @@ public class TimerDelay implements AsyncDelay {
 
     @Override
     public void after(Throwable cause, Runnable task, Executor executor) {
-        long delay = backOff.getInMillis(cause);
+        after(cause, Long.MAX_VALUE, task, executor);
+    }
+
+    @Override
+    public void after(Throwable cause, long maxDelayInMillis, Runnable task, Executor executor) {
+        long delay = Math.min(backOff.getInMillis(cause), maxDelayInMillis);
         if (delay > 0) {
             timer.schedule(delay, task, executor);
         } else {
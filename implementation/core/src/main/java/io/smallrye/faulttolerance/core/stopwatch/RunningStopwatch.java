@@ -1,8 +1,18 @@
 package io.smallrye.faulttolerance.core.stopwatch;
 
+import java.util.concurrent.TimeUnit;
+
 public interface RunningStopwatch {
     /**
      * Returns the number of milliseconds that elapsed since {@link Stopwatch#start()}.
      */
     long elapsedTimeInMillis();
+
+    /**
+     * Returns the number of nanoseconds that elapsed since {@link Stopwatch#start()}.
+     * The default implementation is only as precise as {@link #elapsedTimeInMillis()}.
+     */
+    default long elapsedTimeInNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(elapsedTimeInMillis());
+    }
 }
@@ -11,9 +11,16 @@ public class SystemStopwatch implements Stopwatch {
     public RunningStopwatch start() {
         long start = System.nanoTime();
 
-        return () -> {
-            long now = System.nanoTime();
-            return (now - start) / 1_000_000;
+        return new RunningStopwatch() {
+            @Override
+            public long elapsedTimeInMillis() {
+                return elapsedTimeInNanos() / 1_000_000;
+            }
+
+            @Override
+            public long elapsedTimeInNanos() {
+                return System.nanoTime() - start;
+            }
         };
     }
 }
@@ -0,0 +1,133 @@
+package io.smallrye.faulttolerance.core.timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+
+import io.smallrye.faulttolerance.core.ContextKey;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+
+/**
+ * An absolute point in time until which a guarded invocation must finish. Deadlines are established
+ * by {@link Timeout} and propagated:
+ * <ul>
+ * <li>to the strategies down the chain, through the {@link FaultToleranceContext}
+ * (see {@link ContextKey#DEADLINE});</li>
+ * <li>to nested guarded invocations, through a thread-local holder that is installed while the guarded code
+ * runs (see {@link io.smallrye.faulttolerance.core.Invocation Invocation}) and {@linkplain #inherit(FaultToleranceContext)
+ * inherited} by the context of the nested invocation.</li>
+ * </ul>
+ * Strategies that wait (such as inner timeouts, retry delays or bulkhead queueing) clamp the waiting time
+ * to the remaining budget, and an invocation whose budget is already exhausted fails fast with
+ * a {@link TimeoutException}.
+ * <p>
+ * Propagation to nested guarded invocations only works when the nested invocation starts on the thread
+ * that executes the guarded code. Nested invocations started later, for example in a callback of an asynchronous
+ * operation, do not inherit the deadline.
+ */
+public final class Deadline {
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    // the deadline that was in effect when this deadline was established, may be `null`
+    final Deadline parent;
+    // the strategy that established this deadline, may be `null`
+    final Object owner;
+
+    private Deadline(long deadlineNanos, Deadline parent, Object owner) {
+        this.deadlineNanos = deadlineNanos;
+        this.parent = parent;
+        this.owner = owner;
+    }
+
+    /**
+     * Returns a deadline that expires after given number of milliseconds from now.
+     */
+    public static Deadline after(long millis) {
+        return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis), null, null);
+    }
+
+    // returns a deadline established by `owner` that expires after given number of milliseconds from now,
+    // or when the `parent` deadline expires, whichever comes first
+    static Deadline after(long millis, Deadline parent, Object owner) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        if (parent != null && parent.deadlineNanos - deadlineNanos < 0) {
+            deadlineNanos = parent.deadlineNanos;
+        }
+        return new Deadline(deadlineNanos, parent, owner);
+    }
+
+    /**
+     * Returns the deadline of the guarded invocation that is currently executing on the calling thread,
+     * or {@code null} if there's none.
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stores the {@linkplain #current() current} deadline, if any, into given {@code ctx}, so that
+     * the invocation represented by the context doesn't outlive the invocation that is currently
+     * executing on the calling thread. Must be called on the thread that creates the context.
+     */
+    public static void inherit(FaultToleranceContext<?> ctx) {
+        Deadline current = CURRENT.get();
+        if (current != null) {
+            ctx.set(ContextKey.DEADLINE, current);
+        }
+    }
+
+    /**
+     * Makes given {@code deadline} {@linkplain #current() current} on the calling thread
+     * and returns the previously current deadline, which must later be passed to {@link #restore(Deadline)}.
+     */
+    public static Deadline install(Deadline deadline) {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(deadline);
+        return previous;
+    }
+
+    /**
+     * Restores the {@linkplain #current() current} deadline on the calling thread
+     * to the value returned by {@link #install(Deadline)}.
+     */
+    public static void restore(Deadline previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Returns the number of milliseconds remaining until this deadline, rounded up.
+     * Returns 0 if this deadline has already expired.
+     */
+    public long remainingMillis() {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (remainingNanos <= 0) {
+            return 0;
+        }
+        return (remainingNanos + 999_999) / 1_000_000;
+    }
+
+    /**
+     * Returns whether this deadline has already expired.
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Returns an exception to be thrown when an invocation is not performed because its deadline expired.
+     */
+    public static TimeoutException exceeded(String description) {
+        return new TimeoutException(description + " not invoked, deadline exceeded");
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline[remaining " + remainingMillis() + " ms]";
+    }
+}
@@ -5,11 +5,10 @@ import static io.smallrye.faulttolerance.core.timeout.TimeoutLogger.LOG;
 import static io.smallrye.faulttolerance.core.util.Preconditions.check;
 import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
 
-import java.util.concurrent.Executor;
-
 import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
 
 import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.ContextKey;
 import io.smallrye.faulttolerance.core.FaultToleranceContext;
 import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
 import io.smallrye.faulttolerance.core.Future;
@@ -34,10 +33,28 @@ public class Timeout<V> implements FaultToleranceStrategy<V> {
     public Future<V> apply(FaultToleranceContext<V> ctx) {
         LOG.trace("Timeout started");
         try {
-            Completer<V> result = Completer.create();
+            // in case of retries, the deadline in the context may have been established by this timeout
+            // for a previous attempt
+            Deadline outer = ctx.get(ContextKey.DEADLINE);
+            if (outer != null && outer.owner == this) {
+                outer = outer.parent;
+            }
 
             ctx.fireEvent(TimeoutEvents.Started.INSTANCE);
 
+            if (outer != null && outer.isExpired()) {
+                LOG.debugf("%s invocation not started, deadline exceeded", description);
+                ctx.fireEvent(TimeoutEvents.Finished.TIMED_OUT);
+                return Future.ofError(Deadline.exceeded(description));
+            }
+
+            // the timeout is shortened if the outer deadline expires earlier
+            Deadline deadline = Deadline.after(timeoutInMillis, outer, this);
+            ctx.set(ContextKey.DEADLINE, deadline);
+            long effectiveTimeoutInMillis = deadline.remainingMillis();
+
+            Completer<V> result = Completer.create();
+
             // must extract `FutureTimeoutNotification` early, because if retries are present,
             // a different `FutureTimeoutNotification` may be present in the `FaultToleranceContext`
             // by the time the timeout callback is invoked
@@ -45,7 +62,7 @@ public class Timeout<V> implements FaultToleranceStrategy<V> {
 
             Thread executingThread = ctx.isSync() ? Thread.currentThread() : null;
             TimeoutExecution execution = new TimeoutExecution(executingThread, () -> {
-                LOG.debugf("%s invocation timed out (%d ms)", description, timeoutInMillis);
+                LOG.debugf("%s invocation timed out (%d ms)", description, effectiveTimeoutInMillis);
                 ctx.fireEvent(TimeoutEvents.Finished.TIMED_OUT);
                 TimeoutException timeout = new TimeoutException(description + " timed out");
                 if (notification != null) {
@@ -53,7 +70,8 @@ public class Timeout<V> implements FaultToleranceStrategy<V> {
                 }
                 result.completeWithError(timeout);
             });
-            TimerTask task = timer.schedule(timeoutInMillis, execution::timeoutAndInterrupt, ctx.get(Executor.class));
+            TimerTask task = timer.schedule(effectiveTimeoutInMillis, execution::timeoutAndInterrupt,
+                    ctx.get(ContextKey.EXECUTOR));
 
             Future<V> originalResult;
             try {
@@ -62,6 +80,13 @@ public class Timeout<V> implements FaultToleranceStrategy<V> {
                 originalResult = Future.ofError(e);
             }
 
+            Future<V> delegateResult = originalResult;
+            result.onCancel(() -> {
+                LOG.tracef("%s invocation cancelled, cancelling the timeout watcher", description);
+                execution.finish(task::cancel);
+                delegateResult.cancel();
+            });
+
             originalResult.then((value, error) -> {
                 // if the execution timed out, this will be a noop
                 //
@@ -0,0 +1,352 @@
+package io.smallrye.faulttolerance.core.timer;
+
+import static io.smallrye.faulttolerance.core.timer.TimerLogger.LOG;
+import static io.smallrye.faulttolerance.core.util.Preconditions.check;
+import static io.smallrye.faulttolerance.core.util.Preconditions.checkNotNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+import io.smallrye.faulttolerance.core.util.RunnableWrapper;
+
+/**
+ * Hashed timing wheel. Starts one thread that advances the wheel by one bucket every tick
+ * and submits tasks that are due to the executor. The default executor is provided by a caller,
+ * so the caller must shut down this timer <em>before</em> shutting down the executor.
+ * <p>
+ * Unlike {@link ThreadTimer}, scheduling and cancelling a task are O(1) operations: scheduling
+ * only enqueues the task to a lock-free queue and cancelling only changes the task state
+ * and enqueues the task to another lock-free queue. The timer thread moves newly scheduled
+ * tasks to their buckets and unlinks cancelled tasks from their buckets once per tick.
+ * A task whose delay is longer than one full rotation of the wheel is kept in its bucket
+ * for the corresponding number of rounds.
+ * <p>
+ * The price to pay is precision: tasks are never executed sooner than requested, but they may
+ * be executed up to one tick later than requested.
+ */
+public final class HashedWheelTimer implements Timer {
+    public static final long DEFAULT_TICK_IN_MILLIS = 10;
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final AtomicInteger COUNTER = new AtomicInteger(0);
+
+    // tasks moved to buckets per tick at most, so that a flood of new tasks can't stall the timer thread
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final int id;
+
+    private final Executor defaultExecutor;
+
+    private final long tickInNanos;
+
+    private final Bucket[] wheel;
+    private final int mask;
+
+    private final Queue<Task> scheduledTasks = new ConcurrentLinkedQueue<>();
+    private final Queue<Task> cancelledTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger scheduledTasksCount = new AtomicInteger();
+
+    // all times are in nanos relative to `startTime`, which is a `System.nanoTime()` value
+    private final long startTime;
+
+    private final Thread thread;
+
+    private final AtomicBoolean running = new AtomicBoolean(true);
+
+    /**
+     * Creates a timer with given {@code defaultExecutor}, {@linkplain #DEFAULT_TICK_IN_MILLIS default tick}
+     * and {@linkplain #DEFAULT_WHEEL_SIZE default wheel size}.
+     *
+     * @param defaultExecutor default {@link Executor} used for running scheduled tasks, unless an executor
+     *        is provided when {@linkplain #schedule(long, Runnable, Executor) scheduling} a task
+     */
+    public HashedWheelTimer(Executor defaultExecutor) {
+        this(defaultExecutor, DEFAULT_TICK_IN_MILLIS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Creates a timer with given {@code defaultExecutor}, {@code tickInMillis} and {@code wheelSize}.
+     *
+     * @param defaultExecutor default {@link Executor} used for running scheduled tasks, unless an executor
+     *        is provided when {@linkplain #schedule(long, Runnable, Executor) scheduling} a task
+     * @param tickInMillis duration of one tick, which is also the resolution of this timer; must be {@code > 0}
+     * @param wheelSize number of buckets in the wheel; rounded up to the nearest power of 2; must be {@code > 0}
+     */
+    public HashedWheelTimer(Executor defaultExecutor, long tickInMillis, int wheelSize) {
+        this.id = COUNTER.incrementAndGet();
+
+        this.defaultExecutor = checkNotNull(defaultExecutor, "Executor must be set");
+        this.tickInNanos = TimeUnit.MILLISECONDS.toNanos(check(tickInMillis, tickInMillis > 0, "Tick must be > 0"));
+        check(wheelSize, wheelSize > 0 && wheelSize <= 1 << 30, "Wheel size must be > 0 and <= 2^30");
+
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+
+        this.startTime = System.nanoTime();
+
+        this.thread = new Thread(this::loop, "SmallRye Fault Tolerance Timer " + id);
+        thread.start();
+
+        LOG.createdTimer(id);
+    }
+
+    private void loop() {
+        long tick = 0;
+        while (running.get()) {
+            try {
+                long currentTime = waitForTick(tick);
+                if (!running.get()) {
+                    break;
+                }
+
+                unlinkCancelledTasks();
+                transferScheduledTasks(tick);
+                expireTasks(wheel[(int) (tick & mask)], currentTime);
+            } catch (Throwable e) {
+                LOG.unexpectedExceptionInTimerLoop(e);
+            } finally {
+                // always move on, expiring the same bucket twice would count some rounds twice
+                tick++;
+            }
+        }
+    }
+
+    // returns current time (relative to `startTime`) after the end of given tick
+    private long waitForTick(long tick) {
+        long deadline = tickInNanos * (tick + 1);
+        while (true) {
+            long currentTime = System.nanoTime() - startTime;
+            long sleepTime = deadline - currentTime;
+            if (sleepTime <= 0 || !running.get()) {
+                return currentTime;
+            }
+            LockSupport.parkNanos(sleepTime);
+        }
+    }
+
+    private void unlinkCancelledTasks() {
+        Task task;
+        while ((task = cancelledTasks.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+            }
+        }
+    }
+
+    private void transferScheduledTasks(long currentTick) {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Task task = scheduledTasks.poll();
+            if (task == null) {
+                return;
+            }
+            if (task.state != Task.STATE_SCHEDULED) {
+                continue;
+            }
+
+            long expirationTick = task.startTime / tickInNanos;
+            task.remainingRounds = (expirationTick - currentTick) / wheel.length;
+            // a task whose time has already come is put into the current bucket, which is expired right away
+            long tick = Math.max(expirationTick, currentTick);
+            wheel[(int) (tick & mask)].add(task);
+        }
+    }
+
+    private void expireTasks(Bucket bucket, long currentTime) {
+        Task task = bucket.head;
+        while (task != null) {
+            Task next = task.next;
+            if (task.state != Task.STATE_SCHEDULED) {
+                bucket.remove(task);
+            } else if (task.remainingRounds > 0) {
+                task.remainingRounds--;
+            } else if (task.startTime - currentTime <= 0) {
+                // the check above is just a safeguard, a task is always due when its bucket is expired
+                // in its last round, because a bucket is only expired after its tick has passed
+                bucket.remove(task);
+                submit(task);
+            }
+            task = next;
+        }
+    }
+
+    private void submit(Task task) {
+        if (Task.STATE.compareAndSet(task, Task.STATE_SCHEDULED, Task.STATE_RUNNING)) {
+            scheduledTasksCount.decrementAndGet();
+
+            Executor executorForTask = task.executor();
+            if (executorForTask == null) {
+                executorForTask = defaultExecutor;
+            }
+
+            try {
+                executorForTask.execute(task);
+            } catch (Throwable e) {
+                // can happen e.g. when the executor is shut down sooner than the timer
+                task.state = Task.STATE_FINISHED;
+                LOG.unexpectedExceptionInTimerTaskSubmission(task, e);
+            }
+        }
+    }
+
+    @Override
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public TimerTask schedule(long delayInMillis, Runnable task) {
+        return schedule(delayInMillis, task, null);
+    }
+
+    @Override
+    public TimerTask schedule(long delayInMillis, Runnable task, Executor executor) {
+        long startTime = System.nanoTime() - this.startTime + TimeUnit.MILLISECONDS.toNanos(Math.max(delayInMillis, 0));
+        task = RunnableWrapper.INSTANCE.wrap(task);
+        Task timerTask = executor == null || executor == defaultExecutor
+                ? new Task(startTime, task)
+                : new TaskWithExecutor(startTime, task, executor);
+        scheduledTasksCount.incrementAndGet();
+        scheduledTasks.add(timerTask);
+        LOG.scheduledTimerTask(timerTask, delayInMillis);
+        return timerTask;
+    }
+
+    @Override
+    public int countScheduledTasks() {
+        return scheduledTasksCount.get();
+    }
+
+    @Override
+    public void shutdown() throws InterruptedException {
+        if (running.compareAndSet(true, false)) {
+            LOG.shutdownTimer(id);
+            LockSupport.unpark(thread);
+            thread.interrupt();
+            thread.join();
+        }
+    }
+
+    // only accessed from the timer thread
+    private static final class Bucket {
+        Task head;
+        Task tail;
+
+        void add(Task task) {
+            task.bucket = this;
+            if (head == null) {
+                head = tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+        }
+
+        void remove(Task task) {
+            Task next = task.next;
+            if (task.prev != null) {
+                task.prev.next = next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            }
+
+            if (task == head) {
+                if (task == tail) {
+                    head = tail = null;
+                } else {
+                    head = next;
+                }
+            } else if (task == tail) {
+                tail = task.prev;
+            }
+
+            task.prev = null;
+            task.next = null;
+            task.bucket = null;
+        }
+    }
+
+    private class Task implements TimerTask, Runnable {
+        static final int STATE_SCHEDULED = 0;
+        static final int STATE_RUNNING = 1;
+        static final int STATE_FINISHED = 2;
+        static final int STATE_CANCELLED = 3;
+
+        static final AtomicIntegerFieldUpdater<Task> STATE = AtomicIntegerFieldUpdater.newUpdater(Task.class, "state");
+
+        final long startTime; // in nanos, relative to the timer `startTime`
+        final Runnable runnable;
+        volatile int state = STATE_SCHEDULED;
+
+        // only accessed from the timer thread
+        long remainingRounds;
+        Bucket bucket;
+        Task prev;
+        Task next;
+
+        Task(long startTime, Runnable runnable) {
+            this.startTime = startTime;
+            this.runnable = checkNotNull(runnable, "Runnable task must be set");
+        }
+
+        @Override
+        public boolean isDone() {
+            int state = this.state;
+            return state == STATE_FINISHED || state == STATE_CANCELLED;
+        }
+
+        @Override
+        public boolean cancel() {
+            // can't cancel if it's already running
+            if (STATE.compareAndSet(this, STATE_SCHEDULED, STATE_CANCELLED)) {
+                scheduledTasksCount.decrementAndGet();
+                cancelledTasks.add(this);
+                LOG.cancelledTimerTask(this);
+                return true;
+            }
+            return false;
+        }
+
+        public Executor executor() {
+            return null; // default executor of the timer should be used
+        }
+
+        @Override
+        public void run() {
+            LOG.runningTimerTask(this);
+            try {
+                runnable.run();
+            } finally {
+                state = STATE_FINISHED;
+            }
+        }
+    }
+
+    private final class TaskWithExecutor extends Task {
+        private final Executor executor;
+
+        TaskWithExecutor(long startTime, Runnable runnable, Executor executor) {
+            super(startTime, runnable);
+            this.executor = checkNotNull(executor, "Executor must be set");
+        }
+
+        @Override
+        public Executor executor() {
+            return executor;
+        }
+    }
+}
@@ -40,4 +40,9 @@ interface TimerLogger extends BasicLogger {
     @Message(id = 11000, value = "Unexpected exception in timer loop, ignoring")
     @LogMessage(level = Logger.Level.WARN)
     void unexpectedExceptionInTimerLoop(@Cause Throwable e);
+
+    @Message(id = 11001, value = "Unexpected exception when submitting timer task %s, the task will not run")
+    @LogMessage(level = Logger.Level.WARN)
+    void unexpectedExceptionInTimerTaskSubmission(@Transform(Transform.TransformType.IDENTITY_HASH_CODE) TimerTask task,
+            @Cause Throwable e);
 }
@@ -7,6 +7,8 @@ import java.util.IdentityHashMap;
 import java.util.Set;
 
 public class SetBasedExceptionDecision implements ExceptionDecision {
+    private static final int CAUSE_CHAIN_DEPTH_WITHOUT_CYCLE_GUARD = 8;
+
     // @CircuitBreaker.failOn, @Fallback.applyOn, @Retry.retryOn
     private final SetOfThrowables consideredFailure;
     // @CircuitBreaker.skipOn, @Fallback.skipOn, @Retry.abortOn
@@ -17,6 +19,14 @@ public class SetBasedExceptionDecision implements ExceptionDecision {
     private final boolean nonDefaultConsideredFailure;
     private final boolean nonDefaultConsideredExpected;
 
+    // the decision based on the class of the exception only, computed once per class
+    private final ClassValue<Decision> decisionMemo = new ClassValue<>() {
+        @Override
+        protected Decision computeValue(Class<?> type) {
+            return computeDecision((Class<? extends Throwable>) type);
+        }
+    };
+
     public SetBasedExceptionDecision(SetOfThrowables consideredFailure, SetOfThrowables consideredExpected,
             boolean inspectCauseChain) {
         this.consideredFailure = checkNotNull(consideredFailure, "Set of considered-failure throwables must be set");
@@ -39,21 +49,13 @@ public class SetBasedExceptionDecision implements ExceptionDecision {
     }
 
     private boolean isConsideredExpectedDefault(Throwable e) {
-        if (consideredExpected.includes(e.getClass())) {
-            return true;
-        }
-        if (consideredFailure.includes(e.getClass())) {
-            return false;
-        }
-        return true;
+        return decisionMemo.get(e.getClass()) != Decision.FAILURE;
     }
 
     private boolean isConsideredExpectedWithCauseChain(Throwable e) {
-        if (nonDefaultConsideredExpected && consideredExpected.includes(e.getClass())) {
-            return true;
-        }
-        if (nonDefaultConsideredFailure && consideredFailure.includes(e.getClass())) {
-            return false;
+        Decision decision = decisionMemo.get(e.getClass());
+        if (decision != Decision.UNKNOWN) {
+            return decision == Decision.EXPECTED;
         }
 
         if (includes(consideredExpected, e)) {
@@ -66,10 +68,47 @@ public class SetBasedExceptionDecision implements ExceptionDecision {
         return true;
     }
 
-    private boolean includes(SetOfThrowables set, Throwable e) {
+    private Decision computeDecision(Class<? extends Throwable> clazz) {
+        if (inspectCauseChain) {
+            if (nonDefaultConsideredExpected && consideredExpected.includes(clazz)) {
+                return Decision.EXPECTED;
+            }
+            if (nonDefaultConsideredFailure && consideredFailure.includes(clazz)) {
+                return Decision.FAILURE;
+            }
+            return Decision.UNKNOWN;
+        }
+
+        if (consideredExpected.includes(clazz)) {
+            return Decision.EXPECTED;
+        }
+        if (consideredFailure.includes(clazz)) {
+            return Decision.FAILURE;
+        }
+        return Decision.EXPECTED;
+    }
+
+    private static boolean includes(SetOfThrowables set, Throwable e) {
+        // cause chains are typically short, so the guard against a hypothetical cycle
+        // in the cause chain is only allocated when the chain is suspiciously long
+        for (int depth = 0; e != null; depth++) {
+            if (depth == CAUSE_CHAIN_DEPTH_WITHOUT_CYCLE_GUARD) {
+                return includesWithCycleGuard(set, e);
+            }
+
+            if (set.includes(e.getClass())) {
+                return true;
+            }
+
+            e = e.getCause();
+        }
+
+        return false;
+    }
+
+    private static boolean includesWithCycleGuard(SetOfThrowables set, Throwable e) {
         Set<Throwable> alreadySeen = Collections.newSetFromMap(new IdentityHashMap<>());
 
-        // guard against hypothetical cycle in the cause chain
         while (e != null && !alreadySeen.contains(e)) {
             alreadySeen.add(e);
 
@@ -82,4 +121,11 @@ public class SetBasedExceptionDecision implements ExceptionDecision {
 
         return false;
     }
+
+    private enum Decision {
+        EXPECTED,
+        FAILURE,
+        // only used when inspecting the cause chain, the cause chain decides
+        UNKNOWN,
+    }
 }
@@ -48,6 +48,14 @@ public class SetOfThrowables {
 
     private final Set<Class<? extends Throwable>> classes;
 
+    // the result of `includes()` only depends on the class, so it is computed once per class
+    private final ClassValue<Boolean> includesMemo = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return computeIncludes(type);
+        }
+    };
+
     private SetOfThrowables(Set<Class<? extends Throwable>> classes) {
         this.classes = classes;
     }
@@ -70,6 +78,13 @@ public class SetOfThrowables {
      *         Note that subtyping is a reflexive relation, so a type is always a subtype of itself.
      */
     public boolean includes(Class<? extends Throwable> searchedFor) {
+        if (classes.isEmpty()) {
+            return false;
+        }
+        return includesMemo.get(searchedFor);
+    }
+
+    private boolean computeIncludes(Class<?> searchedFor) {
         for (Class<? extends Throwable> clazz : classes) {
             if (clazz.isAssignableFrom(searchedFor)) {
                 return true;
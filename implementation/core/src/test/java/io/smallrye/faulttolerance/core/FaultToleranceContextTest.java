@@ -0,0 +1,90 @@
+package io.smallrye.faulttolerance.core;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.core.async.ThreadOffloadEnabled;
+import io.smallrye.faulttolerance.core.retry.RetryEvents;
+import io.smallrye.faulttolerance.core.timeout.TimeoutEvents;
+
+public class FaultToleranceContextTest {
+    @Test
+    public void keyedData() {
+        FaultToleranceContext<String> ctx = sync(() -> "foobar");
+        Executor executor = Runnable::run;
+
+        assertThat(ctx.has(ContextKey.EXECUTOR)).isFalse();
+        assertThat(ctx.get(ContextKey.EXECUTOR)).isNull();
+
+        ctx.set(ContextKey.EXECUTOR, executor);
+        assertThat(ctx.has(ContextKey.EXECUTOR)).isTrue();
+        assertThat(ctx.get(ContextKey.EXECUTOR)).isSameAs(executor);
+        assertThat(ctx.has(ContextKey.THREAD_OFFLOAD_ENABLED)).isFalse();
+        assertThat(ctx.get(ContextKey.THREAD_OFFLOAD_ENABLED, ThreadOffloadEnabled.YES)).isSameAs(ThreadOffloadEnabled.YES);
+
+        assertThat(ctx.remove(ContextKey.EXECUTOR)).isSameAs(executor);
+        assertThat(ctx.has(ContextKey.EXECUTOR)).isFalse();
+    }
+
+    @Test
+    public void keyedDataAccessibleByClass() {
+        FaultToleranceContext<String> ctx = sync(() -> "foobar");
+        Executor executor = Runnable::run;
+
+        ctx.set(ContextKey.EXECUTOR, executor);
+        assertThat(ctx.has(Executor.class)).isTrue();
+        assertThat(ctx.get(Executor.class)).isSameAs(executor);
+
+        ctx.set(ThreadOffloadEnabled.class, ThreadOffloadEnabled.NO);
+        assertThat(ctx.get(ContextKey.THREAD_OFFLOAD_ENABLED)).isSameAs(ThreadOffloadEnabled.NO);
+
+        assertThat(ctx.remove(Executor.class)).isSameAs(executor);
+        assertThat(ctx.has(ContextKey.EXECUTOR)).isFalse();
+    }
+
+    @Test
+    public void unkeyedData() {
+        FaultToleranceContext<String> ctx = sync(() -> "foobar");
+
+        assertThat(ctx.has(String.class)).isFalse();
+        assertThat(ctx.get(String.class)).isNull();
+        assertThat(ctx.get(String.class, "default")).isEqualTo("default");
+        assertThat(ctx.remove(String.class)).isNull();
+
+        ctx.set(String.class, "hello");
+        assertThat(ctx.has(String.class)).isTrue();
+        assertThat(ctx.get(String.class)).isEqualTo("hello");
+
+        assertThat(ctx.remove(String.class)).isEqualTo("hello");
+        assertThat(ctx.has(String.class)).isFalse();
+    }
+
+    @Test
+    public void eventListenersAndHandlers() {
+        FaultToleranceContext<String> ctx = sync(() -> "foobar");
+        List<String> log = new ArrayList<>();
+
+        ctx.fireEvent(RetryEvents.Retried.INSTANCE);
+        assertThat(log).isEmpty();
+
+        ctx.registerEventHandler(RetryEvents.Retried.class, ignored -> log.add("handler"));
+        for (int i = 0; i < 5; i++) {
+            int id = i;
+            ctx.addEventListener(event -> {
+                if (event instanceof RetryEvents.Retried) {
+                    log.add("listener " + id);
+                }
+            });
+        }
+
+        ctx.fireEvent(RetryEvents.Retried.INSTANCE);
+        ctx.fireEvent(TimeoutEvents.Started.INSTANCE);
+        assertThat(log).containsExactly("listener 0", "listener 1", "listener 2", "listener 3", "listener 4", "handler");
+    }
+}
@@ -3,7 +3,9 @@ package io.smallrye.faulttolerance.core;
 import static io.smallrye.faulttolerance.core.util.Action.startThread;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -103,6 +105,27 @@ public class FutureTest {
         assertThat(cancelled).isTrue();
     }
 
+    @Test
+    public void singleThread_cancelBeforeCancellationCallback() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Completer<String> completer = Completer.create();
+        completer.future().cancel();
+
+        completer.onCancel(() -> cancelled.set(true));
+
+        assertThat(cancelled).isTrue();
+        assertThatThrownBy(() -> completer.onCancel(() -> {
+        })).isExactlyInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void singleThread_awaitBlockingAfterCancel() {
+        Completer<String> completer = Completer.create();
+        completer.future().cancel();
+
+        assertThatThrownBy(completer.future()::awaitBlocking).isExactlyInstanceOf(CancellationException.class);
+    }
+
     @Test
     public void singleThread_cancelBeforeCompletion_failure() {
         AtomicBoolean cancelled = new AtomicBoolean();
@@ -0,0 +1,186 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.async;
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
+import static io.smallrye.faulttolerance.core.util.TestThread.runOnTestThread;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.ConcurrencyLimitAlgorithm;
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+import io.smallrye.faulttolerance.core.util.TestException;
+import io.smallrye.faulttolerance.core.util.TestInvocation;
+import io.smallrye.faulttolerance.core.util.TestThread;
+import io.smallrye.faulttolerance.core.util.party.Party;
+
+public class AdaptiveBulkheadTest {
+    @Test
+    public void shouldRejectWhenLimitReached() throws Exception {
+        int size = 3;
+
+        Party party = Party.create(size);
+        TestInvocation<String> invocation = TestInvocation.of(() -> {
+            party.participant().attend();
+            return "shouldRejectWhenLimitReached";
+        });
+        FixedLimit limit = new FixedLimit(size);
+        AdaptiveBulkhead<String> bulkhead = new AdaptiveBulkhead<>(invocation, "shouldRejectWhenLimitReached", limit);
+
+        List<TestThread<String>> threads = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            threads.add(runOnTestThread(bulkhead, false));
+        }
+
+        party.organizer().waitForAll();
+        assertThat(bulkhead.getInFlight()).isEqualTo(size);
+        assertThatThrownBy(bulkhead.apply(sync(null))::awaitBlocking)
+                .isExactlyInstanceOf(BulkheadException.class);
+        party.organizer().disband();
+
+        for (int i = 0; i < size; i++) {
+            assertThat(threads.get(i).await()).isEqualTo("shouldRejectWhenLimitReached");
+        }
+        assertThat(bulkhead.getInFlight()).isEqualTo(0);
+        assertThat(limit.samples).hasValue(size);
+        assertThat(limit.drops).hasValue(0);
+    }
+
+    @Test
+    public void shouldSampleAsyncCompletion() {
+        Completer<String> completer = Completer.create();
+        FaultToleranceStrategy<String> invocation = ignored -> completer.future();
+        FixedLimit limit = new FixedLimit(1);
+        AdaptiveBulkhead<String> bulkhead = new AdaptiveBulkhead<>(invocation, "shouldSampleAsyncCompletion", limit);
+
+        Future<String> result = bulkhead.apply(async(null));
+        assertThat(bulkhead.getInFlight()).isEqualTo(1);
+        assertThat(limit.samples).hasValue(0);
+        assertThatThrownBy(bulkhead.apply(async(null))::awaitBlocking)
+                .isExactlyInstanceOf(BulkheadException.class);
+
+        completer.completeWithError(new TimeoutException());
+        assertThatThrownBy(result::awaitBlocking).isExactlyInstanceOf(TimeoutException.class);
+        assertThat(bulkhead.getInFlight()).isEqualTo(0);
+        assertThat(limit.samples).hasValue(1);
+        assertThat(limit.drops).hasValue(1);
+    }
+
+    @Test
+    public void shouldDecreaseLimitOnOverload() {
+        TestInvocation<Void> invocation = TestInvocation.of(() -> {
+            throw new TimeoutException();
+        });
+        AdaptiveBulkhead<Void> bulkhead = new AdaptiveBulkhead<>(invocation, "shouldDecreaseLimitOnOverload",
+                ConcurrencyLimitAlgorithm.AIMD, 10, 2, 20);
+
+        assertThatThrownBy(bulkhead.apply(sync(null))::awaitBlocking)
+                .isExactlyInstanceOf(TimeoutException.class);
+        assertThat(bulkhead.currentLimit()).isEqualTo(9);
+
+        for (int i = 0; i < 100; i++) {
+            assertThatThrownBy(bulkhead.apply(sync(null))::awaitBlocking)
+                    .isExactlyInstanceOf(TimeoutException.class);
+        }
+        assertThat(bulkhead.currentLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotCountApplicationFailureAsDrop() {
+        TestInvocation<Void> invocation = TestInvocation.of(TestException::doThrow);
+        FixedLimit limit = new FixedLimit(1);
+        AdaptiveBulkhead<Void> bulkhead = new AdaptiveBulkhead<>(invocation, "shouldNotCountApplicationFailureAsDrop",
+                limit);
+
+        assertThatThrownBy(bulkhead.apply(sync(null))::awaitBlocking)
+                .isExactlyInstanceOf(TestException.class);
+        assertThat(limit.samples).hasValue(1);
+        assertThat(limit.drops).hasValue(0);
+    }
+
+    @Test
+    public void shouldReleaseCancelledTask() {
+        Completer<String> invocation = Completer.create();
+        FixedLimit limit = new FixedLimit(1);
+        AdaptiveBulkhead<String> bulkhead = new AdaptiveBulkhead<>(ctx -> invocation.future(),
+                "shouldReleaseCancelledTask", limit);
+
+        Future<String> result = bulkhead.apply(async(null));
+        assertThat(bulkhead.getInFlight()).isEqualTo(1);
+
+        result.cancel();
+        assertThat(invocation.future().isCancelled()).isTrue();
+        assertThat(bulkhead.getInFlight()).isEqualTo(0);
+        // a cancelled invocation is not a sample
+        assertThat(limit.samples).hasValue(0);
+    }
+
+    @Test
+    public void shouldReleaseSlotOnSynchronousError() {
+        FaultToleranceStrategy<String> invocation = ignored -> {
+            throw new StackOverflowError();
+        };
+        FixedLimit limit = new FixedLimit(1);
+        AdaptiveBulkhead<String> bulkhead = new AdaptiveBulkhead<>(invocation, "shouldReleaseSlotOnSynchronousError",
+                limit);
+
+        assertThatThrownBy(bulkhead.apply(sync(null))::awaitBlocking)
+                .isExactlyInstanceOf(StackOverflowError.class);
+        assertThat(bulkhead.getInFlight()).isEqualTo(0);
+        assertThat(limit.samples).hasValue(1);
+    }
+
+    @Test
+    public void shouldMeasureRoundTripTimeWithStopwatch() {
+        Completer<String> completer = Completer.create();
+        FixedLimit limit = new FixedLimit(1);
+        TestStopwatch stopwatch = new TestStopwatch();
+        AdaptiveBulkhead<String> bulkhead = new AdaptiveBulkhead<>(ignored -> completer.future(),
+                "shouldMeasureRoundTripTimeWithStopwatch", limit, stopwatch);
+
+        Future<String> result = bulkhead.apply(async(null));
+        stopwatch.setCurrentValue(50);
+        completer.complete("foobar");
+
+        assertThat(result.isComplete()).isTrue();
+        assertThat(limit.lastRtt).hasValue(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    private static class FixedLimit implements ConcurrencyLimit {
+        private final int limit;
+
+        final AtomicInteger samples = new AtomicInteger();
+        final AtomicInteger drops = new AtomicInteger();
+        final AtomicLong lastRtt = new AtomicLong();
+
+        FixedLimit(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public int currentLimit() {
+            return limit;
+        }
+
+        @Override
+        public void onSample(long rttInNanos, int inFlight, Outcome outcome) {
+            samples.incrementAndGet();
+            lastRtt.set(rttInNanos);
+            if (outcome == Outcome.DROPPED) {
+                drops.incrementAndGet();
+            }
+        }
+    }
+}
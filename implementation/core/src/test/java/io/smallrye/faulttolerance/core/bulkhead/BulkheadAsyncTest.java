@@ -320,4 +320,24 @@ public class BulkheadAsyncTest {
             pool.awaitTermination(1, TimeUnit.SECONDS);
         }
     }
+
+    @Test
+    public void stacklessRejections() {
+        Completer<String> running = Completer.create();
+        FaultToleranceStrategy<String> invocation = ctx -> running.future();
+        Bulkhead<String> bulkhead = new Bulkhead<>(invocation, "test invocation", 1, 0, false,
+                new Bulkhead.Options().stacklessRejections(true));
+
+        Future<String> result = bulkhead.apply(async(null));
+        assertThat(result.isComplete()).isFalse();
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(bulkhead.apply(async(null))::awaitBlocking)
+                    .isInstanceOf(BulkheadException.class)
+                    .hasMessage("test invocation rejected from bulkhead")
+                    .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+        }
+
+        running.complete("foobar");
+        assertThat(result.isComplete()).isTrue();
+    }
 }
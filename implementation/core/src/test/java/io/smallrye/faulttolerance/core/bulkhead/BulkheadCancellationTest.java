@@ -0,0 +1,123 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.async;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.Future;
+
+public class BulkheadCancellationTest {
+    private List<Completer<String>> invocations;
+
+    @BeforeEach
+    public void setUp() {
+        invocations = new ArrayList<>();
+    }
+
+    private FaultToleranceStrategy<String> invocation() {
+        return ctx -> {
+            Completer<String> completer = Completer.create();
+            invocations.add(completer);
+            return completer.future();
+        };
+    }
+
+    @Test
+    public void cancelRunningTask() throws Throwable {
+        Bulkhead<String> bulkhead = new Bulkhead<>(invocation(), "test invocation", 1, 1, false);
+
+        Future<String> first = bulkhead.apply(async(null));
+        Future<String> second = bulkhead.apply(async(null));
+        assertThat(invocations).hasSize(1);
+        assertThat(bulkhead.getQueueSize()).isEqualTo(1);
+
+        first.cancel();
+        assertThat(invocations.get(0).future().isCancelled()).isTrue();
+        // the queued task takes over the released permits
+        assertThat(invocations).hasSize(2);
+        assertThat(bulkhead.getQueueSize()).isEqualTo(0);
+
+        invocations.get(1).complete("foobar");
+        assertThat(second.awaitBlocking()).isEqualTo("foobar");
+        assertThat(bulkhead.getAvailableCapacityPermits()).isEqualTo(2);
+    }
+
+    @Test
+    public void cancelQueuedTask() throws Throwable {
+        Bulkhead<String> bulkhead = new Bulkhead<>(invocation(), "test invocation", 1, 1, false);
+
+        Future<String> first = bulkhead.apply(async(null));
+        Future<String> second = bulkhead.apply(async(null));
+        assertThat(bulkhead.getQueueSize()).isEqualTo(1);
+        assertThat(bulkhead.getAvailableCapacityPermits()).isEqualTo(0);
+
+        second.cancel();
+        assertThat(bulkhead.getQueueSize()).isEqualTo(0);
+        assertThat(bulkhead.getAvailableCapacityPermits()).isEqualTo(1);
+
+        invocations.get(0).complete("foobar");
+        assertThat(first.awaitBlocking()).isEqualTo("foobar");
+        // the cancelled task never ran
+        assertThat(invocations).hasSize(1);
+        assertThat(bulkhead.getAvailableCapacityPermits()).isEqualTo(2);
+    }
+
+    @Test
+    public void lockFree_cancelRunningTask() throws Throwable {
+        LockFreeBulkhead<String> bulkhead = new LockFreeBulkhead<>(invocation(), "test invocation", 1, 1);
+
+        Future<String> first = bulkhead.apply(async(null));
+        Future<String> second = bulkhead.apply(async(null));
+        assertThat(bulkhead.getRunning()).isEqualTo(1);
+        assertThat(bulkhead.getQueueSize()).isEqualTo(1);
+
+        first.cancel();
+        assertThat(invocations.get(0).future().isCancelled()).isTrue();
+        assertThat(invocations).hasSize(2);
+
+        invocations.get(1).complete("foobar");
+        assertThat(second.awaitBlocking()).isEqualTo("foobar");
+        assertThat(bulkhead.getRunning()).isEqualTo(0);
+        assertThat(bulkhead.getQueueSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void lockFree_cancelQueuedTask() throws Throwable {
+        LockFreeBulkhead<String> bulkhead = new LockFreeBulkhead<>(invocation(), "test invocation", 1, 1);
+
+        Future<String> first = bulkhead.apply(async(null));
+        AtomicInteger finishedWaiting = new AtomicInteger();
+        FaultToleranceContext<String> ctx = async(null);
+        ctx.registerEventHandler(BulkheadEvents.FinishedWaiting.class, ignored -> finishedWaiting.incrementAndGet());
+        Future<String> second = bulkhead.apply(ctx);
+        assertThat(bulkhead.getQueueSize()).isEqualTo(1);
+
+        second.cancel();
+        // the capacity is released immediately, even though the task is still linked in the queue
+        assertThat(bulkhead.getQueueSize()).isEqualTo(0);
+        assertThat(finishedWaiting).hasValue(1);
+        Future<String> third = bulkhead.apply(async(null));
+        assertThat(third.isComplete()).isFalse();
+        assertThat(bulkhead.getQueueSize()).isEqualTo(1);
+
+        invocations.get(0).complete("foobar");
+        assertThat(first.awaitBlocking()).isEqualTo("foobar");
+        // the cancelled task is skipped when it reaches the head of the queue
+        assertThat(invocations).hasSize(2);
+        assertThat(finishedWaiting).hasValue(1);
+
+        invocations.get(1).complete("quux");
+        assertThat(third.awaitBlocking()).isEqualTo("quux");
+        assertThat(bulkhead.getRunning()).isEqualTo(0);
+        assertThat(bulkhead.getQueueSize()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,139 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.async;
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
+import static io.smallrye.faulttolerance.core.util.TestThread.runOnTestThread;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceEvent;
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.timer.TestTimer;
+import io.smallrye.faulttolerance.core.timer.TimerTask;
+import io.smallrye.faulttolerance.core.util.TestInvocation;
+import io.smallrye.faulttolerance.core.util.TestThread;
+import io.smallrye.faulttolerance.core.util.party.Party;
+
+public class BulkheadMaxQueueWaitTest {
+    private TestTimer timer;
+
+    @BeforeEach
+    public void setUp() {
+        timer = new TestTimer();
+    }
+
+    @Test
+    public void asyncShouldFailTaskThatWaitedTooLong() throws Throwable {
+        Completer<String> firstTaskCompleter = Completer.create();
+        AtomicBoolean first = new AtomicBoolean(true);
+
+        Bulkhead<String> bulkhead = new Bulkhead<>(ctx -> {
+            return first.compareAndSet(true, false) ? firstTaskCompleter.future() : Future.of("hello");
+        }, "asyncShouldFailTaskThatWaitedTooLong", 1, 2, false, new Bulkhead.Options().maxQueueWait(1000, timer));
+
+        Future<String> running = bulkhead.apply(async(null));
+        assertThat(timer.countScheduledTasks()).isZero();
+
+        List<FaultToleranceEvent> expiredEvents = new ArrayList<>();
+        FaultToleranceContext<String> expiredCtx = async(null);
+        expiredCtx.addEventListener(expiredEvents::add);
+        Future<String> expired = bulkhead.apply(expiredCtx);
+
+        Future<String> queued = bulkhead.apply(async(null));
+
+        assertThat(bulkhead.getQueueSize()).isEqualTo(2);
+        assertThat(bulkhead.getAvailableCapacityPermits()).isZero();
+        assertThat(timer.countScheduledTasks()).isEqualTo(2);
+
+        timer.executeSynchronously(timer.nextScheduledTask());
+
+        assertThat(expired.isComplete()).isTrue();
+        assertThatThrownBy(expired::awaitBlocking)
+                .isExactlyInstanceOf(BulkheadException.class)
+                .hasMessageContaining("waited in bulkhead queue");
+        assertThat(expiredEvents).containsExactly(
+                BulkheadEvents.DecisionMade.ACCEPTED,
+                BulkheadEvents.StartedWaiting.INSTANCE,
+                BulkheadEvents.FinishedWaiting.INSTANCE);
+        assertThat(bulkhead.getQueueSize()).isEqualTo(1);
+        assertThat(bulkhead.getAvailableCapacityPermits()).isEqualTo(1);
+
+        firstTaskCompleter.complete("hello");
+
+        assertThat(running.awaitBlocking()).isEqualTo("hello");
+        assertThat(queued.awaitBlocking()).isEqualTo("hello");
+        // the expiration of the task that started running is cancelled
+        assertThat(timer.countScheduledTasks()).isZero();
+        assertThat(bulkhead.getQueueSize()).isZero();
+        assertThat(bulkhead.getAvailableCapacityPermits()).isEqualTo(3);
+    }
+
+    @Test
+    public void asyncShouldNotFailTaskThatAlreadyRuns() throws Throwable {
+        Completer<String> firstTaskCompleter = Completer.create();
+        AtomicBoolean first = new AtomicBoolean(true);
+
+        // a timer that never removes tasks on cancellation, so that the expiration runs anyway
+        List<Runnable> expirations = new ArrayList<>();
+        TestTimer recordingTimer = new TestTimer() {
+            @Override
+            public TimerTask schedule(long delayInMillis, Runnable runnable) {
+                expirations.add(runnable);
+                return super.schedule(delayInMillis, runnable);
+            }
+        };
+        Bulkhead<String> bulkhead = new Bulkhead<>(ctx -> {
+            return first.compareAndSet(true, false) ? firstTaskCompleter.future() : Future.of("hello");
+        }, "asyncShouldNotFailTaskThatAlreadyRuns", 1, 1, false, new Bulkhead.Options().maxQueueWait(1000, recordingTimer));
+
+        bulkhead.apply(async(null));
+        Future<String> queued = bulkhead.apply(async(null));
+        firstTaskCompleter.complete("hello");
+        assertThat(queued.awaitBlocking()).isEqualTo("hello");
+
+        assertThat(expirations).hasSize(1);
+        expirations.get(0).run();
+        assertThat(bulkhead.getAvailableCapacityPermits()).isEqualTo(2);
+    }
+
+    @Test
+    public void syncQueueingShouldFailTaskThatWaitedTooLong() throws Exception {
+        Party party = Party.create(1);
+
+        TestInvocation<String> invocation = TestInvocation.of(() -> {
+            party.participant().attend();
+            return "hello";
+        });
+        Bulkhead<String> bulkhead = new Bulkhead<>(invocation, "syncQueueingShouldFailTaskThatWaitedTooLong",
+                1, 1, true, new Bulkhead.Options().maxQueueWait(50, timer));
+
+        TestThread<String> running = runOnTestThread(bulkhead, false);
+        party.organizer().waitForAll();
+
+        List<FaultToleranceEvent> events = new ArrayList<>();
+        FaultToleranceContext<String> ctx = sync(null);
+        ctx.addEventListener(events::add);
+        assertThatThrownBy(bulkhead.apply(ctx)::awaitBlocking)
+                .isExactlyInstanceOf(BulkheadException.class)
+                .hasMessageContaining("waited in bulkhead queue");
+        assertThat(events).containsExactly(
+                BulkheadEvents.DecisionMade.ACCEPTED,
+                BulkheadEvents.StartedWaiting.INSTANCE,
+                BulkheadEvents.FinishedWaiting.INSTANCE);
+
+        party.organizer().disband();
+        assertThat(running.await()).isEqualTo("hello");
+        await().until(() -> bulkhead.getAvailableCapacityPermits() == 2);
+    }
+}
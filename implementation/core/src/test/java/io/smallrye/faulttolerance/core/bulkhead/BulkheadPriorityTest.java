@@ -0,0 +1,138 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.async;
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.BulkheadPriority;
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.Future;
+
+public class BulkheadPriorityTest {
+    private List<Integer> order;
+    private Map<Integer, Completer<String>> completers;
+
+    @BeforeEach
+    public void setUp() {
+        order = new ArrayList<>();
+        completers = new HashMap<>();
+    }
+
+    private Bulkhead<String> bulkhead(int size, int queueSize, int reservedCapacity) {
+        return new Bulkhead<>(ctx -> {
+            int index = ctx.get(Integer.class);
+            order.add(index);
+            Completer<String> completer = Completer.create();
+            completers.put(index, completer);
+            return completer.future();
+        }, "test", size, queueSize, false, new Bulkhead.Options().reservedCapacity(reservedCapacity));
+    }
+
+    private Future<String> submit(Bulkhead<String> bulkhead, int index, BulkheadPriority priority) {
+        FaultToleranceContext<String> ctx = async(null);
+        ctx.set(Integer.class, index);
+        if (priority != null) {
+            ctx.set(BulkheadPriority.class, priority);
+        }
+        return bulkhead.apply(ctx);
+    }
+
+    @Test
+    public void lowPriorityRejectedFirst() {
+        // capacity 6, 1 reserved for HIGH, 2 reserved for HIGH and NORMAL
+        Bulkhead<String> bulkhead = bulkhead(2, 4, 1);
+
+        for (int i = 0; i < 4; i++) {
+            submit(bulkhead, i, BulkheadPriority.LOW);
+        }
+        assertThatThrownBy(submit(bulkhead, 4, BulkheadPriority.LOW)::awaitBlocking)
+                .isExactlyInstanceOf(BulkheadException.class);
+
+        submit(bulkhead, 5, null);
+        assertThatThrownBy(submit(bulkhead, 6, BulkheadPriority.NORMAL)::awaitBlocking)
+                .isExactlyInstanceOf(BulkheadException.class);
+
+        Future<String> high = submit(bulkhead, 7, BulkheadPriority.HIGH);
+        assertThat(high.isComplete()).isFalse();
+        assertThatThrownBy(submit(bulkhead, 8, BulkheadPriority.HIGH)::awaitBlocking)
+                .isExactlyInstanceOf(BulkheadException.class);
+
+        assertThat(bulkhead.getAvailableCapacityPermits()).isZero();
+    }
+
+    @Test
+    public void higherPriorityDequeuedFirst() {
+        Bulkhead<String> bulkhead = bulkhead(1, 10, 1);
+
+        submit(bulkhead, 0, BulkheadPriority.LOW);
+        submit(bulkhead, 1, BulkheadPriority.LOW);
+        submit(bulkhead, 2, BulkheadPriority.NORMAL);
+        submit(bulkhead, 3, BulkheadPriority.HIGH);
+        submit(bulkhead, 4, BulkheadPriority.NORMAL);
+        submit(bulkhead, 5, BulkheadPriority.HIGH);
+        assertThat(order).containsExactly(0);
+        assertThat(bulkhead.getQueueSize()).isEqualTo(5);
+
+        for (int i : new int[] { 0, 3, 5, 2, 4 }) {
+            completers.get(i).complete("hello");
+        }
+        assertThat(order).containsExactly(0, 3, 5, 2, 4, 1);
+        completers.get(1).complete("hello");
+
+        assertThat(bulkhead.getQueueSize()).isZero();
+        assertThat(bulkhead.getAvailableCapacityPermits()).isEqualTo(11);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void syncLowPriorityRejectedFirst() throws Throwable {
+        List<Future<String>> nested = new ArrayList<>();
+        Bulkhead<String>[] bulkhead = new Bulkhead[1];
+        bulkhead[0] = new Bulkhead<>(ctx -> {
+            if (ctx.get(Integer.class) == 0) {
+                // 2 permits available, `LOW` needs 1 + 2 reserved, `NORMAL` needs 1 + 1 reserved
+                nested.add(bulkhead[0].apply(syncWithPriority(1, BulkheadPriority.LOW)));
+                nested.add(bulkhead[0].apply(syncWithPriority(1, BulkheadPriority.NORMAL)));
+            }
+            return Future.of("hello");
+        }, "test", 3, 0, false, new Bulkhead.Options().reservedCapacity(1));
+
+        assertThat(bulkhead[0].apply(syncWithPriority(0, BulkheadPriority.LOW)).awaitBlocking()).isEqualTo("hello");
+        assertThatThrownBy(nested.get(0)::awaitBlocking).isExactlyInstanceOf(BulkheadException.class);
+        assertThat(nested.get(1).awaitBlocking()).isEqualTo("hello");
+        assertThat(bulkhead[0].getAvailableCapacityPermits()).isEqualTo(3);
+    }
+
+    private static FaultToleranceContext<String> syncWithPriority(int index, BulkheadPriority priority) {
+        FaultToleranceContext<String> ctx = sync(null);
+        ctx.set(Integer.class, index);
+        ctx.set(BulkheadPriority.class, priority);
+        return ctx;
+    }
+
+    @Test
+    public void priorityIgnoredWithoutReservedCapacity() {
+        Bulkhead<String> bulkhead = bulkhead(1, 2, 0);
+
+        submit(bulkhead, 0, BulkheadPriority.LOW);
+        submit(bulkhead, 1, BulkheadPriority.LOW);
+        submit(bulkhead, 2, BulkheadPriority.HIGH);
+        assertThatThrownBy(submit(bulkhead, 3, BulkheadPriority.HIGH)::awaitBlocking)
+                .isExactlyInstanceOf(BulkheadException.class);
+
+        completers.get(0).complete("hello");
+        completers.get(1).complete("hello");
+        assertThat(order).containsExactly(0, 1, 2);
+    }
+}
@@ -0,0 +1,198 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.async;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.QueueDiscipline;
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceEvent;
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+
+public class BulkheadQueueDisciplineTest {
+    private TestStopwatch stopwatch;
+
+    private List<Integer> order;
+    private Map<Integer, Completer<String>> completers;
+
+    @BeforeEach
+    public void setUp() {
+        stopwatch = new TestStopwatch();
+        order = new ArrayList<>();
+        completers = new HashMap<>();
+    }
+
+    private Bulkhead<String> bulkhead(QueueDiscipline discipline) {
+        return new Bulkhead<>(ctx -> {
+            int index = ctx.get(Integer.class);
+            order.add(index);
+            Completer<String> completer = Completer.create();
+            completers.put(index, completer);
+            return completer.future();
+        }, "test", 1, 10, false, new Bulkhead.Options().queueDiscipline(discipline, 5, 100, stopwatch));
+    }
+
+    private Future<String> submit(Bulkhead<String> bulkhead, int index) {
+        return submit(bulkhead, index, async(null));
+    }
+
+    private Future<String> submit(Bulkhead<String> bulkhead, int index, FaultToleranceContext<String> ctx) {
+        ctx.set(Integer.class, index);
+        return bulkhead.apply(ctx);
+    }
+
+    @Test
+    public void adaptiveLifo() {
+        Bulkhead<String> bulkhead = bulkhead(QueueDiscipline.ADAPTIVE_LIFO);
+
+        for (int i = 0; i < 5; i++) {
+            submit(bulkhead, i);
+        }
+        assertThat(order).containsExactly(0);
+
+        // queue wait above target, but not for the whole interval yet
+        stopwatch.setCurrentValue(50);
+        completers.get(0).complete("hello");
+        assertThat(order).containsExactly(0, 1);
+
+        // queue wait above target for the whole interval, the queue is congested
+        stopwatch.setCurrentValue(200);
+        completers.get(1).complete("hello");
+        assertThat(order).containsExactly(0, 1, 4);
+        completers.get(4).complete("hello");
+        assertThat(order).containsExactly(0, 1, 4, 3);
+
+        submit(bulkhead, 5);
+        completers.get(3).complete("hello");
+        assertThat(order).containsExactly(0, 1, 4, 3, 5);
+        completers.get(5).complete("hello");
+        assertThat(order).containsExactly(0, 1, 4, 3, 5, 2);
+
+        // queue wait below target, the queue is no longer congested
+        stopwatch.setCurrentValue(300);
+        submit(bulkhead, 6);
+        submit(bulkhead, 7);
+        completers.get(2).complete("hello");
+        assertThat(order).containsExactly(0, 1, 4, 3, 5, 2, 6);
+        completers.get(6).complete("hello");
+        assertThat(order).containsExactly(0, 1, 4, 3, 5, 2, 6, 7);
+        completers.get(7).complete("hello");
+
+        assertThat(bulkhead.getQueueSize()).isZero();
+        assertThat(bulkhead.getAvailableCapacityPermits()).isEqualTo(11);
+    }
+
+    @Test
+    public void codel() throws Throwable {
+        Bulkhead<String> bulkhead = bulkhead(QueueDiscipline.CODEL);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(submit(bulkhead, i));
+        }
+
+        List<FaultToleranceEvent> droppedEvents = new ArrayList<>();
+        FaultToleranceContext<String> droppedCtx = async(null);
+        droppedCtx.addEventListener(droppedEvents::add);
+        results.add(submit(bulkhead, 5, droppedCtx));
+
+        for (int i = 6; i < 8; i++) {
+            results.add(submit(bulkhead, i));
+        }
+
+        assertThat(order).containsExactly(0);
+
+        // queue wait above target, but not for the whole interval yet
+        stopwatch.setCurrentValue(50);
+        completers.get(0).complete("hello");
+        assertThat(order).containsExactly(0, 1);
+
+        // queue wait above target for the whole interval, the queue is congested
+        // first drop, next one in 100 millis
+        stopwatch.setCurrentValue(200);
+        completers.get(1).complete("hello");
+        assertThat(order).containsExactly(0, 1, 3);
+
+        stopwatch.setCurrentValue(250);
+        completers.get(3).complete("hello");
+        assertThat(order).containsExactly(0, 1, 3, 4);
+
+        // second drop, next one in 100 / sqrt(2) millis
+        stopwatch.setCurrentValue(300);
+        completers.get(4).complete("hello");
+        assertThat(order).containsExactly(0, 1, 3, 4, 6);
+
+        stopwatch.setCurrentValue(360);
+        results.add(submit(bulkhead, 8));
+        completers.get(6).complete("hello");
+        assertThat(order).containsExactly(0, 1, 3, 4, 6, 7);
+
+        // queue wait below target, the queue is no longer congested
+        completers.get(7).complete("hello");
+        assertThat(order).containsExactly(0, 1, 3, 4, 6, 7, 8);
+        completers.get(8).complete("hello");
+
+        for (int i = 0; i <= 8; i++) {
+            if (i == 2 || i == 5) {
+                assertThatThrownBy(results.get(i)::awaitBlocking)
+                        .isExactlyInstanceOf(BulkheadException.class)
+                        .hasMessageContaining("dropped from congested bulkhead queue");
+            } else {
+                assertThat(results.get(i).awaitBlocking()).isEqualTo("hello");
+            }
+        }
+
+        assertThat(droppedEvents).containsExactly(
+                BulkheadEvents.DecisionMade.ACCEPTED,
+                BulkheadEvents.StartedWaiting.INSTANCE,
+                BulkheadEvents.FinishedWaiting.INSTANCE);
+
+        assertThat(bulkhead.getQueueSize()).isZero();
+        assertThat(bulkhead.getAvailableCapacityPermits()).isEqualTo(11);
+    }
+
+    @Test
+    public void codelShortBurst() throws Throwable {
+        Bulkhead<String> bulkhead = bulkhead(QueueDiscipline.CODEL);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(submit(bulkhead, i));
+        }
+
+        stopwatch.setCurrentValue(50);
+        completers.get(0).complete("hello");
+        assertThat(order).containsExactly(0, 1);
+
+        // queue wait above target for just over the interval, only one task is dropped
+        stopwatch.setCurrentValue(151);
+        completers.get(1).complete("hello");
+        assertThat(order).containsExactly(0, 1, 3);
+
+        results.add(submit(bulkhead, 4));
+        completers.get(3).complete("hello");
+        assertThat(order).containsExactly(0, 1, 3, 4);
+        completers.get(4).complete("hello");
+
+        assertThatThrownBy(results.get(2)::awaitBlocking)
+                .isExactlyInstanceOf(BulkheadException.class)
+                .hasMessageContaining("dropped from congested bulkhead queue");
+        for (int i : new int[] { 0, 1, 3, 4 }) {
+            assertThat(results.get(i).awaitBlocking()).isEqualTo("hello");
+        }
+
+        assertThat(bulkhead.getQueueSize()).isZero();
+        assertThat(bulkhead.getAvailableCapacityPermits()).isEqualTo(11);
+    }
+}
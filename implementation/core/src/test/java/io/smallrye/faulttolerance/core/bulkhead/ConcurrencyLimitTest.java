@@ -0,0 +1,142 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+import static io.smallrye.faulttolerance.core.bulkhead.ConcurrencyLimit.Outcome.DROPPED;
+import static io.smallrye.faulttolerance.core.bulkhead.ConcurrencyLimit.Outcome.FAILURE;
+import static io.smallrye.faulttolerance.core.bulkhead.ConcurrencyLimit.Outcome.SUCCESS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimitTest {
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void aimdIncreasesWhenUsed() {
+        ConcurrencyLimit limit = new AimdLimit(10, 1, 20);
+
+        limit.onSample(RTT, 5, SUCCESS);
+        assertThat(limit.currentLimit()).isEqualTo(11);
+
+        // not used enough
+        limit.onSample(RTT, 1, SUCCESS);
+        assertThat(limit.currentLimit()).isEqualTo(11);
+    }
+
+    @Test
+    public void aimdDecreasesOnDrop() {
+        ConcurrencyLimit limit = new AimdLimit(11, 1, 20);
+
+        limit.onSample(RTT, 1, DROPPED);
+        assertThat(limit.currentLimit()).isEqualTo(9);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(RTT, 1, DROPPED);
+        }
+        assertThat(limit.currentLimit()).isEqualTo(1);
+    }
+
+    @Test
+    public void aimdRespectsMaxLimit() {
+        ConcurrencyLimit limit = new AimdLimit(20, 1, 20);
+
+        limit.onSample(RTT, 20, SUCCESS);
+        assertThat(limit.currentLimit()).isEqualTo(20);
+    }
+
+    @Test
+    public void gradient2IncreasesWhenLatencyIsStable() {
+        ConcurrencyLimit limit = new Gradient2Limit(10, 1, 100);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT, limit.currentLimit(), SUCCESS);
+        }
+        assertThat(limit.currentLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    public void gradient2DecreasesWhenLatencyGrows() {
+        ConcurrencyLimit limit = new Gradient2Limit(50, 1, 100);
+
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(RTT, limit.currentLimit(), SUCCESS);
+        }
+        int before = limit.currentLimit();
+
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(10 * RTT, limit.currentLimit(), SUCCESS);
+        }
+        assertThat(limit.currentLimit()).isLessThan(before);
+    }
+
+    @Test
+    public void gradient2IgnoresSamplesWhenNotUsed() {
+        ConcurrencyLimit limit = new Gradient2Limit(10, 1, 100);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT, 1, SUCCESS);
+        }
+        assertThat(limit.currentLimit()).isEqualTo(10);
+    }
+
+    @Test
+    public void gradient2DecreasesOnDrop() {
+        ConcurrencyLimit limit = new Gradient2Limit(50, 1, 100);
+
+        limit.onSample(RTT, 50, DROPPED);
+        assertThat(limit.currentLimit()).isEqualTo(45);
+
+        // the RTT of a drop is ignored, even if the bulkhead is not used enough
+        limit.onSample(100 * RTT, 1, DROPPED);
+        assertThat(limit.currentLimit()).isEqualTo(40);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(RTT, 1, DROPPED);
+        }
+        assertThat(limit.currentLimit()).isEqualTo(1);
+    }
+
+    @Test
+    public void vegas() {
+        ConcurrencyLimit limit = new VegasLimit(10, 1, 100);
+
+        // no queueing
+        limit.onSample(RTT, 10, SUCCESS);
+        assertThat(limit.currentLimit()).isEqualTo(16);
+
+        // estimated queue of 8
+        limit.onSample(2 * RTT, 16, SUCCESS);
+        assertThat(limit.currentLimit()).isEqualTo(15);
+
+        limit.onSample(RTT, 15, DROPPED);
+        assertThat(limit.currentLimit()).isEqualTo(14);
+
+        // not used enough
+        limit.onSample(RTT, 1, SUCCESS);
+        assertThat(limit.currentLimit()).isEqualTo(14);
+    }
+
+    @Test
+    public void vegasIgnoresFailures() {
+        ConcurrencyLimit limit = new VegasLimit(10, 1, 100);
+
+        // a fast failure must not become the no-load RTT
+        limit.onSample(RTT / 100, 10, FAILURE);
+        assertThat(limit.currentLimit()).isEqualTo(10);
+
+        limit.onSample(RTT, 10, SUCCESS);
+        assertThat(limit.currentLimit()).isEqualTo(16);
+    }
+
+    @Test
+    public void vegasRecoversFromOutlier() {
+        ConcurrencyLimit limit = new VegasLimit(10, 1, 100);
+
+        limit.onSample(RTT / 100, 10, SUCCESS);
+        for (int i = 0; i < 10_000; i++) {
+            limit.onSample(RTT, limit.currentLimit(), SUCCESS);
+        }
+        assertThat(limit.currentLimit()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,258 @@
+package io.smallrye.faulttolerance.core.bulkhead;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.async;
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
+import static io.smallrye.faulttolerance.core.util.TestThread.runOnTestThread;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceEvent;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.async.ThreadOffload;
+import io.smallrye.faulttolerance.core.util.TestInvocation;
+import io.smallrye.faulttolerance.core.util.TestThread;
+import io.smallrye.faulttolerance.core.util.barrier.Barrier;
+import io.smallrye.faulttolerance.core.util.party.Party;
+
+public class LockFreeBulkheadTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void syncShouldRejectMaxPlus1() throws Exception {
+        int size = 5;
+
+        Party party = Party.create(size);
+        TestInvocation<String> invocation = TestInvocation.of(() -> {
+            party.participant().attend();
+            return "syncShouldRejectMaxPlus1";
+        });
+        LockFreeBulkhead<String> bulkhead = new LockFreeBulkhead<>(invocation, "syncShouldRejectMaxPlus1", size, 0);
+
+        List<TestThread<String>> threads = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            threads.add(runOnTestThread(bulkhead, false));
+        }
+
+        party.organizer().waitForAll();
+        assertThatThrownBy(bulkhead.apply(sync(null))::awaitBlocking)
+                .isExactlyInstanceOf(BulkheadException.class);
+        party.organizer().disband();
+
+        for (int i = 0; i < size; i++) {
+            assertThat(threads.get(i).await()).isEqualTo("syncShouldRejectMaxPlus1");
+        }
+        assertThat(bulkhead.getRunning()).isZero();
+    }
+
+    @Test
+    public void asyncShouldRejectMaxPlus1() throws Throwable {
+        Barrier delayBarrier = Barrier.noninterruptible();
+
+        TestInvocation<String> invocation = TestInvocation.of(() -> {
+            delayBarrier.await();
+            return "asyncShouldRejectMaxPlus1";
+        });
+        ThreadOffload<String> execution = new ThreadOffload<>(invocation, executor, true);
+        LockFreeBulkhead<String> bulkhead = new LockFreeBulkhead<>(execution, "asyncShouldRejectMaxPlus1", 2, 3);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(bulkhead.apply(async(null)));
+        }
+        assertThat(bulkhead.getRunning()).isEqualTo(2);
+        assertThat(bulkhead.getQueueSize()).isEqualTo(3);
+
+        assertThatThrownBy(bulkhead.apply(async(null))::awaitBlocking)
+                .isExactlyInstanceOf(BulkheadException.class);
+
+        delayBarrier.open();
+
+        for (Future<String> result : results) {
+            assertThat(result.awaitBlocking()).isEqualTo("asyncShouldRejectMaxPlus1");
+        }
+        await().atMost(Duration.ofSeconds(1)).until(() -> bulkhead.getRunning() == 0);
+        assertThat(bulkhead.getQueueSize()).isZero();
+    }
+
+    @Test
+    public void asyncShouldRunQueuedTasksInOrder() {
+        Completer<String> firstTaskCompleter = Completer.create();
+        List<Integer> order = new ArrayList<>();
+
+        LockFreeBulkhead<String> bulkhead = new LockFreeBulkhead<>(ctx -> {
+            int index = ctx.get(Integer.class);
+            order.add(index);
+            return index == 0 ? firstTaskCompleter.future() : Future.of("hello");
+        }, "asyncShouldRunQueuedTasksInOrder", 1, 10);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            FaultToleranceContext<String> ctx = async(null);
+            ctx.set(Integer.class, i);
+            results.add(bulkhead.apply(ctx));
+        }
+        assertThat(order).containsExactly(0);
+
+        firstTaskCompleter.complete("hello");
+
+        for (Future<String> result : results) {
+            assertThat(result.isComplete()).isTrue();
+        }
+        assertThat(order).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void shouldFireEvents() {
+        Completer<String> completer = Completer.create();
+        AtomicBoolean first = new AtomicBoolean(true);
+        LockFreeBulkhead<String> bulkhead = new LockFreeBulkhead<>(ctx -> {
+            return first.compareAndSet(true, false) ? completer.future() : Future.of("hello");
+        }, "shouldFireEvents", 1, 1);
+
+        List<FaultToleranceEvent> firstEvents = new ArrayList<>();
+        FaultToleranceContext<String> firstCtx = async(null);
+        firstCtx.addEventListener(firstEvents::add);
+        bulkhead.apply(firstCtx);
+
+        List<FaultToleranceEvent> second = new ArrayList<>();
+        FaultToleranceContext<String> secondCtx = async(null);
+        secondCtx.addEventListener(second::add);
+        bulkhead.apply(secondCtx);
+
+        List<FaultToleranceEvent> third = new ArrayList<>();
+        FaultToleranceContext<String> thirdCtx = async(null);
+        thirdCtx.addEventListener(third::add);
+        bulkhead.apply(thirdCtx);
+
+        completer.complete("hello");
+
+        assertThat(firstEvents).containsExactly(
+                BulkheadEvents.DecisionMade.ACCEPTED,
+                BulkheadEvents.StartedWaiting.INSTANCE,
+                BulkheadEvents.FinishedWaiting.INSTANCE,
+                BulkheadEvents.StartedRunning.INSTANCE,
+                BulkheadEvents.FinishedRunning.INSTANCE);
+        assertThat(second).containsExactly(
+                BulkheadEvents.DecisionMade.ACCEPTED,
+                BulkheadEvents.StartedWaiting.INSTANCE,
+                BulkheadEvents.FinishedWaiting.INSTANCE,
+                BulkheadEvents.StartedRunning.INSTANCE,
+                BulkheadEvents.FinishedRunning.INSTANCE);
+        assertThat(third).containsExactly(
+                BulkheadEvents.DecisionMade.REJECTED);
+    }
+
+    @Test
+    public void shouldNotStackOverflowOnSynchronousCompletion() throws Throwable {
+        Completer<String> firstTaskCompleter = Completer.create();
+        AtomicBoolean first = new AtomicBoolean(true);
+
+        FaultToleranceStrategy<String> delegate = ctx -> {
+            if (first.compareAndSet(true, false)) {
+                return firstTaskCompleter.future();
+            }
+            return Future.of("hello");
+        };
+
+        LockFreeBulkhead<String> bulkhead = new LockFreeBulkhead<>(delegate, "test", 1, 10_000);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 10_001; i++) {
+            results.add(bulkhead.apply(async(null)));
+        }
+
+        firstTaskCompleter.complete("hello");
+
+        for (Future<String> result : results) {
+            assertThat(result.awaitBlocking()).isEqualTo("hello");
+        }
+    }
+
+    @Test
+    public void shouldProcessAllQueuedTasksUnderConcurrentSubmission() throws Throwable {
+        // verifies that no task is left stuck in the queue due to races between
+        // concurrent submissions and completions (lost wake-ups)
+
+        ExecutorService pool = Executors.newFixedThreadPool(50);
+        try {
+            TestInvocation<String> invocation = TestInvocation.of(() -> "hello");
+            ThreadOffload<String> offload = new ThreadOffload<>(invocation, pool, true);
+            LockFreeBulkhead<String> bulkhead = new LockFreeBulkhead<>(offload, "test", 5, 1000);
+
+            for (int iteration = 0; iteration < 20; iteration++) {
+                int taskCount = 1000;
+                Barrier startBarrier = Barrier.noninterruptible();
+                List<java.util.concurrent.Future<Future<String>>> submitted = new ArrayList<>();
+
+                for (int i = 0; i < taskCount; i++) {
+                    submitted.add(pool.submit(() -> {
+                        startBarrier.await();
+                        return bulkhead.apply(async(null));
+                    }));
+                }
+
+                startBarrier.open();
+
+                for (var f : submitted) {
+                    Future<String> result = f.get(10, TimeUnit.SECONDS);
+                    assertThat(result.awaitBlocking()).isEqualTo("hello");
+                }
+            }
+
+            await().atMost(Duration.ofSeconds(1)).until(() -> bulkhead.getRunning() == 0);
+            assertThat(bulkhead.getQueueSize()).isZero();
+        } finally {
+            pool.shutdownNow();
+            pool.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void stacklessRejections() {
+        Completer<String> running = Completer.create();
+        FaultToleranceStrategy<String> invocation = ctx -> running.future();
+        LockFreeBulkhead<String> bulkhead = new LockFreeBulkhead<>(invocation, "test invocation", 1, 0, true);
+
+        Future<String> result = bulkhead.apply(async(null));
+        assertThat(result.isComplete()).isFalse();
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(bulkhead.apply(async(null))::awaitBlocking)
+                    .isInstanceOf(BulkheadException.class)
+                    .hasMessage("test invocation rejected from bulkhead")
+                    .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+        }
+
+        running.complete("foobar");
+        assertThat(result.isComplete()).isTrue();
+    }
+}
@@ -26,5 +26,28 @@ public abstract class AbstractRollingWindowTest {
         assertThat(window.recordFailure()).isTrue();
     }
 
+    @Test
+    public void largeWindow() {
+        RollingWindow window = createRollingWindow(100, 50);
+
+        for (int i = 0; i < 99; i++) {
+            assertThat(i % 2 == 0 ? window.recordFailure() : window.recordSuccess()).isFalse();
+        }
+        // 50 failures and 50 successes
+        assertThat(window.recordSuccess()).isTrue();
+
+        // the first failure rolls out of the window
+        assertThat(window.recordSuccess()).isFalse();
+        // the first success rolls out of the window
+        assertThat(window.recordFailure()).isTrue();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(window.recordSuccess()).isFalse();
+        }
+        for (int i = 0; i < 100; i++) {
+            assertThat(window.recordFailure()).isEqualTo(i >= 49);
+        }
+    }
+
     protected abstract RollingWindow createRollingWindow(int size, int failureThreshold);
 }
@@ -141,4 +141,95 @@ public class CircuitBreakerSyncTest {
         assertThat(cb.currentState()).isEqualTo(CircuitBreaker.STATE_CLOSED);
         assertThat(cb.apply(sync(() -> "foobar5")).awaitBlocking()).isEqualTo("foobar5");
     }
+
+    @Test
+    public void timeWindow() throws Throwable {
+        CircuitBreaker<String> cb = new CircuitBreaker<>(invocation(), "test invocation",
+                new SetBasedExceptionDecision(testException, SetOfThrowables.EMPTY, false),
+                1000, 4, 0.5, 1, stopwatch, new TestTimer(), new CircuitBreaker.Options().timeWindow(10_000, 10));
+
+        // circuit breaker is closed
+        assertThatThrownBy(cb.apply(sync(TestException::doThrow))::awaitBlocking).isExactlyInstanceOf(TestException.class);
+        assertThatThrownBy(cb.apply(sync(TestException::doThrow))::awaitBlocking).isExactlyInstanceOf(TestException.class);
+        assertThatThrownBy(cb.apply(sync(TestException::doThrow))::awaitBlocking).isExactlyInstanceOf(TestException.class);
+        // failures older than the time window are forgotten
+        stopwatch.setCurrentValue(10_000);
+        assertThat(cb.apply(sync(() -> "foobar1")).awaitBlocking()).isEqualTo("foobar1");
+        assertThat(cb.apply(sync(() -> "foobar2")).awaitBlocking()).isEqualTo("foobar2");
+        assertThatThrownBy(cb.apply(sync(TestException::doThrow))::awaitBlocking).isExactlyInstanceOf(TestException.class);
+        assertThat(cb.currentState()).isEqualTo(CircuitBreaker.STATE_CLOSED);
+        stopwatch.setCurrentValue(15_000);
+        assertThatThrownBy(cb.apply(sync(TestException::doThrow))::awaitBlocking).isExactlyInstanceOf(TestException.class);
+        // circuit breaker is open
+        assertThat(cb.currentState()).isEqualTo(CircuitBreaker.STATE_OPEN);
+        stopwatch.setCurrentValue(0);
+        assertThatThrownBy(cb.apply(sync(() -> "ignored"))::awaitBlocking)
+                .isExactlyInstanceOf(CircuitBreakerOpenException.class);
+        stopwatch.setCurrentValue(1500);
+        assertThat(cb.apply(sync(() -> "foobar3")).awaitBlocking()).isEqualTo("foobar3");
+        // circuit breaker is closed
+        assertThat(cb.currentState()).isEqualTo(CircuitBreaker.STATE_CLOSED);
+        assertThatThrownBy(cb.apply(sync(TestException::doThrow))::awaitBlocking).isExactlyInstanceOf(TestException.class);
+        assertThat(cb.currentState()).isEqualTo(CircuitBreaker.STATE_CLOSED);
+    }
+
+    @Test
+    public void slowCalls() throws Throwable {
+        CircuitBreaker<String> cb = new CircuitBreaker<>(invocation(), "test invocation",
+                new SetBasedExceptionDecision(testException, SetOfThrowables.EMPTY, false),
+                1000, 4, 0.5, 1, stopwatch, new TestTimer(), new CircuitBreaker.Options().slowCalls(100, 0.5));
+
+        // circuit breaker is closed
+        assertThat(cb.apply(sync(() -> slowCall(10, "foobar1"))).awaitBlocking()).isEqualTo("foobar1");
+        assertThat(cb.apply(sync(() -> slowCall(200, "foobar2"))).awaitBlocking()).isEqualTo("foobar2");
+        assertThat(cb.apply(sync(() -> slowCall(100, "foobar3"))).awaitBlocking()).isEqualTo("foobar3");
+        assertThat(cb.currentState()).isEqualTo(CircuitBreaker.STATE_CLOSED);
+        assertThat(cb.apply(sync(() -> slowCall(150, "foobar4"))).awaitBlocking()).isEqualTo("foobar4");
+        // circuit breaker is open, 2 out of 4 calls were slow
+        assertThat(cb.currentState()).isEqualTo(CircuitBreaker.STATE_OPEN);
+        setCurrentTime(0);
+        assertThatThrownBy(cb.apply(sync(() -> "ignored"))::awaitBlocking)
+                .isExactlyInstanceOf(CircuitBreakerOpenException.class);
+        setCurrentTime(1500);
+        assertThat(cb.apply(sync(() -> slowCall(200, "foobar5"))).awaitBlocking()).isEqualTo("foobar5");
+        // circuit breaker is open, the probe call was slow
+        assertThat(cb.currentState()).isEqualTo(CircuitBreaker.STATE_OPEN);
+        setCurrentTime(0);
+        assertThatThrownBy(cb.apply(sync(() -> "ignored"))::awaitBlocking)
+                .isExactlyInstanceOf(CircuitBreakerOpenException.class);
+        setCurrentTime(1500);
+        assertThat(cb.apply(sync(() -> slowCall(50, "foobar6"))).awaitBlocking()).isEqualTo("foobar6");
+        // circuit breaker is closed
+        assertThat(cb.currentState()).isEqualTo(CircuitBreaker.STATE_CLOSED);
+    }
+
+    @Test
+    public void stacklessRejections() throws Throwable {
+        CircuitBreaker<String> cb = new CircuitBreaker<>(invocation(), "test invocation",
+                new SetBasedExceptionDecision(testException, SetOfThrowables.EMPTY, false),
+                1000, 2, 0.5, 1, stopwatch, new TestTimer(), new CircuitBreaker.Options().stacklessRejections(true));
+
+        assertThatThrownBy(cb.apply(sync(TestException::doThrow))::awaitBlocking).isExactlyInstanceOf(TestException.class);
+        assertThatThrownBy(cb.apply(sync(TestException::doThrow))::awaitBlocking).isExactlyInstanceOf(TestException.class);
+        // circuit breaker is open
+        assertThat(cb.currentState()).isEqualTo(CircuitBreaker.STATE_OPEN);
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(cb.apply(sync(() -> "ignored"))::awaitBlocking)
+                    .isInstanceOf(CircuitBreakerOpenException.class)
+                    .hasMessage("test invocation circuit breaker is open")
+                    .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+        }
+    }
+
+    private long currentTime;
+
+    private void setCurrentTime(long value) {
+        currentTime = value;
+        stopwatch.setCurrentValue(value);
+    }
+
+    private String slowCall(long durationInMillis, String result) {
+        setCurrentTime(currentTime + durationInMillis);
+        return result;
+    }
 }
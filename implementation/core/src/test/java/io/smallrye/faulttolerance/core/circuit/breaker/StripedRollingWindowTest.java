@@ -0,0 +1,48 @@
+package io.smallrye.faulttolerance.core.circuit.breaker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+public class StripedRollingWindowTest extends AbstractRollingWindowTest {
+    @Override
+    protected RollingWindow createRollingWindow(int size, int failureThreshold) {
+        return new StripedRollingWindow(size, failureThreshold);
+    }
+
+    @Test
+    public void concurrentRecording() throws InterruptedException {
+        int threads = 8;
+        int recordsPerThread = 10_000;
+        RollingWindow window = createRollingWindow(100, 100);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int j = 0; j < recordsPerThread; j++) {
+                    window.recordFailure();
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // the window is full of failures, so the failure count must be exact
+        assertThat(window.recordFailure()).isTrue();
+        assertThat(window.recordSuccess()).isFalse();
+    }
+}
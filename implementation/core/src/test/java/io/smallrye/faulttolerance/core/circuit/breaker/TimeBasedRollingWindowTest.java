@@ -0,0 +1,131 @@
+package io.smallrye.faulttolerance.core.circuit.breaker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+
+public class TimeBasedRollingWindowTest {
+    private TestStopwatch stopwatch;
+
+    @BeforeEach
+    public void setUp() {
+        stopwatch = new TestStopwatch();
+    }
+
+    @Test
+    public void minimumCalls() {
+        RollingWindow window = new TimeBasedRollingWindow(stopwatch, 1000, 10, 4, 0.5);
+
+        assertThat(window.recordFailure()).isFalse();
+        assertThat(window.recordFailure()).isFalse();
+        assertThat(window.recordFailure()).isFalse();
+        assertThat(window.recordFailure()).isTrue();
+    }
+
+    @Test
+    public void failureRatio() {
+        RollingWindow window = new TimeBasedRollingWindow(stopwatch, 1000, 10, 4, 0.5);
+
+        assertThat(window.recordSuccess()).isFalse();
+        assertThat(window.recordSuccess()).isFalse();
+        assertThat(window.recordSuccess()).isFalse();
+        assertThat(window.recordFailure()).isFalse(); // 1/4
+        assertThat(window.recordFailure()).isFalse(); // 2/5
+        assertThat(window.recordFailure()).isTrue(); // 3/6
+    }
+
+    @Test
+    public void resultsSpreadOverBuckets() {
+        RollingWindow window = new TimeBasedRollingWindow(stopwatch, 1000, 10, 4, 0.5);
+
+        stopwatch.setCurrentValue(0);
+        assertThat(window.recordFailure()).isFalse();
+        stopwatch.setCurrentValue(250);
+        assertThat(window.recordSuccess()).isFalse();
+        stopwatch.setCurrentValue(500);
+        assertThat(window.recordSuccess()).isFalse();
+        stopwatch.setCurrentValue(750);
+        assertThat(window.recordFailure()).isTrue(); // 2/4
+    }
+
+    @Test
+    public void oldResultsExpire() {
+        RollingWindow window = new TimeBasedRollingWindow(stopwatch, 1000, 10, 4, 0.5);
+
+        stopwatch.setCurrentValue(0);
+        assertThat(window.recordFailure()).isFalse();
+        assertThat(window.recordFailure()).isFalse();
+        assertThat(window.recordFailure()).isFalse();
+
+        // the first bucket is no longer part of the window
+        stopwatch.setCurrentValue(1000);
+        assertThat(window.recordFailure()).isFalse();
+        assertThat(window.recordFailure()).isFalse();
+        assertThat(window.recordFailure()).isFalse();
+        assertThat(window.recordFailure()).isTrue();
+    }
+
+    @Test
+    public void bucketReusedAfterWholeWindow() {
+        RollingWindow window = new TimeBasedRollingWindow(stopwatch, 1000, 10, 2, 0.5);
+
+        stopwatch.setCurrentValue(50);
+        assertThat(window.recordFailure()).isFalse();
+
+        // same bucket index, but a different time slice, so the bucket is reset
+        stopwatch.setCurrentValue(2050);
+        assertThat(window.recordSuccess()).isFalse();
+        assertThat(window.recordSuccess()).isFalse();
+        assertThat(window.recordFailure()).isFalse(); // 1/3
+        assertThat(window.recordFailure()).isTrue(); // 2/4
+    }
+
+    @Test
+    public void recoversAfterSuccesses() {
+        RollingWindow window = new TimeBasedRollingWindow(stopwatch, 1000, 10, 2, 0.5);
+
+        stopwatch.setCurrentValue(0);
+        assertThat(window.recordFailure()).isFalse();
+        assertThat(window.recordFailure()).isTrue();
+
+        stopwatch.setCurrentValue(500);
+        assertThat(window.recordSuccess()).isTrue(); // 2/3
+        assertThat(window.recordSuccess()).isTrue(); // 2/4
+        assertThat(window.recordSuccess()).isFalse(); // 2/5
+    }
+
+    @Test
+    public void staleBucketsNotResurrected() {
+        RollingWindow window = new TimeBasedRollingWindow(stopwatch, 10, 10, 4, 0.5);
+
+        stopwatch.setCurrentValue(0);
+        assertThat(window.recordFailure()).isFalse();
+        assertThat(window.recordFailure()).isFalse();
+        assertThat(window.recordFailure()).isFalse();
+
+        // 2^22 time slices later, the old buckets must not be mistaken for current ones
+        stopwatch.setCurrentValue(1L << 22);
+        assertThat(window.recordFailure()).isFalse();
+    }
+
+    @Test
+    public void staleBucketsCleared() {
+        RollingWindow window = new TimeBasedRollingWindow(stopwatch, 10, 10, 4, 0.5);
+
+        stopwatch.setCurrentValue(0);
+        assertThat(window.recordFailure()).isFalse();
+        assertThat(window.recordFailure()).isFalse();
+        assertThat(window.recordFailure()).isFalse();
+
+        // clears the stale buckets
+        stopwatch.setCurrentValue(20);
+        assertThat(window.recordSuccess()).isFalse();
+
+        // the epoch wraps around, but the old failures are gone
+        stopwatch.setCurrentValue(1L << 32);
+        assertThat(window.recordFailure()).isFalse();
+    }
+}
@@ -0,0 +1,138 @@
+package io.smallrye.faulttolerance.core.composition;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.async;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.RateLimitType;
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.bulkhead.Bulkhead;
+import io.smallrye.faulttolerance.core.fallback.Fallback;
+import io.smallrye.faulttolerance.core.rate.limit.RateLimit;
+import io.smallrye.faulttolerance.core.retry.AsyncDelay;
+import io.smallrye.faulttolerance.core.retry.Retry;
+import io.smallrye.faulttolerance.core.retry.SyncDelay;
+import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+import io.smallrye.faulttolerance.core.timeout.Timeout;
+import io.smallrye.faulttolerance.core.timer.TestTimer;
+import io.smallrye.faulttolerance.core.util.ExceptionDecision;
+import io.smallrye.faulttolerance.core.util.ResultDecision;
+import io.smallrye.faulttolerance.core.util.TestException;
+
+public class CancellationTest {
+    private TestTimer timer;
+    private List<Completer<String>> invocations;
+
+    @BeforeEach
+    public void setUp() {
+        timer = new TestTimer();
+        invocations = new ArrayList<>();
+    }
+
+    private FaultToleranceStrategy<String> invocation() {
+        return ctx -> {
+            Completer<String> completer = Completer.create();
+            invocations.add(completer);
+            return completer.future();
+        };
+    }
+
+    @Test
+    public void timeout() {
+        Timeout<String> timeout = new Timeout<>(invocation(), "timeout", 1000, timer);
+
+        Future<String> result = timeout.apply(async(null));
+        assertThat(timer.countScheduledTasks()).isEqualTo(1);
+
+        result.cancel();
+        assertThat(invocations.get(0).future().isCancelled()).isTrue();
+        assertThat(timer.hasScheduledTasks()).isFalse();
+    }
+
+    @Test
+    public void retry_attemptInProgress() {
+        Retry<String> retry = new Retry<>(invocation(), "retry", ResultDecision.ALWAYS_EXPECTED,
+                ExceptionDecision.ALWAYS_FAILURE, 10, 0, SyncDelay.NONE, AsyncDelay.NONE, new TestStopwatch(), null);
+
+        Future<String> result = retry.apply(async(null));
+        invocations.get(0).completeWithError(new TestException());
+        assertThat(invocations).hasSize(2);
+
+        result.cancel();
+        assertThat(invocations.get(1).future().isCancelled()).isTrue();
+        assertThat(invocations).hasSize(2);
+    }
+
+    @Test
+    public void retry_delayInProgress() {
+        Retry<String> retry = new Retry<>(invocation(), "retry", ResultDecision.ALWAYS_EXPECTED,
+                ExceptionDecision.ALWAYS_FAILURE, 10, 0, SyncDelay.NONE,
+                () -> (cause, task, executor) -> timer.schedule(100, task), new TestStopwatch(), null);
+
+        Future<String> result = retry.apply(async(null));
+        invocations.get(0).completeWithError(new TestException());
+        assertThat(timer.countScheduledTasks()).isEqualTo(1);
+
+        result.cancel();
+        timer.executeSynchronously(timer.nextScheduledTask());
+        // no more attempts after the delay
+        assertThat(invocations).hasSize(1);
+    }
+
+    @Test
+    public void rateLimit_waiting() {
+        RateLimit<String> rateLimit = new RateLimit<>(invocation(), "rate limit", 1, 1000, 0, RateLimitType.FIXED,
+                new TestStopwatch(), new RateLimit.Options().maxWait(1000, timer));
+
+        rateLimit.apply(async(null));
+        Future<String> result = rateLimit.apply(async(null));
+        assertThat(timer.countScheduledTasks()).isEqualTo(1);
+
+        result.cancel();
+        assertThat(timer.hasScheduledTasks()).isFalse();
+        assertThat(invocations).hasSize(1);
+    }
+
+    @Test
+    public void fallback_fallbackInProgress() {
+        Completer<String> fallback = Completer.create();
+        FaultToleranceStrategy<String> operation = new Fallback<>(
+                invocation(), "fallback", ctx -> fallback.future(), ExceptionDecision.ALWAYS_FAILURE);
+
+        Future<String> result = operation.apply(async(null));
+        invocations.get(0).completeWithError(new TestException());
+
+        result.cancel();
+        assertThat(fallback.future().isCancelled()).isTrue();
+    }
+
+    @Test
+    public void wholeChain() throws Throwable {
+        Bulkhead<String> bulkhead = new Bulkhead<>(invocation(), "bulkhead", 1, 1, false);
+        Timeout<String> timeout = new Timeout<>(bulkhead, "timeout", 1000, timer);
+        FaultToleranceStrategy<String> operation = Strategies.fallback(Strategies.retry(
+                Strategies.circuitBreaker(timeout)));
+
+        Future<String> first = operation.apply(async(null));
+        Future<String> second = operation.apply(async(null));
+        assertThat(invocations).hasSize(1);
+
+        first.cancel();
+        assertThat(invocations.get(0).future().isCancelled()).isTrue();
+        // the bulkhead permit of the cancelled invocation is released
+        assertThat(invocations).hasSize(2);
+        // only the timeout watcher of the second invocation remains
+        assertThat(timer.countScheduledTasks()).isEqualTo(1);
+
+        invocations.get(1).complete("foobar");
+        assertThat(second.awaitBlocking()).isEqualTo("foobar");
+        assertThat(timer.hasScheduledTasks()).isFalse();
+    }
+}
@@ -0,0 +1,214 @@
+package io.smallrye.faulttolerance.core.hedge;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.async;
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.bulkhead.BulkheadEvents;
+import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+import io.smallrye.faulttolerance.core.timer.TestTimer;
+import io.smallrye.faulttolerance.core.util.TestException;
+
+public class HedgeTest {
+    private TestStopwatch stopwatch;
+    private TestTimer timer;
+    private List<Completer<String>> attempts;
+    private List<Object> events;
+
+    @BeforeEach
+    public void setUp() {
+        stopwatch = new TestStopwatch();
+        timer = new TestTimer();
+        attempts = new ArrayList<>();
+        events = new ArrayList<>();
+    }
+
+    private Hedge<String> hedge(int maxAttempts) {
+        return new Hedge<>(ctx -> {
+            Completer<String> completer = Completer.create();
+            attempts.add(completer);
+            return completer.future();
+        }, "test invocation", maxAttempts, new FixedHedgeDelay(50), stopwatch, timer);
+    }
+
+    private FaultToleranceContext<String> asyncContext() {
+        FaultToleranceContext<String> ctx = async(null);
+        ctx.registerEventHandler(HedgeEvents.HedgeSent.class, events::add);
+        ctx.registerEventHandler(HedgeEvents.Finished.class, event -> events.add(event.result));
+        return ctx;
+    }
+
+    private void fireTimer() {
+        timer.executeSynchronously(timer.nextScheduledTask());
+    }
+
+    @Test
+    public void primaryCompletesInTime() throws Throwable {
+        Future<String> result = hedge(3).apply(asyncContext());
+        assertThat(attempts).hasSize(1);
+        assertThat(timer.countScheduledTasks()).isEqualTo(1);
+
+        attempts.get(0).complete("primary");
+
+        assertThat(result.awaitBlocking()).isEqualTo("primary");
+        assertThat(attempts).hasSize(1);
+        assertThat(timer.hasScheduledTasks()).isFalse();
+        assertThat(events).containsExactly(HedgeEvents.Result.PRIMARY_WON);
+    }
+
+    @Test
+    public void hedgedAttemptWins() throws Throwable {
+        Future<String> result = hedge(3).apply(asyncContext());
+
+        fireTimer();
+        assertThat(attempts).hasSize(2);
+        assertThat(timer.countScheduledTasks()).isEqualTo(1);
+
+        attempts.get(1).complete("hedge");
+
+        assertThat(result.awaitBlocking()).isEqualTo("hedge");
+        assertThat(attempts.get(0).future().isCancelled()).isTrue();
+        assertThat(timer.hasScheduledTasks()).isFalse();
+        assertThat(events).containsExactly(HedgeEvents.HedgeSent.INSTANCE, HedgeEvents.Result.HEDGE_WON);
+    }
+
+    @Test
+    public void primaryWinsAfterHedgeWasSent() throws Throwable {
+        Future<String> result = hedge(2).apply(asyncContext());
+
+        fireTimer();
+        assertThat(attempts).hasSize(2);
+        // max attempts reached, no more hedged attempts are scheduled
+        assertThat(timer.hasScheduledTasks()).isFalse();
+
+        attempts.get(0).complete("primary");
+
+        assertThat(result.awaitBlocking()).isEqualTo("primary");
+        assertThat(attempts.get(1).future().isCancelled()).isTrue();
+        assertThat(events).containsExactly(HedgeEvents.HedgeSent.INSTANCE, HedgeEvents.Result.PRIMARY_WON);
+    }
+
+    @Test
+    public void failedAttemptDoesNotFailHedgeWhileOthersAreInFlight() throws Throwable {
+        Future<String> result = hedge(3).apply(asyncContext());
+
+        fireTimer();
+        attempts.get(0).completeWithError(new TestException());
+        assertThat(result.isComplete()).isFalse();
+        // a failure doesn't trigger a hedged attempt, but the scheduled one is still sent
+        assertThat(attempts).hasSize(2);
+
+        fireTimer();
+        assertThat(attempts).hasSize(3);
+        attempts.get(2).complete("third");
+
+        assertThat(result.awaitBlocking()).isEqualTo("third");
+        assertThat(attempts.get(1).future().isCancelled()).isTrue();
+    }
+
+    @Test
+    public void allAttemptsFail() {
+        Future<String> result = hedge(2).apply(asyncContext());
+
+        fireTimer();
+        attempts.get(1).completeWithError(new IllegalStateException());
+        assertThat(result.isComplete()).isFalse();
+        attempts.get(0).completeWithError(new TestException());
+
+        assertThatThrownBy(result::awaitBlocking).isExactlyInstanceOf(TestException.class);
+        assertThat(events).containsExactly(HedgeEvents.HedgeSent.INSTANCE, HedgeEvents.Result.EXCEPTION_THROWN);
+    }
+
+    @Test
+    public void primaryFailsBeforeHedgeDelay() {
+        Future<String> result = hedge(3).apply(asyncContext());
+
+        attempts.get(0).completeWithError(new TestException());
+
+        assertThatThrownBy(result::awaitBlocking).isExactlyInstanceOf(TestException.class);
+        assertThat(attempts).hasSize(1);
+        assertThat(timer.hasScheduledTasks()).isFalse();
+    }
+
+    @Test
+    public void cancellationCancelsAllAttempts() {
+        Future<String> result = hedge(3).apply(asyncContext());
+
+        fireTimer();
+        result.cancel();
+
+        assertThat(attempts).allSatisfy(attempt -> assertThat(attempt.future().isCancelled()).isTrue());
+        assertThat(timer.hasScheduledTasks()).isFalse();
+    }
+
+    @Test
+    public void outerEventHandlerIsNotNotifiedByAttempts() throws Throwable {
+        AtomicInteger outerEvents = new AtomicInteger();
+        AtomicInteger innerEvents = new AtomicInteger();
+
+        // each attempt passes through an inner strategy that registers its own handler and fires the event
+        Hedge<String> hedge = new Hedge<>(ctx -> {
+            ctx.registerEventHandler(BulkheadEvents.FinishedRunning.class, ignored -> innerEvents.incrementAndGet());
+            Completer<String> completer = Completer.create();
+            attempts.add(completer);
+            Completer<String> attempt = Completer.create();
+            completer.future().then((value, error) -> {
+                ctx.fireEvent(BulkheadEvents.FinishedRunning.INSTANCE);
+                if (error == null) {
+                    attempt.complete(value);
+                } else {
+                    attempt.completeWithError(error);
+                }
+            });
+            return attempt.future();
+        }, "test invocation", 3, new FixedHedgeDelay(50), stopwatch, timer);
+
+        // the outer strategy fires the same event once, after the hedged call completes
+        FaultToleranceStrategy<String> outer = ctx -> {
+            ctx.registerEventHandler(BulkheadEvents.FinishedRunning.class, ignored -> outerEvents.incrementAndGet());
+            Completer<String> result = Completer.create();
+            hedge.apply(ctx).then((value, error) -> {
+                ctx.fireEvent(BulkheadEvents.FinishedRunning.INSTANCE);
+                if (error == null) {
+                    result.complete(value);
+                } else {
+                    result.completeWithError(error);
+                }
+            });
+            return result.future();
+        };
+
+        Future<String> result = outer.apply(async(null));
+        fireTimer();
+        fireTimer();
+        assertThat(attempts).hasSize(3);
+
+        attempts.get(0).completeWithError(new TestException());
+        attempts.get(2).complete("third");
+
+        assertThat(result.awaitBlocking()).isEqualTo("third");
+        assertThat(innerEvents).hasValue(2);
+        assertThat(outerEvents).hasValue(1);
+    }
+
+    @Test
+    public void synchronousInvocationIsNotHedged() throws Throwable {
+        Hedge<String> hedge = new Hedge<>(ctx -> Future.of("sync"), "test invocation", 3,
+                new FixedHedgeDelay(50), stopwatch, timer);
+
+        assertThat(hedge.apply(sync(null)).awaitBlocking()).isEqualTo("sync");
+        assertThat(timer.hasScheduledTasks()).isFalse();
+    }
+}
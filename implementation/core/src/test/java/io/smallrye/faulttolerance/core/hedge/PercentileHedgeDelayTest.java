@@ -0,0 +1,53 @@
+package io.smallrye.faulttolerance.core.hedge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class PercentileHedgeDelayTest {
+    @Test
+    public void initialDelayUntilEnoughLatencies() {
+        PercentileHedgeDelay delay = new PercentileHedgeDelay(0.9, 100);
+
+        for (int i = 1; i < PercentileHedgeDelay.RECOMPUTE_INTERVAL; i++) {
+            delay.recordLatency(i);
+            assertThat(delay.getInMillis()).isEqualTo(100);
+        }
+    }
+
+    @Test
+    public void percentileOfRecordedLatencies() {
+        PercentileHedgeDelay delay = new PercentileHedgeDelay(0.5, 100);
+
+        for (int i = 1; i <= PercentileHedgeDelay.RECOMPUTE_INTERVAL; i++) {
+            delay.recordLatency(i);
+        }
+        assertThat(delay.getInMillis()).isEqualTo(PercentileHedgeDelay.RECOMPUTE_INTERVAL / 2);
+    }
+
+    @Test
+    public void maximumLatency() {
+        PercentileHedgeDelay delay = new PercentileHedgeDelay(1.0, 100);
+
+        for (int i = 1; i <= PercentileHedgeDelay.RECOMPUTE_INTERVAL; i++) {
+            delay.recordLatency(i * 10);
+        }
+        assertThat(delay.getInMillis()).isEqualTo(PercentileHedgeDelay.RECOMPUTE_INTERVAL * 10);
+    }
+
+    @Test
+    public void oldLatenciesAreForgotten() {
+        PercentileHedgeDelay delay = new PercentileHedgeDelay(1.0, 100);
+
+        for (int i = 0; i < PercentileHedgeDelay.WINDOW_SIZE; i++) {
+            delay.recordLatency(1000);
+        }
+        // the window size is not a multiple of the recompute interval, so add some extra latencies
+        int extra = PercentileHedgeDelay.RECOMPUTE_INTERVAL
+                - PercentileHedgeDelay.WINDOW_SIZE % PercentileHedgeDelay.RECOMPUTE_INTERVAL;
+        for (int i = 0; i < PercentileHedgeDelay.WINDOW_SIZE + extra; i++) {
+            delay.recordLatency(10);
+        }
+        assertThat(delay.getInMillis()).isEqualTo(10);
+    }
+}
@@ -1,16 +1,33 @@
 package io.smallrye.faulttolerance.core.metrics;
 
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.async;
 import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
 import static io.smallrye.faulttolerance.core.Invocation.invocation;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.LongSupplier;
 
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.ContextKey;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.bulkhead.Bulkhead;
 import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
+import io.smallrye.faulttolerance.core.hedge.FixedHedgeDelay;
+import io.smallrye.faulttolerance.core.hedge.Hedge;
+import io.smallrye.faulttolerance.core.hedge.HedgeEvents;
+import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+import io.smallrye.faulttolerance.core.timeout.Deadline;
+import io.smallrye.faulttolerance.core.timeout.Timeout;
+import io.smallrye.faulttolerance.core.timer.TestTimer;
 import io.smallrye.faulttolerance.core.util.TestException;
 
 // TODO should have a test for all metrics
@@ -39,7 +56,79 @@ public class GeneralMetricsTest {
         assertThat(metrics.exceptionThrown).isEqualTo(1);
     }
 
+    @Test
+    public void concurrencyLimitKnownBeforeFirstInvocation() {
+        MockMetricsRecorder metrics = new MockMetricsRecorder();
+
+        MockMeteredOperation operation = new MockMeteredOperation();
+        operation.bulkhead = true;
+        operation.adaptiveBulkhead = true;
+        new MetricsCollector<>(invocation(), metrics, operation, () -> 42);
+
+        assertThat(metrics.concurrencyLimit).isNotNull();
+        assertThat(metrics.concurrencyLimit.getAsLong()).isEqualTo(42);
+    }
+
+    @Test
+    public void overlappingHedgedAttempts() throws Throwable {
+        MockMetricsRecorder metrics = new MockMetricsRecorder();
+        MockMeteredOperation operation = new MockMeteredOperation();
+        operation.mayBeAsynchronous = true;
+        operation.bulkhead = true;
+        operation.hedge = true;
+        operation.timeout = true;
+
+        List<Completer<String>> attempts = new ArrayList<>();
+        List<Deadline> deadlines = new ArrayList<>();
+        FaultToleranceStrategy<String> invocation = ctx -> {
+            deadlines.add(ctx.get(ContextKey.DEADLINE));
+            Completer<String> completer = Completer.create();
+            attempts.add(completer);
+            return completer.future();
+        };
+        TestTimer hedgeTimer = new TestTimer();
+        MetricsCollector<String> collector = new MetricsCollector<>(
+                new Hedge<>(
+                        new Timeout<>(
+                                new Bulkhead<>(invocation, "test invocation", 2, 2, false),
+                                "test invocation", 10_000, new TestTimer()),
+                        "test invocation", 2, new FixedHedgeDelay(50), new TestStopwatch(), hedgeTimer),
+                metrics, operation);
+
+        FaultToleranceContext<String> ctx = async(null);
+        Future<String> result = collector.apply(ctx);
+        Thread.sleep(100);
+        hedgeTimer.executeSynchronously(hedgeTimer.nextScheduledTask());
+        assertThat(attempts).hasSize(2);
+
+        // the primary attempt finishes after the hedged attempt started
+        attempts.get(0).completeWithError(new TestException());
+        attempts.get(1).complete("hedge");
+        assertThat(result.awaitBlocking()).isEqualTo("hedge");
+
+        // each attempt has its own deadline, the invocation context is not affected
+        assertThat(deadlines).hasSize(2).doesNotContainNull();
+        assertThat(deadlines.get(0)).isNotSameAs(deadlines.get(1));
+        assertThat(ctx.has(ContextKey.DEADLINE)).isFalse();
+
+        // the durations of the primary attempt are measured from its own start,
+        // not from the start of the hedged attempt
+        long minDuration = TimeUnit.MILLISECONDS.toNanos(100);
+        assertThat(metrics.timeoutDurations).hasSize(2);
+        assertThat(metrics.timeoutDurations.get(0)).isGreaterThanOrEqualTo(minDuration);
+        assertThat(metrics.bulkheadRunningDurations).hasSize(2);
+        assertThat(metrics.bulkheadRunningDurations.get(0)).isGreaterThanOrEqualTo(minDuration);
+        assertThat(metrics.hedgeSent).isEqualTo(1);
+        assertThat(metrics.valueReturned).isEqualTo(1);
+    }
+
     private static class MockMeteredOperation implements MeteredOperation {
+        boolean mayBeAsynchronous;
+        boolean bulkhead;
+        boolean adaptiveBulkhead;
+        boolean hedge;
+        boolean timeout;
+
         @Override
         public boolean enabled() {
             return true;
@@ -47,12 +136,17 @@ public class GeneralMetricsTest {
 
         @Override
         public boolean mayBeAsynchronous() {
-            return false;
+            return mayBeAsynchronous;
         }
 
         @Override
         public boolean hasBulkhead() {
-            return false;
+            return bulkhead;
+        }
+
+        @Override
+        public boolean hasAdaptiveBulkhead() {
+            return adaptiveBulkhead;
         }
 
         @Override
@@ -65,6 +159,11 @@ public class GeneralMetricsTest {
             return false;
         }
 
+        @Override
+        public boolean hasHedge() {
+            return hedge;
+        }
+
         @Override
         public boolean hasRateLimit() {
             return false;
@@ -76,10 +175,15 @@ public class GeneralMetricsTest {
         }
 
         @Override
-        public boolean hasTimeout() {
+        public boolean hasRetryBudget() {
             return false;
         }
 
+        @Override
+        public boolean hasTimeout() {
+            return timeout;
+        }
+
         @Override
         public String name() {
             return "mock";
@@ -94,6 +198,10 @@ public class GeneralMetricsTest {
     private static class MockMetricsRecorder implements MetricsRecorder {
         int valueReturned;
         int exceptionThrown;
+        LongSupplier concurrencyLimit;
+        final List<Long> timeoutDurations = new ArrayList<>();
+        final List<Long> bulkheadRunningDurations = new ArrayList<>();
+        int hedgeSent;
 
         @Override
         public void executionFinished(boolean succeeded, boolean fallbackDefined, boolean fallbackApplied) {
@@ -124,8 +232,13 @@ public class GeneralMetricsTest {
         public void retryMaxDurationReached(boolean retried) {
         }
 
+        @Override
+        public void retryBudgetExhausted(boolean retried) {
+        }
+
         @Override
         public void timeoutFinished(boolean timedOut, long time) {
+            timeoutDurations.add(time);
         }
 
         @Override
@@ -174,14 +287,29 @@ public class GeneralMetricsTest {
 
         @Override
         public void updateBulkheadRunningDuration(long time) {
+            bulkheadRunningDurations.add(time);
         }
 
         @Override
         public void updateBulkheadWaitingDuration(long time) {
         }
 
+        @Override
+        public void registerBulkheadConcurrencyLimit(LongSupplier supplier) {
+            concurrencyLimit = supplier;
+        }
+
         @Override
         public void rateLimitDecisionMade(boolean permitted) {
         }
+
+        @Override
+        public void hedgeSent() {
+            hedgeSent++;
+        }
+
+        @Override
+        public void hedgeFinished(HedgeEvents.Result result) {
+        }
     }
 }
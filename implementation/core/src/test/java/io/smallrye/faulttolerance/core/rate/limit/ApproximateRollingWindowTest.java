@@ -0,0 +1,140 @@
+package io.smallrye.faulttolerance.core.rate.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+
+public class ApproximateRollingWindowTest {
+    private TestStopwatch stopwatch;
+
+    @BeforeEach
+    public void setUp() {
+        stopwatch = new TestStopwatch();
+    }
+
+    @Test
+    public void scenario() {
+        TimeWindow window = new ApproximateRollingWindow(stopwatch, 2, 100, 0);
+
+        // 0
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(5);
+
+        stopwatch.setCurrentValue(50);
+
+        // 50
+        assertThat(window.record()).isEqualTo(5);
+
+        stopwatch.setCurrentValue(100);
+
+        // 100, the oldest bucket [0, 5) still fully counts
+        assertThat(window.record()).isEqualTo(3);
+
+        stopwatch.setCurrentValue(103);
+
+        // 103, the bucket [0, 5) is covered by 40 %, so it counts as 0.8 invocations
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(2);
+
+        stopwatch.setCurrentValue(105);
+
+        // 105, the bucket [0, 5) is no longer covered
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(5);
+    }
+
+    @Test
+    public void minSpacing() {
+        TimeWindow window = new ApproximateRollingWindow(stopwatch, 100, 100, 10);
+
+        // 0
+        assertThat(window.record()).isEqualTo(0);
+
+        stopwatch.setCurrentValue(5);
+
+        // 5
+        assertThat(window.record()).isEqualTo(5);
+
+        stopwatch.setCurrentValue(15);
+
+        // 15
+        assertThat(window.record()).isEqualTo(0);
+    }
+
+    @Test
+    public void shortTimeWindow() {
+        TimeWindow window = new ApproximateRollingWindow(stopwatch, 2, 5, 0);
+
+        // 0
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(1);
+
+        stopwatch.setCurrentValue(5);
+
+        // 5, each bucket is 1 millis long, the oldest bucket [0, 1) still fully counts
+        assertThat(window.record()).isEqualTo(1);
+
+        stopwatch.setCurrentValue(6);
+
+        // 6
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(1);
+    }
+
+    @Test
+    public void longIdlePeriod() {
+        TimeWindow window = new ApproximateRollingWindow(stopwatch, 2, 100, 0);
+
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(0);
+
+        stopwatch.setCurrentValue(1_000_000);
+
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(5);
+    }
+
+    @Test
+    public void highLimit() {
+        TimeWindow window = new ApproximateRollingWindow(stopwatch, 5_000_000, 3_600_000, 0);
+
+        for (int i = 0; i < 5_000_000; i++) {
+            assertThat(window.record()).isEqualTo(0);
+        }
+        assertThat(window.record()).isEqualTo(180_000);
+    }
+
+    @Test
+    public void errorBoundWithEvenlySpreadInvocations() {
+        int limit = 100;
+        long timeWindow = 1000;
+        TimeWindow window = new ApproximateRollingWindow(stopwatch, limit, timeWindow, 0);
+
+        List<Long> permitted = new ArrayList<>();
+        for (long now = 0; now < 10 * timeWindow; now++) {
+            stopwatch.setCurrentValue(now);
+            // attempts at twice the permitted rate
+            for (int i = 0; i < 2 * limit / timeWindow + 1; i++) {
+                if (window.record() == 0) {
+                    permitted.add(now);
+                }
+            }
+        }
+
+        for (int i = 0; i < permitted.size(); i++) {
+            long start = permitted.get(i);
+            long count = permitted.stream().filter(it -> it >= start && it < start + timeWindow).count();
+            assertThat(count).isLessThanOrEqualTo(limit + limit / ApproximateRollingWindow.MAX_BUCKETS);
+        }
+    }
+}
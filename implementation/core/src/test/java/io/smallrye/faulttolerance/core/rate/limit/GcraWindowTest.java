@@ -0,0 +1,158 @@
+package io.smallrye.faulttolerance.core.rate.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+
+public class GcraWindowTest {
+    private TestStopwatch stopwatch;
+
+    @BeforeEach
+    public void setUp() {
+        stopwatch = new TestStopwatch();
+    }
+
+    @Test
+    public void defaultBurst() {
+        TimeWindow window = new GcraWindow(stopwatch, 2, 100, 0, 0);
+
+        // 0
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(50);
+
+        stopwatch.setCurrentValue(30);
+
+        // 30
+        assertThat(window.record()).isEqualTo(20);
+
+        stopwatch.setCurrentValue(50);
+
+        // 50
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(50);
+
+        stopwatch.setCurrentValue(1000);
+
+        // 1000
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(50);
+    }
+
+    @Test
+    public void burst() {
+        TimeWindow window = new GcraWindow(stopwatch, 10, 100, 0, 2);
+
+        // 0
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(10);
+
+        stopwatch.setCurrentValue(10);
+
+        // 10
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(10);
+
+        stopwatch.setCurrentValue(1000);
+
+        // 1000
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(10);
+    }
+
+    @Test
+    public void fractionalEmissionInterval() {
+        // emission interval is 100/3 millis
+        TimeWindow window = new GcraWindow(stopwatch, 3, 100, 0, 1);
+
+        // 0
+        assertThat(window.record()).isEqualTo(0);
+        assertThat(window.record()).isEqualTo(34);
+
+        stopwatch.setCurrentValue(33);
+
+        // 33
+        assertThat(window.record()).isEqualTo(1);
+
+        stopwatch.setCurrentValue(34);
+
+        // 34
+        assertThat(window.record()).isEqualTo(0);
+
+        stopwatch.setCurrentValue(66);
+
+        // 66, the next permit is at 34 + 33.33
+        assertThat(window.record()).isEqualTo(2);
+
+        stopwatch.setCurrentValue(67);
+
+        // 67
+        assertThat(window.record()).isEqualTo(1);
+
+        stopwatch.setCurrentValue(68);
+
+        // 68
+        assertThat(window.record()).isEqualTo(0);
+    }
+
+    @Test
+    public void minSpacing() {
+        TimeWindow window = new GcraWindow(stopwatch, 100, 100, 10, 0);
+
+        // 0
+        assertThat(window.record()).isEqualTo(0);
+
+        stopwatch.setCurrentValue(5);
+
+        // 5
+        assertThat(window.record()).isEqualTo(5);
+
+        stopwatch.setCurrentValue(15);
+
+        // 15
+        assertThat(window.record()).isEqualTo(0);
+    }
+
+    @Test
+    public void reserve() {
+        TimeWindow window = new GcraWindow(stopwatch, 10, 100, 0, 2);
+
+        // 0
+        assertThat(window.reserve(25)).isEqualTo(0);
+        assertThat(window.reserve(25)).isEqualTo(0);
+        assertThat(window.reserve(25)).isEqualTo(10);
+        assertThat(window.reserve(25)).isEqualTo(20);
+        assertThat(window.reserve(25)).isEqualTo(-30);
+
+        stopwatch.setCurrentValue(10);
+
+        // 10
+        assertThat(window.reserve(25)).isEqualTo(20);
+    }
+
+    @Test
+    public void highLimit() {
+        // the emission interval would be 1000 / 1_000_003 millis, it is rounded up to 1 micro
+        TimeWindow window = new GcraWindow(stopwatch, 1_000_003, 1000, 0, 1000);
+
+        // 0
+        for (int i = 0; i < 1000; i++) {
+            assertThat(window.record()).isEqualTo(0);
+        }
+        assertThat(window.record()).isEqualTo(1);
+
+        stopwatch.setCurrentValue(1);
+
+        // 1
+        for (int i = 0; i < 1000; i++) {
+            assertThat(window.record()).isEqualTo(0);
+        }
+        assertThat(window.record()).isEqualTo(1);
+    }
+}
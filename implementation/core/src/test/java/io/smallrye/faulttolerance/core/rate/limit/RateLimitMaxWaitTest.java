@@ -0,0 +1,126 @@
+package io.smallrye.faulttolerance.core.rate.limit;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.async;
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.RateLimitException;
+import io.smallrye.faulttolerance.api.RateLimitType;
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+import io.smallrye.faulttolerance.core.timer.TestTimer;
+import io.smallrye.faulttolerance.core.timer.TimerTask;
+
+public class RateLimitMaxWaitTest {
+    private TestStopwatch stopwatch;
+    private TestTimer timer;
+    private AtomicInteger counter;
+
+    @BeforeEach
+    public void setUp() {
+        stopwatch = new TestStopwatch();
+        timer = new TestTimer();
+        counter = new AtomicInteger();
+    }
+
+    private RateLimit<String> rateLimit(RateLimitType type, long maxWaitInMillis) {
+        return new RateLimit<>(ctx -> Future.of("" + counter.incrementAndGet()), "test invocation",
+                2, 100, 0, type, stopwatch, new RateLimit.Options().maxWait(maxWaitInMillis, timer));
+    }
+
+    @Test
+    public void approximateRollingWindowCannotWait() {
+        assertThatThrownBy(() -> rateLimit(RateLimitType.APPROXIMATE_ROLLING, 150))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Max wait is not supported with approximate rolling time windows");
+    }
+
+    @Test
+    public void asyncWaitsForReservedPermit() throws Throwable {
+        RateLimit<String> rateLimit = rateLimit(RateLimitType.FIXED, 150);
+
+        assertThat(rateLimit.apply(async(null)).awaitBlocking()).isEqualTo("1");
+        assertThat(rateLimit.apply(async(null)).awaitBlocking()).isEqualTo("2");
+
+        Future<String> third = rateLimit.apply(async(null));
+        Future<String> fourth = rateLimit.apply(async(null));
+        assertThat(third.isComplete()).isFalse();
+        assertThat(fourth.isComplete()).isFalse();
+        assertThat(timer.countScheduledTasks()).isEqualTo(2);
+
+        // the next time window is full of reserved permits and the one after that is too far
+        assertThatThrownBy(rateLimit.apply(async(null))::awaitBlocking)
+                .isExactlyInstanceOf(RateLimitException.class)
+                .extracting(RateLimitException.class::cast, InstanceOfAssertFactories.type(RateLimitException.class))
+                .extracting(RateLimitException::getRetryAfterMillis)
+                .isEqualTo(200L);
+
+        stopwatch.setCurrentValue(100);
+        while (timer.hasScheduledTasks()) {
+            TimerTask task = timer.nextScheduledTask();
+            timer.executeSynchronously(task);
+        }
+        assertThat(third.awaitBlocking()).isEqualTo("3");
+        assertThat(fourth.awaitBlocking()).isEqualTo("4");
+
+        // the reserved permits counted towards the limit of the time window in which they were used
+        Future<String> fifth = rateLimit.apply(async(null));
+        assertThat(fifth.isComplete()).isFalse();
+        assertThat(timer.countScheduledTasks()).isEqualTo(1);
+
+        // the rejected invocation didn't count towards the limit
+        stopwatch.setCurrentValue(200);
+        timer.executeSynchronously(timer.nextScheduledTask());
+        assertThat(fifth.awaitBlocking()).isEqualTo("5");
+        assertThat(rateLimit.apply(async(null)).awaitBlocking()).isEqualTo("6");
+    }
+
+    @Test
+    public void syncWaitsForReservedPermit() throws Throwable {
+        RateLimit<String> rateLimit = rateLimit(RateLimitType.ROLLING, 50);
+
+        assertThat(rateLimit.apply(sync(null)).awaitBlocking()).isEqualTo("1");
+        stopwatch.setCurrentValue(60);
+        assertThat(rateLimit.apply(sync(null)).awaitBlocking()).isEqualTo("2");
+
+        // the first invocation leaves the rolling window at 100, which is 40 millis from now
+        long start = System.nanoTime();
+        assertThat(rateLimit.apply(sync(null)).awaitBlocking()).isEqualTo("3");
+        assertThat((System.nanoTime() - start) / 1_000_000).isGreaterThanOrEqualTo(40);
+
+        // the second invocation leaves the rolling window at 160, which is 100 millis from now
+        assertThatThrownBy(rateLimit.apply(sync(null))::awaitBlocking)
+                .isExactlyInstanceOf(RateLimitException.class);
+        assertThat(timer.hasScheduledTasks()).isFalse();
+    }
+
+    @Test
+    public void smoothSpreadsReservedPermits() throws Throwable {
+        RateLimit<String> rateLimit = rateLimit(RateLimitType.SMOOTH, 100);
+
+        // initially, there's only 1 permit and then 1 permit is refilled each 50 millis
+        assertThat(rateLimit.apply(async(null)).awaitBlocking()).isEqualTo("1");
+        Future<String> second = rateLimit.apply(async(null));
+        Future<String> third = rateLimit.apply(async(null));
+        assertThatThrownBy(rateLimit.apply(async(null))::awaitBlocking)
+                .isExactlyInstanceOf(RateLimitException.class)
+                .extracting(RateLimitException.class::cast, InstanceOfAssertFactories.type(RateLimitException.class))
+                .extracting(RateLimitException::getRetryAfterMillis)
+                .isEqualTo(150L);
+        assertThat(timer.countScheduledTasks()).isEqualTo(2);
+
+        stopwatch.setCurrentValue(100);
+        while (timer.hasScheduledTasks()) {
+            timer.executeSynchronously(timer.nextScheduledTask());
+        }
+        assertThat(second.awaitBlocking()).isEqualTo("2");
+        assertThat(third.awaitBlocking()).isEqualTo("3");
+    }
+}
@@ -511,4 +511,20 @@ public class RateLimitSyncTest {
                     .isEqualTo(10L);
         });
     }
+
+    @Test
+    public void stacklessRejections() throws Throwable {
+        TestInvocation<String> invocation = TestInvocation.of(() -> "foobar");
+        RateLimit<String> rateLimit = new RateLimit<>(invocation, "test invocation", 1, 100, 0,
+                RateLimitType.FIXED, stopwatch, new RateLimit.Options().stacklessRejections(true));
+
+        assertThat(rateLimit.apply(sync(null)).awaitBlocking()).isEqualTo("foobar");
+        assertThatThrownBy(rateLimit.apply(sync(null))::awaitBlocking)
+                .isInstanceOf(RateLimitException.class)
+                .hasMessage("test invocation rate limit exceeded")
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty())
+                .asInstanceOf(InstanceOfAssertFactories.throwable(RateLimitException.class))
+                .extracting(RateLimitException::getRetryAfterMillis)
+                .isEqualTo(100L);
+    }
 }
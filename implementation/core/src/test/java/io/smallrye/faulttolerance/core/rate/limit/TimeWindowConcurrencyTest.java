@@ -0,0 +1,129 @@
+package io.smallrye.faulttolerance.core.rate.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.core.stopwatch.Stopwatch;
+import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+import io.smallrye.faulttolerance.core.util.barrier.Barrier;
+
+public class TimeWindowConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int ATTEMPTS_PER_THREAD = 1_000;
+
+    private ExecutorService executor;
+    private TestStopwatch stopwatch;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+        stopwatch = new TestStopwatch();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void fixed() throws Exception {
+        test(stopwatch -> TimeWindow.createFixed(stopwatch, 100, 1000, 0));
+    }
+
+    @Test
+    public void rolling() throws Exception {
+        test(stopwatch -> TimeWindow.createRolling(stopwatch, 100, 1000, 0));
+    }
+
+    @Test
+    public void smooth() throws Exception {
+        // a smooth window starts with just 1 permit, so we move the time forward to fill it
+        test(stopwatch -> {
+            TimeWindow window = TimeWindow.createSmooth(stopwatch, 100, 1000, 0);
+            this.stopwatch.setCurrentValue(1000);
+            return window;
+        });
+    }
+
+    @Test
+    public void gcra() throws Exception {
+        test(stopwatch -> TimeWindow.createGcra(stopwatch, 100, 1000, 0, 0));
+    }
+
+    @Test
+    public void approximateRolling() throws Exception {
+        test(stopwatch -> TimeWindow.createApproximateRolling(stopwatch, 100, 1000, 0));
+    }
+
+    @Test
+    public void fixedReserve() throws Exception {
+        test(stopwatch -> TimeWindow.createFixed(stopwatch, 100, 1000, 0), 500);
+    }
+
+    @Test
+    public void rollingReserve() throws Exception {
+        test(stopwatch -> TimeWindow.createRolling(stopwatch, 100, 1000, 0), 500);
+    }
+
+    @Test
+    public void smoothReserve() throws Exception {
+        test(stopwatch -> {
+            TimeWindow window = TimeWindow.createSmooth(stopwatch, 100, 1000, 0);
+            this.stopwatch.setCurrentValue(1000);
+            return window;
+        }, 500);
+    }
+
+    @Test
+    public void gcraReserve() throws Exception {
+        test(stopwatch -> TimeWindow.createGcra(stopwatch, 100, 1000, 0, 0), 500);
+    }
+
+    private void test(Function<Stopwatch, TimeWindow> factory) throws Exception {
+        test(factory, 0);
+    }
+
+    // with `maxWaitInMillis > 0`, uses `reserve()`, otherwise uses `record()`
+    private void test(Function<Stopwatch, TimeWindow> factory, long maxWaitInMillis) throws Exception {
+        for (int iteration = 0; iteration < 10; iteration++) {
+            stopwatch.setCurrentValue(0);
+            TimeWindow window = factory.apply(stopwatch);
+
+            Barrier barrier = Barrier.noninterruptible();
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    int permitted = 0;
+                    for (int j = 0; j < ATTEMPTS_PER_THREAD; j++) {
+                        long wait = maxWaitInMillis > 0 ? window.reserve(maxWaitInMillis) : window.record();
+                        if (wait == 0) {
+                            permitted++;
+                        }
+                    }
+                    return permitted;
+                }));
+            }
+            barrier.open();
+
+            int total = 0;
+            for (Future<Integer> future : futures) {
+                total += future.get(10, TimeUnit.SECONDS);
+            }
+            // the time doesn't move, so exactly the maximum number of invocations is permitted immediately
+            assertThat(total).isEqualTo(100);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.smallrye.faulttolerance.core.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.RateLimitException;
+import io.smallrye.faulttolerance.core.util.TestException;
+
+public class RetryAfterBackOffTest {
+    @Test
+    public void negativeMaxHint() {
+        assertThatThrownBy(() -> new RetryAfterBackOff(BackOff.ZERO, null, false, -1))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void noHint() {
+        BackOff backOff = new RetryAfterBackOff(new ConstantBackOff(100, Jitter.ZERO), null, false, 0);
+
+        assertThat(backOff.getInMillis(null)).isEqualTo(100);
+        assertThat(backOff.getInMillis(new TestException())).isEqualTo(100);
+        assertThat(backOff.getInMillis(new RateLimitException())).isEqualTo(100);
+    }
+
+    @Test
+    public void rateLimitHint_max() {
+        BackOff backOff = new RetryAfterBackOff(new ConstantBackOff(100, Jitter.ZERO), null, false, 0);
+
+        assertThat(backOff.getInMillis(new RateLimitException(50))).isEqualTo(100);
+        assertThat(backOff.getInMillis(new RateLimitException(500))).isEqualTo(500);
+    }
+
+    @Test
+    public void rateLimitHint_override() {
+        BackOff backOff = new RetryAfterBackOff(new ConstantBackOff(100, Jitter.ZERO), null, true, 0);
+
+        assertThat(backOff.getInMillis(new RateLimitException(50))).isEqualTo(50);
+        assertThat(backOff.getInMillis(new RateLimitException(0))).isEqualTo(0);
+        assertThat(backOff.getInMillis(new RateLimitException(500))).isEqualTo(500);
+    }
+
+    @Test
+    public void customHint() {
+        BackOff backOff = new RetryAfterBackOff(new ConstantBackOff(100, Jitter.ZERO),
+                e -> e instanceof TestException ? 300 : -1, false, 0);
+
+        assertThat(backOff.getInMillis(new TestException())).isEqualTo(300);
+        assertThat(backOff.getInMillis(new IllegalStateException())).isEqualTo(100);
+        // rate limit hints are always recognized
+        assertThat(backOff.getInMillis(new RateLimitException(200))).isEqualTo(200);
+    }
+
+    @Test
+    public void maxHint() {
+        BackOff backOff = new RetryAfterBackOff(new ConstantBackOff(100, Jitter.ZERO), null, true, 1000);
+
+        assertThat(backOff.getInMillis(new RateLimitException(500))).isEqualTo(500);
+        assertThat(backOff.getInMillis(new RateLimitException(5000))).isEqualTo(1000);
+    }
+
+    @Test
+    public void delegateProgressesWhenOverridden() {
+        BackOff backOff = new RetryAfterBackOff(new ExponentialBackOff(10, 2, Jitter.ZERO, Long.MAX_VALUE),
+                null, true, 0);
+
+        assertThat(backOff.getInMillis(new TestException())).isEqualTo(10);
+        assertThat(backOff.getInMillis(new RateLimitException(5))).isEqualTo(5);
+        assertThat(backOff.getInMillis(new TestException())).isEqualTo(40);
+    }
+}
@@ -0,0 +1,87 @@
+package io.smallrye.faulttolerance.core.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+
+public class RetryBudgetTest {
+    private TestStopwatch stopwatch;
+
+    @BeforeEach
+    public void setUp() {
+        stopwatch = new TestStopwatch();
+    }
+
+    @Test
+    public void initiallyFull() {
+        RetryBudget budget = new RetryBudget(0.0, 0, 3, stopwatch);
+
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+
+        stopwatch.setCurrentValue(1_000_000);
+
+        assertThat(budget.tryAcquire()).isFalse();
+    }
+
+    @Test
+    public void depositPerSuccess() {
+        RetryBudget budget = new RetryBudget(0.5, 0, 1, stopwatch);
+
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+
+        budget.recordSuccess();
+        assertThat(budget.tryAcquire()).isFalse();
+
+        budget.recordSuccess();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+    }
+
+    @Test
+    public void minRetriesPerSecond() {
+        RetryBudget budget = new RetryBudget(0.0, 10, 2, stopwatch);
+
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+
+        stopwatch.setCurrentValue(50);
+
+        // 50, half a token
+        assertThat(budget.tryAcquire()).isFalse();
+
+        stopwatch.setCurrentValue(100);
+
+        // 100
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+
+        stopwatch.setCurrentValue(10_000);
+
+        // 10000, capped at capacity
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+    }
+
+    @Test
+    public void cappedAtCapacity() {
+        RetryBudget budget = new RetryBudget(1.0, 0, 2, stopwatch);
+
+        for (int i = 0; i < 10; i++) {
+            budget.recordSuccess();
+        }
+        assertThat(budget.balance()).isEqualTo(2000);
+
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+    }
+}
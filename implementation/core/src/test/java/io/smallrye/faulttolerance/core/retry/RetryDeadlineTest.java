@@ -0,0 +1,133 @@
+package io.smallrye.faulttolerance.core.retry;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.async;
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+import io.smallrye.faulttolerance.core.timer.TestTimer;
+import io.smallrye.faulttolerance.core.util.ExceptionDecision;
+import io.smallrye.faulttolerance.core.util.ResultDecision;
+import io.smallrye.faulttolerance.core.util.TestException;
+
+public class RetryDeadlineTest {
+    private TestTimer timer;
+    private List<Completer<String>> attempts;
+    private List<RetryEvents.Result> events;
+
+    @BeforeEach
+    public void setUp() {
+        timer = new TestTimer();
+        attempts = new ArrayList<>();
+        events = new ArrayList<>();
+    }
+
+    private Retry<String> retry(FaultToleranceStrategy<String> delegate) {
+        return new Retry<>(delegate, "test invocation", ResultDecision.ALWAYS_EXPECTED,
+                ExceptionDecision.ALWAYS_FAILURE, 3, 1000, SyncDelay.NONE, AsyncDelay.NONE,
+                new TestStopwatch(), null, new Retry.Options().maxDurationTimer(timer));
+    }
+
+    private Retry<String> asyncRetry() {
+        return retry(ctx -> {
+            Completer<String> completer = Completer.create();
+            attempts.add(completer);
+            return completer.future();
+        });
+    }
+
+    private <V> FaultToleranceContext<V> withEvents(FaultToleranceContext<V> ctx) {
+        ctx.registerEventHandler(RetryEvents.Finished.class, event -> events.add(event.result));
+        return ctx;
+    }
+
+    private void fireDeadline() {
+        timer.executeSynchronously(timer.nextScheduledTask());
+    }
+
+    @Test
+    public void deadlineCancelledWhenFinished() throws Throwable {
+        Future<String> result = asyncRetry().apply(withEvents(async(null)));
+        assertThat(timer.countScheduledTasks()).isEqualTo(1);
+
+        attempts.get(0).complete("foobar");
+        assertThat(result.awaitBlocking()).isEqualTo("foobar");
+        assertThat(timer.hasScheduledTasks()).isFalse();
+        assertThat(events).containsExactly(RetryEvents.Result.VALUE_RETURNED);
+    }
+
+    @Test
+    public void deadlineCancelsFirstAttempt() {
+        Future<String> result = asyncRetry().apply(withEvents(async(null)));
+        assertThat(attempts).hasSize(1);
+
+        fireDeadline();
+        assertThat(attempts.get(0).future().isCancelled()).isTrue();
+        assertThatThrownBy(result::awaitBlocking)
+                .isExactlyInstanceOf(TimeoutException.class)
+                .hasMessage("test invocation reached max retry duration");
+        assertThat(events).containsExactly(RetryEvents.Result.MAX_DURATION_REACHED);
+    }
+
+    @Test
+    public void deadlineCancelsRetryAttempt() {
+        Future<String> result = asyncRetry().apply(withEvents(async(null)));
+        TestException failure = new TestException();
+        attempts.get(0).completeWithError(failure);
+        assertThat(attempts).hasSize(2);
+
+        fireDeadline();
+        assertThat(attempts.get(1).future().isCancelled()).isTrue();
+        assertThatThrownBy(result::awaitBlocking).isSameAs(failure);
+        assertThat(events).containsExactly(RetryEvents.Result.MAX_DURATION_REACHED);
+
+        // a late completion of the cancelled attempt doesn't change anything
+        attempts.get(1).completeWithError(new TestException());
+        assertThat(attempts).hasSize(2);
+        assertThat(events).containsExactly(RetryEvents.Result.MAX_DURATION_REACHED);
+    }
+
+    @Test
+    public void deadlineInterruptsSynchronousAttempt() throws InterruptedException {
+        CountDownLatch attemptStarted = new CountDownLatch(1);
+        Retry<String> retry = retry(ctx -> {
+            attemptStarted.countDown();
+            try {
+                Thread.sleep(10_000);
+                return Future.of("foobar");
+            } catch (InterruptedException e) {
+                return Future.ofError(e);
+            }
+        });
+
+        Thread deadline = new Thread(() -> {
+            try {
+                attemptStarted.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            fireDeadline();
+        });
+        deadline.start();
+
+        Future<String> result = retry.apply(withEvents(sync(null)));
+        deadline.join();
+
+        assertThatThrownBy(result::awaitBlocking).isExactlyInstanceOf(TimeoutException.class);
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        assertThat(events).containsExactly(RetryEvents.Result.MAX_DURATION_REACHED);
+    }
+}
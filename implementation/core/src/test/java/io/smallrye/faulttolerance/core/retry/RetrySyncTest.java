@@ -674,4 +674,36 @@ public class RetrySyncTest {
         assertThatThrownBy(executingThread::await).isInstanceOf(InterruptedException.class);
         assertThat(invocation.numberOfInvocations()).isEqualTo(1);
     }
+
+    @Test
+    public void retryBudget_exhausted() throws Exception {
+        RetryBudget budget = new RetryBudget(0.0, 0, 2, stopwatch);
+        TestInvocation<Void> invocation = TestInvocation.immediatelyReturning(TestException::doThrow);
+        Retry<Void> retry = new Retry<>(invocation, "test invocation",
+                ResultDecision.ALWAYS_EXPECTED, new SetBasedExceptionDecision(exception, SetOfThrowables.EMPTY, false),
+                3, 1000, SyncDelay.NONE, AsyncDelay.NONE, stopwatch, null, new Retry.Options().budget(budget));
+
+        TestThread<Void> result = runOnTestThread(retry, false);
+        assertThatThrownBy(result::await).isExactlyInstanceOf(TestException.class);
+        assertThat(invocation.numberOfInvocations()).isEqualTo(3);
+
+        result = runOnTestThread(retry, false);
+        assertThatThrownBy(result::await).isExactlyInstanceOf(TestException.class);
+        assertThat(invocation.numberOfInvocations()).isEqualTo(4);
+    }
+
+    @Test
+    public void retryBudget_replenishedBySuccess() throws Exception {
+        RetryBudget budget = new RetryBudget(1.0, 0, 1, stopwatch);
+        TestInvocation<String> invocation = TestInvocation.initiallyFailing(1, RuntimeException::new, () -> "foobar");
+        Retry<String> retry = new Retry<>(invocation, "test invocation",
+                ResultDecision.ALWAYS_EXPECTED, new SetBasedExceptionDecision(exception, SetOfThrowables.EMPTY, false),
+                3, 1000, SyncDelay.NONE, AsyncDelay.NONE, stopwatch, null, new Retry.Options().budget(budget));
+
+        TestThread<String> result = runOnTestThread(retry, false);
+        assertThat(result.await()).isEqualTo("foobar");
+        assertThat(invocation.numberOfInvocations()).isEqualTo(2);
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+    }
 }
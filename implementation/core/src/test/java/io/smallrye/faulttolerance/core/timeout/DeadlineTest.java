@@ -0,0 +1,288 @@
+package io.smallrye.faulttolerance.core.timeout;
+
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.async;
+import static io.smallrye.faulttolerance.core.FaultToleranceContextUtil.sync;
+import static io.smallrye.faulttolerance.core.Invocation.invocation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.ConcurrencyLimitAlgorithm;
+import io.smallrye.faulttolerance.core.Completer;
+import io.smallrye.faulttolerance.core.ContextKey;
+import io.smallrye.faulttolerance.core.FaultToleranceContext;
+import io.smallrye.faulttolerance.core.Future;
+import io.smallrye.faulttolerance.core.Invocation;
+import io.smallrye.faulttolerance.core.bulkhead.AdaptiveBulkhead;
+import io.smallrye.faulttolerance.core.bulkhead.Bulkhead;
+import io.smallrye.faulttolerance.core.bulkhead.BulkheadEvents;
+import io.smallrye.faulttolerance.core.bulkhead.LockFreeBulkhead;
+import io.smallrye.faulttolerance.core.retry.AsyncDelay;
+import io.smallrye.faulttolerance.core.retry.ConstantBackOff;
+import io.smallrye.faulttolerance.core.retry.Jitter;
+import io.smallrye.faulttolerance.core.retry.Retry;
+import io.smallrye.faulttolerance.core.retry.ThreadSleepDelay;
+import io.smallrye.faulttolerance.core.stopwatch.TestStopwatch;
+import io.smallrye.faulttolerance.core.timer.TestTimer;
+import io.smallrye.faulttolerance.core.util.ExceptionDecision;
+import io.smallrye.faulttolerance.core.util.ResultDecision;
+import io.smallrye.faulttolerance.core.util.TestException;
+
+public class DeadlineTest {
+    @Test
+    public void remaining() {
+        Deadline deadline = Deadline.after(10_000);
+        assertThat(deadline.isExpired()).isFalse();
+        assertThat(deadline.remainingMillis()).isBetween(1L, 10_000L);
+
+        Deadline expired = Deadline.after(0);
+        assertThat(expired.isExpired()).isTrue();
+        assertThat(expired.remainingMillis()).isEqualTo(0);
+    }
+
+    @Test
+    public void invocationInstallsDeadline() throws Throwable {
+        Deadline deadline = Deadline.after(10_000);
+        AtomicReference<Deadline> current = new AtomicReference<>();
+
+        FaultToleranceContext<String> ctx = sync(() -> {
+            current.set(Deadline.current());
+            return "foobar";
+        });
+        ctx.set(ContextKey.DEADLINE, deadline);
+
+        assertThat(Invocation.<String> invocation().apply(ctx).awaitBlocking()).isEqualTo("foobar");
+        assertThat(current).hasValue(deadline);
+        assertThat(Deadline.current()).isNull();
+    }
+
+    @Test
+    public void nestedContextInheritsDeadline() {
+        Deadline deadline = Deadline.after(10_000);
+        Deadline previous = Deadline.install(deadline);
+        try {
+            FaultToleranceContext<String> ctx = sync(null);
+            Deadline.inherit(ctx);
+            assertThat(ctx.get(ContextKey.DEADLINE)).isSameAs(deadline);
+        } finally {
+            Deadline.restore(previous);
+        }
+        assertThat(Deadline.current()).isNull();
+    }
+
+    @Test
+    public void expiredDeadline_invocation() {
+        AtomicInteger counter = new AtomicInteger();
+        FaultToleranceContext<String> ctx = sync(() -> {
+            counter.incrementAndGet();
+            return "foobar";
+        });
+        ctx.set(ContextKey.DEADLINE, Deadline.after(0));
+
+        assertThatThrownBy(Invocation.<String> invocation().apply(ctx)::awaitBlocking)
+                .isExactlyInstanceOf(TimeoutException.class);
+        assertThat(counter).hasValue(0);
+    }
+
+    @Test
+    public void expiredDeadline_timeout() {
+        AtomicInteger counter = new AtomicInteger();
+        TestTimer timer = new TestTimer();
+        Timeout<String> timeout = new Timeout<>(invocation(), "test invocation", 1000, timer);
+        FaultToleranceContext<String> ctx = sync(() -> {
+            counter.incrementAndGet();
+            return "foobar";
+        });
+        ctx.set(ContextKey.DEADLINE, Deadline.after(0));
+
+        assertThatThrownBy(timeout.apply(ctx)::awaitBlocking)
+                .isExactlyInstanceOf(TimeoutException.class)
+                .hasMessage("test invocation not invoked, deadline exceeded");
+        assertThat(counter).hasValue(0);
+        assertThat(timer.hasScheduledTasks()).isFalse();
+    }
+
+    @Test
+    public void timeoutShortenedByOuterDeadline() throws Throwable {
+        AtomicReference<Deadline> current = new AtomicReference<>();
+        Timeout<String> timeout = new Timeout<>(invocation(), "test invocation", 60_000, new TestTimer());
+        FaultToleranceContext<String> ctx = sync(() -> {
+            current.set(Deadline.current());
+            return "foobar";
+        });
+        Deadline outer = Deadline.after(1000);
+        ctx.set(ContextKey.DEADLINE, outer);
+
+        assertThat(timeout.apply(ctx).awaitBlocking()).isEqualTo("foobar");
+        assertThat(current.get()).isNotSameAs(outer);
+        assertThat(current.get().remainingMillis()).isLessThanOrEqualTo(1000);
+    }
+
+    @Test
+    public void timeoutNotShortenedByOwnDeadlineOnRetry() throws Throwable {
+        AtomicInteger counter = new AtomicInteger();
+        Timeout<String> timeout = new Timeout<>(invocation(), "test invocation", 60_000, new TestTimer());
+        Retry<String> retry = new Retry<>(timeout, "test invocation", ResultDecision.ALWAYS_EXPECTED,
+                ExceptionDecision.ALWAYS_FAILURE, 3, 0, () -> cause -> Thread.sleep(10), AsyncDelay.NONE,
+                new TestStopwatch(), null);
+        AtomicReference<Deadline> current = new AtomicReference<>();
+        FaultToleranceContext<String> ctx = sync(() -> {
+            current.set(Deadline.current());
+            if (counter.incrementAndGet() < 3) {
+                throw new TestException();
+            }
+            return "foobar";
+        });
+
+        assertThat(retry.apply(ctx).awaitBlocking()).isEqualTo("foobar");
+        assertThat(counter).hasValue(3);
+        // each attempt has its own full timeout
+        assertThat(current.get().remainingMillis()).isGreaterThan(50_000);
+    }
+
+    @Test
+    public void expiredDeadline_retry() {
+        AtomicInteger counter = new AtomicInteger();
+        Retry<String> retry = new Retry<>(invocation(), "test invocation", ResultDecision.ALWAYS_EXPECTED,
+                ExceptionDecision.ALWAYS_FAILURE, 3, 1000, () -> cause -> {
+                }, AsyncDelay.NONE, new TestStopwatch(), null);
+        FaultToleranceContext<String> ctx = sync(() -> {
+            counter.incrementAndGet();
+            return "foobar";
+        });
+        ctx.set(ContextKey.DEADLINE, Deadline.after(0));
+
+        assertThatThrownBy(retry.apply(ctx)::awaitBlocking)
+                .isExactlyInstanceOf(TimeoutException.class)
+                .hasMessage("test invocation not invoked, deadline exceeded");
+        assertThat(counter).hasValue(0);
+    }
+
+    @Test
+    public void retryDelayShortenedByDeadline() {
+        AtomicInteger counter = new AtomicInteger();
+        TestException failure = new TestException();
+        Retry<String> retry = new Retry<>(invocation(), "test invocation", ResultDecision.ALWAYS_EXPECTED,
+                ExceptionDecision.ALWAYS_FAILURE, 3, 0, () -> new ThreadSleepDelay(new ConstantBackOff(10_000, Jitter.ZERO)),
+                AsyncDelay.NONE, new TestStopwatch(), null);
+        FaultToleranceContext<String> ctx = sync(() -> {
+            counter.incrementAndGet();
+            throw failure;
+        });
+        ctx.set(ContextKey.DEADLINE, Deadline.after(100));
+
+        long start = System.nanoTime();
+        assertThatThrownBy(retry.apply(ctx)::awaitBlocking).isSameAs(failure);
+        assertThat(System.nanoTime() - start).isLessThan(5_000_000_000L);
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    public void bulkheadQueueWaitShortenedByDeadline() throws Exception {
+        Bulkhead<String> bulkhead = new Bulkhead<>(invocation(), "test invocation", 1, 1, true);
+
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Thread occupant = new Thread(() -> {
+            try {
+                bulkhead.apply(sync(() -> {
+                    running.countDown();
+                    finish.await();
+                    return "occupant";
+                })).awaitBlocking();
+            } catch (Throwable ignored) {
+            }
+        });
+        occupant.start();
+        running.await();
+
+        try {
+            AtomicInteger counter = new AtomicInteger();
+            FaultToleranceContext<String> ctx = sync(() -> {
+                counter.incrementAndGet();
+                return "foobar";
+            });
+            ctx.set(ContextKey.DEADLINE, Deadline.after(100));
+
+            long start = System.nanoTime();
+            assertThatThrownBy(bulkhead.apply(ctx)::awaitBlocking).isExactlyInstanceOf(TimeoutException.class);
+            assertThat(System.nanoTime() - start).isLessThan(5_000_000_000L);
+            assertThat(counter).hasValue(0);
+        } finally {
+            finish.countDown();
+            occupant.join();
+        }
+    }
+
+    @Test
+    public void expiredDeadline_lockFreeBulkhead() {
+        AtomicInteger counter = new AtomicInteger();
+        LockFreeBulkhead<String> bulkhead = new LockFreeBulkhead<>(invocation(), "test invocation", 1, 1);
+        FaultToleranceContext<String> ctx = sync(() -> {
+            counter.incrementAndGet();
+            return "foobar";
+        });
+        ctx.set(ContextKey.DEADLINE, Deadline.after(0));
+
+        assertThatThrownBy(bulkhead.apply(ctx)::awaitBlocking)
+                .isExactlyInstanceOf(TimeoutException.class)
+                .hasMessage("test invocation not invoked, deadline exceeded");
+        assertThat(counter).hasValue(0);
+    }
+
+    @Test
+    public void lockFreeBulkheadQueuedTaskExpiresByDeadline() throws Throwable {
+        Completer<String> occupant = Completer.create();
+        AtomicInteger counter = new AtomicInteger();
+        LockFreeBulkhead<String> bulkhead = new LockFreeBulkhead<>(ctx -> {
+            if (counter.incrementAndGet() == 1) {
+                return occupant.future();
+            }
+            return Future.of("foobar");
+        }, "test invocation", 1, 2);
+
+        Future<String> first = bulkhead.apply(async(null));
+
+        AtomicInteger finishedWaiting = new AtomicInteger();
+        FaultToleranceContext<String> expiring = async(null);
+        expiring.set(ContextKey.DEADLINE, Deadline.after(50));
+        expiring.registerEventHandler(BulkheadEvents.FinishedWaiting.class, ignored -> finishedWaiting.incrementAndGet());
+        Future<String> second = bulkhead.apply(expiring);
+        Future<String> third = bulkhead.apply(async(null));
+
+        Thread.sleep(100);
+        occupant.complete("occupant");
+
+        assertThat(first.awaitBlocking()).isEqualTo("occupant");
+        assertThatThrownBy(second::awaitBlocking)
+                .isExactlyInstanceOf(TimeoutException.class)
+                .hasMessage("test invocation not invoked, deadline exceeded");
+        assertThat(finishedWaiting).hasValue(1);
+        assertThat(third.awaitBlocking()).isEqualTo("foobar");
+        // the expired task was never started
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    public void expiredDeadline_adaptiveBulkhead() {
+        AtomicInteger counter = new AtomicInteger();
+        AdaptiveBulkhead<String> bulkhead = new AdaptiveBulkhead<>(invocation(), "test invocation",
+                ConcurrencyLimitAlgorithm.AIMD, 10, 1, 100);
+        FaultToleranceContext<String> ctx = sync(() -> {
+            counter.incrementAndGet();
+            return "foobar";
+        });
+        ctx.set(ContextKey.DEADLINE, Deadline.after(0));
+
+        assertThatThrownBy(bulkhead.apply(ctx)::awaitBlocking)
+                .isExactlyInstanceOf(TimeoutException.class)
+                .hasMessage("test invocation not invoked, deadline exceeded");
+        assertThat(counter).hasValue(0);
+    }
+}
@@ -0,0 +1,173 @@
+package io.smallrye.faulttolerance.core.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+@EnabledOnOs(OS.LINUX)
+public class HashedWheelTimerTest {
+    private ExecutorService executor;
+    private Timer timer;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        timer = new HashedWheelTimer(executor, 10, 8);
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        timer.shutdown();
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void basicUsage() throws InterruptedException {
+        Queue<String> queue = new ConcurrentLinkedQueue<>();
+
+        TimerTask fooTask = timer.schedule(600, () -> {
+            queue.add("foo");
+        });
+
+        TimerTask barTask = timer.schedule(100, () -> {
+            queue.add("bar");
+        });
+
+        TimerTask bazTask = timer.schedule(400, () -> {
+            queue.add("baz");
+        });
+
+        // 0 ms since start
+
+        assertThat(queue).isEmpty();
+        assertThat(fooTask.isDone()).isFalse();
+        assertThat(barTask.isDone()).isFalse();
+        assertThat(bazTask.isDone()).isFalse();
+
+        Thread.sleep(200);
+        // 200 ms since start
+
+        assertThat(queue).containsExactly("bar");
+        assertThat(fooTask.isDone()).isFalse();
+        assertThat(barTask.isDone()).isTrue();
+        assertThat(bazTask.isDone()).isFalse();
+
+        TimerTask quuxTask = timer.schedule(100, () -> {
+            queue.add("quux");
+        });
+
+        boolean cancelled = bazTask.cancel();
+        assertThat(cancelled).isTrue();
+        assertThat(bazTask.isDone()).isTrue();
+
+        Thread.sleep(200);
+        // 400 ms since start
+
+        assertThat(queue).containsExactly("bar", "quux");
+        assertThat(fooTask.isDone()).isFalse();
+        assertThat(barTask.isDone()).isTrue();
+        assertThat(quuxTask.isDone()).isTrue();
+
+        Thread.sleep(300);
+        // 700 ms since start
+
+        assertThat(queue).containsExactly("bar", "quux", "foo");
+
+        assertThat(fooTask.isDone()).isTrue();
+        assertThat(barTask.isDone()).isTrue();
+        assertThat(quuxTask.isDone()).isTrue();
+    }
+
+    @Test
+    public void multipleRotations() throws InterruptedException {
+        // 8 buckets * 10 ms = one rotation takes 80 ms
+        Queue<String> queue = new ConcurrentLinkedQueue<>();
+
+        TimerTask fooTask = timer.schedule(250, () -> {
+            queue.add("foo");
+        });
+
+        TimerTask barTask = timer.schedule(170, () -> {
+            queue.add("bar");
+        });
+
+        TimerTask bazTask = timer.schedule(90, () -> {
+            queue.add("baz");
+        });
+
+        assertThat(timer.countScheduledTasks()).isEqualTo(3);
+
+        Thread.sleep(130);
+        // 130 ms since start
+
+        assertThat(queue).containsExactly("baz");
+        assertThat(timer.countScheduledTasks()).isEqualTo(2);
+
+        boolean cancelled = barTask.cancel();
+        assertThat(cancelled).isTrue();
+        assertThat(barTask.isDone()).isTrue();
+        assertThat(barTask.cancel()).isFalse();
+        assertThat(timer.countScheduledTasks()).isEqualTo(1);
+
+        Thread.sleep(100);
+        // 230 ms since start
+
+        assertThat(queue).containsExactly("baz");
+        assertThat(fooTask.isDone()).isFalse();
+
+        Thread.sleep(100);
+        // 330 ms since start
+
+        assertThat(queue).containsExactly("baz", "foo");
+        assertThat(fooTask.isDone()).isTrue();
+        assertThat(fooTask.cancel()).isFalse();
+        assertThat(bazTask.isDone()).isTrue();
+        assertThat(timer.countScheduledTasks()).isZero();
+    }
+
+    @Test
+    public void rejectedSubmissionDoesNotDisturbOtherTasks() throws InterruptedException {
+        Queue<String> queue = new ConcurrentLinkedQueue<>();
+
+        // wheel of 8 ticks of 10 ms, so both tasks end up in the same bucket, `longTask` with 2 remaining rounds
+        TimerTask longTask = timer.schedule(200, () -> {
+            queue.add("long");
+        });
+        TimerTask rejectedTask = timer.schedule(40, () -> {
+            queue.add("rejected");
+        }, ignored -> {
+            throw new RejectedExecutionException();
+        });
+        TimerTask nextTask = timer.schedule(60, () -> {
+            queue.add("next");
+        });
+
+        Thread.sleep(150);
+        // 150 ms since start
+
+        assertThat(queue).containsExactly("next");
+        assertThat(rejectedTask.isDone()).isTrue();
+        assertThat(nextTask.isDone()).isTrue();
+        assertThat(longTask.isDone()).isFalse();
+        assertThat(timer.countScheduledTasks()).isEqualTo(1);
+
+        Thread.sleep(150);
+        // 300 ms since start
+
+        assertThat(queue).containsExactly("next", "long");
+        assertThat(longTask.isDone()).isTrue();
+        assertThat(timer.countScheduledTasks()).isZero();
+    }
+}
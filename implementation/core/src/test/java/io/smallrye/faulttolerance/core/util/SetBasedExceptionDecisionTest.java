@@ -45,4 +45,39 @@ public class SetBasedExceptionDecisionTest {
 
         assertThat(decision.isConsideredExpected(new Exception(new TestException()))).isTrue();
     }
+
+    @Test
+    public void deepCauseConsideredFailure() {
+        ExceptionDecision decision = new SetBasedExceptionDecision(SetOfThrowables.create(TestException.class),
+                SetOfThrowables.EMPTY, true);
+
+        Throwable e = new TestException();
+        for (int i = 0; i < 20; i++) {
+            e = new Exception(e);
+        }
+        assertThat(decision.isConsideredExpected(e)).isFalse();
+    }
+
+    @Test
+    public void causeChainCycle() {
+        ExceptionDecision decision = new SetBasedExceptionDecision(SetOfThrowables.create(TestException.class),
+                SetOfThrowables.EMPTY, true);
+
+        Exception first = new Exception();
+        Exception second = new Exception(first);
+        first.initCause(second);
+        assertThat(decision.isConsideredExpected(second)).isTrue();
+    }
+
+    @Test
+    public void decisionStableForSameClass() {
+        ExceptionDecision decision = new SetBasedExceptionDecision(SetOfThrowables.create(TestException.class),
+                SetOfThrowables.EMPTY, true);
+
+        // the class-only decision is memoized, the cause chain is still inspected every time
+        assertThat(decision.isConsideredExpected(new Exception(new TestException()))).isFalse();
+        assertThat(decision.isConsideredExpected(new Exception())).isTrue();
+        assertThat(decision.isConsideredExpected(new TestException())).isFalse();
+        assertThat(decision.isConsideredExpected(new TestException())).isFalse();
+    }
 }
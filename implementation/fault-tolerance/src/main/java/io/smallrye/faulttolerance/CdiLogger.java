@@ -1,6 +1,7 @@
 package io.smallrye.faulttolerance;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Map;
 import java.util.Set;
 
 import jakarta.enterprise.inject.spi.DefinitionException;
@@ -54,4 +55,47 @@ interface CdiLogger extends BasicLogger {
 
     @Message(id = 10, value = "Guard/TypedGuard with identifier 'global' is not allowed: %s")
     DefinitionException guardWithIdentifierGlobal(String bean);
+
+    @Message(id = 11, value = "@CircuitBreakerTimeWindow present on '%s', but @CircuitBreaker is missing")
+    DefinitionException circuitBreakerTimeWindowAnnotationWithoutCircuitBreaker(MethodDescriptor method);
+
+    DefinitionException circuitBreakerTimeWindowAnnotationWithoutCircuitBreaker(Class<?> clazz);
+
+    @Message(id = 12, value = "@CircuitBreakerSlowCall present on '%s', but @CircuitBreaker is missing")
+    DefinitionException circuitBreakerSlowCallAnnotationWithoutCircuitBreaker(MethodDescriptor method);
+
+    DefinitionException circuitBreakerSlowCallAnnotationWithoutCircuitBreaker(Class<?> clazz);
+
+    @Message(id = 13, value = "@BulkheadAdaptiveLimit present on '%s', but @Bulkhead is missing")
+    DefinitionException bulkheadAdaptiveLimitAnnotationWithoutBulkhead(MethodDescriptor method);
+
+    DefinitionException bulkheadAdaptiveLimitAnnotationWithoutBulkhead(Class<?> clazz);
+
+    @Message(id = 14, value = "@BulkheadMaxQueueWait present on '%s', but @Bulkhead is missing")
+    DefinitionException bulkheadMaxQueueWaitAnnotationWithoutBulkhead(MethodDescriptor method);
+
+    DefinitionException bulkheadMaxQueueWaitAnnotationWithoutBulkhead(Class<?> clazz);
+
+    @Message(id = 15, value = "@BulkheadQueueDiscipline present on '%s', but @Bulkhead is missing")
+    DefinitionException bulkheadQueueDisciplineAnnotationWithoutBulkhead(MethodDescriptor method);
+
+    DefinitionException bulkheadQueueDisciplineAnnotationWithoutBulkhead(Class<?> clazz);
+
+    @Message(id = 16, value = "@RetryBudget present on '%s', but @Retry is missing")
+    DefinitionException retryBudgetAnnotationWithoutRetry(MethodDescriptor method);
+
+    DefinitionException retryBudgetAnnotationWithoutRetry(Class<?> clazz);
+
+    @Message(id = 17, value = "@RetryAfter present on '%s', but @Retry is missing")
+    DefinitionException retryAfterAnnotationWithoutRetry(MethodDescriptor method);
+
+    DefinitionException retryAfterAnnotationWithoutRetry(Class<?> clazz);
+
+    @Message(id = 18, value = "@RetryCancelOnMaxDuration present on '%s', but @Retry is missing")
+    DefinitionException retryCancelOnMaxDurationAnnotationWithoutRetry(MethodDescriptor method);
+
+    DefinitionException retryCancelOnMaxDurationAnnotationWithoutRetry(Class<?> clazz);
+
+    @Message(id = 19, value = "Multiple retry budgets have the same name '%s', but different configuration: %s")
+    DefinitionException multipleRetryBudgetsWithTheSameName(String name, Map<String, Set<String>> configurations);
 }
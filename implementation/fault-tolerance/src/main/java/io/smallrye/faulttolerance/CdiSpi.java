@@ -15,6 +15,7 @@ import io.smallrye.faulttolerance.apiimpl.BasicCircuitBreakerMaintenanceImpl;
 import io.smallrye.faulttolerance.apiimpl.BuilderEagerDependencies;
 import io.smallrye.faulttolerance.apiimpl.BuilderLazyDependencies;
 import io.smallrye.faulttolerance.apiimpl.GuardImpl;
+import io.smallrye.faulttolerance.apiimpl.RetryBudgetRegistry;
 import io.smallrye.faulttolerance.apiimpl.TypedGuardImpl;
 import io.smallrye.faulttolerance.core.event.loop.EventLoop;
 import io.smallrye.faulttolerance.core.metrics.MetricsProvider;
@@ -26,10 +27,17 @@ public class CdiSpi implements Spi {
         @Inject
         CircuitBreakerMaintenanceImpl cbMaintenance;
 
+        final RetryBudgetRegistry retryBudgets = new RetryBudgetRegistry();
+
         @Override
         public BasicCircuitBreakerMaintenanceImpl cbMaintenance() {
             return cbMaintenance;
         }
+
+        @Override
+        public RetryBudgetRegistry retryBudgets() {
+            return retryBudgets;
+        }
     }
 
     @Singleton
@@ -67,6 +75,16 @@ public class CdiSpi implements Spi {
         public MetricsProvider metricsProvider() {
             return metricsProvider;
         }
+
+        @Override
+        public boolean stacklessRejections() {
+            return enablement.stacklessRejections();
+        }
+
+        @Override
+        public boolean lockFreeBulkhead() {
+            return enablement.lockFreeBulkhead();
+        }
     }
 
     private BuilderEagerDependencies eagerDependencies() {
@@ -13,15 +13,21 @@ import io.smallrye.faulttolerance.autoconfig.ConfigConstants;
 public class Enablement {
     private final boolean ftEnabled;
     private final boolean metricsEnabled;
+    private final boolean stacklessRejections;
+    private final boolean lockFreeBulkhead;
 
     @Inject
     Enablement(
             @ConfigProperty(name = ConfigConstants.PREFIX + "enabled") Optional<Boolean> newFtEnabled,
             @ConfigProperty(name = "MP_Fault_Tolerance_NonFallback_Enabled") Optional<Boolean> oldFtEnabled,
             @ConfigProperty(name = ConfigConstants.PREFIX + "metrics.enabled") Optional<Boolean> newMetricsEnabled,
-            @ConfigProperty(name = "MP_Fault_Tolerance_Metrics_Enabled") Optional<Boolean> oldMetricsEnabled) {
+            @ConfigProperty(name = "MP_Fault_Tolerance_Metrics_Enabled") Optional<Boolean> oldMetricsEnabled,
+            @ConfigProperty(name = ConfigConstants.PREFIX + "stackless-rejections") Optional<Boolean> stacklessRejections,
+            @ConfigProperty(name = ConfigConstants.PREFIX + "lock-free-bulkhead") Optional<Boolean> lockFreeBulkhead) {
         ftEnabled = newFtEnabled.orElse(oldFtEnabled.orElse(true));
         metricsEnabled = newMetricsEnabled.orElse(oldMetricsEnabled.orElse(true));
+        this.stacklessRejections = stacklessRejections.orElse(false);
+        this.lockFreeBulkhead = lockFreeBulkhead.orElse(false);
     }
 
     public boolean ft() {
@@ -31,4 +37,16 @@ public class Enablement {
     public boolean metrics() {
         return metricsEnabled;
     }
+
+    // whether rejection exceptions (circuit breaker open, bulkhead full, rate limit exceeded)
+    // should be created without stack traces by default
+    public boolean stacklessRejections() {
+        return stacklessRejections;
+    }
+
+    // whether bulkheads that neither queue synchronously nor use any of the queue extensions
+    // should use the lock-free implementation
+    public boolean lockFreeBulkhead() {
+        return lockFreeBulkhead;
+    }
 }
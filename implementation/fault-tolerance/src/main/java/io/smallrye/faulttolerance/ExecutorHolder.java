@@ -7,7 +7,11 @@ import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.smallrye.faulttolerance.autoconfig.ConfigConstants;
 import io.smallrye.faulttolerance.core.event.loop.EventLoop;
+import io.smallrye.faulttolerance.core.timer.HashedWheelTimer;
 import io.smallrye.faulttolerance.core.timer.ThreadTimer;
 import io.smallrye.faulttolerance.core.timer.Timer;
 
@@ -21,11 +25,24 @@ public class ExecutorHolder {
 
     private final boolean shouldShutdownAsyncExecutor;
 
-    @Inject
     public ExecutorHolder(AsyncExecutorProvider asyncExecutorProvider) {
+        this(asyncExecutorProvider, "thread", HashedWheelTimer.DEFAULT_TICK_IN_MILLIS);
+    }
+
+    @Inject
+    public ExecutorHolder(AsyncExecutorProvider asyncExecutorProvider,
+            @ConfigProperty(name = ConfigConstants.PREFIX + "timer.type", defaultValue = "thread") String timerType,
+            @ConfigProperty(name = ConfigConstants.PREFIX + "timer.tick", defaultValue = ""
+                    + HashedWheelTimer.DEFAULT_TICK_IN_MILLIS) long timerTickInMillis) {
         this.asyncExecutor = asyncExecutorProvider.get();
         this.eventLoop = EventLoop.get();
-        this.timer = new ThreadTimer(asyncExecutor);
+        if ("thread".equals(timerType)) {
+            this.timer = new ThreadTimer(asyncExecutor);
+        } else if ("wheel".equals(timerType)) {
+            this.timer = new HashedWheelTimer(asyncExecutor, timerTickInMillis, HashedWheelTimer.DEFAULT_WHEEL_SIZE);
+        } else {
+            throw new IllegalArgumentException("Unknown timer type: " + timerType + ", expected `thread` or `wheel`");
+        }
         this.shouldShutdownAsyncExecutor = asyncExecutorProvider instanceof DefaultAsyncExecutorProvider;
     }
 
@@ -25,6 +25,7 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -62,11 +63,19 @@ import io.smallrye.common.annotation.Identifier;
 import io.smallrye.faulttolerance.api.ApplyGuard;
 import io.smallrye.faulttolerance.api.AsynchronousNonBlocking;
 import io.smallrye.faulttolerance.api.BeforeRetry;
+import io.smallrye.faulttolerance.api.BulkheadAdaptiveLimit;
+import io.smallrye.faulttolerance.api.BulkheadMaxQueueWait;
+import io.smallrye.faulttolerance.api.BulkheadQueueDiscipline;
+import io.smallrye.faulttolerance.api.CircuitBreakerSlowCall;
+import io.smallrye.faulttolerance.api.CircuitBreakerTimeWindow;
 import io.smallrye.faulttolerance.api.CustomBackoff;
 import io.smallrye.faulttolerance.api.ExponentialBackoff;
 import io.smallrye.faulttolerance.api.FibonacciBackoff;
 import io.smallrye.faulttolerance.api.Guard;
 import io.smallrye.faulttolerance.api.RateLimit;
+import io.smallrye.faulttolerance.api.RetryAfter;
+import io.smallrye.faulttolerance.api.RetryBudget;
+import io.smallrye.faulttolerance.api.RetryCancelOnMaxDuration;
 import io.smallrye.faulttolerance.api.RetryWhen;
 import io.smallrye.faulttolerance.api.TypedGuard;
 import io.smallrye.faulttolerance.autoconfig.FaultToleranceMethod;
@@ -93,6 +102,9 @@ public class FaultToleranceExtension implements Extension {
 
     private final ConcurrentMap<String, Set<String>> existingCircuitBreakerNames = new ConcurrentHashMap<>();
 
+    // retry budget name -> retry budget configuration -> use sites
+    private final ConcurrentMap<String, Map<String, Set<String>>> existingRetryBudgets = new ConcurrentHashMap<>();
+
     private final ConcurrentMap<String, Set<String>> existingGuards = new ConcurrentHashMap<>();
 
     private final Set<String> expectedGuards = ConcurrentHashMap.newKeySet();
@@ -138,7 +150,7 @@ public class FaultToleranceExtension implements Extension {
     void registerInterceptorBindings(@Observes BeforeBeanDiscovery bbd, BeanManager bm) {
         LOG.activated(getImplementationVersion().orElse("unknown"));
 
-        // certain SmallRye annotations (@CircuitBreakerName, @*Backoff, @RetryWhen, @BeforeRetry)
+        // certain SmallRye annotations (@BulkheadAdaptiveLimit, @BulkheadMaxQueueWait, @BulkheadQueueDiscipline, @CircuitBreakerName, @CircuitBreakerTimeWindow, @CircuitBreakerSlowCall, @*Backoff, @RetryWhen, @RetryAfter, @RetryCancelOnMaxDuration, @RetryBudget, @BeforeRetry)
         // do _not_ trigger the fault tolerance interceptor alone, only in combination
         // with other fault tolerance annotations
         bbd.addInterceptorBinding(new FTInterceptorBindingAnnotatedType<>(bm.createAnnotatedType(ApplyGuard.class)));
@@ -235,6 +247,17 @@ public class FaultToleranceExtension implements Extension {
                             .add(annotatedMethod.getJavaMember().toGenericString());
                 }
 
+                if (operation.hasRetryBudget() && !operation.getRetryBudget().name().isEmpty()) {
+                    RetryBudget retryBudget = operation.getRetryBudget();
+                    String config = "ratio " + retryBudget.ratio()
+                            + ", minRetriesPerSecond " + retryBudget.minRetriesPerSecond()
+                            + ", capacity " + retryBudget.capacity();
+                    existingRetryBudgets
+                            .computeIfAbsent(retryBudget.name(), ignored -> new HashMap<>())
+                            .computeIfAbsent(config, ignored -> new HashSet<>())
+                            .add(annotatedMethod.getJavaMember().toGenericString());
+                }
+
                 if (operation.hasApplyGuard()) {
                     expectedGuards.add(operation.getApplyGuard().value());
                 }
@@ -252,6 +275,61 @@ public class FaultToleranceExtension implements Extension {
                     }
                 }
 
+                if (annotatedMethod.isAnnotationPresent(BulkheadAdaptiveLimit.class)
+                        && !annotatedMethod.isAnnotationPresent(Bulkhead.class)) {
+                    event.addDefinitionError(LOG.bulkheadAdaptiveLimitAnnotationWithoutBulkhead(method.method));
+                }
+
+                if (annotatedType.isAnnotationPresent(BulkheadAdaptiveLimit.class)
+                        && !annotatedType.isAnnotationPresent(Bulkhead.class)) {
+                    event.addDefinitionError(LOG.bulkheadAdaptiveLimitAnnotationWithoutBulkhead(
+                            annotatedType.getJavaClass()));
+                }
+
+                if (annotatedMethod.isAnnotationPresent(BulkheadMaxQueueWait.class)
+                        && !annotatedMethod.isAnnotationPresent(Bulkhead.class)) {
+                    event.addDefinitionError(LOG.bulkheadMaxQueueWaitAnnotationWithoutBulkhead(method.method));
+                }
+
+                if (annotatedType.isAnnotationPresent(BulkheadMaxQueueWait.class)
+                        && !annotatedType.isAnnotationPresent(Bulkhead.class)) {
+                    event.addDefinitionError(LOG.bulkheadMaxQueueWaitAnnotationWithoutBulkhead(
+                            annotatedType.getJavaClass()));
+                }
+
+                if (annotatedMethod.isAnnotationPresent(BulkheadQueueDiscipline.class)
+                        && !annotatedMethod.isAnnotationPresent(Bulkhead.class)) {
+                    event.addDefinitionError(LOG.bulkheadQueueDisciplineAnnotationWithoutBulkhead(method.method));
+                }
+
+                if (annotatedType.isAnnotationPresent(BulkheadQueueDiscipline.class)
+                        && !annotatedType.isAnnotationPresent(Bulkhead.class)) {
+                    event.addDefinitionError(LOG.bulkheadQueueDisciplineAnnotationWithoutBulkhead(
+                            annotatedType.getJavaClass()));
+                }
+
+                if (annotatedMethod.isAnnotationPresent(CircuitBreakerTimeWindow.class)
+                        && !annotatedMethod.isAnnotationPresent(CircuitBreaker.class)) {
+                    event.addDefinitionError(LOG.circuitBreakerTimeWindowAnnotationWithoutCircuitBreaker(method.method));
+                }
+
+                if (annotatedType.isAnnotationPresent(CircuitBreakerTimeWindow.class)
+                        && !annotatedType.isAnnotationPresent(CircuitBreaker.class)) {
+                    event.addDefinitionError(LOG.circuitBreakerTimeWindowAnnotationWithoutCircuitBreaker(
+                            annotatedType.getJavaClass()));
+                }
+
+                if (annotatedMethod.isAnnotationPresent(CircuitBreakerSlowCall.class)
+                        && !annotatedMethod.isAnnotationPresent(CircuitBreaker.class)) {
+                    event.addDefinitionError(LOG.circuitBreakerSlowCallAnnotationWithoutCircuitBreaker(method.method));
+                }
+
+                if (annotatedType.isAnnotationPresent(CircuitBreakerSlowCall.class)
+                        && !annotatedType.isAnnotationPresent(CircuitBreaker.class)) {
+                    event.addDefinitionError(LOG.circuitBreakerSlowCallAnnotationWithoutCircuitBreaker(
+                            annotatedType.getJavaClass()));
+                }
+
                 if (annotatedMethod.isAnnotationPresent(RetryWhen.class)
                         && !annotatedMethod.isAnnotationPresent(Retry.class)) {
                     event.addDefinitionError(LOG.retryWhenAnnotationWithoutRetry(method.method));
@@ -262,6 +340,37 @@ public class FaultToleranceExtension implements Extension {
                     event.addDefinitionError(LOG.retryWhenAnnotationWithoutRetry(annotatedType.getJavaClass()));
                 }
 
+                if (annotatedMethod.isAnnotationPresent(RetryAfter.class)
+                        && !annotatedMethod.isAnnotationPresent(Retry.class)) {
+                    event.addDefinitionError(LOG.retryAfterAnnotationWithoutRetry(method.method));
+                }
+
+                if (annotatedType.isAnnotationPresent(RetryAfter.class)
+                        && !annotatedType.isAnnotationPresent(Retry.class)) {
+                    event.addDefinitionError(LOG.retryAfterAnnotationWithoutRetry(annotatedType.getJavaClass()));
+                }
+
+                if (annotatedMethod.isAnnotationPresent(RetryCancelOnMaxDuration.class)
+                        && !annotatedMethod.isAnnotationPresent(Retry.class)) {
+                    event.addDefinitionError(LOG.retryCancelOnMaxDurationAnnotationWithoutRetry(method.method));
+                }
+
+                if (annotatedType.isAnnotationPresent(RetryCancelOnMaxDuration.class)
+                        && !annotatedType.isAnnotationPresent(Retry.class)) {
+                    event.addDefinitionError(
+                            LOG.retryCancelOnMaxDurationAnnotationWithoutRetry(annotatedType.getJavaClass()));
+                }
+
+                if (annotatedMethod.isAnnotationPresent(RetryBudget.class)
+                        && !annotatedMethod.isAnnotationPresent(Retry.class)) {
+                    event.addDefinitionError(LOG.retryBudgetAnnotationWithoutRetry(method.method));
+                }
+
+                if (annotatedType.isAnnotationPresent(RetryBudget.class)
+                        && !annotatedType.isAnnotationPresent(Retry.class)) {
+                    event.addDefinitionError(LOG.retryBudgetAnnotationWithoutRetry(annotatedType.getJavaClass()));
+                }
+
                 if (annotatedMethod.isAnnotationPresent(BeforeRetry.class)
                         && !annotatedMethod.isAnnotationPresent(Retry.class)) {
                     event.addDefinitionError(LOG.beforeRetryAnnotationWithoutRetry(method.method));
@@ -314,6 +423,14 @@ public class FaultToleranceExtension implements Extension {
         // don't clear the `existingCircuitBreakerNames`, they're used later
         // by `CircuitBreakerMaintenance` (see `getExistingCircuitBreakerNames()`)
 
+        for (Map.Entry<String, Map<String, Set<String>>> entry : existingRetryBudgets.entrySet()) {
+            if (entry.getValue().size() > 1) {
+                event.addDeploymentProblem(LOG.multipleRetryBudgetsWithTheSameName(
+                        entry.getKey(), entry.getValue()));
+            }
+        }
+        existingRetryBudgets.clear();
+
         for (Map.Entry<String, Set<String>> entry : existingGuards.entrySet()) {
             if (entry.getValue().size() > 1) {
                 event.addDeploymentProblem(LOG.multipleGuardsWithTheSameIdentifier(
@@ -26,6 +26,7 @@ import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -47,16 +48,21 @@ import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceExceptio
 import io.smallrye.common.annotation.Identifier;
 import io.smallrye.faulttolerance.api.AlwaysOnException;
 import io.smallrye.faulttolerance.api.BeforeRetryHandler;
+import io.smallrye.faulttolerance.api.BulkheadQueueDiscipline;
 import io.smallrye.faulttolerance.api.CustomBackoffStrategy;
 import io.smallrye.faulttolerance.api.Guard;
 import io.smallrye.faulttolerance.api.NeverOnResult;
+import io.smallrye.faulttolerance.api.RetryAfterExtractor;
+import io.smallrye.faulttolerance.api.RetryAfterMode;
 import io.smallrye.faulttolerance.api.TypedGuard;
 import io.smallrye.faulttolerance.apiimpl.AsyncInvocation;
 import io.smallrye.faulttolerance.apiimpl.GuardImpl;
 import io.smallrye.faulttolerance.apiimpl.LazyGuard;
 import io.smallrye.faulttolerance.apiimpl.LazyTypedGuard;
+import io.smallrye.faulttolerance.apiimpl.RetryBudgetRegistry;
 import io.smallrye.faulttolerance.apiimpl.TypedGuardImpl;
 import io.smallrye.faulttolerance.config.FaultToleranceOperation;
+import io.smallrye.faulttolerance.core.ContextKey;
 import io.smallrye.faulttolerance.core.FailureContext;
 import io.smallrye.faulttolerance.core.FaultToleranceContext;
 import io.smallrye.faulttolerance.core.FaultToleranceStrategy;
@@ -65,9 +71,10 @@ import io.smallrye.faulttolerance.core.async.FutureExecution;
 import io.smallrye.faulttolerance.core.async.RememberEventLoop;
 import io.smallrye.faulttolerance.core.async.ThreadOffload;
 import io.smallrye.faulttolerance.core.async.ThreadOffloadEnabled;
+import io.smallrye.faulttolerance.core.bulkhead.AdaptiveBulkhead;
 import io.smallrye.faulttolerance.core.bulkhead.Bulkhead;
+import io.smallrye.faulttolerance.core.bulkhead.LockFreeBulkhead;
 import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreaker;
-import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
 import io.smallrye.faulttolerance.core.event.loop.EventLoop;
 import io.smallrye.faulttolerance.core.fallback.Fallback;
 import io.smallrye.faulttolerance.core.fallback.FallbackFunction;
@@ -89,9 +96,11 @@ import io.smallrye.faulttolerance.core.retry.FibonacciBackOff;
 import io.smallrye.faulttolerance.core.retry.Jitter;
 import io.smallrye.faulttolerance.core.retry.RandomJitter;
 import io.smallrye.faulttolerance.core.retry.Retry;
+import io.smallrye.faulttolerance.core.retry.RetryAfterBackOff;
 import io.smallrye.faulttolerance.core.retry.ThreadSleepDelay;
 import io.smallrye.faulttolerance.core.retry.TimerDelay;
 import io.smallrye.faulttolerance.core.stopwatch.SystemStopwatch;
+import io.smallrye.faulttolerance.core.timeout.Deadline;
 import io.smallrye.faulttolerance.core.timeout.FutureTimeout;
 import io.smallrye.faulttolerance.core.timeout.Timeout;
 import io.smallrye.faulttolerance.core.timer.Timer;
@@ -121,6 +130,8 @@ import io.smallrye.faulttolerance.metrics.CdiMeteredOperationImpl;
 @FaultToleranceBinding
 @Priority(Interceptor.Priority.PLATFORM_AFTER + 10)
 public class FaultToleranceInterceptor {
+    private static final ContextKey<InvocationContext> INVOCATION_CONTEXT = ContextKey.create(InvocationContext.class);
+
     private final Bean<?> interceptedBean;
 
     private final FaultToleranceOperationProvider operationProvider;
@@ -143,8 +154,13 @@ public class FaultToleranceInterceptor {
 
     private final CircuitBreakerMaintenanceImpl cbMaintenance;
 
+    private final RetryBudgetRegistry retryBudgets;
+
     private final SpecCompatibility specCompatibility;
 
+    private final boolean stacklessRejections;
+    private final boolean lockFreeBulkhead;
+
     private final Instance<Guard> configuredGuard;
 
     private final Instance<TypedGuard<?>> configuredTypedGuard;
@@ -160,7 +176,9 @@ public class FaultToleranceInterceptor {
             ExecutorHolder executorHolder,
             RequestContextIntegration requestContextIntegration,
             CircuitBreakerMaintenanceImpl cbMaintenance,
+            CdiSpi.EagerDependencies eagerDependencies,
             SpecCompatibility specCompatibility,
+            Enablement enablement,
             @Any Instance<Guard> configuredGuard,
             @Any Instance<TypedGuard<?>> configuredTypedGuard) {
         this.interceptedBean = interceptedBean;
@@ -174,7 +192,10 @@ public class FaultToleranceInterceptor {
         timer = executorHolder.getTimer();
         requestContextController = requestContextIntegration.get();
         this.cbMaintenance = cbMaintenance;
+        this.retryBudgets = eagerDependencies.retryBudgets();
         this.specCompatibility = specCompatibility;
+        this.stacklessRejections = enablement.stacklessRejections();
+        this.lockFreeBulkhead = enablement.lockFreeBulkhead();
         this.configuredGuard = configuredGuard;
         this.configuredTypedGuard = configuredTypedGuard;
     }
@@ -246,18 +267,18 @@ public class FaultToleranceInterceptor {
         MeteredOperationName meteredOperationName = new MeteredOperationName(operation.getName());
 
         Consumer<FaultToleranceContext<?>> contextModifier = ctx -> {
-            ctx.set(InvocationContext.class, invocationContext);
+            ctx.set(INVOCATION_CONTEXT, invocationContext);
 
             if (fallbackFunction != null) {
-                ctx.set(FallbackFunction.class, fallbackFunction);
+                ctx.set(ContextKey.FALLBACK_FUNCTION, fallbackFunction);
             }
             if (exceptionDecision != null) {
-                ctx.set(ExceptionDecision.class, exceptionDecision);
+                ctx.set(ContextKey.EXCEPTION_DECISION, exceptionDecision);
             }
             if (threadOffload != null) {
-                ctx.set(ThreadOffloadEnabled.class, new ThreadOffloadEnabled(threadOffload));
+                ctx.set(ContextKey.THREAD_OFFLOAD_ENABLED, ThreadOffloadEnabled.of(threadOffload));
             }
-            ctx.set(MeteredOperationName.class, meteredOperationName);
+            ctx.set(ContextKey.METERED_OPERATION_NAME, meteredOperationName);
         };
 
         // invocation itself
@@ -337,11 +358,11 @@ public class FaultToleranceInterceptor {
         FaultToleranceContext<T> result = new FaultToleranceContext<>(callable,
                 specCompatibility.isOperationTrulyAsynchronous(operation));
 
-        result.set(InvocationContext.class, invocationContext);
+        result.set(INVOCATION_CONTEXT, invocationContext);
+        Deadline.inherit(result);
 
         if (operation.hasCircuitBreaker() && operation.hasCircuitBreakerName()) {
-            result.registerEventHandler(CircuitBreakerEvents.StateTransition.class,
-                    cbMaintenance.stateTransitionEventHandler(operation.getCircuitBreakerName().value()));
+            result.addEventListener(cbMaintenance.stateTransitionEventListener(operation.getCircuitBreakerName().value()));
         }
 
         return result;
@@ -349,6 +370,7 @@ public class FaultToleranceInterceptor {
 
     private <T> FaultToleranceStrategy<T> prepareStrategy(FaultToleranceOperation operation, InterceptionPoint point) {
         FaultToleranceStrategy<T> result = invocation();
+        LongSupplier concurrencyLimit = null;
 
         if (specCompatibility.isOperationTrulyAsynchronous(operation)) {
             result = new RequestScopeActivator<>(result, requestContextController);
@@ -358,11 +380,39 @@ public class FaultToleranceInterceptor {
             result = new ThreadOffload<>(result, asyncExecutor, operation.isThreadOffloadRequired());
         }
 
-        if (operation.hasBulkhead()) {
+        if (operation.hasBulkhead() && operation.hasBulkheadAdaptiveLimit()) {
+            AdaptiveBulkhead<T> adaptiveBulkhead = new AdaptiveBulkhead<>(result, point.toString(),
+                    operation.getBulkheadAdaptiveLimit().algorithm(),
+                    operation.getBulkhead().value(),
+                    operation.getBulkheadAdaptiveLimit().minLimit(),
+                    operation.getBulkheadAdaptiveLimit().maxLimit(),
+                    stacklessRejections);
+            concurrencyLimit = adaptiveBulkhead::currentLimit;
+            result = adaptiveBulkhead;
+        } else if (operation.hasBulkhead() && (!lockFreeBulkhead
+                || operation.hasBulkheadMaxQueueWait() || operation.hasBulkheadQueueDiscipline())) {
+            Bulkhead.Options options = new Bulkhead.Options().stacklessRejections(stacklessRejections);
+            if (operation.hasBulkheadMaxQueueWait()) {
+                options.maxQueueWait(timeInMillis(operation.getBulkheadMaxQueueWait().value(),
+                        operation.getBulkheadMaxQueueWait().unit()), timer);
+            }
+            if (operation.hasBulkheadQueueDiscipline()) {
+                BulkheadQueueDiscipline queueDiscipline = operation.getBulkheadQueueDiscipline();
+                options.queueDiscipline(queueDiscipline.value(),
+                        timeInMillis(queueDiscipline.target(), queueDiscipline.targetUnit()),
+                        timeInMillis(queueDiscipline.interval(), queueDiscipline.intervalUnit()),
+                        SystemStopwatch.INSTANCE);
+            }
             result = new Bulkhead<>(result, point.toString(),
                     operation.getBulkhead().value(),
                     operation.getBulkhead().waitingTaskQueue(),
-                    false);
+                    false,
+                    options);
+        } else if (operation.hasBulkhead()) {
+            result = new LockFreeBulkhead<>(result, point.toString(),
+                    operation.getBulkhead().value(),
+                    operation.getBulkhead().waitingTaskQueue(),
+                    stacklessRejections);
         }
 
         if (operation.hasTimeout()) {
@@ -377,10 +427,27 @@ public class FaultToleranceInterceptor {
                     timeInMillis(operation.getRateLimit().window(), operation.getRateLimit().windowUnit()),
                     timeInMillis(operation.getRateLimit().minSpacing(), operation.getRateLimit().minSpacingUnit()),
                     operation.getRateLimit().type(),
-                    SystemStopwatch.INSTANCE);
+                    SystemStopwatch.INSTANCE,
+                    new RateLimit.Options()
+                            .burst(operation.getRateLimit().burst())
+                            .maxWait(timeInMillis(operation.getRateLimit().maxWait(), operation.getRateLimit().maxWaitUnit()),
+                                    timer)
+                            .stacklessRejections(stacklessRejections));
         }
 
         if (operation.hasCircuitBreaker()) {
+            CircuitBreaker.Options circuitBreakerOptions = new CircuitBreaker.Options()
+                    .stacklessRejections(stacklessRejections);
+            if (operation.hasCircuitBreakerTimeWindow()) {
+                circuitBreakerOptions.timeWindow(timeInMillis(operation.getCircuitBreakerTimeWindow().window(),
+                        operation.getCircuitBreakerTimeWindow().windowUnit()),
+                        operation.getCircuitBreakerTimeWindow().buckets());
+            }
+            if (operation.hasCircuitBreakerSlowCall()) {
+                circuitBreakerOptions.slowCalls(timeInMillis(operation.getCircuitBreakerSlowCall().durationThreshold(),
+                        operation.getCircuitBreakerSlowCall().durationThresholdUnit()),
+                        operation.getCircuitBreakerSlowCall().ratio());
+            }
             result = new CircuitBreaker<>(result, point.toString(),
                     createExceptionDecision(operation.getCircuitBreaker().skipOn(), operation.getCircuitBreaker().failOn()),
                     timeInMillis(operation.getCircuitBreaker().delay(), operation.getCircuitBreaker().delayUnit()),
@@ -388,7 +455,8 @@ public class FaultToleranceInterceptor {
                     operation.getCircuitBreaker().failureRatio(),
                     operation.getCircuitBreaker().successThreshold(),
                     SystemStopwatch.INSTANCE,
-                    timer);
+                    timer,
+                    circuitBreakerOptions);
 
             String cbName = operation.hasCircuitBreakerName()
                     ? operation.getCircuitBreakerName().value()
@@ -408,7 +476,10 @@ public class FaultToleranceInterceptor {
                     () -> new ThreadSleepDelay(backoff.get()),
                     () -> new TimerDelay(backoff.get(), timer),
                     SystemStopwatch.INSTANCE,
-                    operation.hasBeforeRetry() ? prepareBeforeRetryFunction(point, operation) : null);
+                    operation.hasBeforeRetry() ? prepareBeforeRetryFunction(point, operation) : null,
+                    new Retry.Options()
+                            .budget(operation.hasRetryBudget() ? retryBudgets.getOrCreate(operation.getRetryBudget()) : null)
+                            .maxDurationTimer(operation.hasRetryCancelOnMaxDuration() ? timer : null));
         }
 
         if (operation.hasFallback()) {
@@ -419,7 +490,8 @@ public class FaultToleranceInterceptor {
 
         if (metricsProvider.isEnabled()) {
             MeteredOperation meteredOperation = new CdiMeteredOperationImpl(operation, point, specCompatibility);
-            result = new MetricsCollector<>(result, metricsProvider.create(meteredOperation), meteredOperation);
+            result = new MetricsCollector<>(result, metricsProvider.create(meteredOperation), meteredOperation,
+                    concurrencyLimit);
         }
 
         if (specCompatibility.isOperationTrulyAsynchronous(operation)) {
@@ -432,14 +504,30 @@ public class FaultToleranceInterceptor {
     private <T> FaultToleranceStrategy<java.util.concurrent.Future<T>> prepareFutureStrategy(FaultToleranceOperation operation,
             InterceptionPoint point) {
         FaultToleranceStrategy<java.util.concurrent.Future<T>> result = invocation();
+        LongSupplier concurrencyLimit = null;
 
         result = new RequestScopeActivator<>(result, requestContextController);
 
-        if (operation.hasBulkhead()) {
+        if (operation.hasBulkhead() && operation.hasBulkheadAdaptiveLimit()) {
+            AdaptiveBulkhead<java.util.concurrent.Future<T>> adaptiveBulkhead = new AdaptiveBulkhead<>(result, point.toString(),
+                    operation.getBulkheadAdaptiveLimit().algorithm(),
+                    operation.getBulkhead().value(),
+                    operation.getBulkheadAdaptiveLimit().minLimit(),
+                    operation.getBulkheadAdaptiveLimit().maxLimit(),
+                    stacklessRejections);
+            concurrencyLimit = adaptiveBulkhead::currentLimit;
+            result = adaptiveBulkhead;
+        } else if (operation.hasBulkhead()) {
+            Bulkhead.Options options = new Bulkhead.Options().stacklessRejections(stacklessRejections);
+            if (operation.hasBulkheadMaxQueueWait()) {
+                options.maxQueueWait(timeInMillis(operation.getBulkheadMaxQueueWait().value(),
+                        operation.getBulkheadMaxQueueWait().unit()), timer);
+            }
             result = new Bulkhead<>(result, point.toString(),
                     operation.getBulkhead().value(),
                     operation.getBulkhead().waitingTaskQueue(),
-                    true);
+                    true,
+                    options);
         }
 
         if (operation.hasTimeout()) {
@@ -455,10 +543,27 @@ public class FaultToleranceInterceptor {
                     timeInMillis(operation.getRateLimit().window(), operation.getRateLimit().windowUnit()),
                     timeInMillis(operation.getRateLimit().minSpacing(), operation.getRateLimit().minSpacingUnit()),
                     operation.getRateLimit().type(),
-                    SystemStopwatch.INSTANCE);
+                    SystemStopwatch.INSTANCE,
+                    new RateLimit.Options()
+                            .burst(operation.getRateLimit().burst())
+                            .maxWait(timeInMillis(operation.getRateLimit().maxWait(), operation.getRateLimit().maxWaitUnit()),
+                                    timer)
+                            .stacklessRejections(stacklessRejections));
         }
 
         if (operation.hasCircuitBreaker()) {
+            CircuitBreaker.Options circuitBreakerOptions = new CircuitBreaker.Options()
+                    .stacklessRejections(stacklessRejections);
+            if (operation.hasCircuitBreakerTimeWindow()) {
+                circuitBreakerOptions.timeWindow(timeInMillis(operation.getCircuitBreakerTimeWindow().window(),
+                        operation.getCircuitBreakerTimeWindow().windowUnit()),
+                        operation.getCircuitBreakerTimeWindow().buckets());
+            }
+            if (operation.hasCircuitBreakerSlowCall()) {
+                circuitBreakerOptions.slowCalls(timeInMillis(operation.getCircuitBreakerSlowCall().durationThreshold(),
+                        operation.getCircuitBreakerSlowCall().durationThresholdUnit()),
+                        operation.getCircuitBreakerSlowCall().ratio());
+            }
             result = new CircuitBreaker<>(result, point.toString(),
                     createExceptionDecision(operation.getCircuitBreaker().skipOn(), operation.getCircuitBreaker().failOn()),
                     timeInMillis(operation.getCircuitBreaker().delay(), operation.getCircuitBreaker().delayUnit()),
@@ -466,7 +571,8 @@ public class FaultToleranceInterceptor {
                     operation.getCircuitBreaker().failureRatio(),
                     operation.getCircuitBreaker().successThreshold(),
                     SystemStopwatch.INSTANCE,
-                    timer);
+                    timer,
+                    circuitBreakerOptions);
 
             String cbName = operation.hasCircuitBreakerName()
                     ? operation.getCircuitBreakerName().value()
@@ -486,7 +592,10 @@ public class FaultToleranceInterceptor {
                     () -> new ThreadSleepDelay(backoff.get()),
                     () -> new TimerDelay(backoff.get(), timer),
                     SystemStopwatch.INSTANCE,
-                    operation.hasBeforeRetry() ? prepareBeforeRetryFunction(point, operation) : null);
+                    operation.hasBeforeRetry() ? prepareBeforeRetryFunction(point, operation) : null,
+                    new Retry.Options()
+                            .budget(operation.hasRetryBudget() ? retryBudgets.getOrCreate(operation.getRetryBudget()) : null)
+                            .maxDurationTimer(operation.hasRetryCancelOnMaxDuration() ? timer : null));
         }
 
         if (operation.hasFallback()) {
@@ -497,7 +606,8 @@ public class FaultToleranceInterceptor {
 
         if (metricsProvider.isEnabled()) {
             MeteredOperation meteredOperation = new CdiMeteredOperationImpl(operation, point, specCompatibility);
-            result = new MetricsCollector<>(result, metricsProvider.create(meteredOperation), meteredOperation);
+            result = new MetricsCollector<>(result, metricsProvider.create(meteredOperation), meteredOperation,
+                    concurrencyLimit);
         }
 
         result = new FutureExecution<>(result, asyncExecutor);
@@ -506,6 +616,29 @@ public class FaultToleranceInterceptor {
     }
 
     private Supplier<BackOff> prepareRetryBackoff(FaultToleranceOperation operation) {
+        Supplier<BackOff> backoff = prepareBaseRetryBackoff(operation);
+        if (!operation.hasRetryAfter()) {
+            return backoff;
+        }
+
+        Class<? extends RetryAfterExtractor> extractorClass = operation.getRetryAfter().extractor();
+        RetryAfterExtractor extractor;
+        if (extractorClass != RetryAfterExtractor.None.class) {
+            try {
+                extractor = extractorClass.getConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw sneakyThrow(e);
+            }
+        } else {
+            extractor = null;
+        }
+        boolean override = operation.getRetryAfter().mode() == RetryAfterMode.OVERRIDE;
+        long maxDelayMs = timeInMillis(operation.getRetryAfter().maxDelay(), operation.getRetryAfter().maxDelayUnit());
+        return () -> new RetryAfterBackOff(backoff.get(), extractor != null ? extractor::retryAfterMillis : null,
+                override, maxDelayMs);
+    }
+
+    private Supplier<BackOff> prepareBaseRetryBackoff(FaultToleranceOperation operation) {
         long delayMs = timeInMillis(operation.getRetry().delay(), operation.getRetry().delayUnit());
 
         long jitterMs = timeInMillis(operation.getRetry().jitter(), operation.getRetry().jitterDelayUnit());
@@ -576,7 +709,7 @@ public class FaultToleranceInterceptor {
             if (fallbackHandler != null) {
                 fallbackFunction = ctx -> {
                     ExecutionContext executionContext = new ExecutionContextImpl(
-                            ctx.context.get(InvocationContext.class), ctx.failure);
+                            ctx.context.get(INVOCATION_CONTEXT), ctx.failure);
                     try {
                         T result = fallbackHandler.handle(executionContext);
                         return asyncSupport == null
@@ -621,7 +754,7 @@ public class FaultToleranceInterceptor {
             if (beforeRetryHandler != null) {
                 beforeRetryFunction = ctx -> {
                     ExecutionContext executionContext = new ExecutionContextImpl(
-                            ctx.context.get(InvocationContext.class), ctx.failure);
+                            ctx.context.get(INVOCATION_CONTEXT), ctx.failure);
                     beforeRetryHandler.handle(executionContext);
                 };
             } else {
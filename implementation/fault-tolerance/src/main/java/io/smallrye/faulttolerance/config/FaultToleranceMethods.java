@@ -27,11 +27,19 @@ import org.eclipse.microprofile.faulttolerance.Timeout;
 import io.smallrye.faulttolerance.api.ApplyGuard;
 import io.smallrye.faulttolerance.api.AsynchronousNonBlocking;
 import io.smallrye.faulttolerance.api.BeforeRetry;
+import io.smallrye.faulttolerance.api.BulkheadAdaptiveLimit;
+import io.smallrye.faulttolerance.api.BulkheadMaxQueueWait;
+import io.smallrye.faulttolerance.api.BulkheadQueueDiscipline;
 import io.smallrye.faulttolerance.api.CircuitBreakerName;
+import io.smallrye.faulttolerance.api.CircuitBreakerSlowCall;
+import io.smallrye.faulttolerance.api.CircuitBreakerTimeWindow;
 import io.smallrye.faulttolerance.api.CustomBackoff;
 import io.smallrye.faulttolerance.api.ExponentialBackoff;
 import io.smallrye.faulttolerance.api.FibonacciBackoff;
 import io.smallrye.faulttolerance.api.RateLimit;
+import io.smallrye.faulttolerance.api.RetryAfter;
+import io.smallrye.faulttolerance.api.RetryBudget;
+import io.smallrye.faulttolerance.api.RetryCancelOnMaxDuration;
 import io.smallrye.faulttolerance.api.RetryWhen;
 import io.smallrye.faulttolerance.autoconfig.FaultToleranceMethod;
 import io.smallrye.faulttolerance.autoconfig.MethodDescriptor;
@@ -51,8 +59,14 @@ public class FaultToleranceMethods {
         result.asynchronousNonBlocking = getAnnotation(AsynchronousNonBlocking.class, method, annotationsPresentDirectly);
 
         result.bulkhead = getAnnotation(Bulkhead.class, method, annotationsPresentDirectly);
+        result.bulkheadAdaptiveLimit = getAnnotation(BulkheadAdaptiveLimit.class, method, annotationsPresentDirectly);
+        result.bulkheadMaxQueueWait = getAnnotation(BulkheadMaxQueueWait.class, method, annotationsPresentDirectly);
+        result.bulkheadQueueDiscipline = getAnnotation(BulkheadQueueDiscipline.class, method, annotationsPresentDirectly);
         result.circuitBreaker = getAnnotation(CircuitBreaker.class, method, annotationsPresentDirectly);
         result.circuitBreakerName = getAnnotation(CircuitBreakerName.class, method, annotationsPresentDirectly);
+        result.circuitBreakerTimeWindow = getAnnotation(CircuitBreakerTimeWindow.class, method,
+                annotationsPresentDirectly);
+        result.circuitBreakerSlowCall = getAnnotation(CircuitBreakerSlowCall.class, method, annotationsPresentDirectly);
         result.fallback = getAnnotation(Fallback.class, method, annotationsPresentDirectly);
         result.rateLimit = getAnnotation(RateLimit.class, method, annotationsPresentDirectly);
         result.retry = getAnnotation(Retry.class, method, annotationsPresentDirectly);
@@ -62,6 +76,10 @@ public class FaultToleranceMethods {
         result.exponentialBackoff = getAnnotation(ExponentialBackoff.class, method, annotationsPresentDirectly);
         result.fibonacciBackoff = getAnnotation(FibonacciBackoff.class, method, annotationsPresentDirectly);
         result.retryWhen = getAnnotation(RetryWhen.class, method, annotationsPresentDirectly);
+        result.retryAfter = getAnnotation(RetryAfter.class, method, annotationsPresentDirectly);
+        result.retryCancelOnMaxDuration = getAnnotation(RetryCancelOnMaxDuration.class, method,
+                annotationsPresentDirectly);
+        result.retryBudget = getAnnotation(RetryBudget.class, method, annotationsPresentDirectly);
         result.beforeRetry = getAnnotation(BeforeRetry.class, method, annotationsPresentDirectly);
 
         result.annotationsPresentDirectly = annotationsPresentDirectly;
@@ -110,8 +128,18 @@ public class FaultToleranceMethods {
                 annotationsPresentDirectly);
 
         result.bulkhead = getAnnotation(Bulkhead.class, method, beanClass, annotationsPresentDirectly);
+        result.bulkheadAdaptiveLimit = getAnnotation(BulkheadAdaptiveLimit.class, method, beanClass,
+                annotationsPresentDirectly);
+        result.bulkheadMaxQueueWait = getAnnotation(BulkheadMaxQueueWait.class, method, beanClass,
+                annotationsPresentDirectly);
+        result.bulkheadQueueDiscipline = getAnnotation(BulkheadQueueDiscipline.class, method, beanClass,
+                annotationsPresentDirectly);
         result.circuitBreaker = getAnnotation(CircuitBreaker.class, method, beanClass, annotationsPresentDirectly);
         result.circuitBreakerName = getAnnotation(CircuitBreakerName.class, method, beanClass, annotationsPresentDirectly);
+        result.circuitBreakerTimeWindow = getAnnotation(CircuitBreakerTimeWindow.class, method, beanClass,
+                annotationsPresentDirectly);
+        result.circuitBreakerSlowCall = getAnnotation(CircuitBreakerSlowCall.class, method, beanClass,
+                annotationsPresentDirectly);
         result.fallback = getAnnotation(Fallback.class, method, beanClass, annotationsPresentDirectly);
         result.rateLimit = getAnnotation(RateLimit.class, method, beanClass, annotationsPresentDirectly);
         result.retry = getAnnotation(Retry.class, method, beanClass, annotationsPresentDirectly);
@@ -121,6 +149,10 @@ public class FaultToleranceMethods {
         result.exponentialBackoff = getAnnotation(ExponentialBackoff.class, method, beanClass, annotationsPresentDirectly);
         result.fibonacciBackoff = getAnnotation(FibonacciBackoff.class, method, beanClass, annotationsPresentDirectly);
         result.retryWhen = getAnnotation(RetryWhen.class, method, beanClass, annotationsPresentDirectly);
+        result.retryAfter = getAnnotation(RetryAfter.class, method, beanClass, annotationsPresentDirectly);
+        result.retryCancelOnMaxDuration = getAnnotation(RetryCancelOnMaxDuration.class, method, beanClass,
+                annotationsPresentDirectly);
+        result.retryBudget = getAnnotation(RetryBudget.class, method, beanClass, annotationsPresentDirectly);
         result.beforeRetry = getAnnotation(BeforeRetry.class, method, beanClass, annotationsPresentDirectly);
 
         result.annotationsPresentDirectly = annotationsPresentDirectly;
@@ -32,6 +32,8 @@ import io.smallrye.faulttolerance.api.AsynchronousNonBlocking;
 import io.smallrye.faulttolerance.api.BeforeRetry;
 import io.smallrye.faulttolerance.api.CircuitBreakerName;
 import io.smallrye.faulttolerance.api.CustomBackoff;
+import io.smallrye.faulttolerance.api.RetryAfter;
+import io.smallrye.faulttolerance.api.RetryCancelOnMaxDuration;
 import io.smallrye.faulttolerance.api.RetryWhen;
 import io.smallrye.faulttolerance.apiimpl.basicconfig.BasicFaultToleranceOperation;
 import io.smallrye.faulttolerance.autoconfig.Config;
@@ -61,6 +63,8 @@ public class FaultToleranceOperation extends BasicFaultToleranceOperation {
 
     private final CustomBackoffConfig customBackoff;
     private final RetryWhenConfig retryWhen;
+    private final RetryAfterConfig retryAfter;
+    private final RetryCancelOnMaxDurationConfig retryCancelOnMaxDuration;
     private final BeforeRetryConfig beforeRetry;
 
     private final Method fallbackMethod;
@@ -83,6 +87,8 @@ public class FaultToleranceOperation extends BasicFaultToleranceOperation {
 
         this.customBackoff = CustomBackoffConfigImpl.create(method);
         this.retryWhen = RetryWhenConfigImpl.create(method);
+        this.retryAfter = RetryAfterConfigImpl.create(method);
+        this.retryCancelOnMaxDuration = RetryCancelOnMaxDurationConfigImpl.create(method);
         this.beforeRetry = BeforeRetryConfigImpl.create(method);
 
         if (method.fallbackMethod != null) {
@@ -221,6 +227,22 @@ public class FaultToleranceOperation extends BasicFaultToleranceOperation {
         return retryWhen;
     }
 
+    public boolean hasRetryAfter() {
+        return retryAfter != null;
+    }
+
+    public RetryAfter getRetryAfter() {
+        return retryAfter;
+    }
+
+    public boolean hasRetryCancelOnMaxDuration() {
+        return retryCancelOnMaxDuration != null;
+    }
+
+    public RetryCancelOnMaxDuration getRetryCancelOnMaxDuration() {
+        return retryCancelOnMaxDuration;
+    }
+
     public boolean hasBeforeRetry() {
         return beforeRetry != null;
     }
@@ -268,6 +290,8 @@ public class FaultToleranceOperation extends BasicFaultToleranceOperation {
 
         validateFallback();
         validateRetryWhen();
+        validateRetryAfter();
+        validateRetryCancelOnMaxDuration();
         validateBeforeRetry();
     }
 
@@ -313,6 +337,30 @@ public class FaultToleranceOperation extends BasicFaultToleranceOperation {
         }
     }
 
+    private void validateRetryAfter() {
+        if (retryAfter == null) {
+            return;
+        }
+
+        retryAfter.validate();
+
+        if (retry == null) {
+            throw retryAfter.fail("missing @Retry");
+        }
+    }
+
+    private void validateRetryCancelOnMaxDuration() {
+        if (retryCancelOnMaxDuration == null) {
+            return;
+        }
+
+        retryCancelOnMaxDuration.validate();
+
+        if (retry == null) {
+            throw retryCancelOnMaxDuration.fail("missing @Retry");
+        }
+    }
+
     private void validateBeforeRetry() {
         if (beforeRetry == null) {
             return;
@@ -358,6 +406,12 @@ public class FaultToleranceOperation extends BasicFaultToleranceOperation {
         if (retryWhen != null) {
             retryWhen.materialize();
         }
+        if (retryAfter != null) {
+            retryAfter.materialize();
+        }
+        if (retryCancelOnMaxDuration != null) {
+            retryCancelOnMaxDuration.materialize();
+        }
         if (beforeRetry != null) {
             beforeRetry.materialize();
         }
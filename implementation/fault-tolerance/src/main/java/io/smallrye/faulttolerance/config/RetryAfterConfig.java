@@ -0,0 +1,15 @@
+package io.smallrye.faulttolerance.config;
+
+import io.smallrye.faulttolerance.api.RetryAfter;
+import io.smallrye.faulttolerance.autoconfig.AutoConfig;
+import io.smallrye.faulttolerance.autoconfig.ConfigDeclarativeOnly;
+
+@AutoConfig
+public interface RetryAfterConfig extends RetryAfter, ConfigDeclarativeOnly {
+    @Override
+    default void validate() {
+        if (maxDelay() < 0) {
+            throw fail("maxDelay", "shouldn't be lower than 0");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.smallrye.faulttolerance.config;
+
+import io.smallrye.faulttolerance.api.RetryCancelOnMaxDuration;
+import io.smallrye.faulttolerance.autoconfig.AutoConfig;
+import io.smallrye.faulttolerance.autoconfig.ConfigDeclarativeOnly;
+
+@AutoConfig
+public interface RetryCancelOnMaxDurationConfig extends RetryCancelOnMaxDuration, ConfigDeclarativeOnly {
+    @Override
+    default void validate() {
+    }
+}
@@ -33,6 +33,11 @@ public final class CdiMeteredOperationImpl implements MeteredOperation {
         return operation.hasBulkhead();
     }
 
+    @Override
+    public boolean hasAdaptiveBulkhead() {
+        return operation.hasBulkheadAdaptiveLimit();
+    }
+
     @Override
     public boolean hasCircuitBreaker() {
         return operation.hasCircuitBreaker();
@@ -43,6 +48,12 @@ public final class CdiMeteredOperationImpl implements MeteredOperation {
         return operation.hasFallback();
     }
 
+    @Override
+    public boolean hasHedge() {
+        // hedging is only supported in the programmatic API
+        return false;
+    }
+
     @Override
     public boolean hasRateLimit() {
         return operation.hasRateLimit();
@@ -53,6 +64,11 @@ public final class CdiMeteredOperationImpl implements MeteredOperation {
         return operation.hasRetry();
     }
 
+    @Override
+    public boolean hasRetryBudget() {
+        return operation.hasRetryBudget();
+    }
+
     @Override
     public boolean hasTimeout() {
         return operation.hasTimeout();
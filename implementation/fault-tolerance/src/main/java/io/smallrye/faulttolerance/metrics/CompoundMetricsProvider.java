@@ -17,6 +17,7 @@ import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import io.smallrye.faulttolerance.Enablement;
 import io.smallrye.faulttolerance.core.circuit.breaker.CircuitBreakerEvents;
+import io.smallrye.faulttolerance.core.hedge.HedgeEvents;
 import io.smallrye.faulttolerance.core.metrics.MeteredOperation;
 import io.smallrye.faulttolerance.core.metrics.MetricsProvider;
 import io.smallrye.faulttolerance.core.metrics.MetricsRecorder;
@@ -130,6 +131,13 @@ public class CompoundMetricsProvider implements MetricsProvider {
             }
         }
 
+        @Override
+        public void retryBudgetExhausted(boolean retried) {
+            for (MetricsRecorder recorder : recorders) {
+                recorder.retryBudgetExhausted(retried);
+            }
+        }
+
         @Override
         public void timeoutFinished(boolean timedOut, long time) {
             for (MetricsRecorder recorder : recorders) {
@@ -228,11 +236,32 @@ public class CompoundMetricsProvider implements MetricsProvider {
             }
         }
 
+        @Override
+        public void registerBulkheadConcurrencyLimit(LongSupplier supplier) {
+            for (MetricsRecorder recorder : recorders) {
+                recorder.registerBulkheadConcurrencyLimit(supplier);
+            }
+        }
+
         @Override
         public void rateLimitDecisionMade(boolean permitted) {
             for (MetricsRecorder recorder : recorders) {
                 recorder.rateLimitDecisionMade(permitted);
             }
         }
+
+        @Override
+        public void hedgeSent() {
+            for (MetricsRecorder recorder : recorders) {
+                recorder.hedgeSent();
+            }
+        }
+
+        @Override
+        public void hedgeFinished(HedgeEvents.Result result) {
+            for (MetricsRecorder recorder : recorders) {
+                recorder.hedgeFinished(result);
+            }
+        }
     }
 }
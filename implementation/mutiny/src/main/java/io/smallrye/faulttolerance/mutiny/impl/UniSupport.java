@@ -5,6 +5,7 @@ import io.smallrye.faulttolerance.core.Future;
 import io.smallrye.faulttolerance.core.invocation.AsyncSupport;
 import io.smallrye.faulttolerance.core.invocation.Invoker;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
 
 public class UniSupport<T> implements AsyncSupport<T, Uni<T>> {
     @Override
@@ -31,7 +32,9 @@ public class UniSupport<T> implements AsyncSupport<T, Uni<T>> {
     public Future<T> toFuture(Invoker<Uni<T>> invoker) {
         Completer<T> completer = Completer.create();
         try {
-            invoker.proceed().subscribe().with(completer::complete, completer::completeWithError);
+            Cancellable subscription = invoker.proceed().subscribe().with(completer::complete,
+                    completer::completeWithError);
+            completer.onCancel(subscription::cancel);
         } catch (Exception e) {
             completer.completeWithError(e);
         }
@@ -42,7 +45,10 @@ public class UniSupport<T> implements AsyncSupport<T, Uni<T>> {
     public Uni<T> fromFuture(Invoker<Future<T>> invoker) {
         return Uni.createFrom().emitter(em -> {
             try {
-                invoker.proceed().then((value, error) -> {
+                Future<T> future = invoker.proceed();
+                // called on completion too, in which case cancelling does nothing
+                em.onTermination(future::cancel);
+                future.then((value, error) -> {
                     if (error == null) {
                         em.complete(value);
                     } else {
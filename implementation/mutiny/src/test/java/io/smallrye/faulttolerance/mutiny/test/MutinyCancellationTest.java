@@ -0,0 +1,38 @@
+package io.smallrye.faulttolerance.mutiny.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.TypedGuard;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+public class MutinyCancellationTest {
+    @Test
+    public void cancellationReleasesBulkhead() throws Exception {
+        TypedGuard<Uni<String>> guarded = TypedGuard.create(Types.UNI_STRING)
+                .withBulkhead().limit(1).queueSize(1).done()
+                .withTimeout().duration(10, ChronoUnit.SECONDS).done()
+                .build();
+
+        CountDownLatch cancelled = new CountDownLatch(1);
+        Cancellable subscription = guarded.call(() -> Uni.createFrom().<String> emitter(em -> {
+            em.onTermination(cancelled::countDown);
+        })).subscribe().with(ignored -> {
+        });
+
+        subscription.cancel();
+        // the guarded operation is cancelled too
+        assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // the bulkhead is free again, otherwise the invocation would stay queued
+        assertThat(guarded.call(() -> Uni.createFrom().item("value")).subscribeAsCompletionStage())
+                .succeedsWithin(5, TimeUnit.SECONDS)
+                .isEqualTo("value");
+    }
+}
@@ -1,6 +1,7 @@
 package io.smallrye.faulttolerance.rxjava3.impl;
 
 import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.disposables.Disposable;
 import io.smallrye.faulttolerance.core.Completer;
 import io.smallrye.faulttolerance.core.Future;
 import io.smallrye.faulttolerance.core.invocation.AsyncSupport;
@@ -31,7 +32,8 @@ public class MaybeSupport<T> implements AsyncSupport<T, Maybe<T>> {
     public Future<T> toFuture(Invoker<Maybe<T>> invoker) {
         Completer<T> completer = Completer.create();
         try {
-            invoker.proceed().subscribe(completer::complete, completer::completeWithError);
+            Disposable subscription = invoker.proceed().subscribe(completer::complete, completer::completeWithError);
+            completer.onCancel(subscription::dispose);
         } catch (Exception e) {
             completer.completeWithError(e);
         }
@@ -42,7 +44,10 @@ public class MaybeSupport<T> implements AsyncSupport<T, Maybe<T>> {
     public Maybe<T> fromFuture(Invoker<Future<T>> invoker) {
         return Maybe.defer(() -> Maybe.create(sub -> {
             try {
-                invoker.proceed().then((value, error) -> {
+                Future<T> future = invoker.proceed();
+                // called on completion too, in which case cancelling does nothing
+                sub.setCancellable(future::cancel);
+                future.then((value, error) -> {
                     if (error == null && value == null) {
                         sub.onComplete();
                     } else if (error == null) {
@@ -1,6 +1,7 @@
 package io.smallrye.faulttolerance.rxjava3.impl;
 
 import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.disposables.Disposable;
 import io.smallrye.faulttolerance.core.Completer;
 import io.smallrye.faulttolerance.core.Future;
 import io.smallrye.faulttolerance.core.invocation.AsyncSupport;
@@ -31,7 +32,8 @@ public class SingleSupport<T> implements AsyncSupport<T, Single<T>> {
     public Future<T> toFuture(Invoker<Single<T>> invoker) {
         Completer<T> completer = Completer.create();
         try {
-            invoker.proceed().subscribe(completer::complete, completer::completeWithError);
+            Disposable subscription = invoker.proceed().subscribe(completer::complete, completer::completeWithError);
+            completer.onCancel(subscription::dispose);
         } catch (Exception e) {
             completer.completeWithError(e);
         }
@@ -42,7 +44,10 @@ public class SingleSupport<T> implements AsyncSupport<T, Single<T>> {
     public Single<T> fromFuture(Invoker<Future<T>> invoker) {
         return Single.defer(() -> Single.create(sub -> {
             try {
-                invoker.proceed().then((value, error) -> {
+                Future<T> future = invoker.proceed();
+                // called on completion too, in which case cancelling does nothing
+                sub.setCancellable(future::cancel);
+                future.then((value, error) -> {
                     if (error == null) {
                         sub.onSuccess(value);
                     } else {
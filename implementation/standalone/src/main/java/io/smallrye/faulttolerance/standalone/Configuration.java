@@ -2,6 +2,8 @@ package io.smallrye.faulttolerance.standalone;
 
 import java.util.concurrent.ExecutorService;
 
+import io.smallrye.faulttolerance.core.timer.HashedWheelTimer;
+
 public interface Configuration {
     /**
      * Returns whether fault tolerance strategies should be enabled.
@@ -25,6 +27,43 @@ public interface Configuration {
         return NoopAdapter.INSTANCE;
     }
 
+    /**
+     * Returns whether a hashed wheel timer should be used for scheduling delayed tasks
+     * (such as watching timeouts or delaying retries) instead of the default thread timer.
+     * The hashed wheel timer schedules and cancels tasks in constant time, but only has
+     * a resolution of one {@linkplain #timerTickInMillis() tick}.
+     */
+    default boolean hashedWheelTimer() {
+        return false;
+    }
+
+    /**
+     * Returns the tick duration of the hashed wheel timer, in milliseconds.
+     * Ignored unless {@link #hashedWheelTimer()} returns {@code true}.
+     */
+    default long timerTickInMillis() {
+        return HashedWheelTimer.DEFAULT_TICK_IN_MILLIS;
+    }
+
+    /**
+     * Returns whether the exceptions thrown when an invocation is rejected by an open circuit breaker,
+     * a full bulkhead or an exceeded rate limit should be created without stack traces. This makes
+     * rejecting invocations under overload much cheaper. Guards may override this using
+     * {@code withStacklessRejections()}.
+     */
+    default boolean stacklessRejections() {
+        return false;
+    }
+
+    /**
+     * Returns whether bulkheads should use the lock-free implementation, which admits and rejects
+     * invocations using a single atomic operation. This only applies to bulkheads that don't use
+     * synchronous queueing, max queue wait, queue discipline or reserved capacity.
+     */
+    default boolean lockFreeBulkhead() {
+        return false;
+    }
+
     /**
      * Callback executed at the very end of {@link StandaloneFaultTolerance#shutdown()},
      * when all internal resources have been shut down.
@@ -4,14 +4,24 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import io.smallrye.faulttolerance.core.timer.HashedWheelTimer;
+
 final class DefaultConfiguration implements Configuration {
     private final boolean enabled;
     private final ExecutorService executor;
+    private final boolean hashedWheelTimer;
+    private final long timerTickInMillis;
+    private final boolean stacklessRejections;
+    private final boolean lockFreeBulkhead;
 
     DefaultConfiguration() {
         enabled = !"false".equals(System.getProperty("smallrye.faulttolerance.enabled",
                 System.getProperty("MP_Fault_Tolerance_NonFallback_Enabled")));
         executor = Executors.newCachedThreadPool();
+        hashedWheelTimer = "wheel".equals(System.getProperty("smallrye.faulttolerance.timer.type"));
+        timerTickInMillis = Long.getLong("smallrye.faulttolerance.timer.tick", HashedWheelTimer.DEFAULT_TICK_IN_MILLIS);
+        stacklessRejections = Boolean.getBoolean("smallrye.faulttolerance.stackless-rejections");
+        lockFreeBulkhead = Boolean.getBoolean("smallrye.faulttolerance.lock-free-bulkhead");
     }
 
     @Override
@@ -24,6 +34,26 @@ final class DefaultConfiguration implements Configuration {
         return executor;
     }
 
+    @Override
+    public boolean hashedWheelTimer() {
+        return hashedWheelTimer;
+    }
+
+    @Override
+    public long timerTickInMillis() {
+        return timerTickInMillis;
+    }
+
+    @Override
+    public boolean stacklessRejections() {
+        return stacklessRejections;
+    }
+
+    @Override
+    public boolean lockFreeBulkhead() {
+        return lockFreeBulkhead;
+    }
+
     @Override
     public void onShutdown() throws InterruptedException {
         executor.shutdownNow();
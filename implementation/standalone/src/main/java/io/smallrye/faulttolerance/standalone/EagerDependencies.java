@@ -2,12 +2,19 @@ package io.smallrye.faulttolerance.standalone;
 
 import io.smallrye.faulttolerance.apiimpl.BasicCircuitBreakerMaintenanceImpl;
 import io.smallrye.faulttolerance.apiimpl.BuilderEagerDependencies;
+import io.smallrye.faulttolerance.apiimpl.RetryBudgetRegistry;
 
 final class EagerDependencies implements BuilderEagerDependencies {
     final BasicCircuitBreakerMaintenanceImpl cbMaintenance = new BasicCircuitBreakerMaintenanceImpl();
+    final RetryBudgetRegistry retryBudgets = new RetryBudgetRegistry();
 
     @Override
     public BasicCircuitBreakerMaintenanceImpl cbMaintenance() {
         return cbMaintenance;
     }
+
+    @Override
+    public RetryBudgetRegistry retryBudgets() {
+        return retryBudgets;
+    }
 }
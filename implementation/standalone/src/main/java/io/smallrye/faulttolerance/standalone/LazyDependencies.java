@@ -5,6 +5,7 @@ import java.util.concurrent.ExecutorService;
 import io.smallrye.faulttolerance.apiimpl.BuilderLazyDependencies;
 import io.smallrye.faulttolerance.core.event.loop.EventLoop;
 import io.smallrye.faulttolerance.core.metrics.MetricsProvider;
+import io.smallrye.faulttolerance.core.timer.HashedWheelTimer;
 import io.smallrye.faulttolerance.core.timer.ThreadTimer;
 import io.smallrye.faulttolerance.core.timer.Timer;
 
@@ -14,6 +15,8 @@ final class LazyDependencies implements BuilderLazyDependencies {
     private final MetricsAdapter metricsAdapter;
     private final EventLoop eventLoop;
     private final Timer timer;
+    private final boolean stacklessRejections;
+    private final boolean lockFreeBulkhead;
 
     private volatile MetricsProvider metricsProvider;
 
@@ -22,7 +25,11 @@ final class LazyDependencies implements BuilderLazyDependencies {
         this.executor = config.executor();
         this.metricsAdapter = config.metricsAdapter();
         this.eventLoop = EventLoop.get();
-        this.timer = new ThreadTimer(executor);
+        this.timer = config.hashedWheelTimer()
+                ? new HashedWheelTimer(executor, config.timerTickInMillis(), HashedWheelTimer.DEFAULT_WHEEL_SIZE)
+                : new ThreadTimer(executor);
+        this.stacklessRejections = config.stacklessRejections();
+        this.lockFreeBulkhead = config.lockFreeBulkhead();
     }
 
     @Override
@@ -69,6 +76,16 @@ final class LazyDependencies implements BuilderLazyDependencies {
         return metricsProvider;
     }
 
+    @Override
+    public boolean stacklessRejections() {
+        return stacklessRejections;
+    }
+
+    @Override
+    public boolean lockFreeBulkhead() {
+        return lockFreeBulkhead;
+    }
+
     void shutdown() throws InterruptedException {
         timer.shutdown();
     }
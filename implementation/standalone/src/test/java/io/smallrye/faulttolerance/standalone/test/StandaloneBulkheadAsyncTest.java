@@ -3,12 +3,18 @@ package io.smallrye.faulttolerance.standalone.test;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.temporal.ChronoUnit;
+import java.util.Queue;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.faulttolerance.api.BulkheadPriority;
+import io.smallrye.faulttolerance.api.QueueDiscipline;
 import io.smallrye.faulttolerance.api.TypedGuard;
 import io.smallrye.faulttolerance.core.util.party.Party;
 
@@ -39,6 +45,123 @@ public class StandaloneBulkheadAsyncTest {
         party.organizer().disband();
     }
 
+    @Test
+    public void asyncBulkheadWithMaxQueueWait() throws Exception {
+        TypedGuard<CompletionStage<String>> guarded = TypedGuard.create(Types.CS_STRING)
+                .withBulkhead().limit(1).queueSize(5).maxQueueWait(100, ChronoUnit.MILLIS).done()
+                .withFallback().handler(this::fallback).applyOn(BulkheadException.class).done()
+                .withThreadOffload(true)
+                .build();
+
+        Party party = Party.create(1);
+
+        guarded.call(() -> {
+            party.participant().attend();
+            return completedFuture("ignored");
+        });
+
+        party.organizer().waitForAll();
+
+        // accepted into the queue, but doesn't start running in time
+        assertThat(guarded.call(() -> completedFuture("value")))
+                .succeedsWithin(10, TimeUnit.SECONDS)
+                .isEqualTo("fallback");
+
+        party.organizer().disband();
+    }
+
+    @Test
+    public void asyncBulkheadWithAdaptiveLifo() throws Exception {
+        TypedGuard<CompletionStage<String>> guarded = TypedGuard.create(Types.CS_STRING)
+                .withBulkhead().limit(1).queueSize(5)
+                .withQueueDiscipline()
+                .discipline(QueueDiscipline.ADAPTIVE_LIFO)
+                .target(10, ChronoUnit.MILLIS)
+                .interval(50, ChronoUnit.MILLIS)
+                .done()
+                .done()
+                .withThreadOffload(true)
+                .build();
+
+        Party party = Party.create(1);
+        Queue<String> order = new ConcurrentLinkedQueue<>();
+
+        guarded.call(() -> {
+            party.participant().attend();
+            return completedFuture("ignored");
+        });
+
+        party.organizer().waitForAll();
+
+        CompletionStage<String> first = guarded.call(() -> {
+            order.add("first");
+            Thread.sleep(100);
+            return completedFuture("first");
+        });
+        CompletionStage<String> second = guarded.call(() -> {
+            order.add("second");
+            return completedFuture("second");
+        });
+        CompletionStage<String> third = guarded.call(() -> {
+            order.add("third");
+            return completedFuture("third");
+        });
+
+        Thread.sleep(200);
+        party.organizer().disband();
+
+        assertThat(first).succeedsWithin(10, TimeUnit.SECONDS);
+        assertThat(second).succeedsWithin(10, TimeUnit.SECONDS);
+        assertThat(third).succeedsWithin(10, TimeUnit.SECONDS);
+        // the queue is congested after the first queued invocation finishes
+        assertThat(order).containsExactly("first", "third", "second");
+    }
+
+    @Test
+    public void asyncBulkheadWithPriorityLanes() throws Exception {
+        TypedGuard<CompletionStage<String>> guarded = TypedGuard.create(Types.CS_STRING)
+                .withBulkhead().limit(1).queueSize(3).priorityLanes(1).done()
+                .withThreadOffload(true)
+                .build();
+        TypedGuard<CompletionStage<String>> high = guarded.withPriority(BulkheadPriority.HIGH);
+        TypedGuard<CompletionStage<String>> low = guarded.withPriority(BulkheadPriority.LOW);
+
+        Party party = Party.create(1);
+        Queue<String> order = new ConcurrentLinkedQueue<>();
+
+        high.call(() -> {
+            party.participant().attend();
+            return completedFuture("ignored");
+        });
+
+        party.organizer().waitForAll();
+
+        CompletionStage<String> lowAccepted = low.call(() -> {
+            order.add("low");
+            return completedFuture("low");
+        });
+        CompletionStage<String> lowRejected = low.call(() -> completedFuture("rejected"));
+        CompletionStage<String> normal = guarded.call(() -> {
+            order.add("normal");
+            return completedFuture("normal");
+        });
+        CompletionStage<String> highAccepted = high.call(() -> {
+            order.add("high");
+            return completedFuture("high");
+        });
+
+        assertThat(lowRejected).failsWithin(10, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseExactlyInstanceOf(BulkheadException.class);
+
+        party.organizer().disband();
+
+        assertThat(lowAccepted).succeedsWithin(10, TimeUnit.SECONDS);
+        assertThat(normal).succeedsWithin(10, TimeUnit.SECONDS);
+        assertThat(highAccepted).succeedsWithin(10, TimeUnit.SECONDS);
+        assertThat(order).containsExactly("high", "normal", "low");
+    }
+
     public CompletionStage<String> fallback() {
         return completedFuture("fallback");
     }
@@ -1,16 +1,19 @@
 package io.smallrye.faulttolerance.standalone.test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.faulttolerance.api.ConcurrencyLimitAlgorithm;
 import io.smallrye.faulttolerance.api.TypedGuard;
 import io.smallrye.faulttolerance.core.util.party.Party;
 
@@ -53,6 +56,40 @@ public class StandaloneBulkheadTest {
         party.organizer().disband();
     }
 
+    @Test
+    public void bulkheadWithAdaptiveLimit() throws Exception {
+        TypedGuard<String> guarded = TypedGuard.create(String.class)
+                .withBulkhead().limit(5)
+                .withAdaptiveLimit().algorithm(ConcurrencyLimitAlgorithm.AIMD).minLimit(2).maxLimit(10).done()
+                .done()
+                .withFallback().handler(this::fallback).applyOn(BulkheadException.class).done()
+                .build();
+
+        // decrease the limit to the minimum of 2
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> guarded.call(() -> {
+                throw new TimeoutException();
+            })).isExactlyInstanceOf(TimeoutException.class);
+        }
+
+        Party party = Party.create(2);
+
+        for (int i = 0; i < 2; i++) {
+            executor.submit(() -> {
+                return guarded.call(() -> {
+                    party.participant().attend();
+                    return "ignored";
+                });
+            });
+        }
+
+        party.organizer().waitForAll();
+
+        assertThat(guarded.call(() -> "value")).isEqualTo("fallback");
+
+        party.organizer().disband();
+    }
+
     public String fallback() {
         return "fallback";
     }
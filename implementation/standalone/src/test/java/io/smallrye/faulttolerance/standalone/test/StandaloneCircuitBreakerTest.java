@@ -3,6 +3,7 @@ package io.smallrye.faulttolerance.standalone.test;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
+import java.time.temporal.ChronoUnit;
 import java.util.concurrent.Callable;
 
 import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
@@ -34,6 +35,42 @@ public class StandaloneCircuitBreakerTest {
         assertThat(guarded.call()).isEqualTo("fallback");
     }
 
+    @Test
+    public void circuitBreakerWithTimeWindow() throws Exception {
+        Callable<String> guarded = TypedGuard.create(String.class)
+                .withCircuitBreaker().requestVolumeThreshold(4)
+                .withTimeWindow().window(1, ChronoUnit.MINUTES).buckets(6).done()
+                .done()
+                .withFallback().handler(this::fallback).applyOn(CircuitBreakerOpenException.class).done()
+                .build()
+                .adaptCallable(this::action);
+
+        for (int i = 0; i < 4; i++) {
+            assertThatCode(guarded::call).isExactlyInstanceOf(TestException.class);
+        }
+
+        assertThat(guarded.call()).isEqualTo("fallback");
+    }
+
+    @Test
+    public void circuitBreakerWithSlowCall() throws Exception {
+        Callable<String> guarded = TypedGuard.create(String.class)
+                .withCircuitBreaker().requestVolumeThreshold(2)
+                .withSlowCall().durationThreshold(50, ChronoUnit.MILLIS).ratio(0.5).done()
+                .done()
+                .withFallback().handler(this::fallback).applyOn(CircuitBreakerOpenException.class).done()
+                .build()
+                .adaptCallable(() -> {
+                    Thread.sleep(100);
+                    return "slow";
+                });
+
+        assertThat(guarded.call()).isEqualTo("slow");
+        assertThat(guarded.call()).isEqualTo("slow");
+
+        assertThat(guarded.call()).isEqualTo("fallback");
+    }
+
     @Test
     public void circuitBreakerWithSkipOn() {
         Callable<String> guarded = TypedGuard.create(String.class)
@@ -0,0 +1,64 @@
+package io.smallrye.faulttolerance.standalone.test;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.api.TypedGuard;
+
+public class StandaloneHedgeAsyncTest {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        counter.set(0);
+    }
+
+    @Test
+    public void asyncHedge() throws Exception {
+        Callable<CompletionStage<String>> guarded = TypedGuard.create(Types.CS_STRING)
+                .withHedge().maxAttempts(3).delay(50, ChronoUnit.MILLIS).done()
+                .build()
+                .adaptCallable(this::slowPrimary);
+
+        assertThat(guarded.call())
+                .succeedsWithin(5, TimeUnit.SECONDS)
+                .isEqualTo("value2");
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    public void asyncHedgeNotNeeded() throws Exception {
+        Callable<CompletionStage<String>> guarded = TypedGuard.create(Types.CS_STRING)
+                .withHedge().maxAttempts(3).delay(1, ChronoUnit.SECONDS).done()
+                .build()
+                .adaptCallable(this::fast);
+
+        assertThat(guarded.call())
+                .succeedsWithin(5, TimeUnit.SECONDS)
+                .isEqualTo("value1");
+        assertThat(counter).hasValue(1);
+    }
+
+    public CompletionStage<String> slowPrimary() {
+        int attempt = counter.incrementAndGet();
+        if (attempt == 1) {
+            // never completes
+            return new CompletableFuture<>();
+        }
+        return completedFuture("value" + attempt);
+    }
+
+    public CompletionStage<String> fast() {
+        return completedFuture("value" + counter.incrementAndGet());
+    }
+}
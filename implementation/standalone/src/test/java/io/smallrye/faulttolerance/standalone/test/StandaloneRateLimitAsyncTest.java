@@ -61,6 +61,22 @@ public class StandaloneRateLimitAsyncTest {
         assertThat(results).filteredOn("fallback"::equals).hasSize(5);
     }
 
+    @Test
+    public void asyncRateLimitWithMaxWait() throws Exception {
+        TypedGuard<CompletionStage<String>> guarded = TypedGuard.create(Types.CS_STRING)
+                .withRateLimit().limit(2).window(100, ChronoUnit.MILLIS).maxWait(1, ChronoUnit.MINUTES).done()
+                .build();
+
+        List<CompletionStage<String>> results = new ArrayList<>(6);
+        for (int i = 0; i < 6; i++) {
+            results.add(guarded.call(() -> completedFuture("hello")));
+        }
+
+        for (CompletionStage<String> result : results) {
+            assertThat(result.toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo("hello");
+        }
+    }
+
     public CompletionStage<String> fallback() {
         return completedFuture("fallback");
     }
@@ -1,6 +1,7 @@
 package io.smallrye.faulttolerance.standalone.test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.faulttolerance.api.RateLimitException;
+import io.smallrye.faulttolerance.api.RateLimitType;
 import io.smallrye.faulttolerance.api.TypedGuard;
 
 public class StandaloneRateLimitTest {
@@ -58,6 +60,44 @@ public class StandaloneRateLimitTest {
         assertThat(results).filteredOn("fallback"::equals).hasSize(5);
     }
 
+    @Test
+    public void gcraRateLimitWithBurst() throws Exception {
+        TypedGuard<String> guarded = TypedGuard.create(String.class)
+                .withRateLimit().limit(50).window(1, ChronoUnit.MINUTES).type(RateLimitType.GCRA).burst(3).done()
+                .withFallback().handler(this::fallback).applyOn(RateLimitException.class).done()
+                .build();
+
+        List<String> results = new ArrayList<>(10);
+        for (int i = 0; i < 10; i++) {
+            results.add(guarded.call(() -> "hello"));
+        }
+
+        assertThat(results).filteredOn("hello"::equals).hasSize(3);
+        assertThat(results).filteredOn("fallback"::equals).hasSize(7);
+    }
+
+    @Test
+    public void stacklessRejections() throws Exception {
+        TypedGuard<String> guarded = TypedGuard.create(String.class)
+                .withRateLimit().limit(1).window(1, ChronoUnit.MINUTES).done()
+                .withStacklessRejections(true)
+                .build();
+
+        assertThat(guarded.call(() -> "hello")).isEqualTo("hello");
+        assertThatThrownBy(() -> guarded.call(() -> "hello"))
+                .isInstanceOf(RateLimitException.class)
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+
+        TypedGuard<String> guardedWithStackTraces = TypedGuard.create(String.class)
+                .withRateLimit().limit(1).window(1, ChronoUnit.MINUTES).done()
+                .build();
+
+        assertThat(guardedWithStackTraces.call(() -> "hello")).isEqualTo("hello");
+        assertThatThrownBy(() -> guardedWithStackTraces.call(() -> "hello"))
+                .isExactlyInstanceOf(RateLimitException.class)
+                .satisfies(e -> assertThat(e.getStackTrace()).isNotEmpty());
+    }
+
     public String fallback() {
         return "fallback";
     }
@@ -1,10 +1,15 @@
 package io.smallrye.faulttolerance.standalone.test;
 
+import static io.smallrye.faulttolerance.core.util.Timing.timed;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 import java.util.concurrent.Callable;
 
+import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -31,6 +36,92 @@ public class StandaloneRetryTest {
         assertThat(counter).isEqualTo(4); // 1 initial invocation + 3 retries
     }
 
+    @Test
+    public void retryWithBudget() throws Exception {
+        Callable<String> guarded = TypedGuard.create(String.class)
+                .withRetry().maxRetries(3).withBudget().ratio(0.0).minRetriesPerSecond(0).capacity(2).done().done()
+                .withFallback().applyOn(TestException.class).handler(this::fallback).done()
+                .build()
+                .adaptCallable(this::actionThrow);
+
+        assertThat(guarded.call()).isEqualTo("fallback");
+        assertThat(counter).isEqualTo(3); // 1 initial invocation + 2 retries permitted by the budget
+
+        assertThat(guarded.call()).isEqualTo("fallback");
+        assertThat(counter).isEqualTo(4); // 1 initial invocation, the budget is exhausted
+    }
+
+    @Test
+    public void retryWithSharedBudget() throws Exception {
+        TypedGuard<String> guard1 = TypedGuard.create(String.class)
+                .withRetry().maxRetries(3).withBudget().ratio(0.0).minRetriesPerSecond(0).capacity(2)
+                .name("shared-retry-budget").done().done()
+                .withFallback().applyOn(TestException.class).handler(this::fallback).done()
+                .build();
+        TypedGuard<String> guard2 = TypedGuard.create(String.class)
+                .withRetry().maxRetries(3).withBudget().ratio(0.0).minRetriesPerSecond(0).capacity(2)
+                .name("shared-retry-budget").done().done()
+                .withFallback().applyOn(TestException.class).handler(this::fallback).done()
+                .build();
+
+        assertThat(guard1.call(this::actionThrow)).isEqualTo("fallback");
+        assertThat(counter).isEqualTo(3); // 1 initial invocation + 2 retries permitted by the budget
+
+        assertThat(guard2.call(this::actionThrow)).isEqualTo("fallback");
+        assertThat(counter).isEqualTo(4); // 1 initial invocation, the shared budget is exhausted
+    }
+
+    @Test
+    public void retryWithConflictingSharedBudget() throws Exception {
+        TypedGuard<String> guard = TypedGuard.create(String.class)
+                .withRetry().maxRetries(3).withBudget().capacity(2).name("conflicting-retry-budget").done().done()
+                .build();
+        assertThat(guard.call(() -> "value")).isEqualTo("value");
+
+        assertThatThrownBy(() -> {
+            TypedGuard.create(String.class)
+                    .withRetry().maxRetries(3).withBudget().capacity(5).name("conflicting-retry-budget").done().done()
+                    .build()
+                    .call(() -> "value");
+        }).isExactlyInstanceOf(FaultToleranceDefinitionException.class)
+                .hasMessageContaining("conflicting-retry-budget");
+    }
+
+    @Test
+    public void retryWithRetryAfter() throws Exception {
+        TypedGuard<String> guard = TypedGuard.create(String.class)
+                .withRetry().maxRetries(1).delay(0, ChronoUnit.MILLIS).withRetryAfter().done().done()
+                .withRateLimit().limit(1).window(500, ChronoUnit.MILLIS).done()
+                .build();
+
+        assertThat(guard.call(this::actionValue)).isEqualTo("value");
+
+        // rejected by the rate limit, retried after the time window ends
+        long time = timed(() -> {
+            assertThat(guard.call(this::actionValue)).isEqualTo("value");
+        });
+        assertThat(time).isGreaterThanOrEqualTo(300);
+        assertThat(counter).isEqualTo(2);
+    }
+
+    @Test
+    public void retryWithCancelOnMaxDuration() throws Exception {
+        TypedGuard<String> guard = TypedGuard.create(String.class)
+                .withRetry().maxRetries(3).maxDuration(300, ChronoUnit.MILLIS).cancelOnMaxDuration().done()
+                .build();
+
+        // the in-flight attempt is interrupted when the max duration is reached
+        long time = timed(() -> {
+            assertThatThrownBy(() -> guard.call(() -> {
+                counter++;
+                Thread.sleep(10_000);
+                return "value";
+            })).isExactlyInstanceOf(TimeoutException.class);
+        });
+        assertThat(time).isLessThan(5_000);
+        assertThat(counter).isEqualTo(1);
+    }
+
     @Test
     public void retryWithAbortOn() throws Exception {
         Callable<String> guarded = TypedGuard.create(String.class)
@@ -84,6 +175,11 @@ public class StandaloneRetryTest {
         throw new TestException();
     }
 
+    public String actionValue() {
+        counter++;
+        return "value";
+    }
+
     public String actionReturnNull() throws TestException {
         counter++;
         return null;
@@ -0,0 +1,25 @@
+package io.smallrye.faulttolerance.bulkhead.adaptive;
+
+import java.util.concurrent.CountDownLatch;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+
+import io.smallrye.faulttolerance.api.BulkheadAdaptiveLimit;
+import io.smallrye.faulttolerance.api.ConcurrencyLimitAlgorithm;
+
+@ApplicationScoped
+public class BulkheadAdaptiveLimitService {
+    @Bulkhead(2)
+    @BulkheadAdaptiveLimit(algorithm = ConcurrencyLimitAlgorithm.AIMD, minLimit = 1, maxLimit = 10)
+    public String hello(CountDownLatch startLatch, CountDownLatch endLatch) throws InterruptedException {
+        if (startLatch == null) {
+            throw new TimeoutException();
+        }
+        startLatch.countDown();
+        endLatch.await();
+        return "hello";
+    }
+}
@@ -0,0 +1,40 @@
+package io.smallrye.faulttolerance.bulkhead.adaptive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+@FaultToleranceBasicTest
+public class BulkheadAdaptiveLimitTest {
+    @Test
+    public void test(BulkheadAdaptiveLimitService service) throws Exception {
+        // the limit is decreased after a timeout, from 2 to the minimum of 1
+        assertThatThrownBy(() -> service.hello(null, null)).isExactlyInstanceOf(TimeoutException.class);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch startLatch = new CountDownLatch(1);
+            CountDownLatch endLatch = new CountDownLatch(1);
+            Future<String> first = executor.submit(() -> service.hello(startLatch, endLatch));
+            startLatch.await();
+
+            assertThatThrownBy(() -> service.hello(new CountDownLatch(1), new CountDownLatch(0)))
+                    .isExactlyInstanceOf(BulkheadException.class);
+
+            endLatch.countDown();
+            assertThat(first.get()).isEqualTo("hello");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.smallrye.faulttolerance.bulkhead.adaptive.error;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import io.smallrye.faulttolerance.api.BulkheadAdaptiveLimit;
+
+@Dependent
+public class BulkheadAdaptiveLimitWithoutBulkheadService {
+    @Retry
+    @BulkheadAdaptiveLimit
+    public void hello() {
+        throw new IllegalArgumentException();
+    }
+}
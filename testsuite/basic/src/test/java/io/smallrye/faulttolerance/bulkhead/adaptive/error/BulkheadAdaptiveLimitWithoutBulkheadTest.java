@@ -0,0 +1,16 @@
+package io.smallrye.faulttolerance.bulkhead.adaptive.error;
+
+import jakarta.enterprise.inject.spi.DefinitionException;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.util.ExpectedDeploymentException;
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+@FaultToleranceBasicTest
+@ExpectedDeploymentException(DefinitionException.class)
+public class BulkheadAdaptiveLimitWithoutBulkheadTest {
+    @Test
+    public void test(BulkheadAdaptiveLimitWithoutBulkheadService ignored) {
+    }
+}
@@ -0,0 +1,30 @@
+package io.smallrye.faulttolerance.bulkhead.lockfree;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+
+@ApplicationScoped
+public class BulkheadLockFreeService {
+    @Bulkhead(1)
+    public String hello(CountDownLatch startLatch, CountDownLatch endLatch) throws InterruptedException {
+        startLatch.countDown();
+        endLatch.await();
+        return "hello";
+    }
+
+    @Asynchronous
+    @Bulkhead(value = 1, waitingTaskQueue = 1)
+    public CompletionStage<String> helloAsync(CountDownLatch startLatch, CountDownLatch endLatch)
+            throws InterruptedException {
+        startLatch.countDown();
+        endLatch.await();
+        return completedFuture("hello");
+    }
+}
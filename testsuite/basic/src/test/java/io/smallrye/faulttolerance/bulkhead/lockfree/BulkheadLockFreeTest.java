@@ -0,0 +1,59 @@
+package io.smallrye.faulttolerance.bulkhead.lockfree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+import io.smallrye.faulttolerance.util.WithSystemProperty;
+
+@FaultToleranceBasicTest
+@WithSystemProperty(key = "smallrye.faulttolerance.lock-free-bulkhead", value = "true")
+public class BulkheadLockFreeTest {
+    @Test
+    public void sync(BulkheadLockFreeService service) throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch startLatch = new CountDownLatch(1);
+            CountDownLatch endLatch = new CountDownLatch(1);
+            Future<String> first = executor.submit(() -> service.hello(startLatch, endLatch));
+            startLatch.await();
+
+            assertThatThrownBy(() -> service.hello(new CountDownLatch(1), new CountDownLatch(0)))
+                    .isExactlyInstanceOf(BulkheadException.class);
+
+            endLatch.countDown();
+            assertThat(first.get()).isEqualTo("hello");
+            assertThat(service.hello(new CountDownLatch(1), new CountDownLatch(0))).isEqualTo("hello");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void async(BulkheadLockFreeService service) throws Exception {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(1);
+        CompletionStage<String> running = service.helloAsync(startLatch, endLatch);
+        startLatch.await();
+
+        CompletionStage<String> queued = service.helloAsync(new CountDownLatch(1), new CountDownLatch(0));
+
+        assertThatThrownBy(service.helloAsync(new CountDownLatch(1), new CountDownLatch(0)).toCompletableFuture()::get)
+                .isExactlyInstanceOf(ExecutionException.class)
+                .hasCauseExactlyInstanceOf(BulkheadException.class);
+
+        endLatch.countDown();
+        assertThat(running.toCompletableFuture().get()).isEqualTo("hello");
+        assertThat(queued.toCompletableFuture().get()).isEqualTo("hello");
+    }
+}
@@ -0,0 +1,26 @@
+package io.smallrye.faulttolerance.bulkhead.maxqueuewait;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+
+import io.smallrye.faulttolerance.api.BulkheadMaxQueueWait;
+
+@ApplicationScoped
+public class BulkheadMaxQueueWaitService {
+    @Asynchronous
+    @Bulkhead(value = 1, waitingTaskQueue = 2)
+    @BulkheadMaxQueueWait(value = 100, unit = ChronoUnit.MILLIS)
+    public CompletionStage<String> hello(CountDownLatch startLatch, CountDownLatch endLatch) throws InterruptedException {
+        startLatch.countDown();
+        endLatch.await();
+        return completedFuture("hello");
+    }
+}
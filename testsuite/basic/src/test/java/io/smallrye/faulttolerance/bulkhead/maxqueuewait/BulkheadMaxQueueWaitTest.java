@@ -0,0 +1,36 @@
+package io.smallrye.faulttolerance.bulkhead.maxqueuewait;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+@FaultToleranceBasicTest
+public class BulkheadMaxQueueWaitTest {
+    @Test
+    public void test(BulkheadMaxQueueWaitService service) throws Exception {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(1);
+
+        CompletableFuture<String> running = service.hello(startLatch, endLatch).toCompletableFuture();
+        startLatch.await();
+
+        CompletableFuture<String> queued = service.hello(new CountDownLatch(1), new CountDownLatch(0))
+                .toCompletableFuture();
+
+        assertThatThrownBy(queued::get)
+                .isExactlyInstanceOf(ExecutionException.class)
+                .hasCauseExactlyInstanceOf(BulkheadException.class);
+        assertThat(running).isNotDone();
+
+        endLatch.countDown();
+        assertThat(running.get()).isEqualTo("hello");
+    }
+}
@@ -0,0 +1,16 @@
+package io.smallrye.faulttolerance.bulkhead.maxqueuewait.error;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import io.smallrye.faulttolerance.api.BulkheadMaxQueueWait;
+
+@Dependent
+public class BulkheadMaxQueueWaitWithoutBulkheadService {
+    @Retry
+    @BulkheadMaxQueueWait
+    public void hello() {
+        throw new IllegalArgumentException();
+    }
+}
@@ -0,0 +1,29 @@
+package io.smallrye.faulttolerance.bulkhead.queuediscipline;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+
+import io.smallrye.faulttolerance.api.BulkheadQueueDiscipline;
+import io.smallrye.faulttolerance.api.QueueDiscipline;
+
+@ApplicationScoped
+public class BulkheadQueueDisciplineService {
+    @Asynchronous
+    @Bulkhead(value = 1, waitingTaskQueue = 10)
+    @BulkheadQueueDiscipline(value = QueueDiscipline.CODEL, target = 10, targetUnit = ChronoUnit.MILLIS, interval = 50, intervalUnit = ChronoUnit.MILLIS)
+    public CompletionStage<String> hello(CountDownLatch startLatch, CountDownLatch endLatch, long sleepMillis)
+            throws InterruptedException {
+        startLatch.countDown();
+        endLatch.await();
+        Thread.sleep(sleepMillis);
+        return completedFuture("hello");
+    }
+}
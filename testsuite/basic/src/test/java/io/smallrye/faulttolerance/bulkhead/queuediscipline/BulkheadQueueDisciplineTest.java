@@ -0,0 +1,45 @@
+package io.smallrye.faulttolerance.bulkhead.queuediscipline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+@FaultToleranceBasicTest
+public class BulkheadQueueDisciplineTest {
+    @Test
+    public void test(BulkheadQueueDisciplineService service) throws Exception {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(1);
+
+        CompletableFuture<String> first = service.hello(startLatch, endLatch, 0).toCompletableFuture();
+        startLatch.await();
+
+        // the first queued invocation waits above target, but the queue is not congested yet
+        // when it runs; it takes longer than the interval, so the queue is congested afterwards
+        // and one more queued invocation is dropped, the next drop is only due after another interval
+        CompletableFuture<String> second = service.hello(new CountDownLatch(1), new CountDownLatch(0), 100)
+                .toCompletableFuture();
+        CompletableFuture<String> third = service.hello(new CountDownLatch(1), new CountDownLatch(0), 0)
+                .toCompletableFuture();
+        CompletableFuture<String> fourth = service.hello(new CountDownLatch(1), new CountDownLatch(0), 0)
+                .toCompletableFuture();
+
+        Thread.sleep(200);
+        endLatch.countDown();
+
+        assertThat(first.get()).isEqualTo("hello");
+        assertThat(second.get()).isEqualTo("hello");
+        assertThatThrownBy(third::get)
+                .isExactlyInstanceOf(ExecutionException.class)
+                .hasCauseExactlyInstanceOf(BulkheadException.class);
+        assertThat(fourth.get()).isEqualTo("hello");
+    }
+}
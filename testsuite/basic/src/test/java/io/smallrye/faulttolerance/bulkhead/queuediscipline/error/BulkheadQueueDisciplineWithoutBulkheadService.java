@@ -0,0 +1,16 @@
+package io.smallrye.faulttolerance.bulkhead.queuediscipline.error;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import io.smallrye.faulttolerance.api.BulkheadQueueDiscipline;
+
+@Dependent
+public class BulkheadQueueDisciplineWithoutBulkheadService {
+    @Retry
+    @BulkheadQueueDiscipline
+    public void hello() {
+        throw new IllegalArgumentException();
+    }
+}
@@ -0,0 +1,27 @@
+package io.smallrye.faulttolerance.circuitbreaker.slowcall;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+
+import io.smallrye.faulttolerance.api.CircuitBreakerSlowCall;
+
+@ApplicationScoped
+public class CircuitBreakerSlowCallService {
+    private final AtomicInteger counter = new AtomicInteger(0);
+
+    @CircuitBreaker(requestVolumeThreshold = 4, failureRatio = 0.5, delay = 1000)
+    @CircuitBreakerSlowCall(durationThreshold = 50, durationThresholdUnit = ChronoUnit.MILLIS, ratio = 0.5)
+    public String hello(long sleepInMillis) throws InterruptedException {
+        counter.incrementAndGet();
+        Thread.sleep(sleepInMillis);
+        return "hello";
+    }
+
+    AtomicInteger getCounter() {
+        return counter;
+    }
+}
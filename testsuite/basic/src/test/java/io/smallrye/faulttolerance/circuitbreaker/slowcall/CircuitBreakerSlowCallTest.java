@@ -0,0 +1,25 @@
+package io.smallrye.faulttolerance.circuitbreaker.slowcall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+@FaultToleranceBasicTest
+public class CircuitBreakerSlowCallTest {
+    @Test
+    public void test(CircuitBreakerSlowCallService service) throws InterruptedException {
+        assertThat(service.hello(0)).isEqualTo("hello");
+        assertThat(service.hello(100)).isEqualTo("hello");
+        assertThat(service.hello(0)).isEqualTo("hello");
+        // 2 slow invocations out of 4
+        assertThat(service.hello(100)).isEqualTo("hello");
+
+        assertThatThrownBy(() -> service.hello(0)).isExactlyInstanceOf(CircuitBreakerOpenException.class);
+
+        assertThat(service.getCounter()).hasValue(4);
+    }
+}
@@ -0,0 +1,16 @@
+package io.smallrye.faulttolerance.circuitbreaker.slowcall.error;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import io.smallrye.faulttolerance.api.CircuitBreakerSlowCall;
+
+@Dependent
+public class CircuitBreakerSlowCallWithoutCircuitBreakerService {
+    @Retry
+    @CircuitBreakerSlowCall
+    public void hello() {
+        throw new IllegalArgumentException();
+    }
+}
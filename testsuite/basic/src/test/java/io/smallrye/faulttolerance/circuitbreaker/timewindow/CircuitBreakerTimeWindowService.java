@@ -0,0 +1,30 @@
+package io.smallrye.faulttolerance.circuitbreaker.timewindow;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+
+import io.smallrye.faulttolerance.api.CircuitBreakerTimeWindow;
+
+@ApplicationScoped
+public class CircuitBreakerTimeWindowService {
+    private final AtomicInteger counter = new AtomicInteger(0);
+
+    @CircuitBreaker(requestVolumeThreshold = 4, failureRatio = 0.5, delay = 1000)
+    @CircuitBreakerTimeWindow(window = 500, windowUnit = ChronoUnit.MILLIS, buckets = 5)
+    public String hello(boolean success) {
+        counter.incrementAndGet();
+
+        if (success) {
+            return "hello";
+        }
+        throw new IllegalStateException();
+    }
+
+    AtomicInteger getCounter() {
+        return counter;
+    }
+}
@@ -0,0 +1,32 @@
+package io.smallrye.faulttolerance.circuitbreaker.timewindow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+@FaultToleranceBasicTest
+public class CircuitBreakerTimeWindowTest {
+    @Test
+    public void test(CircuitBreakerTimeWindowService service) throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> service.hello(false)).isExactlyInstanceOf(IllegalStateException.class);
+        }
+
+        // the failures above are no longer in the time window after this
+        Thread.sleep(600);
+
+        // with the failures above, this would be 3 failures out of 4 invocations
+        assertThat(service.hello(true)).isEqualTo("hello");
+        assertThat(service.hello(true)).isEqualTo("hello");
+        assertThatThrownBy(() -> service.hello(false)).isExactlyInstanceOf(IllegalStateException.class);
+        // 2 failures out of 4 invocations in the time window
+        assertThatThrownBy(() -> service.hello(false)).isExactlyInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> service.hello(true)).isExactlyInstanceOf(CircuitBreakerOpenException.class);
+
+        assertThat(service.getCounter()).hasValue(7);
+    }
+}
@@ -0,0 +1,16 @@
+package io.smallrye.faulttolerance.circuitbreaker.timewindow.error;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import io.smallrye.faulttolerance.api.CircuitBreakerTimeWindow;
+
+@Dependent
+public class CircuitBreakerTimeWindowWithoutCircuitBreakerService {
+    @Retry
+    @CircuitBreakerTimeWindow
+    public void hello() {
+        throw new IllegalArgumentException();
+    }
+}
@@ -0,0 +1,14 @@
+package io.smallrye.faulttolerance.ratelimit.error;
+
+import jakarta.enterprise.context.Dependent;
+
+import io.smallrye.faulttolerance.api.RateLimit;
+import io.smallrye.faulttolerance.api.RateLimitType;
+
+@Dependent
+public class RateLimitApproximateRollingMaxWaitService {
+    @RateLimit(value = 10, type = RateLimitType.APPROXIMATE_ROLLING, maxWait = 1)
+    public String hello() {
+        return "hello";
+    }
+}
@@ -0,0 +1,33 @@
+package io.smallrye.faulttolerance.retry.after;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import io.smallrye.faulttolerance.api.RateLimit;
+import io.smallrye.faulttolerance.api.RetryAfter;
+import io.smallrye.faulttolerance.api.RetryAfterMode;
+
+@ApplicationScoped
+public class RetryAfterService {
+    static final AtomicInteger COUNTER = new AtomicInteger();
+
+    @Retry(maxRetries = 1, delay = 0)
+    @RetryAfter
+    @RateLimit(value = 1, window = 500, windowUnit = ChronoUnit.MILLIS)
+    public String rateLimited() {
+        return "hello" + COUNTER.incrementAndGet();
+    }
+
+    @Retry(maxRetries = 2, delay = 0)
+    @RetryAfter(mode = RetryAfterMode.OVERRIDE, extractor = ServiceUnavailableExtractor.class)
+    public String custom() {
+        if (COUNTER.incrementAndGet() < 3) {
+            throw new ServiceUnavailableException(100);
+        }
+        return "hello";
+    }
+}
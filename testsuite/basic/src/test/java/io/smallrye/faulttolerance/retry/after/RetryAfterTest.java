@@ -0,0 +1,39 @@
+package io.smallrye.faulttolerance.retry.after;
+
+import static io.smallrye.faulttolerance.core.util.Timing.timed;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+@FaultToleranceBasicTest
+public class RetryAfterTest {
+    @BeforeEach
+    public void setUp() {
+        RetryAfterService.COUNTER.set(0);
+    }
+
+    @Test
+    public void rateLimitHint(RetryAfterService service) throws Exception {
+        assertThat(service.rateLimited()).isEqualTo("hello1");
+
+        // the second invocation is rejected by the rate limit and retried after the time window ends
+        long time = timed(() -> {
+            assertThat(service.rateLimited()).isEqualTo("hello2");
+        });
+        assertThat(time).isGreaterThanOrEqualTo(300);
+        assertThat(RetryAfterService.COUNTER).hasValue(2);
+    }
+
+    @Test
+    public void customHint(RetryAfterService service) throws Exception {
+        long time = timed(() -> {
+            assertThat(service.custom()).isEqualTo("hello");
+        });
+        // 2 retries, each after 100 millis
+        assertThat(time).isGreaterThanOrEqualTo(180);
+        assertThat(RetryAfterService.COUNTER).hasValue(3);
+    }
+}
@@ -0,0 +1,9 @@
+package io.smallrye.faulttolerance.retry.after;
+
+public class ServiceUnavailableException extends RuntimeException {
+    final long retryAfterMillis;
+
+    public ServiceUnavailableException(long retryAfterMillis) {
+        this.retryAfterMillis = retryAfterMillis;
+    }
+}
@@ -0,0 +1,13 @@
+package io.smallrye.faulttolerance.retry.after;
+
+import io.smallrye.faulttolerance.api.RetryAfterExtractor;
+
+public class ServiceUnavailableExtractor implements RetryAfterExtractor {
+    @Override
+    public long retryAfterMillis(Throwable exception) {
+        if (exception instanceof ServiceUnavailableException e) {
+            return e.retryAfterMillis;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,16 @@
+package io.smallrye.faulttolerance.retry.after.error;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.eclipse.microprofile.faulttolerance.Timeout;
+
+import io.smallrye.faulttolerance.api.RetryAfter;
+
+@Dependent
+public class RetryAfterWithoutRetryService {
+    @Timeout
+    @RetryAfter
+    public void hello() {
+        throw new IllegalArgumentException();
+    }
+}
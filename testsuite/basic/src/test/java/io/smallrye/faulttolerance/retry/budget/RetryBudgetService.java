@@ -0,0 +1,35 @@
+package io.smallrye.faulttolerance.retry.budget;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import io.smallrye.faulttolerance.api.RetryBudget;
+
+@ApplicationScoped
+public class RetryBudgetService {
+    static final AtomicInteger COUNTER = new AtomicInteger();
+
+    @Retry(maxRetries = 3)
+    @RetryBudget(ratio = 0.0, minRetriesPerSecond = 0, capacity = 2)
+    public void hello() {
+        COUNTER.incrementAndGet();
+        throw new IllegalArgumentException();
+    }
+
+    @Retry(maxRetries = 3)
+    @RetryBudget(ratio = 0.0, minRetriesPerSecond = 0, capacity = 2, name = "shared")
+    public void shared1() {
+        COUNTER.incrementAndGet();
+        throw new IllegalArgumentException();
+    }
+
+    @Retry(maxRetries = 3)
+    @RetryBudget(ratio = 0.0, minRetriesPerSecond = 0, capacity = 2, name = "shared")
+    public void shared2() {
+        COUNTER.incrementAndGet();
+        throw new IllegalArgumentException();
+    }
+}
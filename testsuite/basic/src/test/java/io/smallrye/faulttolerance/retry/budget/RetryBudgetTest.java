@@ -0,0 +1,39 @@
+package io.smallrye.faulttolerance.retry.budget;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+@FaultToleranceBasicTest
+public class RetryBudgetTest {
+    @BeforeEach
+    public void setUp() {
+        RetryBudgetService.COUNTER.set(0);
+    }
+
+    @Test
+    public void budget(RetryBudgetService service) {
+        assertThatThrownBy(service::hello).isExactlyInstanceOf(IllegalArgumentException.class);
+        // 1 initial invocation + 2 retries permitted by the budget
+        assertThat(RetryBudgetService.COUNTER).hasValue(3);
+
+        assertThatThrownBy(service::hello).isExactlyInstanceOf(IllegalArgumentException.class);
+        // 1 initial invocation, the budget is exhausted
+        assertThat(RetryBudgetService.COUNTER).hasValue(4);
+    }
+
+    @Test
+    public void sharedBudget(RetryBudgetService service) {
+        assertThatThrownBy(service::shared1).isExactlyInstanceOf(IllegalArgumentException.class);
+        // 1 initial invocation + 2 retries permitted by the budget
+        assertThat(RetryBudgetService.COUNTER).hasValue(3);
+
+        assertThatThrownBy(service::shared2).isExactlyInstanceOf(IllegalArgumentException.class);
+        // 1 initial invocation, the shared budget is exhausted
+        assertThat(RetryBudgetService.COUNTER).hasValue(4);
+    }
+}
@@ -0,0 +1,22 @@
+package io.smallrye.faulttolerance.retry.budget.error;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import io.smallrye.faulttolerance.api.RetryBudget;
+
+@Dependent
+public class RetryBudgetConflictingConfigService {
+    @Retry
+    @RetryBudget(capacity = 10, name = "conflicting")
+    public void hello1() {
+        throw new IllegalArgumentException();
+    }
+
+    @Retry
+    @RetryBudget(capacity = 20, name = "conflicting")
+    public void hello2() {
+        throw new IllegalArgumentException();
+    }
+}
@@ -0,0 +1,16 @@
+package io.smallrye.faulttolerance.retry.budget.error;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.eclipse.microprofile.faulttolerance.Timeout;
+
+import io.smallrye.faulttolerance.api.RetryBudget;
+
+@Dependent
+public class RetryBudgetWithoutRetryService {
+    @Timeout
+    @RetryBudget
+    public void hello() {
+        throw new IllegalArgumentException();
+    }
+}
@@ -0,0 +1,38 @@
+package io.smallrye.faulttolerance.retry.cancel;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+import io.smallrye.faulttolerance.api.RetryCancelOnMaxDuration;
+
+@ApplicationScoped
+public class RetryCancelOnMaxDurationService {
+    static final AtomicInteger COUNTER = new AtomicInteger();
+
+    @Retry(maxRetries = 2, maxDuration = 300, durationUnit = ChronoUnit.MILLIS, jitter = 0)
+    @RetryCancelOnMaxDuration
+    public String hello() throws InterruptedException {
+        if (COUNTER.incrementAndGet() == 1) {
+            throw new IllegalStateException();
+        }
+        Thread.sleep(10_000);
+        return "hello";
+    }
+
+    @Asynchronous
+    @Retry(maxRetries = 2, maxDuration = 300, durationUnit = ChronoUnit.MILLIS, jitter = 0)
+    @RetryCancelOnMaxDuration
+    public CompletionStage<String> helloAsync() throws InterruptedException {
+        COUNTER.incrementAndGet();
+        Thread.sleep(10_000);
+        return completedFuture("hello");
+    }
+}
@@ -0,0 +1,42 @@
+package io.smallrye.faulttolerance.retry.cancel;
+
+import static io.smallrye.faulttolerance.core.util.Timing.timed;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+@FaultToleranceBasicTest
+public class RetryCancelOnMaxDurationTest {
+    @BeforeEach
+    public void setUp() {
+        RetryCancelOnMaxDurationService.COUNTER.set(0);
+    }
+
+    @Test
+    public void sync(RetryCancelOnMaxDurationService service) throws Exception {
+        long time = timed(() -> {
+            // the in-flight attempt is interrupted, the last failure is rethrown
+            assertThatThrownBy(service::hello).isExactlyInstanceOf(IllegalStateException.class);
+        });
+        assertThat(time).isLessThan(5_000);
+        assertThat(RetryCancelOnMaxDurationService.COUNTER).hasValue(2);
+    }
+
+    @Test
+    public void async(RetryCancelOnMaxDurationService service) throws Exception {
+        long time = timed(() -> {
+            assertThatThrownBy(() -> service.helloAsync().toCompletableFuture().get())
+                    .isExactlyInstanceOf(ExecutionException.class)
+                    .hasCauseExactlyInstanceOf(TimeoutException.class);
+        });
+        assertThat(time).isLessThan(5_000);
+        assertThat(RetryCancelOnMaxDurationService.COUNTER).hasValue(1);
+    }
+}
@@ -0,0 +1,16 @@
+package io.smallrye.faulttolerance.retry.cancel.error;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.eclipse.microprofile.faulttolerance.Timeout;
+
+import io.smallrye.faulttolerance.api.RetryCancelOnMaxDuration;
+
+@Dependent
+public class RetryCancelOnMaxDurationWithoutRetryService {
+    @Timeout
+    @RetryCancelOnMaxDuration
+    public void hello() {
+        throw new IllegalArgumentException();
+    }
+}
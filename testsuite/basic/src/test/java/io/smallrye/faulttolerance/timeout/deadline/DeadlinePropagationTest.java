@@ -0,0 +1,35 @@
+package io.smallrye.faulttolerance.timeout.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.faulttolerance.util.FaultToleranceBasicTest;
+
+@FaultToleranceBasicTest
+public class DeadlinePropagationTest {
+    @BeforeEach
+    public void setUp() {
+        InnerService.COUNTER.set(0);
+        OuterService.INNER_RESULT.set(null);
+    }
+
+    @Test
+    public void innerTimeoutShortened(OuterService outer, InnerService inner) {
+        assertThat(inner.remainingMillis()).isGreaterThan(500);
+
+        assertThat(outer.remainingMillis()).isLessThanOrEqualTo(500);
+        assertThat(InnerService.COUNTER).hasValue(2);
+    }
+
+    @Test
+    public void innerInvocationNotStartedAfterDeadline(OuterService outer) {
+        assertThatThrownBy(outer::hello).isExactlyInstanceOf(TimeoutException.class);
+
+        assertThat(OuterService.INNER_RESULT.get()).isInstanceOf(TimeoutException.class);
+        assertThat(InnerService.COUNTER).hasValue(0);
+    }
+}
@@ -0,0 +1,27 @@
+package io.smallrye.faulttolerance.timeout.deadline;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Retry;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+
+import io.smallrye.faulttolerance.core.timeout.Deadline;
+
+@ApplicationScoped
+public class InnerService {
+    static final AtomicInteger COUNTER = new AtomicInteger();
+
+    @Timeout(5000)
+    public long remainingMillis() {
+        COUNTER.incrementAndGet();
+        return Deadline.current().remainingMillis();
+    }
+
+    @Retry
+    public String hello() {
+        COUNTER.incrementAndGet();
+        return "hello";
+    }
+}
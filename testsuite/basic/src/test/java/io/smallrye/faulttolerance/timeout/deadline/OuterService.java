@@ -0,0 +1,37 @@
+package io.smallrye.faulttolerance.timeout.deadline;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.faulttolerance.Timeout;
+
+@ApplicationScoped
+public class OuterService {
+    static final AtomicReference<Object> INNER_RESULT = new AtomicReference<>();
+
+    @Inject
+    InnerService inner;
+
+    @Timeout(500)
+    public long remainingMillis() {
+        return inner.remainingMillis();
+    }
+
+    @Timeout(200)
+    public void hello() {
+        // busy wait, so that the interruption caused by the timeout doesn't end the waiting prematurely
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+
+        try {
+            INNER_RESULT.set(inner.hello());
+        } catch (Exception e) {
+            INNER_RESULT.set(e);
+        }
+    }
+}